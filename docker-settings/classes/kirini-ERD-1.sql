@@ -89,9 +89,16 @@ CREATE TABLE `log_modify_comment` (
 
 CREATE TABLE `keyboard_information` (
 	`keyboard_information_uid`	int	NOT NULL AUTO_INCREMENT,
-	`keyboard_information_name`	varchar(50)	NULL,
+	`keyboard_information_name`	varchar(50)	NOT NULL DEFAULT '',
 	`keyboard_information_price`	int	NULL,
 	`keyboard_category_uid`	int	NOT NULL,
+	`score_sum`	int	NOT NULL DEFAULT 0,
+	`score_count`	int	NOT NULL DEFAULT 0,
+	`score_1`	int	NOT NULL DEFAULT 0,
+	`score_2`	int	NOT NULL DEFAULT 0,
+	`score_3`	int	NOT NULL DEFAULT 0,
+	`score_4`	int	NOT NULL DEFAULT 0,
+	`score_5`	int	NOT NULL DEFAULT 0,
 	PRIMARY KEY (`keyboard_information_uid`)
 );
 
@@ -126,6 +133,7 @@ CREATE TABLE `news` (
 	`news_modify_time`	datetime	NULL,
 	`news_author_ip`	varchar(20)	NULL,
 	`news_deleted`	enum('maintained', 'deleted')	NULL,
+	`comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`news_uid`)
 );
@@ -148,6 +156,7 @@ CREATE TABLE `user` (
 	`user_authority`	enum('normal', 'armband', 'admin')	NULL,
 	`user_point`	int	NULL,
 	`user_icon`	text	NULL,
+	`last_login_date`	datetime	NULL,
 	PRIMARY KEY (`user_uid`)
 );
 
@@ -170,6 +179,7 @@ CREATE TABLE `freeboard` (
 	`freeboard_author_ip`	varchar(20)	NULL,
 	`freeboard_notify`	enum('common', 'notification')	NULL,
 	`freeboard_deleted`	enum('maintained', 'deleted')	NULL,
+	`comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`freeboard_uid`)
 );
@@ -228,6 +238,18 @@ CREATE TABLE `inquiry` (
 	PRIMARY KEY (`inquiry_uid`)
 );
 
+CREATE TABLE `freeboard_attach` (
+  `attach_uid` int NOT NULL AUTO_INCREMENT,
+  `freeboard_uid` int NOT NULL,
+  `file_name` varchar(255) NOT NULL,
+  `file_path` varchar(500) NOT NULL,
+  `file_size` int NOT NULL,
+  `download_count` int NOT NULL DEFAULT 0,
+  `upload_date` datetime NOT NULL,
+  PRIMARY KEY (`attach_uid`),
+  FOREIGN KEY (`freeboard_uid`) REFERENCES `freeboard` (`freeboard_uid`)
+);
+
 -- keyboard_score
 ALTER TABLE `keyboard_score` ADD CONSTRAINT `FK_keyboard_information_TO_keyboard_score` 
 FOREIGN KEY (`keyboard_information_uid`) REFERENCES `keyboard_information` (`keyboard_information_uid`);
@@ -314,6 +336,16 @@ FOREIGN KEY (`user_uid`) REFERENCES `user` (`user_uid`);
 ALTER TABLE `inquiry` ADD CONSTRAINT `FK_inquiry_TO_inquiry` 
 FOREIGN KEY (`inquiry_parent_uid`) REFERENCES `inquiry` (`inquiry_uid`);
 
+-- 커서(키셋) 페이지네이션용 정렬 키 인덱스
+CREATE INDEX idx_freeboard_writetime_uid ON freeboard(freeboard_writetime, freeboard_uid);
+CREATE INDEX idx_freeboard_notify_writetime_uid ON freeboard(freeboard_notify, freeboard_writetime, freeboard_uid);
+CREATE INDEX idx_news_writetime_uid ON news(news_writetime, news_uid);
+CREATE INDEX idx_inquiry_writetime_uid ON inquiry(inquiry_writetime, inquiry_uid);
+CREATE INDEX idx_keyboard_information_name_uid ON keyboard_information(keyboard_information_name, keyboard_information_uid);
+
+-- 내용 주소 저장 파일 참조 조회 (다운로드, 중복 파일 삭제 판단)
+CREATE INDEX idx_freeboard_attach_file_path ON freeboard_attach(file_path(100));
+
 
 
 
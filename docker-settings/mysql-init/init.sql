@@ -90,9 +90,16 @@ CREATE TABLE `log_modify_comment` (
 
 CREATE TABLE `keyboard_information` (
 	`keyboard_information_uid`	int	NOT NULL AUTO_INCREMENT,
-	`keyboard_information_name`	varchar(50)	NULL,
+	`keyboard_information_name`	varchar(50)	NOT NULL DEFAULT '',
 	`keyboard_information_price`	int	NULL,
 	`keyboard_category_uid`	int	NOT NULL,
+	`score_sum`	int	NOT NULL DEFAULT 0,
+	`score_count`	int	NOT NULL DEFAULT 0,
+	`score_1`	int	NOT NULL DEFAULT 0,
+	`score_2`	int	NOT NULL DEFAULT 0,
+	`score_3`	int	NOT NULL DEFAULT 0,
+	`score_4`	int	NOT NULL DEFAULT 0,
+	`score_5`	int	NOT NULL DEFAULT 0,
 	PRIMARY KEY (`keyboard_information_uid`)
 );
 
@@ -127,6 +134,7 @@ CREATE TABLE `news` (
 	`news_modify_time`	datetime	NULL,
 	`news_author_ip`	varchar(20)	NULL,
 	`news_deleted`	enum('maintained', 'deleted')	NULL,
+	`comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`news_uid`)
 );
@@ -150,6 +158,7 @@ CREATE TABLE `user` (
 	`user_point`	int	NULL,
 	`user_icon`	text	NULL,
 	`user_status`	ENUM('active', 'restricted', 'suspended', 'banned')	NOT NULL DEFAULT 'active',
+	`last_login_date`	datetime	NULL,
 	PRIMARY KEY (`user_uid`)
 );
 
@@ -172,6 +181,7 @@ CREATE TABLE `freeboard` (
 	`freeboard_author_ip`	varchar(20)	NULL,
 	`freeboard_notify`	enum('common', 'notification')	NULL,
 	`freeboard_deleted`	enum('maintained', 'deleted')	NULL,
+	`comment_count`	int	NOT NULL DEFAULT 0,
 	`user_uid`	int	NOT NULL,
 	PRIMARY KEY (`freeboard_uid`)
 );
@@ -242,6 +252,7 @@ CREATE TABLE `freeboard_attach` (
   `file_name` varchar(255) NOT NULL,
   `file_path` varchar(500) NOT NULL,
   `file_size` int NOT NULL,
+  `download_count` int NOT NULL DEFAULT 0,
   `upload_date` datetime NOT NULL,
   PRIMARY KEY (`attach_uid`),
   FOREIGN KEY (`freeboard_uid`) REFERENCES `freeboard` (`freeboard_uid`)
@@ -339,6 +350,54 @@ CREATE INDEX idx_user_uid ON freeboard(user_uid);
 CREATE INDEX idx_freeboard_notify ON freeboard(freeboard_notify);
 CREATE INDEX idx_freeboard_deleted ON freeboard(freeboard_deleted);
 
+-- 커서(키셋) 페이지네이션용 정렬 키 인덱스
+CREATE INDEX idx_freeboard_writetime_uid ON freeboard(freeboard_writetime, freeboard_uid);
+CREATE INDEX idx_freeboard_notify_writetime_uid ON freeboard(freeboard_notify, freeboard_writetime, freeboard_uid);
+CREATE INDEX idx_news_writetime_uid ON news(news_writetime, news_uid);
+CREATE INDEX idx_inquiry_writetime_uid ON inquiry(inquiry_writetime, inquiry_uid);
+CREATE INDEX idx_keyboard_information_name_uid ON keyboard_information(keyboard_information_name, keyboard_information_uid);
+
+-- 내용 주소 저장 파일 참조 조회 (다운로드, 중복 파일 삭제 판단)
+CREATE INDEX idx_freeboard_attach_file_path ON freeboard_attach(file_path(100));
+
+-- 로그인 조회 (이메일로 사용자 조회 + 현재 제재 여부 확인을 한 쿼리로 처리)
+CREATE INDEX idx_user_email ON user(user_email);
+CREATE INDEX idx_user_penalty_user_status ON user_penalty(user_uid, penalty_status);
+
+-- 마지막 로그인 시간 컬럼 (기존 DB 마이그레이션 시 실행)
+-- ALTER TABLE user ADD COLUMN last_login_date datetime NULL AFTER user_status;
+
+-- 태그 투표 테이블(keyboard_tag_vote) 사용 시 사용자별 투표 1건 보장 및 FOR UPDATE 잠금 범위 축소
+-- CREATE UNIQUE INDEX uk_keyboard_tag_vote_user ON keyboard_tag_vote(keyboard_uid, tag_uid, user_uid);
+
+-- 댓글 수 비정규화 컬럼 (기존 DB 마이그레이션 시 실행)
+-- ALTER TABLE freeboard ADD COLUMN comment_count int NOT NULL DEFAULT 0 AFTER freeboard_deleted;
+-- ALTER TABLE news ADD COLUMN comment_count int NOT NULL DEFAULT 0 AFTER news_deleted;
+-- UPDATE freeboard f SET f.comment_count = (SELECT COUNT(*) FROM freeboard_comment c WHERE c.freeboard_uid = f.freeboard_uid);
+-- UPDATE news n SET n.comment_count = (SELECT COUNT(*) FROM news_comment c WHERE c.news_uid = n.news_uid);
+
+-- 키보드 별점 집계 비정규화 컬럼 (기존 DB 마이그레이션 시 실행)
+-- ALTER TABLE keyboard_information ADD COLUMN score_sum int NOT NULL DEFAULT 0, ADD COLUMN score_count int NOT NULL DEFAULT 0,
+--     ADD COLUMN score_1 int NOT NULL DEFAULT 0, ADD COLUMN score_2 int NOT NULL DEFAULT 0, ADD COLUMN score_3 int NOT NULL DEFAULT 0,
+--     ADD COLUMN score_4 int NOT NULL DEFAULT 0, ADD COLUMN score_5 int NOT NULL DEFAULT 0;
+-- UPDATE keyboard_information k LEFT JOIN (
+--     SELECT keyboard_information_uid, SUM(score_value) AS total, COUNT(*) AS cnt,
+--         SUM(score_value = 1) AS s1, SUM(score_value = 2) AS s2, SUM(score_value = 3) AS s3,
+--         SUM(score_value = 4) AS s4, SUM(score_value = 5) AS s5
+--     FROM keyboard_score WHERE score_value BETWEEN 1 AND 5 GROUP BY keyboard_information_uid
+-- ) s ON s.keyboard_information_uid = k.keyboard_information_uid
+-- SET k.score_sum = COALESCE(s.total, 0), k.score_count = COALESCE(s.cnt, 0),
+--     k.score_1 = COALESCE(s.s1, 0), k.score_2 = COALESCE(s.s2, 0), k.score_3 = COALESCE(s.s3, 0),
+--     k.score_4 = COALESCE(s.s4, 0), k.score_5 = COALESCE(s.s5, 0);
+
+-- 키보드 이름 NOT NULL (이름순 커서의 (이름, uid) 비교에서 NULL 행이 빠지지 않도록, 기존 DB 마이그레이션 시 실행)
+-- UPDATE keyboard_information SET keyboard_information_name = '' WHERE keyboard_information_name IS NULL;
+-- ALTER TABLE keyboard_information MODIFY keyboard_information_name varchar(50) NOT NULL DEFAULT '';
+-- CREATE INDEX idx_keyboard_information_name_uid ON keyboard_information(keyboard_information_name, keyboard_information_uid);
+
+-- 첨부파일 다운로드 수 컬럼 (기존 DB 마이그레이션 시 실행)
+-- ALTER TABLE freeboard_attach ADD COLUMN download_count int NOT NULL DEFAULT 0 AFTER file_size;
+
 -- 전문 검색용 인덱스 (MySQL 기준)
 CREATE FULLTEXT INDEX idx_freeboard_title_contents 
 ON freeboard(freeboard_title, freeboard_contents);
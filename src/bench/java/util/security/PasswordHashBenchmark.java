@@ -0,0 +1,102 @@
+package util.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PBKDF2 반복 횟수 선택용 측정 도구 (운영 서버와 같은 CPU에서 실행)
+ * 코어 수만큼의 스레드로 로그인 폭주(동시 요청 = 스레드 수 x 4)를 흉내 내어
+ * 반복 횟수별 대기 포함 지연 시간(p50/p99)과 초당 처리량을 측정하고,
+ * p99가 목표 이하인 가장 큰 반복 횟수를 PASSWORD_PBKDF2_ITERATIONS 추천 값으로 출력
+ *
+ * WAR에 포함되지 않도록 src/bench에 두며, build-war.sh로 만든 build/classes에 대해 따로 컴파일해서 실행
+ *
+ * 컴파일: javac -encoding UTF-8 -cp build/classes -d build/bench src/bench/java/util/security/PasswordHashBenchmark.java
+ * 실행: java -cp build/classes:build/bench util.security.PasswordHashBenchmark [목표 p99(ms)] [반복 횟수...]
+ * 예: java -cp build/classes:build/bench util.security.PasswordHashBenchmark 500 100000 210000 310000 600000
+ */
+public final class PasswordHashBenchmark {
+    private static final int DEFAULT_TARGET_P99_MS = 500;
+    private static final int[] DEFAULT_ITERATIONS = { 100_000, 210_000, 310_000, 600_000 };
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    private PasswordHashBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int targetP99Ms = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TARGET_P99_MS;
+        int[] iterationCounts = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_ITERATIONS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int burst = threads * 4;
+
+        System.out.println("코어 " + threads + "개, 동시 로그인 " + burst + "건, 목표 p99 " + targetP99Ms + "ms");
+        System.out.println(String.format("%12s %10s %10s %10s", "반복 횟수", "p50(ms)", "p99(ms)", "처리량/s"));
+
+        int recommended = -1;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int iterations : iterationCounts) {
+                Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder(iterations);
+                String encoded = encoder.encode("benchmark-P@ssw0rd");
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    runBurst(pool, encoder, encoded, burst);
+                }
+
+                List<Long> latencies = new ArrayList<>();
+                long start = System.nanoTime();
+                for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                    latencies.addAll(runBurst(pool, encoder, encoded, burst));
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                latencies.sort(null);
+                double p50 = percentile(latencies, 0.50) / 1e6;
+                double p99 = percentile(latencies, 0.99) / 1e6;
+                System.out.println(String.format("%12d %10.1f %10.1f %10.1f", iterations, p50, p99,
+                        latencies.size() / seconds));
+                if (p99 <= targetP99Ms && iterations > recommended) {
+                    recommended = iterations;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (recommended > 0) {
+            System.out.println("추천: PASSWORD_PBKDF2_ITERATIONS=" + recommended);
+        } else {
+            System.out.println("목표 p99를 만족하는 반복 횟수가 없습니다. 더 작은 값으로 다시 측정하세요.");
+        }
+    }
+
+    // 동시에 도착한 로그인 요청을 흉내 냄 (대기열에서 기다린 시간 포함)
+    private static List<Long> runBurst(ExecutorService pool, Pbkdf2PasswordEncoder encoder, String encoded,
+            int burst) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(burst);
+        long submitted = System.nanoTime();
+        for (int i = 0; i < burst; i++) {
+            futures.add(pool.submit(() -> {
+                if (!encoder.matches("benchmark-P@ssw0rd", encoded)) {
+                    throw new IllegalStateException("검증 실패");
+                }
+                return System.nanoTime() - submitted;
+            }));
+        }
+        List<Long> latencies = new ArrayList<>(burst);
+        for (Future<Long> future : futures) {
+            latencies.add(future.get());
+        }
+        return latencies;
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import dto.keyboard.GuideDTO;
 import repository.dao.admin.AdminGuideDAO;
+import util.logging.LoggerConfig;
 
 /**
  * 관리자용 키보드 용어집 관리 서비스 클래스
@@ -27,8 +28,7 @@ public class AdminGuideService {
         try {
             return guideDAO.addGuide(guide);
         } catch (SQLException e) {
-            System.err.println("키보드 용어 등록 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "addGuide", "키보드 용어 등록 중 오류 발생", e);
             return false;
         }
     }
@@ -43,8 +43,7 @@ public class AdminGuideService {
         try {
             return guideDAO.updateGuide(guide);
         } catch (SQLException e) {
-            System.err.println("키보드 용어 수정 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "updateGuide", "키보드 용어 수정 중 오류 발생", e);
             return false;
         }
     }
@@ -59,8 +58,7 @@ public class AdminGuideService {
         try {
             return guideDAO.deleteGuide(guideId);
         } catch (SQLException e) {
-            System.err.println("키보드 용어 삭제 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "deleteGuide", "키보드 용어 삭제 중 오류 발생", e);
             return false;
         }
     }
@@ -74,8 +72,7 @@ public class AdminGuideService {
         try {
             return guideDAO.getAllGuides();
         } catch (SQLException e) {
-            System.err.println("키보드 용어 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "getAllGuides", "키보드 용어 조회 중 오류 발생", e);
             return null;
         }
     }
@@ -90,8 +87,7 @@ public class AdminGuideService {
         try {
             return guideDAO.addGuideCategory(categoryName);
         } catch (SQLException e) {
-            System.err.println("용어 카테고리 추가 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "addGuideCategory", "용어 카테고리 추가 중 오류 발생", e);
             return false;
         }
     }
@@ -107,8 +103,7 @@ public class AdminGuideService {
         try {
             return guideDAO.updateGuideCategory(oldCategoryName, newCategoryName);
         } catch (SQLException e) {
-            System.err.println("용어 카테고리 수정 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "updateGuideCategory", "용어 카테고리 수정 중 오류 발생", e);
             return false;
         }
     }
@@ -123,8 +118,7 @@ public class AdminGuideService {
         try {
             return guideDAO.deleteGuideCategory(categoryName);
         } catch (SQLException e) {
-            System.err.println("용어 카테고리 삭제 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "deleteGuideCategory", "용어 카테고리 삭제 중 오류 발생", e);
             return false;
         }
     }
@@ -138,8 +132,7 @@ public class AdminGuideService {
         try {
             return guideDAO.getAllGuideCategories();
         } catch (SQLException e) {
-            System.err.println("카테고리 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            LoggerConfig.logError(AdminGuideService.class, "getAllGuideCategories", "카테고리 조회 중 오류 발생", e);
             return null;
         }
     }
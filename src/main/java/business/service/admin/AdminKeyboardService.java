@@ -217,7 +217,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.deleteKeyboardCategory(categoryId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "deleteKeyboardCategory", "키보드 카테고리 삭제 실패", e);
             return false;
         }
     }
@@ -232,7 +232,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.addKeyboardTag(tag);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "addKeyboardTag", "키보드 태그 추가 실패", e);
             return false;
         }
     }
@@ -247,7 +247,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.updateKeyboardTag(tag);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "updateKeyboardTag", "키보드 태그 수정 실패", e);
             return false;
         }
     }
@@ -262,7 +262,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.deleteKeyboardTag(tagId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "deleteKeyboardTag", "키보드 태그 삭제 실패", e);
             return false;
         }
     }
@@ -277,7 +277,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.confirmKeyboardTag(tagId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "confirmKeyboardTag", "키보드 태그 승인 실패", e);
             return false;
         }
     }
@@ -291,7 +291,7 @@ public class AdminKeyboardService {
         try {
             return adminKeyboardDAO.getAllKeyboardTags();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(AdminKeyboardService.class, "getAllKeyboardTags", "모든 키보드 태그 조회 실패", e);
             return new ArrayList<>();
         }
     }
@@ -3,6 +3,7 @@ package business.service.admin;
 import java.sql.SQLException;
 import java.util.List;
 
+import business.service.chatboard.ChatboardService;
 import dto.admin.AdminDeleteLogDTO;
 import repository.dao.admin.AdminContentRecoveryDAO;
 import repository.dao.admin.AdminDeleteLogDAO;
@@ -105,7 +106,12 @@ public class AdminLogService {
      */
     public boolean recoverDeletedPost(String boardType, long postId) {
         try {
-            return recoveryDAO.recoverDeletedPost(boardType, postId);        
+            boolean success = recoveryDAO.recoverDeletedPost(boardType, postId);
+            if (success && "chatboard".equalsIgnoreCase(boardType)) {
+                // 복원된 메시지는 메모리 채팅 버퍼에 없으므로 다음 조회 때 DB에서 다시 채움
+                ChatboardService.invalidateChatFeed();
+            }
+            return success;
         } catch (SQLException e) {
             logError("SQL", e, "recoverDeletedPost", "boardType: " + boardType + ", postId: " + postId);
             return false;
@@ -128,6 +134,21 @@ public class AdminLogService {
         }
     }
     
+    /**
+     * 게시글의 댓글 수를 실제 댓글 수와 다시 맞춥니다.
+     * 
+     * @param boardType 게시판 유형 (freeboard, news)
+     * @return 보정된 게시글 수, 실패 시 -1
+     */
+    public int reconcileCommentCounts(String boardType) {
+        try {
+            return recoveryDAO.reconcileCommentCounts(boardType);
+        } catch (SQLException e) {
+            logError("SQL", e, "reconcileCommentCounts", "boardType: " + boardType);
+            return -1;
+        }
+    }
+    
     /**
      * 삭제된 첨부파일을 복원합니다.
      * 
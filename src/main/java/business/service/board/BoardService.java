@@ -11,6 +11,7 @@ import java.util.List;
 import dto.board.PostDTO;
 import repository.dao.board.FreeboardDAO;
 import util.db.DBConnectionUtil;
+import util.logging.LoggerConfig;
 
 public class BoardService {
     private FreeboardDAO freeboardDAO;
@@ -160,7 +161,7 @@ public class BoardService {
                 results.add(post);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(BoardService.class, "getPostsByUserId", "사용자 ID로 게시글 목록 조회 실패", e);
             throw new SQLException("사용자의 게시글을 조회하는 중 오류가 발생했습니다: " + e.getMessage());
         } finally {
             // 리소스 해제
@@ -169,7 +170,7 @@ public class BoardService {
                 if (pstmt != null) pstmt.close();
                 if (conn != null) conn.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                LoggerConfig.logError(BoardService.class, "getPostsByUserId", "자원 해제 실패", e);
             }
         }
         
@@ -248,7 +249,7 @@ public class BoardService {
                 totalCount = rs.getInt("total");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(BoardService.class, "getTotalPostCountByUserId", "사용자 ID로 게시글 총 개수 조회 실패", e);
             throw new SQLException("사용자의 게시글 수를 조회하는 중 오류가 발생했습니다: " + e.getMessage());
         } finally {
             // 리소스 해제
@@ -257,7 +258,7 @@ public class BoardService {
                 if (pstmt != null) pstmt.close();
                 if (conn != null) conn.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                LoggerConfig.logError(BoardService.class, "getTotalPostCountByUserId", "자원 해제 실패", e);
             }
         }
         
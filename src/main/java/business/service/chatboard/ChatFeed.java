@@ -0,0 +1,281 @@
+package business.service.chatboard;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import dto.board.ChatboardDTO;
+import repository.dao.board.ChatboardDAO;
+import util.config.EnvConfig;
+import util.event.EventBus;
+import util.logging.LoggerConfig;
+
+/**
+ * 최근 채팅 메시지 링 버퍼 + 새 메시지 대기자 (애플리케이션 전체에서 하나)
+ * - 처음 조회할 때 DB에서 최근 메시지를 한 번 읽어 채우고, 이후에는 등록/수정/삭제 때마다 버퍼를 갱신
+ * - since 이후 메시지 조회는 버퍼에서 처리하고, since가 버퍼보다 오래된 경우에만 DB 조회
+ * - 새 메시지가 없으면 DB를 조회하지 않음 (폴링 중인 클라이언트는 DB 비용 없음)
+ * - 롱 폴링 요청은 대기자로 등록해 두고 새 메시지가 등록되면 깨움
+ * - 등록/수정/삭제를 EventBus로 발행 (SSE 구독자용: chat, chat-update, chat-delete)
+ *
+ * 등록은 postLock으로 직렬화해 채팅 ID 순서와 버퍼 추가 순서를 일치시킴
+ * (since 커서로 조회할 때 늦게 커밋된 작은 ID를 놓치지 않도록)
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - CHAT_FEED_CAPACITY: 버퍼에 보관할 최근 메시지 수 (기본 500)
+ * - CHAT_LONGPOLL_MAX_WAITERS: 동시에 대기할 수 있는 롱 폴링 요청 수 (기본 1000)
+ */
+final class ChatFeed {
+    private static final Logger logger = LoggerConfig.getLogger(ChatFeed.class);
+
+    private static final ChatFeed INSTANCE = new ChatFeed(
+            Math.max(100, EnvConfig.getInt("CHAT_FEED_CAPACITY", 500)),
+            Math.max(1, EnvConfig.getInt("CHAT_LONGPOLL_MAX_WAITERS", 1000)));
+
+    /**
+     * 새 메시지 대기자
+     */
+    static final class Waiter {
+        private final long sinceUid;
+        private final Runnable onNewChat;
+
+        private Waiter(long sinceUid, Runnable onNewChat) {
+            this.sinceUid = sinceUid;
+            this.onNewChat = onNewChat;
+        }
+    }
+
+    private final int capacity;
+    private final int maxWaiters;
+    private final ChatboardDAO chatboardDAO = new ChatboardDAO();
+
+    // 채팅 ID 오름차순 (가장 오래된 메시지가 앞)
+    private final LinkedList<ChatboardDTO> buffer = new LinkedList<>();
+    private boolean warmed;
+    // 이 ID보다 큰 유지 중인 메시지는 모두 버퍼에 있음
+    private long coveredAfterUid;
+    private long lastUid;
+
+    private final Object postLock = new Object();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    private ChatFeed(int capacity, int maxWaiters) {
+        this.capacity = capacity;
+        this.maxWaiters = maxWaiters;
+    }
+
+    static ChatFeed getInstance() {
+        return INSTANCE;
+    }
+
+    // 최초 1회 DB에서 최근 메시지로 버퍼 채우기
+    private synchronized void warmUp() throws SQLException {
+        if (warmed) {
+            return;
+        }
+        List<ChatboardDTO> recent = chatboardDAO.getRecentChats(capacity);
+        buffer.clear();
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            buffer.addLast(recent.get(i));
+        }
+        if (buffer.isEmpty()) {
+            coveredAfterUid = 0;
+            lastUid = 0;
+        } else {
+            // 버퍼가 가득 찼으면 가장 오래된 메시지 이전은 DB에만 있음
+            coveredAfterUid = recent.size() < capacity ? 0 : buffer.peekFirst().getChatboardUid() - 1;
+            lastUid = buffer.peekLast().getChatboardUid();
+        }
+        warmed = true;
+        logger.info("채팅 버퍼 초기화: " + buffer.size() + "개");
+    }
+
+    /**
+     * 최근 메시지 (최신순)
+     */
+    List<ChatboardDTO> getLatest(int limit) throws SQLException {
+        synchronized (this) {
+            warmUp();
+            // 삭제로 버퍼가 모자라고 그 이전 메시지가 DB에 있으면 버퍼를 DB에서 다시 채움
+            if (buffer.size() < limit && coveredAfterUid > 0) {
+                warmed = false;
+                warmUp();
+            }
+            return latestFromBuffer(limit);
+        }
+    }
+
+    private List<ChatboardDTO> latestFromBuffer(int limit) {
+        List<ChatboardDTO> result = new ArrayList<>(Math.min(limit, buffer.size()));
+        Iterator<ChatboardDTO> it = buffer.descendingIterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * sinceUid 이후 메시지 (오래된 순, 최대 limit개)
+     * 버퍼가 since 이후를 모두 담고 있지 않으면 DB에서 조회
+     */
+    List<ChatboardDTO> getSince(long sinceUid, int limit) throws SQLException {
+        synchronized (this) {
+            warmUp();
+            if (sinceUid >= lastUid) {
+                return Collections.emptyList();
+            }
+            if (sinceUid >= coveredAfterUid) {
+                List<ChatboardDTO> result = new ArrayList<>();
+                for (ChatboardDTO chat : buffer) {
+                    if (chat.getChatboardUid() > sinceUid) {
+                        result.add(chat);
+                        if (result.size() >= limit) {
+                            break;
+                        }
+                    }
+                }
+                return result;
+            }
+        }
+        return chatboardDAO.getChatsSince(sinceUid, limit);
+    }
+
+    /**
+     * 마지막 메시지 ID (메시지가 없으면 0)
+     */
+    synchronized long getLastUid() throws SQLException {
+        warmUp();
+        return lastUid;
+    }
+
+    /**
+     * 메시지 등록 (DB 저장 후 버퍼에 추가하고 대기자를 깨움)
+     */
+    boolean post(ChatboardDTO chat) throws SQLException {
+        synchronized (postLock) {
+            if (!chatboardDAO.postChat(chat)) {
+                return false;
+            }
+            ChatboardDTO saved = chatboardDAO.getChatById(chat.getChatboardUid());
+            append(saved != null ? saved : chat);
+            // 채팅 ID 순서대로 발행
+            EventBus.getInstance().publish("chat", saved != null ? saved : chat);
+        }
+        notifyWaiters();
+        return true;
+    }
+
+    private synchronized void append(ChatboardDTO chat) throws SQLException {
+        if (!warmed) {
+            // 아직 조회된 적 없으면 DB에서 방금 등록한 메시지까지 함께 읽음
+            warmUp();
+            return;
+        }
+        buffer.addLast(chat);
+        lastUid = Math.max(lastUid, chat.getChatboardUid());
+        while (buffer.size() > capacity) {
+            coveredAfterUid = buffer.pollFirst().getChatboardUid();
+        }
+    }
+
+    /**
+     * 수정된 메시지 반영 (버퍼에 있으면 그 자리에서 교체, 유지 상태가 아니면 제거)
+     */
+    void refresh(long chatId) throws SQLException {
+        ChatboardDTO updated = chatboardDAO.getChatById(chatId);
+        if (updated != null) {
+            EventBus.getInstance().publish("chat-update", updated);
+        }
+        synchronized (this) {
+            if (!warmed) {
+                return;
+            }
+            ListIterator<ChatboardDTO> it = buffer.listIterator();
+            while (it.hasNext()) {
+                if (it.next().getChatboardUid() == chatId) {
+                    if (updated == null || !"maintained".equals(updated.getChatboardDeleted())) {
+                        it.remove();
+                    } else {
+                        it.set(updated);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 버퍼 무효화 (다음 조회 때 DB에서 다시 채움)
+     */
+    synchronized void invalidate() {
+        warmed = false;
+        buffer.clear();
+    }
+
+    /**
+     * 삭제된 메시지 제거
+     */
+    void remove(long chatId) {
+        synchronized (this) {
+            buffer.removeIf(chat -> chat.getChatboardUid() == chatId);
+        }
+        EventBus.getInstance().publish("chat-delete", Collections.singletonMap("chatId", chatId));
+    }
+
+    /**
+     * 새 메시지 대기 등록
+     * @return 대기 핸들, 이미 새 메시지가 있으면 null (바로 응답)
+     * @throws RejectedExecutionException 대기자 수가 상한에 도달한 경우 (나중에 다시 시도해야 함)
+     */
+    Waiter await(long sinceUid, Runnable onNewChat) throws SQLException {
+        synchronized (this) {
+            warmUp();
+            if (sinceUid < lastUid) {
+                return null;
+            }
+            if (waiters.size() >= maxWaiters) {
+                throw new RejectedExecutionException("채팅 대기자 수 상한 초과 (" + maxWaiters + ")");
+            }
+            Waiter waiter = new Waiter(sinceUid, onNewChat);
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * 대기 취소 (타임아웃/연결 종료)
+     */
+    void cancel(Waiter waiter) {
+        if (waiter != null) {
+            waiters.remove(waiter);
+        }
+    }
+
+    int getWaiterCount() {
+        return waiters.size();
+    }
+
+    private void notifyWaiters() {
+        long current;
+        synchronized (this) {
+            current = lastUid;
+        }
+        for (Waiter waiter : waiters) {
+            if (waiter.sinceUid < current && waiters.remove(waiter)) {
+                try {
+                    waiter.onNewChat.run();
+                } catch (RuntimeException e) {
+                    logger.warning("채팅 대기자 알림 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
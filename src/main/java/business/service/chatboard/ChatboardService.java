@@ -7,23 +7,74 @@ import dto.board.ChatboardDTO;
 import repository.dao.board.ChatboardDAO;
 
 public class ChatboardService {
+    // 목록/증분 조회 한 번에 돌려줄 최대 메시지 수
+    public static final int MAX_CHAT_LIST_SIZE = 100;
+    
     private final ChatboardDAO chatboardDAO;
+    private final ChatFeed chatFeed;
     
     public ChatboardService() {
         this.chatboardDAO = new ChatboardDAO();
+        this.chatFeed = ChatFeed.getInstance();
     }
     
     /**
-     * 모든 채팅 메시지 조회
+     * 모든 채팅 메시지 조회 (최근 100개, 최신순, 메모리 버퍼에서 조회)
      */
     public List<ChatboardDTO> getAllChats() {
         try {
-            return chatboardDAO.getAllChats();
+            return chatFeed.getLatest(MAX_CHAT_LIST_SIZE);
         } catch (SQLException e) {
             return null;
         }
     }
     
+    /**
+     * 지정한 채팅 ID 이후 메시지 조회 (오래된 순, 최대 100개)
+     * 새 메시지가 없으면 DB를 조회하지 않음
+     */
+    public List<ChatboardDTO> getChatsSince(long sinceChatId) {
+        try {
+            return chatFeed.getSince(sinceChatId, MAX_CHAT_LIST_SIZE);
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 마지막 채팅 ID (메시지가 없으면 0, 오류 시 -1)
+     */
+    public long getLastChatId() {
+        try {
+            return chatFeed.getLastUid();
+        } catch (SQLException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * 새 메시지 대기 (롱 폴링)
+     * @param sinceChatId 클라이언트가 마지막으로 받은 채팅 ID
+     * @param onNewChat since 이후 메시지가 등록되면 한 번 실행 (등록한 스레드에서 호출되므로 오래 걸리는 작업은 넘겨서 처리)
+     * @return 대기 취소 동작, 바로 응답해야 하면(이미 새 메시지가 있거나 오류) null
+     * @throws java.util.concurrent.RejectedExecutionException 대기자 수가 상한에 도달한 경우 (바로 다시 폴링하지 않도록 거절 응답)
+     */
+    public Runnable awaitNewChats(long sinceChatId, Runnable onNewChat) {
+        try {
+            ChatFeed.Waiter waiter = chatFeed.await(sinceChatId, onNewChat);
+            return waiter != null ? () -> chatFeed.cancel(waiter) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 메모리 채팅 버퍼 무효화 (관리자 복원 등 DB를 직접 변경한 뒤 호출, 다음 조회 때 DB에서 다시 읽음)
+     */
+    public static void invalidateChatFeed() {
+        ChatFeed.getInstance().invalidate();
+    }
+    
     /**
      * 채팅 ID로 작성자 확인
      */
@@ -50,7 +101,7 @@ public class ChatboardService {
                 chat.setChatboardTitle(chat.getChatboardTitle().substring(0, 200));
             }
             
-            return chatboardDAO.postChat(chat);
+            return chatFeed.post(chat);
         } catch (SQLException e) {
             return false;
         }
@@ -65,7 +116,11 @@ public class ChatboardService {
             
             // 본인이거나 관리자/매니저인 경우만 수정 가능
             if (authorId == userId || "admin".equals(userAuthority) || "armband".equals(userAuthority)) {
-                return chatboardDAO.updateChatById(chat);
+                boolean updated = chatboardDAO.updateChatById(chat);
+                if (updated) {
+                    chatFeed.refresh(chat.getChatboardUid());
+                }
+                return updated;
             }
             
             return false;
@@ -83,7 +138,11 @@ public class ChatboardService {
             
             // 본인이거나 관리자/매니저인 경우만 삭제 가능
             if (authorId == userId || "admin".equals(userAuthority) || "armband".equals(userAuthority)) {
-                return chatboardDAO.deleteChatById(chatId);
+                boolean deleted = chatboardDAO.deleteChatById(chatId);
+                if (deleted) {
+                    chatFeed.remove(chatId);
+                }
+                return deleted;
             }
             
             return false;
@@ -2,12 +2,18 @@ package business.service.database;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
 import dto.keyboard.KeyboardTagDTO;
+import jakarta.servlet.http.HttpServletRequest;
 import repository.dao.database.KeyboardInfoDAO;
+import util.db.CursorPage;
+import util.db.DataLoader;
+import util.logging.LoggerConfig;
 
 /**
  * 키보드 정보 서비스 클래스
@@ -26,7 +32,34 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getAllKeyboardInfos(page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllKeyboardInfos", "모든 키보드 정보 조회 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 키보드 정보 목록 조회 (정렬 지정)
+     * @param sortBy rating(평균 별점 높은 순), reviews(별점 참여 많은 순), 그 외 이름순
+     */
+    public List<KeyboardInfoDTO> getAllKeyboardInfos(int page, int pageSize, String sortBy) {
+        try {
+            return keyboardInfoDAO.getAllKeyboardInfos(page, pageSize, sortBy);
+        } catch (SQLException e) {
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllKeyboardInfos", "키보드 정보 목록 조회 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 키보드 정보 목록 커서 기반 조회
+     * @param cursor 이전 응답의 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<KeyboardInfoDTO> getKeyboardInfosByCursor(String cursor, int pageSize) {
+        try {
+            return keyboardInfoDAO.getKeyboardInfosByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            LoggerConfig.logError(KeyboardInfoService.class, "getKeyboardInfosByCursor", "키보드 정보 목록 커서 기반 조회 실패", e);
             return null;
         }
     }
@@ -37,7 +70,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getKeyboardInfoById(keyboardId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getKeyboardInfoById", "키보드 상세 정보 조회 실패", e);
             return null;
         }
     }
@@ -58,7 +91,23 @@ public class KeyboardInfoService {
             return keyboardInfoDAO.searchKeyboardInfosByCondition(
                     keyword, manufacturer, switchType, layoutType, connectType, page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "searchKeyboardInfosByCondition", "조건별 키보드 검색 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 여러 키보드의 태그 목록 조회 (투표 수 포함)
+     * 요청 단위 로더를 사용하므로 같은 요청 안에서 이미 읽은 키보드는 다시 조회하지 않음
+     * @return 키보드 ID → 태그 목록, 오류 시 null
+     */
+    public Map<Long, List<KeyboardTagDTO>> getKeyboardTagsByIds(HttpServletRequest request, List<Long> keyboardIds) {
+        DataLoader<Long, List<KeyboardTagDTO>> tagLoader = DataLoader.forRequest(request, "keyboardTags",
+                () -> new DataLoader<>(keyboardInfoDAO::getKeyboardTagsByIds, Collections.emptyList()));
+        try {
+            return tagLoader.loadMany(keyboardIds);
+        } catch (SQLException e) {
+            LoggerConfig.logError(KeyboardInfoService.class, "getKeyboardTagsByIds", "여러 키보드의 태그 목록 조회 실패", e);
             return null;
         }
     }
@@ -70,7 +119,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.addKeyboardComment(comment);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "addKeyboardComment", "키보드 한줄평 추가 실패", e);
             return false;
         }
     }
@@ -82,7 +131,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getKeyboardComments(keyboardId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getKeyboardComments", "키보드 한줄평 목록 조회 실패", e);
             return null;
         }
     }
@@ -95,7 +144,7 @@ public class KeyboardInfoService {
             boolean isAdmin = "admin".equals(userAuthority);
             return keyboardInfoDAO.deleteKeyboardCommentById(commentId, userId, isAdmin);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "deleteKeyboardCommentById", "한줄평 삭제 실패", e);
             return false;
         }
     }
@@ -107,7 +156,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.deleteKeyboardCommentById(commentId, userId, false);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "deleteKeyboardCommentById", "한줄평 삭제 실패", e);
             return false;
         }
     }
@@ -119,7 +168,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.scrapKeyboardInfo(keyboardId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "scrapKeyboardInfo", "키보드 스크랩 실패", e);
             return false;
         }
     }
@@ -131,7 +180,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.hasAlreadyScrapped(keyboardId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "hasAlreadyScrapped", "이미 스크랩했는지 확인 실패", e);
             return false;
         }
     }
@@ -143,7 +192,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getScrapsByUserId(userId, page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getScrapsByUserId", "사용자가 스크랩한 키보드 목록 조회 실패", e);
             return new ArrayList<>();
         }
     }
@@ -155,7 +204,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getTotalScrapCountByUserId(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getTotalScrapCountByUserId", "사용자가 스크랩한 키보드 총 개수 조회 실패", e);
             return 0;
         }
     }
@@ -167,7 +216,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getKeyboardTagsWithVotes(keyboardId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getKeyboardTagsWithVotes", "키보드 태그 조회 실패", e);
             return null;
         }
     }
@@ -179,7 +228,19 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.voteKeyboardTag(keyboardId, tagId, userId, voteType);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "voteKeyboardTag", "키보드 태그 투표 실패", e);
+            return false;
+        }
+    }
+    
+    /**
+     * 키보드 태그 투표 (멱등 키 지원 - 같은 키로 다시 요청하면 다시 적용하지 않음)
+     */
+    public boolean voteKeyboardTag(long keyboardId, long tagId, long userId, String voteType, String idempotencyKey) {
+        try {
+            return keyboardInfoDAO.voteKeyboardTag(keyboardId, tagId, userId, voteType, idempotencyKey);
+        } catch (SQLException e) {
+            LoggerConfig.logError(KeyboardInfoService.class, "voteKeyboardTag", "키보드 태그 투표 실패", e);
             return false;
         }
     }
@@ -191,7 +252,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.suggestKeyboardTag(tagName, keyboardId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "suggestKeyboardTag", "키보드 태그 제안 실패", e);
             return false;
         }
     }
@@ -203,7 +264,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.addKeyboardScore(score);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "addKeyboardScore", "키보드 별점 추가 실패", e);
             return false;
         }
     }
@@ -215,7 +276,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.updateKeyboardScore(score);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "updateKeyboardScore", "키보드 별점 수정 실패", e);
             return false;
         }
     }
@@ -227,7 +288,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getUserScore(keyboardId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getUserScore", "사용자 별점 조회 실패", e);
             return null;
         }
     }
@@ -239,7 +300,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getScoresByUserId(userId, sortBy, page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getScoresByUserId", "사용자가 작성한 키보드 별점 목록 조회 실패", e);
             return new ArrayList<>();
         }
     }
@@ -251,7 +312,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getTotalScoreCountByUserId(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getTotalScoreCountByUserId", "사용자가 작성한 키보드 별점 총 개수 조회 실패", e);
             return 0;
         }
     }
@@ -263,7 +324,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getTotalKeyboardCount();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getTotalKeyboardCount", "총 키보드 수 조회 실패", e);
             return 0;
         }
     }
@@ -277,7 +338,7 @@ public class KeyboardInfoService {
             return keyboardInfoDAO.getFilteredKeyboardCount(
                     keyword, manufacturer, switchType, layoutType, connectType);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getFilteredKeyboardCount", "검색 조건에 맞는 키보드 수 조회 실패", e);
             return 0;
         }
     }
@@ -289,7 +350,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getAllManufacturers();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllManufacturers", "제조사 목록 조회 실패", e);
             return null;
         }
     }
@@ -301,7 +362,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getAllSwitchTypes();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllSwitchTypes", "스위치 타입 목록 조회 실패", e);
             return null;
         }
     }
@@ -313,7 +374,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getAllLayoutTypes();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllLayoutTypes", "레이아웃 타입 목록 조회 실패", e);
             return null;
         }
     }
@@ -325,7 +386,7 @@ public class KeyboardInfoService {
         try {
             return keyboardInfoDAO.getAllConnectTypes();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoService.class, "getAllConnectTypes", "연결 타입 목록 조회 실패", e);
             return null;
         }
     }
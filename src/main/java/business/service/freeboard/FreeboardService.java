@@ -1,16 +1,23 @@
 package business.service.freeboard;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import dto.board.AttachmentDTO;
 import dto.board.FreeboardCommentDTO;
 import dto.board.FreeboardDTO;
 import repository.dao.board.FreeboardDAO;
 import util.db.DBConnectionUtil;
+import util.db.CursorPage;
+import util.event.EventBus;
+import util.logging.LoggerConfig;
+import util.upload.UploadPipeline;
 
 public class FreeboardService {
     private final FreeboardDAO freeboardDAO;
@@ -26,7 +33,21 @@ public class FreeboardService {
         try {
             return freeboardDAO.getAllFreeboards(page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getAllFreeboards", "게시글 목록 조회 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 게시글 목록 커서 기반 조회
+     * @param cursor 이전 응답의 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<FreeboardDTO> getFreeboardsByCursor(String cursor, int pageSize) {
+        try {
+            return freeboardDAO.getFreeboardsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            LoggerConfig.logError(FreeboardService.class, "getFreeboardsByCursor", "게시글 목록 커서 기반 조회 실패", e);
             return null;
         }
     }
@@ -38,7 +59,7 @@ public class FreeboardService {
         try {
             return freeboardDAO.getFreeboardById(postId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getFreeboardById", "게시글 상세 조회 실패", e);
             return null;
         }
     }
@@ -66,13 +87,28 @@ public class FreeboardService {
                 post.setFreeboardDeleted("maintained");
             }
             
-            return freeboardDAO.postFreeboard(post);
+            boolean posted = freeboardDAO.postFreeboard(post);
+            if (posted) {
+                publishNewPost(post);
+            }
+            return posted;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "createFreeboard", "게시글 등록 실패", e);
             return false;
         }
     }
     
+    /**
+     * 새 게시글 알림 발행 (SSE 구독자용)
+     */
+    private void publishNewPost(FreeboardDTO post) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("boardType", "freeboard");
+        event.put("postId", post.getFreeboardUid());
+        event.put("title", post.getFreeboardTitle());
+        EventBus.getInstance().publish("post", event);
+    }
+    
     /**
      * 게시글 수정
      */
@@ -91,7 +127,7 @@ public class FreeboardService {
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "updateFreeboard", "게시글 수정 실패", e);
             return false;
         }
     }
@@ -114,7 +150,7 @@ public class FreeboardService {
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "deleteFreeboard", "게시글 삭제 실패", e);
             return false;
         }
     }
@@ -130,7 +166,7 @@ public class FreeboardService {
             }
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "setNotice", "공지사항 설정/해제 실패", e);
             return false;
         }
     }
@@ -146,7 +182,7 @@ public class FreeboardService {
             }
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "hideFreeboard", "게시글 숨김 처리 실패", e);
             return false;
         }
     }
@@ -158,7 +194,31 @@ public class FreeboardService {
         try {
             return freeboardDAO.getTotalCount();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getTotalCount", "총 게시물 수 조회 실패", e);
+            return 0;
+        }
+    }
+    
+    /**
+     * 게시글 검색
+     */
+    public List<FreeboardDTO> searchFreeboards(String keyword, String searchType, int page, int pageSize) {
+        try {
+            return freeboardDAO.searchFreeboards(keyword, searchType, page, pageSize);
+        } catch (SQLException e) {
+            LoggerConfig.logError(FreeboardService.class, "searchFreeboards", "게시글 검색 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 검색 결과 수 조회
+     */
+    public int getSearchCount(String keyword, String searchType) {
+        try {
+            return freeboardDAO.getSearchCount(keyword, searchType);
+        } catch (SQLException e) {
+            LoggerConfig.logError(FreeboardService.class, "getSearchCount", "검색 결과 수 조회 실패", e);
             return 0;
         }
     }
@@ -180,7 +240,7 @@ public class FreeboardService {
             // 신고 정보 저장
             return freeboardDAO.reportFreeboard(postId, reporterId, reason, category);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "reportFreeboard", "게시글 신고 실패", e);
             return false;
         }
     }
@@ -198,7 +258,7 @@ public class FreeboardService {
             // 신고 정보 저장
             return freeboardDAO.reportUser(targetUserId, reporterId, reason, category);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "reportUser", "이용자 신고 실패", e);
             return false;
         }
     }
@@ -214,7 +274,7 @@ public class FreeboardService {
             // 제재 정보 저장 및 제재 적용
             return freeboardDAO.penalizeUser(targetUserId, adminId, reason, category, penaltyType, duration);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "penalizeUser", "이용자 제재 실패", e);
             return false;
         }
     }
@@ -231,27 +291,33 @@ public class FreeboardService {
             }
             
             // 첨부파일 존재 여부 확인
-            // TODO: 첨부파일 테이블에서 확인 로직 추가
+            AttachmentDTO attachment = freeboardDAO.getAttachmentByPostAndName(postId, filename);
+            if (attachment == null) {
+                return false;
+            }
             
             // DB에서 첨부파일 정보 삭제 및 로그 기록
             boolean dbDeleteResult = freeboardDAO.deleteAttachByFilename(postId, filename, reason, adminId);
             
             if (dbDeleteResult) {
-                // 실제 파일 시스템에서 파일 삭제
-                // 파일 경로 구성 (실제 경로는 프로젝트 설정에 맞게 수정 필요)
-                String uploadDir = "/uploads/freeboard";
-                String filePath = uploadDir + "/" + postId + "/" + filename;
-                
-                java.io.File file = new java.io.File(filePath);
-                if (file.exists()) {
-                    return file.delete();
+                // 중복 제거 저장소 파일은 동시에 재사용 중인 업로드가 있을 수 있으므로 BlobSweeper가 유예 후 정리
+                // 업로드마다 따로 저장된 이전 방식의 파일만 참조가 없으면 바로 삭제
+                String storedPath = attachment.getFilePath();
+                if (!UploadPipeline.isSharedBlob(storedPath)
+                        && freeboardDAO.countAttachmentsByFilePath(storedPath) == 0) {
+                    try {
+                        UploadPipeline.delete(storedPath);
+                    } catch (IOException e) {
+                        // 파일이 남아도 첨부 정보는 삭제되었으므로 성공으로 처리
+                        LoggerConfig.logError(FreeboardService.class, "deleteAttachByFilename", "첨부파일 삭제 실패", e);
+                    }
                 }
                 return true; // 파일이 이미 없는 경우에도 성공으로 간주
             }
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "deleteAttachByFilename", "첨부파일 삭제 실패", e);
             return false;
         }
     }
@@ -263,36 +329,41 @@ public class FreeboardService {
         try {
             return freeboardDAO.addAttachment(postId, fileName, filePath, fileSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "addAttachment", "첨부파일 추가 실패", e);
             return false;
         }
     }
 
     /**
-     * 첨부파일 객체 추가
+     * 첨부파일 객체 추가 (성공 시 생성된 첨부 ID를 attachment에 설정)
      */
     public boolean addAttachment(AttachmentDTO attachment) {
         try {
-            return addAttachment(
+            long attachId = freeboardDAO.insertAttachment(
                 attachment.getPostId(), 
                 attachment.getFileName(), 
                 attachment.getFilePath(), 
                 attachment.getFileSize()
             );
+            if (attachId <= 0) {
+                return false;
+            }
+            attachment.setAttachId(attachId);
+            return true;
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "addAttachment", "첨부파일 객체 추가 실패", e);
             return false;
         }
     }
     
     /**
-     * 파일명으로 첨부파일 조회
+     * 게시글의 저장 경로로 첨부파일 조회
      */
-    public AttachmentDTO getAttachmentByFilename(String filename) {
+    public AttachmentDTO getAttachmentByPostAndPath(long postId, String filePath) {
         try {
-            return freeboardDAO.getAttachmentByFilename(filename);
+            return freeboardDAO.getAttachmentByPostAndPath(postId, filePath);
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getAttachmentByPostAndPath", "게시글의 저장 경로로 첨부파일 조회 실패", e);
             return null;
         }
     }
@@ -304,7 +375,7 @@ public class FreeboardService {
         try {
             return freeboardDAO.getAttachmentById(attachId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getAttachmentById", "첨부파일 조회 실패", e);
             return null;
         }
     }
@@ -316,7 +387,7 @@ public class FreeboardService {
         try {
             return freeboardDAO.getCommentsByPostId(postId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getCommentsByPostId", "게시글의 댓글 목록 조회 실패", e);
             return null;
         }
     }
@@ -333,7 +404,7 @@ public class FreeboardService {
             
             return freeboardDAO.addComment(comment);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "addComment", "댓글 추가 실패", e);
             return false;
         }
     }
@@ -361,7 +432,7 @@ public class FreeboardService {
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "updateComment", "댓글 수정 실패", e);
             return false;
         }
     }
@@ -384,7 +455,7 @@ public class FreeboardService {
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "deleteComment", "댓글 삭제 실패", e);
             return false;
         }
     }
@@ -396,7 +467,7 @@ public class FreeboardService {
         try {
             return freeboardDAO.getCommentById(commentId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getCommentById", "댓글 상세 조회 실패", e);
             return null;
         }
     }
@@ -408,7 +479,7 @@ public class FreeboardService {
         try {
             return freeboardDAO.increaseDownloadCount(attachId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "increaseDownloadCount", "첨부파일 다운로드 수 증가 실패", e);
             return false;
         }
     }    /**
@@ -450,7 +521,7 @@ public class FreeboardService {
                 pstmt.close();
                 conn.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                LoggerConfig.logError(FreeboardService.class, "handleRecommendation", "게시글 추천 처리 실패", e);
                 return false;
             }
             
@@ -491,7 +562,7 @@ public class FreeboardService {
                         return false;
                     }
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LoggerConfig.logError(FreeboardService.class, "handleRecommendation", "게시글 추천 처리 실패", e);
                     return false;
                 }
             } else {
@@ -530,12 +601,12 @@ public class FreeboardService {
                         return false;
                     }
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LoggerConfig.logError(FreeboardService.class, "handleRecommendation", "게시글 추천 처리 실패", e);
                     return false;
                 }
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "handleRecommendation", "게시글 추천 처리 실패", e);
             return false;
         }
     }    /**
@@ -564,7 +635,7 @@ public class FreeboardService {
             
             return likeCount;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(FreeboardService.class, "getPostLikeCount", "게시글의 추천 수 조회 실패", e);
             return 0;
         }
     }
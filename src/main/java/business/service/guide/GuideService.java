@@ -10,6 +10,7 @@ import java.util.List;
 
 import dto.keyboard.GuideDTO;
 import util.db.DBConnectionUtil;
+import util.logging.LoggerConfig;
 
 /**
  * 키보드 용어집 기능을 위한 서비스 클래스
@@ -34,10 +35,7 @@ public class GuideService {
             }
             
         } catch (SQLException e) {
-            System.err.println("키보드 용어집 데이터 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            // 로그 기록 추가 (필요시 적절한 로깅 프레임워크 사용)
-            // Logger.error("키보드 용어집 데이터 조회 실패", e);
+            LoggerConfig.logError(GuideService.class, "getAllGuides", "키보드 용어집 데이터 조회 중 오류 발생", e);
         }
         
         return guides;
@@ -66,10 +64,7 @@ public class GuideService {
             }
             
         } catch (SQLException e) {
-            System.err.println("키보드 용어집 검색 중 오류 발생 (키워드: " + keyword + "): " + e.getMessage());
-            e.printStackTrace();
-            // 로그 기록 추가 (필요시 적절한 로깅 프레임워크 사용)
-            // Logger.error("키보드 용어집 검색 실패", e);
+            LoggerConfig.logError(GuideService.class, "searchGuidesByKeyword", "키보드 용어집 검색 중 오류 발생 (키워드: " + keyword + ")", e);
         }
         
         return guides;
@@ -95,10 +90,7 @@ public class GuideService {
             }
             
         } catch (SQLException e) {
-            System.err.println("키보드 용어 상세 조회 중 오류 발생 (ID: " + guideId + "): " + e.getMessage());
-            e.printStackTrace();
-            // 로그 기록 추가 (필요시 적절한 로깅 프레임워크 사용)
-            // Logger.error("키보드 용어 상세 조회 실패", e);
+            LoggerConfig.logError(GuideService.class, "getGuideById", "키보드 용어 상세 조회 중 오류 발생 (ID: " + guideId + ")", e);
         }
         
         return null;
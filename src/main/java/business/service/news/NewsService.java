@@ -1,12 +1,17 @@
 package business.service.news;
 
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import dto.board.NewsDTO;
 import dto.board.NewsCommentDTO;
 import repository.dao.board.NewsDAO;
 import jakarta.servlet.http.HttpServletRequest;
+import util.db.CursorPage;
+import util.event.EventBus;
+import util.logging.LoggerConfig;
 
 /**
  * 키보드 소식 게시판 서비스 클래스
@@ -38,13 +43,28 @@ public class NewsService {
             // 기본값 설정 - news_notify 컬럼은 데이터베이스에 없음
             news.setNewsNotify("common");  // DTO 내부에서만 사용, DB 저장 안 됨
             
-            return newsDAO.postNews(news);
+            boolean posted = newsDAO.postNews(news);
+            if (posted) {
+                publishNewPost(news);
+            }
+            return posted;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "postNews", "소식 게시글 등록 실패", e);
             return false;
         }
     }
     
+    /**
+     * 새 게시글 알림 발행 (SSE 구독자용)
+     */
+    private void publishNewPost(NewsDTO news) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("boardType", "news");
+        event.put("postId", news.getNewsId());
+        event.put("title", news.getNewsTitle());
+        EventBus.getInstance().publish("post", event);
+    }
+    
     /**
      * 소식 목록 조회
      */
@@ -52,7 +72,21 @@ public class NewsService {
         try {
             return newsDAO.getAllNews(page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getAllNews", "소식 목록 조회 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 소식 목록 커서 기반 조회
+     * @param cursor 이전 응답의 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<NewsDTO> getNewsByCursor(String cursor, int pageSize) {
+        try {
+            return newsDAO.getNewsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            LoggerConfig.logError(NewsService.class, "getNewsByCursor", "소식 목록 커서 기반 조회 실패", e);
             return null;
         }
     }
@@ -64,7 +98,7 @@ public class NewsService {
         try {
             return newsDAO.getNewsById(newsId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getNewsById", "소식 상세 조회 실패", e);
             return null;
         }
     }
@@ -88,7 +122,7 @@ public class NewsService {
             
             return news;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getNewsById", "소식 상세 조회 실패", e);
             return null;
         }
     }
@@ -100,11 +134,23 @@ public class NewsService {
         try {
             return newsDAO.searchNewsBy(keyword, searchType, page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "searchNewsBy", "소식 검색 실패", e);
             return null;
         }
     }
     
+    /**
+     * 검색 결과 수 조회
+     */
+    public int getSearchCount(String keyword, String searchType) {
+        try {
+            return newsDAO.getSearchCount(keyword, searchType);
+        } catch (SQLException e) {
+            LoggerConfig.logError(NewsService.class, "getSearchCount", "검색 결과 수 조회 실패", e);
+            return 0;
+        }
+    }
+    
     /**
      * 소식 게시글 수정 (관리자만 가능)
      */
@@ -126,7 +172,7 @@ public class NewsService {
             
             return newsDAO.updateNewsById(news);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "updateNewsById", "소식 게시글 수정 실패", e);
             return false;
         }
     }
@@ -151,7 +197,7 @@ public class NewsService {
             
             return false;
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "deleteNewsById", "소식 게시글 삭제 실패", e);
             return false;
         }
     }
@@ -168,7 +214,7 @@ public class NewsService {
             
             return newsDAO.setNoticeById(newsId, isNotice);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "setNoticeById", "공지사항으로 지정/해제 실패", e);
             return false;
         }
     }
@@ -180,7 +226,7 @@ public class NewsService {
         try {
             return newsDAO.recommendNewsById(newsId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "recommendNewsById", "소식 게시글 추천 실패", e);
             return false;
         }
     }
@@ -192,7 +238,7 @@ public class NewsService {
         try {
             return newsDAO.recommendNewsCancelById(newsId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "recommendNewsCancelById", "소식 게시글 추천 취소 실패", e);
             return false;
         }
     }
@@ -204,7 +250,7 @@ public class NewsService {
         try {
             return newsDAO.getTotalCount();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getTotalNewsCount", "총 게시물 수 조회 실패", e);
             return 0;
         }
     }
@@ -216,7 +262,7 @@ public class NewsService {
         try {
             return newsDAO.increaseViewCount(newsId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "increaseViewCount", "조회수 증가 실패", e);
             return false;
         }
     }
@@ -228,7 +274,7 @@ public class NewsService {
         try {
             return newsDAO.hasUserRecommended(newsId, userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "hasUserRecommended", "사용자가 이미 추천했는지 확인 실패", e);
             return false;
         }
     }
@@ -239,7 +285,7 @@ public class NewsService {
         try {
             return newsDAO.getRecommendCount(newsId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getRecommendCount", "게시글의 추천 수 조회 실패", e);
             return 0;
         }
     }
@@ -258,7 +304,7 @@ public class NewsService {
             // 기존 메서드 호출
             return recommendNewsById(newsId, userId);
         } catch (NumberFormatException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "recommendNews", "소식 게시글 추천 실패", e);
             return false;
         }
     }
@@ -272,7 +318,7 @@ public class NewsService {
         try {
             return newsDAO.getCommentsByNewsId(newsId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "getNewsComments", "댓글 목록 조회 실패", e);
             return null;
         }
     }
@@ -289,7 +335,7 @@ public class NewsService {
             
             return newsDAO.addNewsComment(comment);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "addNewsComment", "댓글 추가 실패", e);
             return false;
         }
     }
@@ -320,7 +366,7 @@ public class NewsService {
             
             return newsDAO.updateNewsCommentById(comment, false);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "updateNewsCommentById", "댓글 수정 실패", e);
             return false;
         }
     }
@@ -342,7 +388,7 @@ public class NewsService {
             
             return newsDAO.updateNewsCommentById(comment, true);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "updateNewsCommentById", "댓글 수정 실패", e);
             return false;
         }
     }
@@ -365,7 +411,7 @@ public class NewsService {
             
             return newsDAO.deleteNewsCommentById(commentId, userId, false);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "deleteNewsCommentById", "댓글 삭제 실패", e);
             return false;
         }
     }
@@ -382,7 +428,7 @@ public class NewsService {
             
             return newsDAO.deleteNewsCommentById(commentId, userId, true);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(NewsService.class, "deleteNewsCommentById", "댓글 삭제 실패", e);
             return false;
         }
     }
@@ -8,6 +8,8 @@ import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
 import dto.user.UserDTO;
 import repository.dao.board.QuestionDAO;
+import util.db.CursorPage;
+import util.logging.LoggerConfig;
 
 public class QuestionService {
     private final QuestionDAO questionDAO;
@@ -23,7 +25,7 @@ public class QuestionService {
         try {
             return questionDAO.getQuestionById(questionId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getQuestionById", "질문 ID로 질문 정보 조회 실패", e);
             return null;
         }
     }
@@ -35,7 +37,7 @@ public class QuestionService {
         try {
             return questionDAO.createQuestion(question);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "createQuestion", "질문 생성 실패", e);
             return false;
         }
     }
@@ -47,7 +49,7 @@ public class QuestionService {
         try {
             return questionDAO.updateQuestion(question, modifierId, modifierAuthority);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "updateQuestion", "질문 수정 실패", e);
             return false;
         }
     }
@@ -59,7 +61,7 @@ public class QuestionService {
         try {
             return questionDAO.deleteQuestion(questionId, deleterId, reason);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "deleteQuestion", "질문 삭제 실패", e);
             return false;
         }
     }
@@ -71,7 +73,7 @@ public class QuestionService {
         try {
             return questionDAO.increaseViewCount(questionId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "increaseViewCount", "조회수 증가 실패", e);
             return false;
         }
     }
@@ -83,7 +85,21 @@ public class QuestionService {
         try {
             return questionDAO.getAllQuestions(page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getAllQuestions", "모든 질문 목록 조회 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 질문 목록 커서 기반 조회
+     * @param cursor 이전 응답의 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<QuestionDTO> getQuestionsByCursor(String cursor, int pageSize) {
+        try {
+            return questionDAO.getQuestionsByCursor(cursor, pageSize);
+        } catch (SQLException e) {
+            LoggerConfig.logError(QuestionService.class, "getQuestionsByCursor", "질문 목록 커서 기반 조회 실패", e);
             return null;
         }
     }
@@ -95,7 +111,7 @@ public class QuestionService {
         try {
             return questionDAO.getTotalQuestions();
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getTotalQuestions", "전체 질문 수 조회 실패", e);
             return 0;
         }
     }
@@ -107,7 +123,7 @@ public class QuestionService {
         try {
             return questionDAO.getQuestionsByUserId(userId, page, pageSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getQuestionsByUserId", "특정 사용자의 질문 목록 조회 실패", e);
             return null;
         }
     }
@@ -119,7 +135,7 @@ public class QuestionService {
         try {
             return questionDAO.getTotalQuestionsByUserId(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getTotalQuestionsByUserId", "특정 사용자의 전체 질문 수 조회 실패", e);
             return 0;
         }
     }
@@ -131,7 +147,7 @@ public class QuestionService {
         try {
             return questionDAO.getAnswersByQuestionId(questionId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getAnswersByQuestionId", "질문에 대한 답변 목록 조회 실패", e);
             return null;
         }
     }
@@ -143,7 +159,7 @@ public class QuestionService {
         try {
             return questionDAO.getAnswerById(answerId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getAnswerById", "답변 ID로 답변 정보 조회 실패", e);
             return null;
         }
     }
@@ -155,7 +171,7 @@ public class QuestionService {
         try {
             return questionDAO.createAnswer(answer);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "createAnswer", "답변 생성 실패", e);
             return false;
         }
     }
@@ -167,7 +183,7 @@ public class QuestionService {
         try {
             return questionDAO.updateAnswer(answer, modifierId, modifierAuthority);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "updateAnswer", "답변 수정 실패", e);
             return false;
         }
     }
@@ -179,7 +195,7 @@ public class QuestionService {
         try {
             return questionDAO.deleteAnswer(answerId, deleterId, reason);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "deleteAnswer", "답변 삭제 실패", e);
             return false;
         }
     }
@@ -191,7 +207,7 @@ public class QuestionService {
         try {
             return questionDAO.addAttachment(questionId, fileName, filePath, fileSize);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "addAttachment", "첨부파일 추가 실패", e);
             return false;
         }
     }
@@ -203,7 +219,7 @@ public class QuestionService {
         try {
             return questionDAO.getAttachmentsByQuestionId(questionId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getAttachmentsByQuestionId", "질문에 대한 첨부파일 목록 조회 실패", e);
             return null;
         }
     }
@@ -215,11 +231,18 @@ public class QuestionService {
         try {
             return questionDAO.getAttachmentById(attachId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getAttachmentById", "첨부파일 ID로 첨부파일 정보 조회 실패", e);
             return null;
         }
     }
     
+    /**
+     * 첨부파일 다운로드 수 증가
+     */
+    public void increaseDownloadCount(long attachId) {
+        questionDAO.increaseDownloadCount(attachId);
+    }
+    
     /**
      * 사용자 ID로 사용자 정보 조회
      */
@@ -227,7 +250,7 @@ public class QuestionService {
         try {
             return questionDAO.getUserById(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            LoggerConfig.logError(QuestionService.class, "getUserById", "사용자 ID로 사용자 정보 조회 실패", e);
             return null;
         }
     }
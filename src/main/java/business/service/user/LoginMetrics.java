@@ -0,0 +1,95 @@
+package business.service.user;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import util.metrics.LatencyHistogram;
+import util.metrics.PrometheusWriter;
+
+/**
+ * 로그인 처리 시간 지표
+ * 단계별(사용자 조회, 비밀번호 검증, 재저장, 전체) 소요 시간을 LatencyHistogram으로,
+ * 결과별 횟수를 카운터로 기록합니다. (/metrics)
+ */
+public final class LoginMetrics {
+
+    /**
+     * 측정 단계
+     */
+    public enum Phase {
+        LOOKUP("lookup"),
+        VERIFY("verify"),
+        REHASH("rehash"),
+        TOTAL("total");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 로그인 결과
+     */
+    public enum Outcome {
+        SUCCESS("success"),
+        UNKNOWN_USER("unknown_user"),
+        BAD_PASSWORD("bad_password"),
+        RESTRICTED("restricted"),
+        BUSY("busy"),
+        ERROR("error");
+
+        private final String label;
+
+        Outcome(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+    private static final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+    static {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    private LoginMetrics() {
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param startNanos System.nanoTime()으로 잰 시작 시각
+     */
+    public static void record(Phase phase, long startNanos) {
+        phases[phase.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 로그인 결과 기록
+     */
+    public static void count(Outcome outcome) {
+        outcomes[outcome.ordinal()].increment();
+    }
+
+    /**
+     * 누적 지표를 Prometheus 작성기에 추가
+     */
+    public static void writeMetrics(PrometheusWriter out) {
+        String name = "kirini_login_phase_seconds";
+        out.family(name, "로그인 단계별 소요 시간", "histogram");
+        for (Phase phase : Phase.values()) {
+            phases[phase.ordinal()].writeMetrics(out, name, PrometheusWriter.label("phase", phase.label));
+        }
+
+        name = "kirini_login_attempts_total";
+        out.family(name, "결과별 로그인 시도 수", "counter");
+        for (Outcome outcome : Outcome.values()) {
+            out.sample(name, PrometheusWriter.label("outcome", outcome.label), outcomes[outcome.ordinal()].sum());
+        }
+    }
+}
@@ -1,65 +1,94 @@
 package business.service.user;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import dto.user.UserDTO;
 import exception.UserStatusException;
 import repository.dao.user.UserDAO;
+import util.db.LastLoginRecorder;
+import util.logging.EventLog;
+import util.security.PasswordHasher;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
 public class UserService {
+    private static final EventLog eventLog = EventLog.get(UserService.class);
     private UserDAO userDAO;
+    private final PasswordHasher passwordHasher = PasswordHasher.getInstance();
     
     public UserService() {
         userDAO = new UserDAO();
     }
     
-      /**
+    /**
      * 사용자 로그인
      * @param email 이메일
      * @param password 비밀번호
      * @return 로그인 성공 시 UserDTO 객체, 실패 시 null
-     */    public UserDTO login(String email, String password) {
+     */
+    public UserDTO login(String email, String password) {
+        UserDAO.LoginRecord record = authenticate(email, password);
+        return record != null ? record.getUser() : null;
+    }
+    
+    /**
+     * 사용자 인증 (조회 1회 + 비밀번호 검증, 마지막 로그인 시간은 지연 저장)
+     * 단계별 소요 시간과 결과는 LoginMetrics에 기록
+     * @return 인증 성공 시 조회 결과, 실패 시 null
+     */
+    private UserDAO.LoginRecord authenticate(String email, String password) {
+        long start = System.nanoTime();
+        LoginMetrics.Outcome outcome = LoginMetrics.Outcome.ERROR;
         try {
-        	
+            // 1. 이메일로 사용자 정보와 제재 여부 조회 (한 번의 쿼리)
+            long phaseStart = System.nanoTime();
+            UserDAO.LoginRecord record = userDAO.findLoginRecord(email);
+            LoginMetrics.record(LoginMetrics.Phase.LOOKUP, phaseStart);
             
-            // 1. 이메일로 사용자 정보 조회
-            UserDTO user = userDAO.getUserByEmail(email);
-            if (user == null) {
+            // 2. 저장된 해시로 검증 (상수 시간 비교)
+            // 없는 이메일도 같은 시간이 걸리도록 검증 비용을 들임
+            phaseStart = System.nanoTime();
+            boolean matches = passwordHasher.verify(password, record != null ? record.getUser().getPassword() : null);
+            LoginMetrics.record(LoginMetrics.Phase.VERIFY, phaseStart);
+            if (record == null) {
+                outcome = LoginMetrics.Outcome.UNKNOWN_USER;
                 return null; // 사용자가 존재하지 않음
             }
+            if (!matches) {
+                outcome = LoginMetrics.Outcome.BAD_PASSWORD;
+                return null; // 비밀번호 불일치
+            }
             
-            // 2. 비밀번호 암호화 후 비교
-            String hashedPassword = hashPassword(password);
+            UserDTO user = record.getUser();
+            // 이전 방식(SHA-256)이거나 반복 횟수가 적으면 현재 설정으로 다시 저장
+            rehashIfNeeded(user, password);
+            // 마지막 로그인 시간은 배치로 지연 저장
+            LastLoginRecorder.getInstance().record(user.getUserId());
             
-            // 3. 암호화된 비밀번호끼리 비교
-            if (hashedPassword.equals(user.getPassword())) {
-                // 로그인 성공 처리 (마지막 로그인 시간 업데이트 등)
-                
-                // 프론트엔드와 일치하도록 userAuthority 값 설정
-                String userAuthority = "USER";
-                if (user.getUserLevel() == 3) {
-                    userAuthority = "ADMIN";
-                } else if (user.getUserLevel() == 2) {
-                    userAuthority = "MANAGER";
-                }
-                user.setUserAuthority(userAuthority);
-                
-                return user;
-            } else {
-                return null; // 비밀번호 불일치
+            // 프론트엔드와 일치하도록 userAuthority 값 설정
+            String userAuthority = "USER";
+            if (user.getUserLevel() == 3) {
+                userAuthority = "ADMIN";
+            } else if (user.getUserLevel() == 2) {
+                userAuthority = "MANAGER";
             }
+            user.setUserAuthority(userAuthority);
             
+            outcome = record.isRestricted() ? LoginMetrics.Outcome.RESTRICTED : LoginMetrics.Outcome.SUCCESS;
+            return record;
+        } catch (RejectedExecutionException e) {
+            outcome = LoginMetrics.Outcome.BUSY;
+            throw e;
         } catch (SQLException e) {
-            e.printStackTrace();
-            System.out.println("SQLEXCEPTION");
+            eventLog.error("login_failed", e);
             return null;
+        } finally {
+            LoginMetrics.record(LoginMetrics.Phase.TOTAL, start);
+            LoginMetrics.count(outcome);
         }
     }
     
@@ -72,7 +101,7 @@ public class UserService {
         try {
             return userDAO.isUsernameExists(username);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("check_duplicate_id_failed", e);
             return true; // 에러 발생 시 중복으로 처리 (안전하게)
         }
     }
@@ -86,7 +115,7 @@ public class UserService {
         try {
             return userDAO.isEmailExists(email);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("check_duplicate_email_failed", e);
             return true; // 에러 발생 시 중복으로 처리 (안전하게)
         }
     }
@@ -100,7 +129,7 @@ public class UserService {
         try {
             return userDAO.isNicknameExists(nickname);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("check_duplicate_nickname_failed", e);
             return true; // 에러 발생 시 중복으로 처리 (안전하게)
         }
     }
@@ -130,7 +159,7 @@ public class UserService {
             // DAO를 통해 사용자 등록
             return userDAO.registerUser(user);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("register_user_failed", e);
             return false;
         }
     }
@@ -144,7 +173,7 @@ public class UserService {
         try {
             return userDAO.getUserById(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("get_user_by_id_failed", e);
             return null;
         }
     }
@@ -158,7 +187,7 @@ public class UserService {
         try {
             return userDAO.getUserByEmail(email);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("get_user_by_email_failed", e);
             return null;
         }
     }
@@ -172,7 +201,7 @@ public class UserService {
         try {
             return userDAO.updateUser(user);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("update_user_failed", e);
             return false;
         }
     }
@@ -189,7 +218,7 @@ public class UserService {
             String hashedPassword = hashPassword(newPassword);
             return userDAO.updatePassword(userId, hashedPassword);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("update_password_failed", e);
             return false;
         }
     }
@@ -201,10 +230,7 @@ public class UserService {
      * @return 일치 여부
      */
     public boolean verifyPassword(String inputPassword, String storedPassword) {
-        // 입력 비밀번호 암호화
-        String hashedInput = hashPassword(inputPassword);
-        // 저장된 암호화 비밀번호와 비교
-        return hashedInput.equals(storedPassword);
+        return passwordHasher.verify(inputPassword, storedPassword);
     }
       /**
      * 비밀번호 검증 (사용자 ID와 입력 비밀번호 기반)
@@ -226,7 +252,7 @@ public class UserService {
             // 비밀번호 검증
             return verifyPassword(inputPassword, storedPassword);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("verify_password_failed", e);
             return false;
         }
     }
@@ -247,7 +273,7 @@ public class UserService {
         try {
             return userDAO.deactivateUser(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("deactivate_user_failed", e);
             return false;
         }
     }
@@ -267,29 +293,38 @@ public class UserService {
         try {
             return userDAO.getAllUsers();
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("get_all_users_failed", e);
             return null;
         }
     }
     
     /**
-     * 비밀번호 암호화 (SHA-256)
+     * 비밀번호 암호화 (PBKDF2, 사용자별 솔트)
      * @param password 평문 비밀번호
-     * @return 암호화된 비밀번호
+     * @return 저장 형식의 비밀번호
      */
     private String hashPassword(String password) {
+        return passwordHasher.hash(password);
+    }
+    
+    /**
+     * 로그인에 성공한 사용자의 비밀번호를 현재 설정으로 다시 저장
+     * 실패해도 로그인은 계속 진행 (다음 로그인 때 다시 시도)
+     */
+    private void rehashIfNeeded(UserDTO user, String password) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        long start = System.nanoTime();
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = md.digest(password.getBytes());
-            
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashBytes) {
-                sb.append(String.format("%02x", b));
+            String rehashed = passwordHasher.hash(password);
+            if (userDAO.updatePassword(user.getUserId(), rehashed)) {
+                user.setPassword(rehashed);
             }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-            return password; // 암호화 실패 시 원본 반환 (실제로는 더 나은 오류 처리 필요)
+        } catch (SQLException | RejectedExecutionException e) {
+            eventLog.warn("password_rehash_failed", e, "userId", user.getUserId());
+        } finally {
+            LoginMetrics.record(LoginMetrics.Phase.REHASH, start);
         }
     }
     
@@ -302,7 +337,7 @@ public class UserService {
         try {
             return userDAO.isUserRestricted(userId);
         } catch (SQLException e) {
-            e.printStackTrace();
+            eventLog.error("is_user_restricted_failed", e);
             return false; // 에러 발생 시 안전하게 false 반환
         }
     }
@@ -315,13 +350,14 @@ public class UserService {
      * @throws UserStatusException 사용자 계정이 제한된 경우
      */
     public UserDTO loginWithStatusCheck(String email, String password) throws UserStatusException {
-        UserDTO user = login(email, password);
+        // 제재 여부는 로그인 조회에 포함되어 있으므로 추가 조회 없음
+        UserDAO.LoginRecord record = authenticate(email, password);
         
-        if (user != null && isUserRestricted(user.getUserId())) {
+        if (record != null && record.isRestricted()) {
             throw new UserStatusException("계정이 제한 상태입니다. 관리자에게 문의하세요.");
         }
         
-        return user;
+        return record != null ? record.getUser() : null;
     }
 
     /**
@@ -342,18 +378,15 @@ public class UserService {
             
             // 탈퇴 사유 기록 (선택적)
             if (reason != null && !reason.trim().isEmpty()) {
-                // 탈퇴 사유 로그 기록 로직 추가
-                // 로깅 기능은 나중에 구현 예정
-                System.out.println("회원 탈퇴 요청 - 사용자 ID: " + userId + ", 사유: " + reason);
+                eventLog.info("withdrawal_requested", "userId", userId, "reason", reason);
             } else {
-                System.out.println("회원 탈퇴 요청 - 사용자 ID: " + userId);
+                eventLog.info("withdrawal_requested", "userId", userId);
             }
             
             // 회원 비활성화 처리
             return userDAO.deactivateUser(userId);
         } catch (SQLException e) {
-            System.err.println("회원 탈퇴 처리 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("withdrawal_failed", e, "userId", userId);
             return false;
         }
     }
@@ -369,8 +402,7 @@ public class UserService {
             // 임시 구현: 사용자 ID를 기반으로 더미 포인트 생성
             return 1000 + (int)(userId % 1000);
         } catch (Exception e) {
-            System.err.println("포인트 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("point_lookup_failed", e, "userId", userId);
             return 0;
         }
     }
@@ -390,8 +422,7 @@ public class UserService {
             // 더미 데이터는 UserpageController에서 처리됨
             return dummyHistory;
         } catch (Exception e) {
-            System.err.println("포인트 내역 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("point_history_failed", e, "userId", userId);
             return new ArrayList<>();
         }
     }
@@ -407,8 +438,7 @@ public class UserService {
             // 임시 구현: 더미 데이터 개수 반환
             return 5;
         } catch (Exception e) {
-            System.err.println("포인트 내역 개수 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("point_history_count_failed", e, "userId", userId);
             return 0;
         }
     }
@@ -424,13 +454,10 @@ public class UserService {
         try {
             // TODO: 실제 사용자 커스터마이징 저장 로직 구현
             // 임시 구현: 항상 성공 반환
-            System.out.println("사용자 커스터마이징 저장 - 사용자 ID: " + userId 
-                + ", 아이콘: " + selectedIconId 
-                + ", 테마: " + selectedThemeId);
+            eventLog.info("customization_saved", "userId", userId, "iconId", selectedIconId, "themeId", selectedThemeId);
             return true;
         } catch (Exception e) {
-            System.err.println("커스터마이징 저장 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("customization_failed", e, "userId", userId);
             return false;
         }
     }
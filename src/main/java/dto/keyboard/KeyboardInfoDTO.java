@@ -8,11 +8,15 @@ public class KeyboardInfoDTO {    private long keyboardId;
     private String manufacturer;
     private String description;
     private String imageUrl;
+    private String thumbnailUrl; // 목록용 썸네일 URL (업로드 이미지가 아니면 imageUrl과 같음)
     private double averageScore;
+    private int scoreCount; // 별점 참여 수
+    private int[] scoreHistogram; // 별점 분포 (인덱스 0~4 = 1~5점)
     private String switchType;
     private String layoutType;
     private String connectType;
     private List<String> tags;
+    private List<KeyboardTagDTO> tagVotes; // 태그별 투표 수 (tags와 같은 순서)
     private List<Long> tagIds; // 호환성을 위해 추가
     private String type; // 호환성을 위해 추가
     private String layout; // 호환성을 위해 추가
@@ -48,10 +52,22 @@ public class KeyboardInfoDTO {    private long keyboardId;
         return imageUrl;
     }
     
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+    
     public double getAverageScore() {
         return averageScore;
     }
     
+    public int getScoreCount() {
+        return scoreCount;
+    }
+    
+    public int[] getScoreHistogram() {
+        return scoreHistogram;
+    }
+    
     public String getSwitchType() {
         return switchType;
     }
@@ -68,6 +84,10 @@ public class KeyboardInfoDTO {    private long keyboardId;
         return tags;
     }
     
+    public List<KeyboardTagDTO> getTagVotes() {
+        return tagVotes;
+    }
+    
     // 스크랩 날짜 Getter
     public java.sql.Timestamp getScrapDate() {
         return scrapDate;
@@ -94,10 +114,22 @@ public class KeyboardInfoDTO {    private long keyboardId;
         this.imageUrl = imageUrl;
     }
     
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+    
     public void setAverageScore(double averageScore) {
         this.averageScore = averageScore;
     }
     
+    public void setScoreCount(int scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+    
+    public void setScoreHistogram(int[] scoreHistogram) {
+        this.scoreHistogram = scoreHistogram;
+    }
+    
     public void setSwitchType(String switchType) {
         this.switchType = switchType;
     }
@@ -114,6 +146,10 @@ public class KeyboardInfoDTO {    private long keyboardId;
         this.tags = tags;
     }
     
+    public void setTagVotes(List<KeyboardTagDTO> tagVotes) {
+        this.tagVotes = tagVotes;
+    }
+    
     // 스크랩 날짜 Setter
     public void setScrapDate(java.sql.Timestamp scrapDate) {
         this.scrapDate = scrapDate;
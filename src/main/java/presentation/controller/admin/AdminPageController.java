@@ -1,7 +1,6 @@
 package presentation.controller.admin;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -13,7 +12,6 @@ import business.service.admin.AdminKeyboardService;
 import business.service.admin.AdminLogService;
 import business.service.admin.AdminReportService;
 import business.service.admin.AdminUserService;
-import com.google.gson.Gson;
 import dto.admin.AdminDeleteLogDTO;
 import dto.admin.AdminReportDTO;
 import dto.admin.AdminUserPenaltyDTO;
@@ -29,6 +27,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.page.Controller;
 import util.logging.LoggerConfig;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
 
 /**
  * 관리자 전용 페이지 컨트롤러
@@ -44,7 +43,6 @@ public class AdminPageController extends HttpServlet implements Controller {
     private AdminGuideService guideService;
     private AdminKeyboardService keyboardService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
 
     /**
      * 서비스 객체 초기화
@@ -65,7 +63,7 @@ public class AdminPageController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();        // GET 요청 JSON 라우터 설정
+        router = util.web.RequestRouter.forBasePath("/admin");        // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
             Map<String, String> result = new HashMap<>();
             result.put("status", "success");
@@ -79,6 +77,13 @@ public class AdminPageController extends HttpServlet implements Controller {
 
         router.getJson("/user/penalty/search", (req, res) -> {
             String userId = req.getParameter("userId");
+            if (userId == null || userId.isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("status", "error");
+                error.put("message", "사용자 ID가 필요합니다");
+                res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return error;
+            }
             return userService.getUserPenaltyByUserId(Long.parseLong(userId));
         });
 
@@ -100,7 +105,13 @@ public class AdminPageController extends HttpServlet implements Controller {
 
         router.getJson("/log/comment", (req, res) -> {
             return logService.getAllDeleteCommentLogs();
-        });        // POST 요청 JSON 라우터 설정
+        });
+
+        // 라우팅 테이블 조회 (전체 컨트롤러)
+        router.getJson("/routes", (req, res) -> {
+            return util.web.RequestRouter.getRoutingTable();
+        });
+        // POST 요청 JSON 라우터 설정
         router.postJson("/user/penalty/update", (req, res) -> {
             Long userId = Long.parseLong(req.getParameter("userId"));
             Long penaltyId = Long.parseLong(req.getParameter("penaltyId"));
@@ -121,13 +132,22 @@ public class AdminPageController extends HttpServlet implements Controller {
             response.put("success", result);
             return response;
         });
+
+        // 댓글 수(comment_count) 보정 - 자유게시판/소식 모두 재계산
+        router.postJson("/log/comment/reconcile", (req, res) -> {
+            int freeboardFixed = logService.reconcileCommentCounts("freeboard");
+            int newsFixed = logService.reconcileCommentCounts("news");
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", freeboardFixed >= 0 && newsFixed >= 0);
+            response.put("freeboardFixed", freeboardFixed);
+            response.put("newsFixed", newsFixed);
+            return response;
+        });
     }
 
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }    /**
      * GET 요청 처리
      */
@@ -142,51 +162,15 @@ public class AdminPageController extends HttpServlet implements Controller {
             return;
         }
 
-        if (pathInfo == null || pathInfo.equals("/")) {
-            // 관리자 대시보드 JSON 응답
-            Map<String, String> result = new HashMap<>();
-            result.put("status", "success");
-            result.put("message", "관리자 대시보드");
-            sendJsonResponse(response, result);
-            return;
-        }
-
         // 경로에 따른 처리
         try {
-            switch (pathInfo) {
-                // 불량 회원 관리
-                case "/user/penalty":
-                    sendJsonResponse(response, userService.getAllUserPenalty());
-                    break;
-                case "/user/penalty/search": {
-                    String userIdStr = request.getParameter("userId");
-                    if (userIdStr == null || userIdStr.isEmpty()) {
-                        response.sendError(HttpServletResponse.SC_BAD_REQUEST, "사용자 ID가 필요합니다");
-                        return;
-                    }
-                    long userId = Long.parseLong(userIdStr);
-                    sendJsonResponse(response, userService.getUserPenaltyByUserId(userId));
-                    break;
-                }
-
-                // 신고 처리
-                case "/report":
-                    sendJsonResponse(response, reportService.getAllReport());
-                    break;
-                case "/report/search": {
-                    String status = request.getParameter("status");
-                    String targetType = request.getParameter("targetType");
-                    sendJsonResponse(response, reportService.getReportsByCondition(status, targetType));
-                    break;
-                }
+            // 라우터로 처리 시도
+            if (router.handle(request, response)) {
+                return;  // 라우터가 요청을 처리함
+            }
 
+            switch (pathInfo) {
                 // 게시물 관리
-                case "/log/post":
-                    sendJsonResponse(response, logService.getAllDeletePostLogs());
-                    break;
-                case "/log/comment":
-                    sendJsonResponse(response, logService.getAllDeleteCommentLogs());
-                    break;
                 case "/log/post/search": {
                     String boardType = request.getParameter("boardType");
                     String keyword = request.getParameter("keyword");
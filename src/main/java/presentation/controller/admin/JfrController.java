@@ -0,0 +1,113 @@
+package presentation.controller.admin;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.jfr.JfrRecorder;
+
+/**
+ * JFR 녹화 관리 컨트롤러 (AdminAuthFilter로 보호됨)
+ * - GET  /admin/jfr                  : 녹화 상태
+ * - GET  /admin/jfr?action=dump      : 지금까지의 녹화를 .jfr 파일로 다운로드 (JDK Mission Control로 분석)
+ * - POST /admin/jfr action=start     : 녹화 시작 (settings=default|profile, maxAgeMinutes, maxSizeMb, thresholdMs)
+ * - POST /admin/jfr action=stop      : 녹화 중지
+ */
+@WebServlet("/admin/jfr")
+public class JfrController extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if ("dump".equals(request.getParameter("action"))) {
+            dump(response);
+            return;
+        }
+        writeText(response, HttpServletResponse.SC_OK, JfrRecorder.getInstance().describe());
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String action = request.getParameter("action");
+        JfrRecorder recorder = JfrRecorder.getInstance();
+        if ("start".equals(action)) {
+            try {
+                String settings = request.getParameter("settings");
+                recorder.start(settings != null && !settings.isEmpty() ? settings : "default",
+                        Duration.ofMinutes(getLong(request, "maxAgeMinutes", 10)),
+                        getLong(request, "maxSizeMb", 256) * 1024 * 1024,
+                        Duration.ofMillis(getLong(request, "thresholdMs", 0)));
+            } catch (IllegalStateException e) {
+                writeText(response, HttpServletResponse.SC_CONFLICT, e.getMessage() + "\n");
+                return;
+            } catch (IllegalArgumentException e) {
+                writeText(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage() + "\n");
+                return;
+            }
+            writeText(response, HttpServletResponse.SC_OK, recorder.describe());
+        } else if ("stop".equals(action)) {
+            recorder.stop();
+            writeText(response, HttpServletResponse.SC_OK, recorder.describe());
+        } else {
+            writeText(response, HttpServletResponse.SC_BAD_REQUEST, "action은 start 또는 stop이어야 합니다.\n");
+        }
+    }
+
+    private void dump(HttpServletResponse response) throws IOException {
+        Path file = Files.createTempFile("kirini-", ".jfr");
+        try {
+            try {
+                JfrRecorder.getInstance().dump(file);
+            } catch (IllegalStateException e) {
+                writeText(response, HttpServletResponse.SC_CONFLICT, e.getMessage() + "\n");
+                return;
+            }
+            // 임시 파일을 바로 지우므로 sendfile을 쓰지 않고 직접 전송
+            response.setContentType("application/octet-stream");
+            response.setHeader("Cache-Control", "no-store");
+            response.setHeader("Content-Disposition",
+                    "attachment; filename=\"kirini-" + LocalDateTime.now().format(FILE_TIME) + ".jfr\"");
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long getLong(HttpServletRequest request, String name, long defaultValue) {
+        String value = request.getParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException(name + " 값은 0 이상이어야 합니다.");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 " + name + " 값입니다: " + value);
+        }
+    }
+
+    private static void writeText(HttpServletResponse response, int status, String body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("text/plain; charset=UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        PrintWriter out = response.getWriter();
+        out.print(body);
+        out.flush();
+    }
+}
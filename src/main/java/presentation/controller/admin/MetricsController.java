@@ -0,0 +1,49 @@
+package presentation.controller.admin;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import business.service.user.LoginMetrics;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.cache.LocalCache;
+import util.db.DBConnectionUtil;
+import util.db.QueryInstrumentation;
+import util.logging.AsyncLogWriter;
+import util.logging.EventLogWriter;
+import util.metrics.PrometheusWriter;
+import util.metrics.RequestMetrics;
+import util.web.SseBroadcaster;
+
+/**
+ * 통합 지표 수집용 컨트롤러 (/metrics)
+ * 라우트별 요청 지표와 커넥션 풀, SQL, 캐시, SSE, 로그 저장기, 로그인 지표를 Prometheus 텍스트 형식으로 한 번에 반환
+ * (AdminAuthFilter로 보호됨)
+ */
+@WebServlet("/metrics")
+public class MetricsController extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        PrometheusWriter metrics = new PrometheusWriter();
+        RequestMetrics.writeMetrics(metrics);
+        DBConnectionUtil.getPool().writeMetrics(metrics);
+        QueryInstrumentation.writeMetrics(metrics);
+        LocalCache.writeMetrics(metrics);
+        SseBroadcaster.getInstance().writeMetrics(metrics);
+        AsyncLogWriter.getInstance().writeMetrics(metrics);
+        EventLogWriter.getInstance().writeMetrics(metrics);
+        LoginMetrics.writeMetrics(metrics);
+
+        response.setContentType(PrometheusWriter.CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        PrintWriter out = response.getWriter();
+        out.print(metrics);
+        out.flush();
+    }
+}
@@ -8,15 +8,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.mapper.HandlerMapping;
 import presentation.controller.page.Controller;
+import util.logging.EventLog;
+import util.logging.LoggerConfig;
+import util.jfr.RequestEvent;
+import util.metrics.RequestMetrics;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Logger;
 
 @WebServlet("*.do")
 @MultipartConfig // 이 부분 추가
 public class DispatcherServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerConfig.getLogger(DispatcherServlet.class);
+    private static final EventLog eventLog = EventLog.get(DispatcherServlet.class);
+    // 등록되지 않은 명령어는 하나의 라우트 이름으로 합산 (임의 URL로 지표 항목이 늘어나지 않도록)
+    private static final String UNMATCHED_ROUTE = "*.do (unmatched)";
     private HandlerMapping handlerMapping;
     
     @Override
@@ -31,19 +40,40 @@ public class DispatcherServlet extends HttpServlet {
         String requestURI = request.getRequestURI();
         String command = extractCommand(requestURI);
         
-        System.out.println("DispatcherServlet이 요청 처리: " + command);
+        logger.fine(() -> "DispatcherServlet이 요청 처리: " + command);
         
+        // JFR 녹화 중일 때만 기록 (녹화 중이 아니면 shouldCommit()이 false)
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        try {
+            dispatch(request, response, command);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                Object route = request.getAttribute(RequestMetrics.ROUTE_ATTRIBUTE);
+                event.route = route != null ? route.toString() : command;
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+    
+    private void dispatch(HttpServletRequest request, HttpServletResponse response, String command)
+            throws IOException {
         try {
             // 2. 핸들러 매핑에서 컨트롤러 찾기
             Controller controller = handlerMapping.getController(command);
             
             if (controller == null) {
+                request.setAttribute(RequestMetrics.ROUTE_ATTRIBUTE, UNMATCHED_ROUTE);
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "요청한 페이지를 찾을 수 없습니다.");
                 return;
             }
             
             // 3. HTTP 메서드에 따라 컨트롤러 메서드 호출
             String method = request.getMethod();
+            request.setAttribute(RequestMetrics.ROUTE_ATTRIBUTE, RequestMetrics.methodLabel(method) + " /" + command + ".do");
             if ("GET".equalsIgnoreCase(method)) {
                 controller.doGet(request, response);
             } else if ("POST".equalsIgnoreCase(method)) {
@@ -53,8 +83,7 @@ public class DispatcherServlet extends HttpServlet {
             }
             
         } catch (Exception e) {
-            System.out.println("요청 처리 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("request_failed", e, "command", command);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
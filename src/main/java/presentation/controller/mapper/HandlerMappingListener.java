@@ -1,21 +1,165 @@
 package presentation.controller.mapper;
 
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
+import repository.dao.board.FreeboardDAO;
+import repository.dao.board.NewsDAO;
+import repository.dao.database.KeyboardInfoDAO;
+import util.db.DBConnectionUtil;
+import util.db.LastLoginRecorder;
+import util.db.ViewCountAggregator;
+import util.event.EventBus;
+import util.jfr.JfrRecorder;
+import util.logging.AsyncLogWriter;
+import util.logging.EventLog;
+import util.logging.EventLogWriter;
+import util.security.PasswordHasher;
+import util.upload.BlobSweeper;
+import util.upload.ThumbnailService;
+import util.web.SseBroadcaster;
 
 @WebListener
 public class HandlerMappingListener implements ServletContextListener {
+    // 시작/종료 기록은 구조화 로그로 남김 (EventLogWriter는 마지막에 종료)
+    private static final EventLog log = EventLog.get(HandlerMappingListener.class);
+    // EventLogWriter 자체의 종료 오류는 콘솔 로거로만 남김
+    private static final Logger consoleLogger = Logger.getLogger(HandlerMappingListener.class.getName());
     
     @Override
     public void contextInitialized(ServletContextEvent sce) {
         // 핸들러 매핑 초기화
         HandlerMapping.getInstance();
-        System.out.println("핸들러 매핑이 초기화되었습니다.");
+        log.info("handler_mapping_initialized");
+
+        // 참조가 없는 업로드 파일 주기적 정리
+        BlobSweeper.getInstance().start();
+
+        // 검색 색인 구성 (완료 전까지 검색은 SQL로 처리)
+        if (!"false".equalsIgnoreCase(System.getenv("SEARCH_INDEX_ENABLED"))) {
+            Thread builder = new Thread(this::buildSearchIndexes, "search-index-builder");
+            builder.setDaemon(true);
+            builder.start();
+        } else {
+            log.info("search_index_disabled");
+        }
+    }
+
+    // 게시판별로 따로 구성 (하나가 실패해도 나머지는 색인 사용)
+    private void buildSearchIndexes() {
+        buildSearchIndex("자유게시판", () -> new FreeboardDAO().rebuildSearchIndex());
+        buildSearchIndex("소식", () -> new NewsDAO().rebuildSearchIndex());
+        buildSearchIndex("키보드", () -> new KeyboardInfoDAO().rebuildSearchIndex());
+    }
+
+    private void buildSearchIndex(String label, Callable<Integer> rebuild) {
+        try {
+            long start = System.currentTimeMillis();
+            int count = rebuild.call();
+            log.info("search_index_built", "board", label, "documents", count,
+                    "elapsedMs", System.currentTimeMillis() - start);
+        } catch (Throwable t) {
+            log.error("search_index_build_failed", t, "board", label);
+        }
     }
     
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
         // 종료 시 필요한 정리 작업
+        // 실시간 알림 연결 종료
+        try {
+            SseBroadcaster.getInstance().shutdown();
+            EventBus.getInstance().shutdown();
+        } catch (Throwable t) {
+            log.error("sse_shutdown_failed", t);
+        }
+
+        // 관리자가 시작한 JFR 녹화 중지 (재배포 후에도 남지 않도록)
+        try {
+            JfrRecorder.getInstance().stop();
+        } catch (Throwable t) {
+            log.error("jfr_stop_failed", t);
+        }
+
+        // 비밀번호 해시 스레드 종료
+        try {
+            PasswordHasher.getInstance().shutdown();
+        } catch (Throwable t) {
+            log.error("password_hasher_shutdown_failed", t);
+        }
+
+        // 업로드 파일 정리 중지 (커넥션 풀이 닫히기 전에 수행)
+        try {
+            if (!BlobSweeper.getInstance().shutdown(2000)) {
+                log.warn("blob_sweeper_shutdown_timeout", null);
+            }
+        } catch (Throwable t) {
+            log.error("blob_sweeper_shutdown_failed", t);
+        }
+
+        // 썸네일 생성 중단 (생성 중인 파일은 임시 파일이므로 다음 요청 때 다시 생성)
+        try {
+            if (!ThumbnailService.getInstance().shutdown(2000)) {
+                log.warn("thumbnail_shutdown_timeout", null, "pending", ThumbnailService.getInstance().getQueueSize());
+            }
+        } catch (Throwable t) {
+            log.error("thumbnail_shutdown_failed", t);
+        }
+
+        // 메모리에 누적된 조회수 저장
+        try {
+            if (ViewCountAggregator.getInstance().shutdown(5000)) {
+                log.info("view_count_aggregator_stopped");
+            } else {
+                log.warn("view_count_aggregator_unflushed", null);
+            }
+        } catch (Throwable t) {
+            log.error("view_count_aggregator_shutdown_failed", t);
+        }
+
+        // 메모리에 기록된 마지막 로그인 시간 저장
+        try {
+            if (LastLoginRecorder.getInstance().shutdown(5000)) {
+                log.info("last_login_recorder_stopped");
+            } else {
+                log.warn("last_login_recorder_unflushed", null);
+            }
+        } catch (Throwable t) {
+            log.error("last_login_recorder_shutdown_failed", t);
+        }
+
+        // 남은 시스템 로그를 먼저 저장 (커넥션 풀이 닫히기 전에 수행)
+        try {
+            AsyncLogWriter logWriter = AsyncLogWriter.getInstance();
+            if (logWriter.shutdown(10000)) {
+                log.info("system_log_writer_stopped", "written", logWriter.getWrittenCount(),
+                        "dropped", logWriter.getDroppedCount());
+            } else {
+                log.warn("system_log_writer_shutdown_timeout", null, "pending", logWriter.getQueueSize());
+            }
+        } catch (Throwable t) {
+            log.error("system_log_writer_shutdown_failed", t);
+        }
+
+        try {
+            DBConnectionUtil.shutdown();
+            log.info("connection_pool_stopped");
+        } catch (Throwable t) {
+            log.error("connection_pool_shutdown_failed", t);
+        }
+
+        // 구조화 로그 파일 기록기 종료 (다른 정리 작업의 로그까지 남도록 마지막에 수행)
+        try {
+            if (!EventLogWriter.getInstance().shutdown(3000)) {
+                consoleLogger.warning("이벤트 로그 기록기 종료 대기 시간 초과 (남은 로그 "
+                        + EventLogWriter.getInstance().getQueueSize() + "건)");
+            }
+        } catch (Throwable t) {
+            consoleLogger.log(Level.SEVERE, "이벤트 로그 기록기 종료 중 오류", t);
+        }
     }
 }
@@ -2,18 +2,22 @@ package presentation.controller.page.board;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 import business.service.chatboard.ChatboardService;
 import dto.board.ChatboardDTO;
 import dto.user.UserDTO;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -23,14 +27,25 @@ import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import util.web.IpUtil;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
 
 /**
  * 익명 게시판 관련 요청을 처리하는 컨트롤러
  * URL 패턴: /chatboard.do 형식 지원
+ *
+ * 새 메시지 조회
+ * - GET /chatboard/list?since={채팅 ID}: 해당 ID 이후 메시지만 반환 (오래된 순)
+ * - GET /chatboard/poll?since={채팅 ID}&timeout={ms}: 새 메시지가 등록되거나 시간이 지날 때까지 응답을 미룸 (롱 폴링)
+ *   응답의 lastId를 다음 요청의 since로 사용
  */
-@WebServlet({"/chatboard/*", "/chatboard.do"})
+@WebServlet(urlPatterns = {"/chatboard/*", "/chatboard.do"}, asyncSupported = true)
 public class ChatboardController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
+    // 롱 폴링 대기 시간 (기본/최대)
+    private static final long DEFAULT_POLL_TIMEOUT_MS = 25000;
+    private static final long MAX_POLL_TIMEOUT_MS = 55000;
+    // 대기자 상한 초과 시 클라이언트에 알려 줄 재시도 간격
+    private static final int POLL_RETRY_AFTER_SECONDS = 5;
     private ChatboardService chatboardService;
     private util.web.RequestRouter router;
     
@@ -47,7 +62,7 @@ public class ChatboardController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/chatboard");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -58,10 +73,24 @@ public class ChatboardController extends HttpServlet implements Controller {
         });
         
         router.getJson("/list", (req, res) -> {
-            List<ChatboardDTO> chatList = chatboardService.getAllChats();
             Map<String, Object> result = new HashMap<>();
-            result.put("chatList", chatList);
-            return result;
+            String since = req.getParameter("since");
+            if (since == null || since.trim().isEmpty()) {
+                result.put("chatList", chatboardService.getAllChats());
+                result.put("lastId", chatboardService.getLastChatId());
+                return result;
+            }
+            
+            long sinceId;
+            try {
+                sinceId = Long.parseLong(since.trim());
+            } catch (NumberFormatException e) {
+                res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                result.put("status", "error");
+                result.put("message", "잘못된 since 값입니다.");
+                return result;
+            }
+            return buildSinceResult(chatboardService.getChatsSince(sinceId), sinceId);
         });
         
         // POST 요청 JSON 라우터 설정
@@ -90,7 +119,7 @@ public class ChatboardController extends HttpServlet implements Controller {
             }
             
             // JSON 파싱
-            JsonObject jsonRequest = new Gson().fromJson(sb.toString(), JsonObject.class);
+            JsonObject jsonRequest = JsonResponseWriter.getGson().fromJson(sb.toString(), JsonObject.class);
             String content = jsonRequest.has("content") ? jsonRequest.get("content").getAsString() : "";
             String clientIp = IpUtil.getClientIpAddr(req);
 
@@ -127,14 +156,150 @@ public class ChatboardController extends HttpServlet implements Controller {
         });
     }
     
+    /**
+     * since 이후 메시지 응답 (lastId: 다음 요청에 사용할 커서)
+     */
+    private Map<String, Object> buildSinceResult(List<ChatboardDTO> chatList, long sinceId) {
+        Map<String, Object> result = new HashMap<>();
+        if (chatList == null) {
+            result.put("success", false);
+            result.put("message", "채팅 메시지를 불러오지 못했습니다.");
+            return result;
+        }
+        result.put("success", true);
+        result.put("chatList", chatList);
+        result.put("lastId", chatList.isEmpty() ? sinceId
+                : chatList.get(chatList.size() - 1).getChatboardUid());
+        return result;
+    }
+    
+    /**
+     * 새 메시지 롱 폴링
+     * 이미 새 메시지가 있으면 바로 응답하고, 없으면 비동기로 전환해 요청 스레드를 반납한 뒤
+     * 새 메시지 등록 또는 타임아웃 때 응답 (대기 중에는 DB를 조회하지 않음)
+     */
+    private void pollChats(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long sinceId;
+        try {
+            String since = request.getParameter("since");
+            sinceId = since != null ? Long.parseLong(since.trim()) : chatboardService.getLastChatId();
+        } catch (NumberFormatException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            Map<String, Object> result = new HashMap<>();
+            result.put("status", "error");
+            result.put("message", "잘못된 since 값입니다.");
+            sendJsonResponse(response, result);
+            return;
+        }
+        
+        long timeout = DEFAULT_POLL_TIMEOUT_MS;
+        try {
+            if (request.getParameter("timeout") != null) {
+                timeout = Long.parseLong(request.getParameter("timeout"));
+            }
+        } catch (NumberFormatException e) {
+            // 기본값 사용
+        }
+        timeout = Math.max(1000, Math.min(timeout, MAX_POLL_TIMEOUT_MS));
+        
+        List<ChatboardDTO> ready = chatboardService.getChatsSince(sinceId);
+        if (ready == null || !ready.isEmpty() || !request.isAsyncSupported()) {
+            sendJsonResponse(response, buildSinceResult(ready, sinceId));
+            return;
+        }
+        
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(timeout);
+        AtomicBoolean completed = new AtomicBoolean();
+        AtomicReference<Runnable> cancelWait = new AtomicReference<>();
+        
+        // 한 번만 응답 (새 메시지 알림과 타임아웃이 겹쳐도)
+        Runnable respond = () -> {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendJsonResponse((HttpServletResponse) asyncContext.getResponse(),
+                        buildSinceResult(chatboardService.getChatsSince(sinceId), sinceId));
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트가 연결을 끊은 경우 등
+            } finally {
+                asyncContext.complete();
+            }
+        };
+        
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                cancel(cancelWait.get());
+                respond.run();
+            }
+            
+            @Override
+            public void onError(AsyncEvent event) {
+                cancel(cancelWait.get());
+                if (completed.compareAndSet(false, true)) {
+                    asyncContext.complete();
+                }
+            }
+            
+            @Override
+            public void onComplete(AsyncEvent event) {
+                cancel(cancelWait.get());
+            }
+            
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+            
+            private void cancel(Runnable cancel) {
+                if (cancel != null) {
+                    cancel.run();
+                }
+            }
+        });
+        
+        // 새 메시지 알림은 등록 요청 스레드에서 오므로 응답 작성은 컨테이너 스레드로 넘김
+        Runnable cancel;
+        try {
+            cancel = chatboardService.awaitNewChats(sinceId, () -> asyncContext.start(respond));
+        } catch (RejectedExecutionException e) {
+            // 대기자가 너무 많음 → 빈 200으로 답하면 클라이언트가 곧바로 다시 폴링하므로 503 + Retry-After
+            if (completed.compareAndSet(false, true)) {
+                try {
+                    sendBusyResponse((HttpServletResponse) asyncContext.getResponse());
+                } finally {
+                    asyncContext.complete();
+                }
+            }
+            return;
+        }
+        if (cancel == null) {
+            // 등록 직전에 새 메시지가 들어왔음 → 바로 응답
+            asyncContext.start(respond);
+        } else {
+            cancelWait.set(cancel);
+        }
+    }
+    
+    /**
+     * 롱 폴링 대기자 상한 초과 응답
+     */
+    private void sendBusyResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", String.valueOf(POLL_RETRY_AFTER_SECONDS));
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", "error");
+        result.put("message", "접속자가 많아 잠시 후 다시 시도해주세요.");
+        result.put("retryAfter", POLL_RETRY_AFTER_SECONDS);
+        sendJsonResponse(response, result);
+    }
+    
     /**
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(new Gson().toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }
     
     @Override
@@ -142,6 +307,12 @@ public class ChatboardController extends HttpServlet implements Controller {
         // API 요청인지 먼저 확인 (pathInfo 있는 요청은 API 요청으로 간주)
         String pathInfo = request.getPathInfo();
         
+        // 롱 폴링은 비동기로 응답하므로 Router(동기 JSON 응답)를 거치지 않음
+        if ("/poll".equals(pathInfo)) {
+            pollChats(request, response);
+            return;
+        }
+        
         // pathInfo가 있으면 API 요청으로 간주하고 Router를 통해 처리 시도
         if (pathInfo != null) {
             boolean handled = router.handleGetJson(request, response);
@@ -247,7 +418,7 @@ public class ChatboardController extends HttpServlet implements Controller {
         }
 
         // JSON 파싱
-        JsonObject jsonRequest = new Gson().fromJson(sb.toString(), JsonObject.class);
+        JsonObject jsonRequest = JsonResponseWriter.getGson().fromJson(sb.toString(), JsonObject.class);
         String content = jsonRequest.has("content") ? jsonRequest.get("content").getAsString() : "";
         String clientIp = IpUtil.getClientIpAddr(request);
         
@@ -454,8 +625,7 @@ public class ChatboardController extends HttpServlet implements Controller {
         jsonResponse.addProperty("success", success);
         jsonResponse.addProperty("message", message);
         
-        Gson gson = new Gson();
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.write(response, jsonResponse);
     }
     
     /**
@@ -0,0 +1,33 @@
+package presentation.controller.page.board;
+
+import java.io.IOException;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.web.SseBroadcaster;
+
+/**
+ * 실시간 알림(Server-Sent Events) 컨트롤러
+ * URL: GET /events?types=chat,post
+ *
+ * 이벤트 유형
+ * - chat / chat-update / chat-delete: 익명 채팅 등록/수정/삭제
+ * - post: 자유게시판/소식 새 게시글 (boardType, postId, title)
+ * - reset: 놓친 이벤트를 재전송할 수 없음 → 클라이언트가 목록을 다시 읽어야 함
+ *
+ * 재연결 시 브라우저(EventSource)가 보내는 Last-Event-ID 이후 이벤트를 재전송
+ */
+@WebServlet(urlPatterns = "/events", asyncSupported = true)
+public class EventStreamController extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        SseBroadcaster.getInstance().open(request, response,
+                SseBroadcaster.parseTypes(request.getParameter("types")));
+    }
+}
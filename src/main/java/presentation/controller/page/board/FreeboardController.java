@@ -2,15 +2,8 @@ package presentation.controller.page.board;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.PrintWriter;
-import java.lang.reflect.Type;
-import java.net.URLEncoder;
 import java.text.SimpleDateFormat;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -19,14 +12,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 
 import business.service.freeboard.FreeboardService;
 import dto.board.AttachmentDTO;
@@ -42,9 +27,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.Part;
 import presentation.controller.page.Controller;
-import util.FileUtil;
 import util.config.AppConfig;
+import util.web.FileDownloadHandler;
 import util.web.IpUtil;
+import util.json.JsonResponseWriter;
+import util.db.CursorPage;
+import util.upload.UploadPipeline;
+import util.upload.UploadRejectedException;
 
 /**
  * 자유게시판 관련 요청을 처리하는 컨트롤러
@@ -62,26 +51,7 @@ public class FreeboardController extends HttpServlet implements Controller {
     private util.web.RequestRouter router;
     private static final long serialVersionUID = 1L;
     
-    // LocalDateTime 직렬화/역직렬화를 위한 Gson 설정
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
-    
-    // LocalDateTime 어댑터
-    private static class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-        private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        @Override
-        public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(formatter.format(src));
-        }
-
-        @Override
-        public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            return LocalDateTime.parse(json.getAsString(), formatter);
-        }
-    }
+    private final Gson gson = JsonResponseWriter.getGson();
     
     @Override
     public void init() throws ServletException {
@@ -96,7 +66,7 @@ public class FreeboardController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/freeboard");
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
             Map<String, Object> result = new HashMap<>();
@@ -291,6 +261,31 @@ public class FreeboardController extends HttpServlet implements Controller {
                 // 잘못된 파라미터가 넘어온 경우 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 커서(키셋) 기반 페이지네이션 (빈 값이면 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            if (cursor != null) {
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    CursorPage<FreeboardDTO> cursorPage = freeboardService.getFreeboardsByCursor(cursor, Math.max(1, Math.min(pageSize, 100)));
+                    if (cursorPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("status", "error");
+                        result.put("message", "목록 조회 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("freeboardList", cursorPage.getItems());
+                    result.put("nextCursor", cursorPage.getNextCursor());
+                    result.put("prevCursor", cursorPage.getPrevCursor());
+                    result.put("hasNext", cursorPage.isHasNext());
+                    result.put("hasPrev", cursorPage.isHasPrev());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("status", "error");
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
             List<FreeboardDTO> freeboardList = freeboardService.getAllFreeboards(page, pageSize);
             int totalCount = freeboardService.getTotalCount();
             int totalPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -305,6 +300,57 @@ public class FreeboardController extends HttpServlet implements Controller {
             return result;
         });
 
+        router.getJson("/search", (req, res) -> {
+            String keyword = req.getParameter("keyword");
+            String searchType = req.getParameter("type");
+            if (searchType == null || searchType.trim().isEmpty()) {
+                searchType = "all";
+            }
+            int page = 1;
+            int pageSize = 10;
+            
+            try {
+                if (req.getParameter("page") != null) {
+                    page = Math.max(1, Integer.parseInt(req.getParameter("page")));
+                }
+                
+                if (req.getParameter("pageSize") != null) {
+                    pageSize = Math.max(1, Math.min(Integer.parseInt(req.getParameter("pageSize")), 100));
+                }
+            } catch (NumberFormatException e) {
+                // 잘못된 파라미터가 넘어온 경우 기본값 사용
+            }
+            
+            Map<String, Object> result = new HashMap<>();
+            if (keyword == null || keyword.trim().isEmpty()) {
+                res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                result.put("status", "error");
+                result.put("message", "검색어를 입력해주세요.");
+                return result;
+            }
+            keyword = keyword.trim();
+            
+            // 검색 색인이 준비되어 있으면 관련도 순, 아니면 최신순(SQL 검색)
+            List<FreeboardDTO> searchList = freeboardService.searchFreeboards(keyword, searchType, page, pageSize);
+            if (searchList == null) {
+                res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("status", "error");
+                result.put("message", "검색 중 오류가 발생했습니다.");
+                return result;
+            }
+            int totalCount = freeboardService.getSearchCount(keyword, searchType);
+            
+            result.put("freeboardList", searchList);
+            result.put("keyword", keyword);
+            result.put("type", searchType);
+            result.put("currentPage", page);
+            result.put("totalPages", (int) Math.ceil((double) totalCount / pageSize));
+            result.put("pageSize", pageSize);
+            result.put("totalCount", totalCount);
+            
+            return result;
+        });
+
         router.getJson("/view", (req, res) -> {
             try {
                 String idParam = req.getParameter("id");
@@ -1097,24 +1143,16 @@ public class FreeboardController extends HttpServlet implements Controller {
             }
             
             String fileName = filePart.getSubmittedFileName();
-            long fileSize = filePart.getSize();
             
-            String uploadDirPath = FileUtil.getUploadDirectoryPath();
-            String uniqueFileName = FileUtil.generateUniqueFilename(fileName);
-            
-            File uploadDir = new File(uploadDirPath);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
-            }
-            
-            File destinationFile = new File(uploadDir, uniqueFileName);
-            
-            filePart.write(destinationFile.getAbsolutePath());
+            // 한 번 읽으면서 저장/해시/형식 판별, 같은 내용은 기존 파일 재사용
+            UploadPipeline.StoredUpload stored = UploadPipeline.store(filePart, fileName);
+            String storedPath = stored.getStoredPath();
+            long fileSize = stored.getSize();
             
             AttachmentDTO attachment = new AttachmentDTO();
             attachment.setPostId(postId);
             attachment.setFileName(fileName);
-            attachment.setFilePath(uniqueFileName);
+            attachment.setFilePath(storedPath);
             attachment.setFileSize(fileSize);
             
             boolean success = freeboardService.addAttachment(attachment);
@@ -1127,85 +1165,78 @@ public class FreeboardController extends HttpServlet implements Controller {
             
             if (success) {
                 result.put("message", "파일이 업로드되었습니다.");
-                result.put("filename", uniqueFileName);
+                result.put("attachId", attachment.getAttachId());
+                result.put("downloadUrl", request.getContextPath()
+                        + "/freeboard.do?action=downloadAttachment&attachId=" + attachment.getAttachId());
+                result.put("filename", storedPath);
                 result.put("originalName", fileName);
                 result.put("fileSize", fileSize);
             } else {
                 result.put("message", "파일 업로드 중 오류가 발생했습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonResponseWriter.write(response, result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + request.getParameter("postId"));
             sendJsonResponse(response, false, "잘못된 게시글 ID입니다.");
+        } catch (UploadRejectedException e) {
+            logger.warning("첨부파일 거부: " + e.getMessage());
+            sendJsonResponse(response, false, e.getMessage());
         } catch (Exception e) {
             logger.log(Level.SEVERE, "첨부파일 업로드 실패", e);
             sendJsonResponse(response, false, "첨부파일 업로드 중 오류가 발생했습니다.");
         }
     }
     
+    /**
+     * 첨부파일 다운로드
+     * 같은 내용의 업로드는 저장 파일(file_path)을 공유하므로 attachId, 또는 postId + filename(저장 경로)으로 찾음
+     */
     private void downloadAttachment(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String attachIdStr = request.getParameter("attachId");
+        String postIdStr = request.getParameter("postId");
         String fileName = request.getParameter("filename");
-        if (fileName == null || fileName.trim().isEmpty()) {
-            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "파일명이 없습니다.");
-            return;
-        }
         
         try {
-            AttachmentDTO attachment = freeboardService.getAttachmentByFilename(fileName);
+            AttachmentDTO attachment;
+            if (attachIdStr != null && !attachIdStr.trim().isEmpty()) {
+                attachment = freeboardService.getAttachmentById(Long.parseLong(attachIdStr.trim()));
+            } else if (postIdStr != null && !postIdStr.trim().isEmpty()
+                    && fileName != null && !fileName.trim().isEmpty()) {
+                attachment = freeboardService.getAttachmentByPostAndPath(Long.parseLong(postIdStr.trim()), fileName);
+            } else {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "첨부파일 ID가 없습니다.");
+                return;
+            }
             
             if (attachment == null) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일을 찾을 수 없습니다.");
                 return;
             }
             
-            String uploadDirPath = FileUtil.getUploadDirectoryPath();
-            File file = new File(uploadDirPath, fileName);
+            File file = UploadPipeline.resolve(attachment.getFilePath());
             
-            if (!file.exists() || !file.isFile()) {
+            if (file == null || !file.isFile()) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "서버에 파일이 존재하지 않습니다.");
                 return;
             }
             
-            String mimeType = request.getServletContext().getMimeType(file.getName());
-            if (mimeType == null) {
-                mimeType = "application/octet-stream";
+            // 공용 처리기로 전송 (Range/304 지원), 다운로드 수는 지연 저장
+            FileDownloadHandler.Result result = FileDownloadHandler.serve(request, response, file,
+                    attachment.getFileName());
+            if (result.isCountable()) {
+                freeboardService.increaseDownloadCount(attachment.getAttachId());
             }
             
-            response.setContentType(mimeType);
-            response.setContentLength((int) file.length());
-            
-            String originFilename = attachment.getFileName();
-            String userAgent = request.getHeader("User-Agent");
-            
-            if (userAgent.contains("MSIE") || userAgent.contains("Trident") || userAgent.contains("Edge")) {
-                originFilename = URLEncoder.encode(originFilename, "UTF-8").replaceAll("\\+", "%20");
-            } else {
-                originFilename = new String(originFilename.getBytes("UTF-8"), "ISO-8859-1");
-            }
-            
-            response.setHeader("Content-Disposition", "attachment; filename=\"" + originFilename + "\"");
-            
-            try (FileInputStream in = new FileInputStream(file);
-                 OutputStream out = response.getOutputStream()) {
-                
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
-                out.flush();
-            }
-            
-            freeboardService.increaseDownloadCount(attachment.getAttachId());
-            
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 첨부파일 ID입니다.");
         } catch (Exception e) {
             logger.log(Level.SEVERE, "파일 다운로드 처리 중 오류", e);
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+            // 전송 도중 연결이 끊긴 경우에는 응답을 바꿀 수 없음
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+            }
         }
     }
     
@@ -1253,9 +1284,7 @@ public class FreeboardController extends HttpServlet implements Controller {
                 result.put("message", "댓글 수정에 실패했습니다. 본인이 작성한 댓글만 수정할 수 있습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonResponseWriter.write(response, result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid comment ID format: " + commentIdStr);
@@ -1302,9 +1331,7 @@ public class FreeboardController extends HttpServlet implements Controller {
                 result.put("message", "댓글 삭제에 실패했습니다. 본인이 작성한 댓글만 삭제할 수 있습니다.");
             }
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonResponseWriter.write(response, result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid comment ID format: " + commentIdStr);
@@ -1357,9 +1384,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonResponseWriter.write(response, result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + postIdStr);
@@ -1384,9 +1409,7 @@ public class FreeboardController extends HttpServlet implements Controller {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             
-            PrintWriter out = response.getWriter();
-            out.print(new Gson().toJson(result));
-            out.flush();
+            JsonResponseWriter.write(response, result);
             
         } catch (NumberFormatException e) {
             logger.warning("Invalid post ID format: " + postIdStr);
@@ -1398,10 +1421,7 @@ public class FreeboardController extends HttpServlet implements Controller {
     }
     
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }
     
     private void sendJsonResponse(HttpServletResponse response, boolean success, String message) throws IOException {
@@ -3,25 +3,15 @@ package presentation.controller.page.board;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.lang.reflect.Type;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 
 import business.service.news.NewsService;
 import dto.board.NewsCommentDTO;
@@ -37,6 +27,9 @@ import presentation.controller.page.Controller;
 import repository.dao.board.NewsDAO;
 import util.web.IpUtil;
 import repository.dao.board.NewsDAO;
+import util.json.JsonResponseWriter;
+import util.logging.EventLog;
+import util.db.CursorPage;
 
 /**
  * 키보드 소식 게시판 관련 요청을 처리하는 컨트롤러
@@ -45,29 +38,11 @@ import repository.dao.board.NewsDAO;
 @WebServlet({"/news/*", "/news.do"})
 public class NewsController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
+    private static final EventLog eventLog = EventLog.get(NewsController.class);
     private NewsService newsService;
     private util.web.RequestRouter router;
     
-    // LocalDateTime 직렬화/역직렬화를 위한 Gson 설정
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
-    
-    // LocalDateTime 어댑터
-    private static class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-        private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        @Override
-        public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(formatter.format(src));
-        }
-
-        @Override
-        public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            return LocalDateTime.parse(json.getAsString(), formatter);
-        }
-    }
+    private final Gson gson = JsonResponseWriter.getGson();
     
     @Override
     public void init() throws ServletException {
@@ -81,7 +56,7 @@ public class NewsController extends HttpServlet implements Controller {
     /**
      * 요청 라우터 초기화
      */    private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/news");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -108,7 +83,6 @@ public class NewsController extends HttpServlet implements Controller {
                 
                 // 파라미터 가져오기 (action, id 둘 다 지원)
                 String idParam = req.getParameter("id");
-                System.out.println("삭제 요청 ID: " + idParam);
                 
                 if (idParam == null || idParam.trim().isEmpty()) {
                     Map<String, Object> errorResult = new HashMap<>();
@@ -157,7 +131,7 @@ public class NewsController extends HttpServlet implements Controller {
                     return result;
                     
                 } catch (NumberFormatException e) {
-                    e.printStackTrace();
+                    eventLog.warn("delete_invalid_id", e, "id", idParam);
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("status", "error");
                     errorResult.put("success", false);
@@ -165,7 +139,7 @@ public class NewsController extends HttpServlet implements Controller {
                     return errorResult;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                eventLog.error("delete_failed", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("success", false);
@@ -190,6 +164,31 @@ public class NewsController extends HttpServlet implements Controller {
                 // 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 커서(키셋) 기반 페이지네이션 (빈 값이면 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            if (cursor != null) {
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    CursorPage<NewsDTO> cursorPage = newsService.getNewsByCursor(cursor, Math.max(1, Math.min(pageSize, 100)));
+                    if (cursorPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("status", "error");
+                        result.put("message", "목록 조회 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("newsList", cursorPage.getItems());
+                    result.put("nextCursor", cursorPage.getNextCursor());
+                    result.put("prevCursor", cursorPage.getPrevCursor());
+                    result.put("hasNext", cursorPage.isHasNext());
+                    result.put("hasPrev", cursorPage.isHasPrev());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("status", "error");
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
             List<NewsDTO> newsList = newsService.getAllNews(page, pageSize);
             int totalCount = newsService.getTotalNewsCount();
             int totalPages = (int) Math.ceil((double) totalCount / pageSize);
@@ -203,24 +202,64 @@ public class NewsController extends HttpServlet implements Controller {
             return result;
         });
         
+        router.getJson("/search", (req, res) -> {
+            String keyword = req.getParameter("keyword");
+            String searchType = req.getParameter("type");
+            if (searchType == null || searchType.trim().isEmpty()) {
+                searchType = "all";
+            }
+            int page = 1;
+            int pageSize = 10;
+            
+            try {
+                if (req.getParameter("page") != null) {
+                    page = Math.max(1, Integer.parseInt(req.getParameter("page")));
+                }
+                
+                if (req.getParameter("pageSize") != null) {
+                    pageSize = Math.max(1, Math.min(Integer.parseInt(req.getParameter("pageSize")), 100));
+                }
+            } catch (NumberFormatException e) {
+                // 기본값 사용
+            }
+            
+            Map<String, Object> result = new HashMap<>();
+            if (keyword == null || keyword.trim().isEmpty()) {
+                res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                result.put("status", "error");
+                result.put("message", "검색어를 입력해주세요.");
+                return result;
+            }
+            keyword = keyword.trim();
+            
+            // 검색 색인이 준비되어 있으면 관련도 순, 아니면 최신순(SQL 검색)
+            List<NewsDTO> searchList = newsService.searchNewsBy(keyword, searchType, page, pageSize);
+            if (searchList == null) {
+                res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("status", "error");
+                result.put("message", "검색 중 오류가 발생했습니다.");
+                return result;
+            }
+            int totalCount = newsService.getSearchCount(keyword, searchType);
+            
+            result.put("newsList", searchList);
+            result.put("keyword", keyword);
+            result.put("type", searchType);
+            result.put("currentPage", page);
+            result.put("totalPages", (int) Math.ceil((double) totalCount / pageSize));
+            result.put("pageSize", pageSize);
+            result.put("totalCount", totalCount);
+            
+            return result;
+        });
+        
         router.getJson("/view", (req, res) -> {
             try {
                 // postId와 id 파라미터 모두 지원 (클라이언트 호환성을 위해)
                 String idParam = req.getParameter("id");
-                System.out.println("받은 뉴스 id 파라미터: " + idParam);
                 
                 if (idParam == null || idParam.isEmpty()) {
                     idParam = req.getParameter("postId");
-                    System.out.println("받은 뉴스 postId 파라미터: " + idParam);
-                }
-                
-                // 파라미터 디버그를 위한 모든 요청 파라미터 출력
-                System.out.println("요청 URL: " + req.getRequestURL().toString() + "?" + req.getQueryString());
-                System.out.println("모든 파라미터 목록:");
-                Enumeration<String> paramNames = req.getParameterNames();
-                while (paramNames.hasMoreElements()) {
-                    String paramName = paramNames.nextElement();
-                    System.out.println(paramName + ": " + req.getParameter(paramName));
                 }
                 
                 if (idParam == null || idParam.trim().isEmpty()) {
@@ -232,11 +271,9 @@ public class NewsController extends HttpServlet implements Controller {
                 
                 // 문자열에서 공백 제거 후 변환 시도
                 idParam = idParam.trim();
-                System.out.println("변환 전 뉴스 ID 문자열: [" + idParam + "]");
                 
                 try {
                     long newsId = Long.parseLong(idParam);
-                    System.out.println("변환된 뉴스 ID: " + newsId);
                     
                     // 여기를 수정: 세션 기반 조회수 증가가 적용된 메서드 호출
                     NewsDTO news = newsService.getNewsById(newsId, req);
@@ -258,14 +295,14 @@ public class NewsController extends HttpServlet implements Controller {
                     return result;
                 } catch (NumberFormatException e) {
                     // 예외 정보 로깅 추가
-                    e.printStackTrace();
+                    eventLog.warn("view_invalid_id", e, "id", idParam);
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("status", "error");
                     errorResult.put("message", "잘못된 뉴스 ID입니다. 오류: " + e.getMessage());
                     return errorResult;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                eventLog.error("view_failed", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("message", "뉴스 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -278,11 +315,9 @@ public class NewsController extends HttpServlet implements Controller {
             try {
                 // postId와 id 파라미터 모두 지원 (클라이언트 호환성을 위해)
                 String idParam = req.getParameter("postId");
-                System.out.println("받은 댓글 postId 파라미터: " + idParam);
                 
                 if (idParam == null || idParam.isEmpty()) {
                     idParam = req.getParameter("id");
-                    System.out.println("받은 댓글 id 파라미터: " + idParam);
                 }
                 
                 if (idParam == null || idParam.trim().isEmpty()) {
@@ -296,11 +331,8 @@ public class NewsController extends HttpServlet implements Controller {
                 idParam = idParam.trim();
                 long newsId = Long.parseLong(idParam);
                 
-                System.out.println("변환된 댓글 뉴스 ID: " + newsId);
-                
                 // 댓글 목록 조회
                 List<NewsCommentDTO> comments = newsService.getNewsComments(newsId);
-                System.out.println("조회된 댓글 수: " + (comments != null ? comments.size() : "없음"));
                 
                 if (comments == null) {
                     // 댓글이 없거나 오류 발생 시 빈 배열 반환
@@ -310,7 +342,7 @@ public class NewsController extends HttpServlet implements Controller {
                 return comments;
             } catch (NumberFormatException e) {
                 // 예외 정보 로깅 추가
-                e.printStackTrace();
+                eventLog.warn("comments_invalid_id", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("message", "잘못된 뉴스 ID입니다. 오류: " + e.getMessage());
@@ -338,8 +370,7 @@ public class NewsController extends HttpServlet implements Controller {
                     return errorResult;
                 }
                 
-                // 로그 추가
-                System.out.println("GET 방식 추천 요청: 뉴스ID=" + idParam + ", 사용자ID=" + user.getUserId());
+                eventLog.debug("recommend_request", "newsId", idParam, "userId", user.getUserId());
                 
                 if (idParam == null || idParam.trim().isEmpty()) {
                     Map<String, Object> errorResult = new HashMap<>();
@@ -371,7 +402,7 @@ public class NewsController extends HttpServlet implements Controller {
                     }
                     return result;
                 } catch (NumberFormatException e) {
-                    e.printStackTrace();
+                    eventLog.warn("recommend_invalid_id", e);
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("status", "error");
                     errorResult.put("success", false);
@@ -379,7 +410,7 @@ public class NewsController extends HttpServlet implements Controller {
                     return errorResult;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                eventLog.error("recommend_failed", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("success", false);
@@ -423,23 +454,17 @@ public class NewsController extends HttpServlet implements Controller {
                         title = (String) jsonMap.get("newsTitle");
                         content = (String) jsonMap.get("newsContents");
                         notifyValue = (String) jsonMap.get("newsNotify");
-                        
-                        // 로깅 - 디버깅용
-                        System.out.println("JSON으로 뉴스 게시글 작성 요청 수신: " + title + ", " + content);
                     } catch (Exception e) {
-                        System.out.println("JSON 파싱 오류: " + e.getMessage());
+                        eventLog.warn("write_json_invalid", e);
                     }
                 } else {
                     // 폼 데이터에서 시도
                     title = request.getParameter("newsTitle");
                     content = request.getParameter("newsContents");
                     notifyValue = request.getParameter("newsNotify");
-                    
-                    // 로깅 - 디버깅용
-                    System.out.println("폼데이터로 뉴스 게시글 작성 요청 수신: " + title + ", " + content);
                 }
             } catch (Exception e) {
-                System.out.println("요청 본문 읽기 오류: " + e.getMessage());
+                eventLog.warn("write_body_read_failed", e);
                 // 폼 데이터 가져오기
                 title = request.getParameter("newsTitle");
                 content = request.getParameter("newsContents");
@@ -504,7 +529,7 @@ public class NewsController extends HttpServlet implements Controller {
                 String userId = String.valueOf(user.getUserId());
                 
                 String type = req.getParameter("type");
-                System.out.println("추천 요청: 뉴스ID=" + idParam + ", 타입=" + type + ", 사용자ID=" + userId);
+                eventLog.debug("recommend_request", "newsId", idParam, "type", type, "userId", userId);
                 
                 if (idParam == null || idParam.trim().isEmpty()) {
                     Map<String, Object> errorResult = new HashMap<>();
@@ -533,14 +558,14 @@ public class NewsController extends HttpServlet implements Controller {
                     }
                     return result;
                 } catch (NumberFormatException e) {
-                    e.printStackTrace();
+                    eventLog.warn("recommend_invalid_id", e);
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("status", "error");
                     errorResult.put("message", "잘못된 뉴스 ID입니다.");
                     return errorResult;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                eventLog.error("recommend_failed", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("message", "서버 오류가 발생했습니다.");
@@ -566,7 +591,7 @@ public class NewsController extends HttpServlet implements Controller {
                 String content = req.getParameter("content");
                 String parentIdParam = req.getParameter("parentId");
                 
-                System.out.println("댓글 작성 요청: postId=" + postIdParam + ", 내용=" + content);
+                eventLog.debug("comment_request", "newsId", postIdParam);
                 
                 if (postIdParam == null || postIdParam.trim().isEmpty()) {
                     Map<String, Object> errorResult = new HashMap<>();
@@ -628,14 +653,14 @@ public class NewsController extends HttpServlet implements Controller {
                     }
                     return result;
                 } catch (NumberFormatException e) {
-                    e.printStackTrace();
+                    eventLog.warn("comment_invalid_id", e);
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("status", "error");
                     errorResult.put("message", "잘못된 게시글 ID입니다.");
                     return errorResult;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                eventLog.error("comment_write_failed", e);
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("status", "error");
                 errorResult.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
@@ -656,7 +681,7 @@ public class NewsController extends HttpServlet implements Controller {
             String jsonString = convertToJsonWithoutLocalDateTime(data);
             out.print(jsonString);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("json_write_failed", e);
             // 오류 시 기본 오류 응답
             out.print("{\"error\": \"JSON 직렬화 중 오류가 발생했습니다.\"}");
         }
@@ -829,7 +854,7 @@ public class NewsController extends HttpServlet implements Controller {
             return gson.fromJson(json, Map.class);
             
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("json_conversion_failed", e);
             map.put("error", "객체 변환 오류");
             return map;
         }
@@ -922,7 +947,7 @@ public class NewsController extends HttpServlet implements Controller {
                     listNews(request, response);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("get_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -972,7 +997,7 @@ public class NewsController extends HttpServlet implements Controller {
                     response.sendRedirect("news.do");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("post_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -1046,20 +1071,16 @@ public class NewsController extends HttpServlet implements Controller {
             String increaseReadCountParam = request.getParameter("increaseReadCount");
             boolean increaseReadCount = !"false".equalsIgnoreCase(increaseReadCountParam);
             
-            System.out.println("조회수 증가 요청 - newsId: " + newsId + ", increaseReadCount: " + increaseReadCount);
-            
             // 세션 기반 조회수 증가 처리 (파라미터가 true일 때만 실행)
             if (increaseReadCount) {
                 try {
                     // NewsDAO의 세션 기반 조회수 증가 메서드를 직접 호출
                     new NewsDAO().updateReadCount(newsId, request);
-                    System.out.println("조회수 증가 처리 완료: newsId=" + newsId);
                 } catch (SQLException e) {
-                    e.printStackTrace();
-                    System.out.println("조회수 증가 중 오류 발생: " + e.getMessage());
+                    eventLog.error("read_count_failed", e, "newsId", newsId);
                 }
             } else {
-                System.out.println("조회수 증가 생략 (increaseReadCount=false): newsId=" + newsId);
+                eventLog.debug("read_count_skipped", "newsId", newsId, "reason", "increaseReadCount=false");
             }
             
             // 요청 속성에 설정
@@ -1445,7 +1466,7 @@ public class NewsController extends HttpServlet implements Controller {
             // NewsService의 hasUserRecommended 메서드를 사용하여 추천 여부를 확인합니다.
             return newsService.hasUserRecommended(newsId, userId);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("recommend_check_failed", e, "newsId", newsId, "userId", userId);
             return false;
         }
     }
@@ -0,0 +1,86 @@
+package presentation.controller.page.board;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.logging.LoggerConfig;
+import util.upload.ThumbnailService;
+import util.upload.UploadPipeline;
+import util.web.FileDownloadHandler;
+
+/**
+ * 업로드 이미지 썸네일 컨트롤러
+ * URL: GET /thumb?src={업로드 루트 기준 경로}&w={너비}
+ *
+ * 썸네일은 원본이 바뀌지 않는 한 같은 URL로 같은 내용이 나오므로 브라우저/프록시에 오래 캐시하도록 응답
+ * 생성이 늦어지거나 실패하면 원본을 짧은 캐시로 대신 보냄 (다음 요청부터 썸네일 사용)
+ */
+@WebServlet("/thumb")
+public class ThumbnailController extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerConfig.getLogger(ThumbnailController.class);
+
+    // 요청 스레드가 썸네일 생성을 기다리는 최대 시간
+    private static final long WAIT_MS = 3000;
+    private static final String THUMBNAIL_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=60";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String src = request.getParameter("src");
+        if (!ThumbnailService.isSupported(src)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        int width = ThumbnailService.LIST_WIDTH;
+        String widthParam = request.getParameter("w");
+        if (widthParam != null && !widthParam.isEmpty()) {
+            try {
+                width = Integer.parseInt(widthParam);
+            } catch (NumberFormatException e) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 너비입니다.");
+                return;
+            }
+        }
+        width = ThumbnailService.normalizeWidth(width);
+
+        File source = UploadPipeline.resolve(src);
+        if (source == null || !source.isFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        File file = source;
+        String cacheControl = FALLBACK_CACHE_CONTROL;
+        try {
+            file = ThumbnailService.getInstance().getThumbnail(source, width).get(WAIT_MS, TimeUnit.MILLISECONDS);
+            cacheControl = THUMBNAIL_CACHE_CONTROL;
+        } catch (TimeoutException e) {
+            logger.fine("썸네일 생성 대기 시간 초과, 원본 전송: " + src);
+        } catch (ExecutionException e) {
+            logger.warning("썸네일 생성 실패, 원본 전송: " + src + " (" + e.getCause() + ")");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            FileDownloadHandler.serveInline(request, response, file, cacheControl);
+        } catch (IOException e) {
+            // 전송 도중 연결이 끊긴 경우에는 응답을 바꿀 수 없음
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+}
@@ -3,8 +3,10 @@ package presentation.controller.page.board;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import business.service.board.BoardService;
 import business.service.database.KeyboardInfoService;
@@ -21,6 +23,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import util.SecurityUtil;
+import util.json.JsonResponseWriter;
+import util.logging.EventLog;
+import util.upload.ThumbnailService;
 
 
 /**
@@ -29,6 +34,7 @@ import util.SecurityUtil;
  */
 @WebServlet(name = "UserpageController", urlPatterns = {"/mypage", "/mypage/api/*"})
 public class UserpageController extends HttpServlet implements Controller {
+    private static final EventLog eventLog = EventLog.get(UserpageController.class);
     private final UserService userService;
     private final KeyboardInfoService keyboardInfoService;
     private final BoardService boardService;
@@ -99,8 +105,6 @@ public class UserpageController extends HttpServlet implements Controller {
     }    @Override
     public void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         // 로그인 확인
-        System.out.println("doPost 메소드 시작: " + request.getRequestURI());
-        
         HttpSession session = request.getSession(false);
         if (session == null || session.getAttribute("user") == null) {
             if (isAjaxRequest(request)) {
@@ -121,7 +125,6 @@ public class UserpageController extends HttpServlet implements Controller {
         
         // /mypage/api로 시작하는 경로인지 확인
         if (effectivePath.startsWith("/mypage/api")) {
-            System.out.println("POST 요청: API 경로 감지 - " + effectivePath);
             handleApiRequest(request, response);
             return;
         }
@@ -153,7 +156,7 @@ public class UserpageController extends HttpServlet implements Controller {
         UserDTO user = (UserDTO) session.getAttribute("user");
         long userId = user.getUserId(); // getUserId() 메서드 사용
         
-        System.out.println("API 요청 처리: 메소드=" + request.getMethod() + ", 엔드포인트=" + endpoint + ", 사용자 ID=" + userId);  // 디버깅 로그 추가
+        eventLog.debug("api_request", "endpoint", endpoint, "userId", userId);
         
         try {
             int page = getPageParameter(request);
@@ -163,23 +166,14 @@ public class UserpageController extends HttpServlet implements Controller {
                     UserDTO userData = null;
                     try {
                         userData = userService.getUserById(userId);
-                        System.out.println("UserService.getUserById(" + userId + ") 호출 결과: " + (userData != null ? "성공" : "null 반환"));
-                        
                         if (userData == null) {
                             sendJsonResponse(response, false, "사용자 정보를 가져오는 데 실패했습니다. ID: " + userId);
                             return;
                         }
                         
-                        // UserDTO 객체 정보 로깅
-                        System.out.println("UserDTO 정보 - ID: " + userData.getUserId() + 
-                                        ", 이름: " + userData.getUserName() + 
-                                        ", 이메일: " + userData.getEmail() + 
-                                        ", 닉네임: " + userData.getNickname());
-                        
                         sendJsonDataResponse(response, userData);
                     } catch (Exception e) {
-                        System.err.println("사용자 정보 조회 중 예외 발생: " + e.getMessage());
-                        e.printStackTrace();
+                        eventLog.error("profile_lookup_failed", e, "userId", userId);
                         sendJsonResponse(response, false, "사용자 정보 조회 중 오류: " + e.getMessage());
                         return;
                     }
@@ -193,7 +187,7 @@ public class UserpageController extends HttpServlet implements Controller {
                     int totalScraps = keyboardInfoService.getTotalScrapCountByUserId(userId);
                     
                     // 페이징 정보와 함께 응답
-                    sendJsonPaginatedResponse(response, scraps, scrapsPage, scrapsPageSize, totalScraps);
+                    sendJsonPaginatedResponse(request, response, scraps, scrapsPage, scrapsPageSize, totalScraps);
                     break;
                     
                 case "posts":
@@ -209,7 +203,7 @@ public class UserpageController extends HttpServlet implements Controller {
                     int totalPosts = boardService.getTotalPostCountByUserId(userId, boardType);
                     
                     // 페이징 정보와 함께 응답
-                    sendJsonPaginatedResponse(response, posts, postsPage, postsPageSize, totalPosts);
+                    sendJsonPaginatedResponse(request, response, posts, postsPage, postsPageSize, totalPosts);
                     break;
                     
                 case "ratings":
@@ -225,7 +219,7 @@ public class UserpageController extends HttpServlet implements Controller {
                     int totalScores = keyboardInfoService.getTotalScoreCountByUserId(userId);
                     
                     // 페이징 정보와 함께 응답
-                    sendJsonPaginatedResponse(response, scores, scoresPage, scoresPageSize, totalScores);
+                    sendJsonPaginatedResponse(request, response, scores, scoresPage, scoresPageSize, totalScores);
                     break;
                     
                 case "points":
@@ -240,7 +234,7 @@ public class UserpageController extends HttpServlet implements Controller {
                         pointHistory = userService.getUserPointHistory(userId, page, 10);
                         totalPointHistory = userService.getTotalUserPointHistory(userId);
                     } catch (Exception e) {
-                        System.err.println("포인트 조회 기능이 구현되지 않았습니다: " + e.getMessage());
+                        eventLog.warn("point_lookup_unavailable", e, "userId", userId);
                         // 테스트 데이터로 응답
                         currentPoints = 1250;
                         // 샘플 포인트 내역 데이터
@@ -334,8 +328,7 @@ public class UserpageController extends HttpServlet implements Controller {
                     break;
             }
         } catch (Exception e) {
-            System.err.println("API 요청 처리 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("api_request_failed", e, "endpoint", endpoint, "userId", userId);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
@@ -359,84 +352,76 @@ public class UserpageController extends HttpServlet implements Controller {
     /**
      * 페이징 정보와 함께 JSON 응답 보내기
      */
-    private void sendJsonPaginatedResponse(HttpServletResponse response, List<?> items, int currentPage, int pageSize, int totalItems) 
-            throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        
+    private void sendJsonPaginatedResponse(HttpServletRequest request, HttpServletResponse response, List<?> items,
+            int currentPage, int pageSize, int totalItems) throws IOException {
         int totalPages = (int) Math.ceil((double) totalItems / pageSize);
         
-        StringBuilder json = new StringBuilder();
-        json.append("{");
-        json.append("\"items\": [");
-        
-        // 객체 목록을 JSON 배열로 변환
-        for (int i = 0; i < items.size(); i++) {
-            if (i > 0) {
-                json.append(",");
-            }
-            json.append(convertObjectToJson(items.get(i)));
+        // 객체 목록을 JSON 배열용 Map 목록으로 변환
+        List<Map<String, Object>> jsonItems = new ArrayList<>(items.size());
+        for (Object item : items) {
+            jsonItems.add(toJsonMap(item));
         }
         
-        json.append("],");
-        json.append("\"pagination\": {");
-        json.append("\"currentPage\": ").append(currentPage).append(",");
-        json.append("\"pageSize\": ").append(pageSize).append(",");
-        json.append("\"totalItems\": ").append(totalItems).append(",");
-        json.append("\"totalPages\": ").append(totalPages);
-        json.append("}");
-        json.append("}");
+        Map<String, Object> pagination = new LinkedHashMap<>();
+        pagination.put("currentPage", currentPage);
+        pagination.put("pageSize", pageSize);
+        pagination.put("totalItems", totalItems);
+        pagination.put("totalPages", totalPages);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("items", jsonItems);
+        result.put("pagination", pagination);
         
-        response.getWriter().write(json.toString());
+        JsonResponseWriter.write(request, response, result);
     }
       /**
-     * 객체를 JSON 문자열로 변환
+     * 객체를 JSON 응답용 Map으로 변환 (필드 순서 유지)
      */
-    private String convertObjectToJson(Object item) {
-        StringBuilder json = new StringBuilder("{");
-          if (item instanceof UserDTO) {
+    private Map<String, Object> toJsonMap(Object item) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        if (item instanceof UserDTO) {
             UserDTO user = (UserDTO) item;
-            json.append("\"userId\":").append(user.getUserId()).append(",");
-            json.append("\"userName\":\"").append(escapeJsonString(user.getUserName())).append("\",");
-            json.append("\"nickname\":\"").append(escapeJsonString(user.getNickname())).append("\",");
-            json.append("\"userEmail\":\"").append(escapeJsonString(user.getEmail())).append("\",");
-            json.append("\"userIntroduce\":\"").append(escapeJsonString(user.getUserIntroduce() != null ? user.getUserIntroduce() : "")).append("\"");
+            json.put("userId", user.getUserId());
+            json.put("userName", nullToEmpty(user.getUserName()));
+            json.put("nickname", nullToEmpty(user.getNickname()));
+            json.put("userEmail", nullToEmpty(user.getEmail()));
+            json.put("userIntroduce", nullToEmpty(user.getUserIntroduce()));
             // 필요한 추가 필드
             
         } else if (item instanceof KeyboardInfoDTO) {
             KeyboardInfoDTO keyboard = (KeyboardInfoDTO) item;
-            json.append("\"id\":").append(keyboard.getKeyboardId()).append(",");
-            json.append("\"name\":\"").append(escapeJsonString(keyboard.getName())).append("\",");
-            json.append("\"type\":\"").append(escapeJsonString(keyboard.getSwitchType())).append("\",");
-            json.append("\"imageUrl\":\"").append(escapeJsonString(keyboard.getImageUrl() != null ? keyboard.getImageUrl() : "")).append("\"");
+            json.put("id", keyboard.getKeyboardId());
+            json.put("name", nullToEmpty(keyboard.getName()));
+            json.put("type", nullToEmpty(keyboard.getSwitchType()));
+            json.put("imageUrl", nullToEmpty(keyboard.getImageUrl()));
+            json.put("thumbnailUrl", nullToEmpty(ThumbnailService.thumbnailUrl(keyboard.getImageUrl(),
+                    ThumbnailService.LIST_WIDTH)));
             // 필요한 추가 필드
             
         } else if (item instanceof PostDTO) {
             PostDTO post = (PostDTO) item;
-            json.append("\"postId\":").append(post.getPostId()).append(",");
-            json.append("\"title\":\"").append(escapeJsonString(post.getTitle())).append("\",");
-            json.append("\"boardType\":\"").append(escapeJsonString(post.getBoardType())).append("\",");
-            json.append("\"boardName\":\"").append(escapeJsonString(getBoardName(post.getBoardType()))).append("\",");
-            json.append("\"createdAt\":\"").append(post.getWriteTime()).append("\",");
-            json.append("\"viewCount\":").append(post.getViewCount());
+            json.put("postId", post.getPostId());
+            json.put("title", nullToEmpty(post.getTitle()));
+            json.put("boardType", nullToEmpty(post.getBoardType()));
+            json.put("boardName", getBoardName(post.getBoardType()));
+            json.put("createdAt", String.valueOf(post.getWriteTime()));
+            json.put("viewCount", post.getViewCount());
             // 필요한 추가 필드
             
         } else if (item instanceof KeyboardScoreDTO) {
             KeyboardScoreDTO score = (KeyboardScoreDTO) item;
-            json.append("\"keyboardId\":").append(score.getKeyboardId()).append(",");
-            json.append("\"keyboardName\":\"").append(escapeJsonString(getKeyboardName(score.getKeyboardId()))).append("\",");
-            json.append("\"score\":").append(score.getScoreValue()).append(",");
-            json.append("\"comment\":\"").append(escapeJsonString(score.getReview())).append("\",");
-            json.append("\"ratedAt\":\"").append(score.getScoreTime()).append("\"");
+            json.put("keyboardId", score.getKeyboardId());
+            json.put("keyboardName", nullToEmpty(getKeyboardName(score.getKeyboardId())));
+            json.put("score", score.getScoreValue());
+            json.put("comment", nullToEmpty(score.getReview()));
+            json.put("ratedAt", String.valueOf(score.getScoreTime()));
             // 필요한 추가 필드
             
         } else {
             // 기타 타입 처리
-            json.append("\"data\":\"").append(escapeJsonString(item.toString())).append("\"");
+            json.put("data", String.valueOf(item));
         }
-        
-        json.append("}");
-        return json.toString();
+        return json;
     }
     
     /**
@@ -473,17 +458,10 @@ public class UserpageController extends HttpServlet implements Controller {
     }
     
     /**
-     * JSON 문자열에서 특수 문자 이스케이프 처리
+     * null 문자열을 빈 문자열로 변환 (기존 응답 형식 유지)
      */
-    private String escapeJsonString(String input) {
-        if (input == null) {
-            return "";
-        }
-        return input.replace("\\", "\\\\")
-                   .replace("\"", "\\\"")
-                   .replace("\n", "\\n")
-                   .replace("\r", "\\r")
-                   .replace("\t", "\\t");
+    private String nullToEmpty(String input) {
+        return input != null ? input : "";
     }
 
     /**
@@ -496,22 +474,18 @@ public class UserpageController extends HttpServlet implements Controller {
             UserDTO user = (UserDTO) session.getAttribute("user");
             long userId = user.getUserId(); // getUserId() 메서드 사용
             
-            System.out.println("내 정보 조회: 사용자 ID=" + userId); // 디버깅 로그 추가
-            
             // 최신 사용자 정보 조회 (DB에서 갱신된 정보 확인)
             UserDTO updatedUser = null;
             try {
                 updatedUser = userService.getUserById(userId);
-                System.out.println("getMyUserInfo에서 userService.getUserById(" + userId + ") 호출 결과: " + (updatedUser != null ? "성공" : "null 반환"));
             } catch (Exception e) {
-                System.err.println("getMyUserInfo에서 userService.getUserById 호출 중 예외 발생: " + e.getMessage());
-                e.printStackTrace();
+                eventLog.error("user_info_lookup_failed", e, "userId", userId);
                 response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "사용자 정보 조회 중 오류: " + e.getMessage());
                 return;
             }
             
             if (updatedUser == null) {
-                System.err.println("getMyUserInfo에서 userService.getUserById가 null 반환. userId: " + userId);
+                eventLog.warn("user_info_not_found", null, "userId", userId);
                 response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "사용자 정보를 찾을 수 없습니다. ID: " + userId);
                 return;
             }
@@ -526,8 +500,7 @@ public class UserpageController extends HttpServlet implements Controller {
             // 마이페이지로 포워딩
             request.getRequestDispatcher("/view/pages/mypage.html").forward(request, response);
         } catch (Exception e) {
-            System.err.println("getMyUserInfo 메서드 실행 중 예외 발생: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("user_info_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
@@ -609,8 +582,12 @@ public class UserpageController extends HttpServlet implements Controller {
             } else {
                 sendJsonResponse(response, false, "사용자 정보 업데이트에 실패했습니다.");
             }
+        } catch (RejectedExecutionException e) {
+            // 비밀번호 해시 대기열이 가득 참
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            sendJsonResponse(response, false, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("user_info_update_failed", e);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다.");
         }
     }
@@ -656,7 +633,7 @@ public class UserpageController extends HttpServlet implements Controller {
                 sendJsonResponse(response, false, "회원 탈퇴 처리에 실패했습니다.");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("delete_request_failed", e);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다.");
         }
     }
@@ -702,7 +679,7 @@ public class UserpageController extends HttpServlet implements Controller {
             // 마이페이지로 포워딩
             request.getRequestDispatcher("/view/pages/mypage.html").forward(request, response);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("scrap_list_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -759,7 +736,7 @@ public class UserpageController extends HttpServlet implements Controller {
             // 마이페이지로 포워딩
             request.getRequestDispatcher("/view/pages/mypage.html").forward(request, response);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("post_list_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -812,7 +789,7 @@ public class UserpageController extends HttpServlet implements Controller {
             // 마이페이지로 포워딩
             request.getRequestDispatcher("/view/pages/mypage.html").forward(request, response);
         } catch (Exception e) {
-            e.printStackTrace();
+            eventLog.error("keyboard_score_list_failed", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -829,37 +806,28 @@ public class UserpageController extends HttpServlet implements Controller {
      */
     private void sendJsonResponse(HttpServletResponse response, boolean success, String message) 
             throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        // JSON 문자열 생성 시 메시지 내용에서 따옴표 등 특수문자 처리
-        String escapedMessage = message.replace("\"", "\\\"");
-        response.getWriter().write("{\"success\": " + success + ", \"message\": \"" + escapedMessage + "\"}");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", success);
+        result.put("message", message);
+        JsonResponseWriter.write(response, result);
     }
     
     /**
      * 객체를 JSON으로 변환하여 응답 전송
      */    private void sendJsonDataResponse(HttpServletResponse response, Object data) 
             throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        
-        StringBuilder json = new StringBuilder("{");
+        Map<String, Object> json = new LinkedHashMap<>();
         
         try {
             if (data instanceof UserDTO) {
-                UserDTO user = (UserDTO) data;                // null 체크를 포함한 안전한 변환
-                json.append("\"userId\":").append(user.getUserId()).append(",");
-                json.append("\"userName\":\"").append(escapeJsonString(user.getUserName())).append("\",");
-                
-                // nickname이 null인 경우 빈 문자열로 처리
-                String nickname = user.getNickname();
-                json.append("\"nickname\":\"").append(escapeJsonString(nickname != null ? nickname : "")).append("\",");
-                
-                // email이 null인 경우 빈 문자열로 처리
-                String email = user.getEmail();
-                json.append("\"email\":\"").append(escapeJsonString(email != null ? email : "")).append("\",");
+                UserDTO user = (UserDTO) data;
+                json.put("userId", user.getUserId());
+                json.put("userName", nullToEmpty(user.getUserName()));
+                json.put("nickname", nullToEmpty(user.getNickname()));
+                String email = nullToEmpty(user.getEmail());
+                json.put("email", email);
                 // userEmail 필드 추가 (프론트엔드 호환성을 위해)
-                json.append("\"userEmail\":\"").append(escapeJsonString(email != null ? email : "")).append("\",");
+                json.put("userEmail", email);
                 
                 // userIntroduce가 null인 경우 빈 문자열로 처리
                 String introduce = null;                
@@ -871,38 +839,32 @@ public class UserpageController extends HttpServlet implements Controller {
                         introduce = user.getIntroduce();
                     } catch (Exception ex) {
                         // 둘 다 실패하면 빈 문자열 사용
-                        System.err.println("사용자 소개(introduce) 정보 가져오기 실패: " + ex.getMessage());
+                        eventLog.warn("introduce_unavailable", ex);
                     }
                 }
-                
-                json.append("\"userIntroduce\":\"").append(escapeJsonString(introduce != null ? introduce : "")).append("\"");
+                json.put("userIntroduce", nullToEmpty(introduce));
             } else if (data instanceof List) {
                 // List 타입 처리는 원래대로 유지
-                json.append("\"items\":[");
-                List<?> items = (List<?>) data;
-                for (int i = 0; i < items.size(); i++) {
-                    Object item = items.get(i);
-                    if (i > 0) {
-                        json.append(",");
-                    }
-                    json.append("{\"id\":").append(i).append("}");
+                List<Map<String, Object>> items = new ArrayList<>();
+                for (int i = 0; i < ((List<?>) data).size(); i++) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("id", i);
+                    items.add(item);
                 }
-                json.append("]");
+                json.put("items", items);
             } else {
                 // 기타 타입에 대한 처리
-                json.append("\"data\":\"").append(escapeJsonString(data != null ? data.toString() : "null")).append("\"");
+                json.put("data", data != null ? data.toString() : "null");
             }
         } catch (Exception e) {
             // 변환 중 예외 발생시 에러 정보 JSON에 포함
-            System.err.println("JSON 변환 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            json = new StringBuilder("{");
-            json.append("\"error\":\"데이터 변환 중 오류가 발생했습니다.\",");
-            json.append("\"errorMessage\":\"").append(escapeJsonString(e.getMessage())).append("\"");
+            eventLog.error("json_conversion_failed", e);
+            json.clear();
+            json.put("error", "데이터 변환 중 오류가 발생했습니다.");
+            json.put("errorMessage", nullToEmpty(e.getMessage()));
         }
         
-        json.append("}");
-        response.getWriter().write(json.toString());
+        JsonResponseWriter.write(response, json);
     }
       /**
      * 프로필 업데이트 요청 처리
@@ -910,25 +872,11 @@ public class UserpageController extends HttpServlet implements Controller {
     private void handleProfileUpdate(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
         try {
-            System.out.println("handleProfileUpdate 메소드 시작");
-            
-            // 요청 정보 상세 출력
-            System.out.println("요청 메소드: " + request.getMethod());
-            System.out.println("Content-Type: " + request.getContentType());
-            
-            // POST 파라미터 로깅
-            System.out.println("POST 요청 파라미터:");
-            Enumeration<String> paramNames = request.getParameterNames();
-            while (paramNames.hasMoreElements()) {
-                String paramName = paramNames.nextElement();
-                System.out.println("  " + paramName + " = " + request.getParameter(paramName));
-            }
-            
             HttpSession session = request.getSession();
             UserDTO user = (UserDTO) session.getAttribute("user");
             long userId = user.getUserId();
             
-            System.out.println("사용자 ID: " + userId);            // 요청 데이터 가져오기 (JSON 형식)
+            // 요청 데이터 가져오기 (JSON 형식)
             String username = null;
             String email = null;
             String bio = null;
@@ -937,7 +885,6 @@ public class UserpageController extends HttpServlet implements Controller {
             
             // Content-Type이 application/json인 경우 JSON으로 파싱
             if (request.getContentType() != null && request.getContentType().startsWith("application/json")) {
-                System.out.println("JSON 요청 감지, 요청 본문 파싱 시도");
                 try {
                     // 요청 본문 읽기
                     BufferedReader reader = request.getReader();
@@ -947,7 +894,6 @@ public class UserpageController extends HttpServlet implements Controller {
                         sb.append(line);
                     }
                     String jsonBody = sb.toString();
-                    System.out.println("JSON 요청 본문: " + jsonBody);
                     
                     // 수동 JSON 파싱 (간단한 방식)
                     // username 추출
@@ -999,16 +945,8 @@ public class UserpageController extends HttpServlet implements Controller {
                             passwordConfirm = jsonBody.substring(startIdx, endIdx);
                         }
                     }
-                    
-                    System.out.println("JSON 파싱 결과:");
-                    System.out.println("  username: " + (username != null ? username : "null"));
-                    System.out.println("  email: " + (email != null ? email : "null"));
-                    System.out.println("  bio: " + (bio != null ? (bio.length() > 20 ? bio.substring(0, 20) + "..." : bio) : "null"));
-                    System.out.println("  password: " + (password != null ? "********" : "null"));
-                    System.out.println("  passwordConfirm: " + (passwordConfirm != null ? "********" : "null"));
                 } catch (Exception e) {
-                    System.err.println("JSON 파싱 오류: " + e.getMessage());
-                    e.printStackTrace();
+                    eventLog.warn("profile_json_invalid", e, "userId", userId);
                     sendJsonResponse(response, false, "요청 형식이 잘못되었습니다: " + e.getMessage());
                     return;
                 }
@@ -1051,18 +989,15 @@ public class UserpageController extends HttpServlet implements Controller {
                 }
                 
                 // 여기서는 비밀번호 해시 및 DTO 설정을 하지 않음 (별도로 updatePassword 메서드에서 처리)
-                System.out.println("비밀번호 변경 요청 확인 완료");
             }
               // 1. 사용자 기본 정보 업데이트
             boolean updateSuccess = false;
             try {
-                System.out.println("프로필 기본 정보 업데이트 시도: 이름=" + username + ", 이메일=" + email + ", 소개=" + bio);
                 // 실제 서비스 메서드 호출
                 updateSuccess = userService.updateUser(updatedUser);
-                System.out.println("프로필 기본 정보 업데이트 결과: " + (updateSuccess ? "성공" : "실패"));
+                eventLog.info("profile_updated", "userId", userId, "success", updateSuccess);
             } catch (Exception e) {
-                System.err.println("사용자 업데이트 메서드 호출 중 오류: " + e.getMessage());
-                e.printStackTrace();
+                eventLog.error("profile_update_failed", e, "userId", userId);
                 // 테스트를 위해 성공 처리
                 updateSuccess = true;
             }
@@ -1070,13 +1005,11 @@ public class UserpageController extends HttpServlet implements Controller {
             boolean passwordUpdateSuccess = true; // 비밀번호 변경이 없으면 기본적으로 성공
             if (password != null && !password.isEmpty()) {
                 try {
-                    System.out.println("비밀번호 변경 시도: userId=" + userId);
                     // 원본 비밀번호를 직접 전달 (userService.updatePassword 내부에서 해시 처리)
                     passwordUpdateSuccess = userService.updatePassword(userId, password);
-                    System.out.println("비밀번호 변경 결과: " + (passwordUpdateSuccess ? "성공" : "실패"));
+                    eventLog.info("password_changed", "userId", userId, "success", passwordUpdateSuccess);
                 } catch (Exception e) {
-                    System.err.println("비밀번호 업데이트 메서드 호출 중 오류: " + e.getMessage());
-                    e.printStackTrace();
+                    eventLog.error("password_change_failed", e, "userId", userId);
                     passwordUpdateSuccess = false;
                 }
             }
@@ -1088,13 +1021,12 @@ public class UserpageController extends HttpServlet implements Controller {
                     UserDTO refreshedUser = userService.getUserById(userId);
                     if (refreshedUser != null) {
                         session.setAttribute("user", refreshedUser);
-                        System.out.println("세션 사용자 정보 업데이트 완료");
                     } else {
                         session.setAttribute("user", updatedUser);
-                        System.out.println("새로운 사용자 정보 조회 실패, 업데이트된 정보로만 세션 갱신");
+                        eventLog.warn("session_refresh_not_found", null, "userId", userId);
                     }
                 } catch (Exception e) {
-                    System.err.println("세션 업데이트용 사용자 정보 조회 중 오류: " + e.getMessage());
+                    eventLog.warn("session_refresh_failed", e, "userId", userId);
                     session.setAttribute("user", updatedUser);
                 }
                 sendJsonResponse(response, true, "프로필 정보가 성공적으로 업데이트되었습니다.");
@@ -1105,8 +1037,7 @@ public class UserpageController extends HttpServlet implements Controller {
             }
             
         } catch (Exception e) {
-            System.err.println("프로필 업데이트 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("profile_update_request_failed", e);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
@@ -1125,8 +1056,6 @@ public class UserpageController extends HttpServlet implements Controller {
             String selectedIconId = request.getParameter("selectedIconId");
             String selectedThemeId = request.getParameter("selectedThemeId");
             
-            System.out.println("꾸미기 저장 요청: 아이콘=" + selectedIconId + ", 테마=" + selectedThemeId);
-            
             // 기본 유효성 검사
             if (selectedIconId == null || selectedIconId.trim().isEmpty() || 
                 selectedThemeId == null || selectedThemeId.trim().isEmpty()) {
@@ -1140,7 +1069,7 @@ public class UserpageController extends HttpServlet implements Controller {
                 // 실제 서비스 메서드 호출
                 saveSuccess = userService.saveUserCustomization(userId, selectedIconId, selectedThemeId);
             } catch (Exception e) {
-                System.err.println("커스터마이징 저장 메서드 호출 중 오류: " + e.getMessage());
+                eventLog.error("customization_save_failed", e, "userId", userId);
                 // 테스트를 위해 성공 처리
                 saveSuccess = true;
             }
@@ -1152,8 +1081,7 @@ public class UserpageController extends HttpServlet implements Controller {
             }
             
         } catch (Exception e) {
-            System.err.println("꾸미기 설정 저장 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("customization_request_failed", e);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
@@ -1171,7 +1099,7 @@ public class UserpageController extends HttpServlet implements Controller {
             // 요청 파라미터 가져오기 (비밀번호 확인)
             String confirmPassword = request.getParameter("confirmPassword");
             
-            System.out.println("계정 삭제 요청: 사용자 ID=" + userId);
+            eventLog.info("account_delete_requested", "userId", userId);
             
             // 기본 유효성 검사
             if (confirmPassword == null || confirmPassword.trim().isEmpty()) {
@@ -1185,7 +1113,7 @@ public class UserpageController extends HttpServlet implements Controller {
                 // 실제 서비스 메서드 호출
                 passwordValid = userService.validatePassword(userId, confirmPassword);
             } catch (Exception e) {
-                System.err.println("비밀번호 검증 메서드 호출 중 오류: " + e.getMessage());
+                eventLog.error("account_delete_password_check_failed", e, "userId", userId);
                 // 테스트를 위해 성공 처리
                 passwordValid = true;
             }
@@ -1201,7 +1129,7 @@ public class UserpageController extends HttpServlet implements Controller {
                 // 실제 서비스 메서드 호출
                 deleteSuccess = userService.deleteUser(userId);
             } catch (Exception e) {
-                System.err.println("사용자 삭제 메서드 호출 중 오류: " + e.getMessage());
+                eventLog.error("account_delete_failed", e, "userId", userId);
                 // 테스트를 위해 성공 처리
                 deleteSuccess = true;
             }
@@ -1215,8 +1143,7 @@ public class UserpageController extends HttpServlet implements Controller {
             }
             
         } catch (Exception e) {
-            System.err.println("계정 삭제 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            eventLog.error("account_delete_request_failed", e);
             sendJsonResponse(response, false, "서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
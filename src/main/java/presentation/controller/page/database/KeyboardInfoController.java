@@ -1,12 +1,11 @@
 package presentation.controller.page.database;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import business.service.database.KeyboardInfoService;
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
@@ -19,8 +18,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
+import util.logging.LoggerConfig;
 import util.web.IpUtil;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
+import util.db.CursorPage;
 
 /**
  * 키보드 정보 컨트롤러
@@ -31,9 +33,12 @@ import util.web.RequestRouter;
 @WebServlet({"/keyboard/*", "/keyboard.do"})
 public class KeyboardInfoController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
+    // 태그 일괄 조회 시 최대 키보드 수
+    private static final int MAX_TAG_LOOKUP_IDS = 100;
+    // 태그 투표 멱등 키 최대 길이
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
     private KeyboardInfoService keyboardInfoService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
 
     public KeyboardInfoController() {
         keyboardInfoService = new KeyboardInfoService();
@@ -50,7 +55,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/keyboard");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -75,8 +80,34 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
                 }
             }
             
-            // 키보드 목록 가져오기
-            List<KeyboardInfoDTO> keyboardList = keyboardInfoService.getAllKeyboardInfos(page, pageSize);
+            // cursor 파라미터가 있으면 커서(키셋) 기반 페이지네이션 (빈 값이면 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            if (cursor != null) {
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    CursorPage<KeyboardInfoDTO> cursorPage = keyboardInfoService.getKeyboardInfosByCursor(cursor, Math.max(1, Math.min(pageSize, 100)));
+                    if (cursorPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("status", "error");
+                        result.put("message", "목록 조회 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("keyboardList", cursorPage.getItems());
+                    result.put("nextCursor", cursorPage.getNextCursor());
+                    result.put("prevCursor", cursorPage.getPrevCursor());
+                    result.put("hasNext", cursorPage.isHasNext());
+                    result.put("hasPrev", cursorPage.isHasPrev());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("status", "error");
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
+            // 키보드 목록 가져오기 (sort: name / rating / reviews)
+            String sort = req.getParameter("sort");
+            List<KeyboardInfoDTO> keyboardList = keyboardInfoService.getAllKeyboardInfos(page, pageSize, sort);
             int totalKeyboards = keyboardInfoService.getTotalKeyboardCount();
             int totalPages = (int) Math.ceil(totalKeyboards / (double) pageSize);
             
@@ -85,7 +116,82 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
             result.put("currentPage", page);
             result.put("totalPages", totalPages);
             result.put("totalCount", totalKeyboards);
+            result.put("sort", sort != null ? sort : "name");
+
+            return result;
+        });
+
+        // 키보드 검색 (결과마다 태그/투표 수 포함, 태그는 조회 1회로 가져옴)
+        router.getJson("/search", (req, res) -> {
+            String keyword = req.getParameter("keyword");
+            String manufacturer = req.getParameter("manufacturer");
+            String switchType = req.getParameter("switchType");
+            String layoutType = req.getParameter("layoutType");
+            String connectType = req.getParameter("connectType");
+            
+            int page = 1;
+            int pageSize = 12;
+            
+            String pageStr = req.getParameter("page");
+            if (pageStr != null && !pageStr.isEmpty()) {
+                try {
+                    page = Integer.parseInt(pageStr);
+                    if (page < 1) page = 1;
+                } catch (NumberFormatException e) {
+                    // 숫자가 아닌 값이 들어온 경우 기본값 사용
+                }
+            }
             
+            Map<String, Object> result = new HashMap<>();
+            List<KeyboardInfoDTO> searchResults = keyboardInfoService.searchKeyboardInfosByCondition(
+                    keyword, manufacturer, switchType, layoutType, connectType, page, pageSize);
+            if (searchResults == null) {
+                res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("status", "error");
+                result.put("message", "검색 중 오류가 발생했습니다.");
+                return result;
+            }
+            int totalResults = keyboardInfoService.getFilteredKeyboardCount(
+                    keyword, manufacturer, switchType, layoutType, connectType);
+            
+            result.put("keyboardList", searchResults);
+            result.put("currentPage", page);
+            result.put("totalPages", (int) Math.ceil(totalResults / (double) pageSize));
+            result.put("totalCount", totalResults);
+            return result;
+        });
+        
+        // 여러 키보드의 태그/투표 수 (/keyboard/tags?ids=1,2,3)
+        router.getJson("/tags", (req, res) -> {
+            Map<String, Object> result = new HashMap<>();
+            List<Long> keyboardIds = new ArrayList<>();
+            String idsParam = req.getParameter("ids");
+            try {
+                if (idsParam != null) {
+                    for (String id : idsParam.split(",")) {
+                        if (!id.trim().isEmpty()) {
+                            keyboardIds.add(Long.parseLong(id.trim()));
+                        }
+                    }
+                }
+            } catch (NumberFormatException e) {
+                keyboardIds.clear();
+            }
+            if (keyboardIds.isEmpty() || keyboardIds.size() > MAX_TAG_LOOKUP_IDS) {
+                res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                result.put("status", "error");
+                result.put("message", "ids 파라미터는 1~" + MAX_TAG_LOOKUP_IDS + "개의 키보드 ID여야 합니다.");
+                return result;
+            }
+            
+            Map<Long, List<KeyboardTagDTO>> tags = keyboardInfoService.getKeyboardTagsByIds(req, keyboardIds);
+            if (tags == null) {
+                res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                result.put("status", "error");
+                result.put("message", "태그 조회 중 오류가 발생했습니다.");
+                return result;
+            }
+            result.put("tags", tags);
             return result;
         });
     }
@@ -94,10 +200,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }
 
     @Override
@@ -147,7 +250,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
                     break;
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoController.class, "doGet", "GET 요청 처리 실패", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -212,7 +315,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
                     break;
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(KeyboardInfoController.class, "doPost", "POST 요청 처리 실패", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
         }
     }
@@ -236,8 +339,9 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
             }
         }
         
-        // 키보드 목록 가져오기
-        List<KeyboardInfoDTO> keyboardList = keyboardInfoService.getAllKeyboardInfos(page, pageSize);
+        // 키보드 목록 가져오기 (sort: name / rating / reviews)
+        String sort = request.getParameter("sort");
+        List<KeyboardInfoDTO> keyboardList = keyboardInfoService.getAllKeyboardInfos(page, pageSize, sort);
         int totalKeyboards = keyboardInfoService.getTotalKeyboardCount();
         int totalPages = (int) Math.ceil(totalKeyboards / (double) pageSize);
         
@@ -251,6 +355,7 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
         request.setAttribute("keyboardList", keyboardList);
         request.setAttribute("currentPage", page);
         request.setAttribute("totalPages", totalPages);
+        request.setAttribute("sort", sort != null ? sort : "name");
         request.setAttribute("manufacturers", manufacturers);
         request.setAttribute("switchTypes", switchTypes);
         request.setAttribute("layoutTypes", layoutTypes);
@@ -570,8 +675,20 @@ public class KeyboardInfoController extends HttpServlet implements Controller {
             long keyboardId = Long.parseLong(keyboardIdStr);
             long tagId = Long.parseLong(tagIdStr);
             
+            // 멱등 키 (헤더 또는 파라미터) - 클라이언트가 투표 동작 하나마다 만들고 중복 클릭/재전송에도 같은 키를 보냄
+            String idempotencyKey = request.getHeader("Idempotency-Key");
+            if (idempotencyKey == null || idempotencyKey.trim().isEmpty()) {
+                idempotencyKey = request.getParameter("idempotencyKey");
+            }
+            if (idempotencyKey != null && idempotencyKey.trim().length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                response.setContentType("application/json");
+                response.getWriter().write("{\"success\": false, \"message\": \"멱등 키가 너무 깁니다.\"}");
+                return;
+            }
+            
             // 태그 투표 처리
-            boolean success = keyboardInfoService.voteKeyboardTag(keyboardId, tagId, user.getUserId(), voteType);
+            boolean success = keyboardInfoService.voteKeyboardTag(keyboardId, tagId, user.getUserId(), voteType,
+                    idempotencyKey != null ? idempotencyKey.trim() : null);
             
             response.setContentType("application/json");
             if (success) {
@@ -1,20 +1,10 @@
 package presentation.controller.page.guide;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.TypeAdapter;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonToken;
-import com.google.gson.stream.JsonWriter;
-
 import business.service.guide.GuideService;
 import dto.keyboard.GuideDTO;
 import jakarta.servlet.ServletException;
@@ -23,6 +13,7 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.page.Controller; 
+import util.json.JsonResponseWriter;
 import util.web.RequestRouter;
 
 /**
@@ -34,37 +25,9 @@ public class GuideController extends HttpServlet implements Controller { // Cont
     private static final long serialVersionUID = 1L;
     private final GuideService guideService;
     private RequestRouter router;
-    private final Gson gson;
-
-    // LocalDateTime을 위한 TypeAdapter 정의
-    private static class LocalDateTimeTypeAdapter extends TypeAdapter<LocalDateTime> {
-        private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        @Override
-        public void write(JsonWriter out, LocalDateTime value) throws IOException {
-            if (value == null) {
-                out.nullValue();
-                return;
-            }
-            out.value(formatter.format(value));
-        }
-
-        @Override
-        public LocalDateTime read(JsonReader in) throws IOException {
-            if (in.peek() == JsonToken.NULL) {
-                in.nextNull();
-                return null;
-            }
-            return LocalDateTime.parse(in.nextString(), formatter);
-        }
-    }
 
     public GuideController() {
         this.guideService = new GuideService();
-        // Gson 객체 생성 시 TypeAdapter 등록
-        this.gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
-                .create();
     }
 
     @Override
@@ -78,7 +41,7 @@ public class GuideController extends HttpServlet implements Controller { // Cont
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new RequestRouter();
+        router = RequestRouter.forBasePath("/guide");
 
         // GET 요청 JSON 라우터 설정
         router.getJson("/search", (req, res) -> {
@@ -138,9 +101,7 @@ public class GuideController extends HttpServlet implements Controller { // Cont
         } else if (data instanceof Map && ((Map<?,?>)data).containsKey("message") && "해당 ID의 용어를 찾을 수 없습니다.".equals(((Map<?,?>)data).get("message"))) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }
 
     @Override
@@ -1,17 +1,12 @@
 package presentation.controller.page.question;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.PrintWriter;
-import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import business.service.question.QuestionService;
-import com.google.gson.Gson;
 import dto.board.AnswerDTO;
 import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
@@ -28,8 +23,13 @@ import presentation.controller.page.Controller;
 import util.FileUtil;
 import util.config.AppConfig;
 import util.logging.LoggerConfig;
+import util.web.FileDownloadHandler;
 import util.web.IpUtil;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
+import util.db.CursorPage;
+import util.upload.UploadPipeline;
+import util.upload.UploadRejectedException;
 
 /**
  * 질문 관련 기능을 처리하는 컨트롤러
@@ -45,7 +45,6 @@ public class QuestionController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private QuestionService questionService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
     
     @Override
     public void init() throws ServletException {
@@ -60,7 +59,7 @@ public class QuestionController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/question");
           // GET 요청 JSON 라우터 설정
         router.getJson("/api/questions", (req, res) -> {
             // 기본 페이지네이션 값 설정
@@ -83,6 +82,32 @@ public class QuestionController extends HttpServlet implements Controller {
                 // 파라미터 변환 실패 시 기본값 사용
             }
             
+            // cursor 파라미터가 있으면 커서(키셋) 기반 페이지네이션 (빈 값이면 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            if (cursor != null) {
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    CursorPage<QuestionDTO> cursorPage = questionService.getQuestionsByCursor(cursor, Math.max(1, Math.min(pageSize, 100)));
+                    if (cursorPage == null) {
+                        res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                        result.put("status", "error");
+                        result.put("message", "목록 조회 중 오류가 발생했습니다.");
+                        return result;
+                    }
+                    result.put("status", "success");
+                    result.put("data", cursorPage.getItems());
+                    result.put("nextCursor", cursorPage.getNextCursor());
+                    result.put("prevCursor", cursorPage.getPrevCursor());
+                    result.put("hasNext", cursorPage.isHasNext());
+                    result.put("hasPrev", cursorPage.isHasPrev());
+                } catch (IllegalArgumentException e) {
+                    res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    result.put("status", "error");
+                    result.put("message", e.getMessage());
+                }
+                return result;
+            }
+            
             List<QuestionDTO> questions = questionService.getAllQuestions(page, pageSize);
             Map<String, Object> result = new HashMap<>();
             result.put("status", "success");
@@ -90,9 +115,9 @@ public class QuestionController extends HttpServlet implements Controller {
             return result;
         });
         
-        router.getJson("/api/questions/([0-9]+)", (req, res) -> {
+        router.getJson("/api/questions/{id:long}", (req, res) -> {
             try {
-                long questionId = Long.parseLong(req.getPathInfo().split("/")[3]);
+                long questionId = util.web.RequestRouter.getLongPathVariable(req, "id");
                 QuestionDTO question = questionService.getQuestionById(questionId);
                 
                 Map<String, Object> result = new HashMap<>();
@@ -234,9 +259,7 @@ public class QuestionController extends HttpServlet implements Controller {
         response.setCharacterEncoding("UTF-8");
         response.setStatus(status);
         
-        try (PrintWriter out = response.getWriter()) {
-            out.print(gson.toJson(data));
-        }
+        JsonResponseWriter.write(response, data);
     }
 
     @Override
@@ -908,28 +931,14 @@ public class QuestionController extends HttpServlet implements Controller {
                 return;
             }
             
-            // 파일 저장 처리
-            String uploadPath = AppConfig.getUploadPath();
+            // 파일 저장 처리 (한 번 읽으면서 저장/해시/형식 판별, 같은 내용은 기존 파일 재사용)
             String fileName = FileUtil.getSubmittedFileName(filePart);
-            String savedFileName = System.currentTimeMillis() + "_" + fileName;
-            String filePath = uploadPath + File.separator + savedFileName;
-            
-            // 디렉토리 생성
-            File uploadDir = new File(uploadPath);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
-            }
-            
-            // 파일 저장
-            filePart.write(filePath);
-              // DB에 첨부 파일 정보 저장
-            AttachmentDTO attachment = new AttachmentDTO();
-            attachment.setPostId(questionId);
-            attachment.setFileName(fileName);
-            attachment.setFilePath(savedFileName);
-            attachment.setFileSize((int) filePart.getSize());
+            UploadPipeline.StoredUpload stored = UploadPipeline.store(filePart, fileName);
             
-            boolean success = questionService.addAttachment(questionId, fileName, savedFileName, filePart.getSize());              if (success) {
+            // DB에 첨부 파일 정보 저장
+            boolean success = questionService.addAttachment(questionId, fileName, stored.getStoredPath(),
+                    stored.getSize());
+            if (success) {
                 sendJsonResponse(response, HttpServletResponse.SC_CREATED, 
                     Map.of("status", "success", 
                            "message", "파일이 성공적으로 업로드되었습니다."));
@@ -940,6 +949,9 @@ public class QuestionController extends HttpServlet implements Controller {
         } catch (NumberFormatException e) {
             sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
                 Map.of("status", "error", "message", "잘못된 질문 ID 형식입니다."));
+        } catch (UploadRejectedException e) {
+            sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
+                Map.of("status", "error", "message", e.getMessage()));
         } catch (Exception e) {
             LoggerConfig.logError(QuestionController.class, "uploadAttachment", "파일 업로드 중 오류 발생", e);
             sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
@@ -952,8 +964,6 @@ public class QuestionController extends HttpServlet implements Controller {
      */
     private void downloadAttachment(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
-        FileInputStream fileInputStream = null;
-        
         try {
             // 첨부 파일 ID 가져오기
             String attachmentIdParam = request.getParameter("id");
@@ -976,50 +986,29 @@ public class QuestionController extends HttpServlet implements Controller {
             }
             
             // 파일 존재 여부 확인
-            String uploadPath = AppConfig.getUploadPath();
-            String filePath = uploadPath + File.separator + attachment.getFilePath();
-            File file = new File(filePath);
+            File file = UploadPipeline.resolve(attachment.getFilePath());
             
-            if (!file.exists()) {
+            if (file == null || !file.isFile()) {
                 sendJsonResponse(response, HttpServletResponse.SC_NOT_FOUND, 
                     Map.of("status", "error", "message", "파일을 찾을 수 없습니다."));
                 return;
             }
             
-            // 파일 다운로드 설정
-            response.setContentType("application/octet-stream");
-            response.setContentLength((int) file.length());
-            
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), "UTF-8")
-                    .replaceAll("\\+", "%20");
-            response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encodedFileName);
-            
-            // 파일 전송
-            fileInputStream = new FileInputStream(file);
-            OutputStream outputStream = response.getOutputStream();
-            
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            
-            while ((bytesRead = fileInputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
+            // 공용 처리기로 전송 (Range/304 지원), 다운로드 수는 지연 저장
+            FileDownloadHandler.Result result = FileDownloadHandler.serve(request, response, file,
+                    attachment.getFileName());
+            if (result.isCountable()) {
+                questionService.increaseDownloadCount(attachmentId);
             }
-            
-            outputStream.flush();
         } catch (NumberFormatException e) {
             sendJsonResponse(response, HttpServletResponse.SC_BAD_REQUEST, 
                 Map.of("status", "error", "message", "잘못된 첨부 파일 ID 형식입니다."));
         } catch (Exception e) {
             LoggerConfig.logError(QuestionController.class, "downloadAttachment", "파일 다운로드 중 오류 발생", e);
-            sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
-                Map.of("status", "error", "message", "파일 다운로드 중 오류가 발생했습니다."));
-        } finally {
-            if (fileInputStream != null) {
-                try {
-                    fileInputStream.close();
-                } catch (IOException e) {
-                    // 무시
-                }
+            // 전송 도중 연결이 끊긴 경우에는 응답을 바꿀 수 없음
+            if (!response.isCommitted()) {
+                sendJsonResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
+                    Map.of("status", "error", "message", "파일 다운로드 중 오류가 발생했습니다."));
             }
         }
     }
@@ -1,24 +1,13 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.BufferedReader;
-import java.lang.reflect.Type;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import business.service.user.UserService;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 import dto.user.UserDTO;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -29,6 +18,7 @@ import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import util.logging.LoggerConfig;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
 
 /**
  * 로그인 처리를 담당하는 컨트롤러
@@ -38,25 +28,7 @@ import util.web.RequestRouter;
 public class UserLoginController extends HttpServlet implements Controller {      private static final long serialVersionUID = 1L;
     private UserService userService;
     private util.web.RequestRouter router; // 수정된 버전
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
-    
-    // LocalDateTime을 JSON으로 직렬화하기 위한 어댑터
-    private static class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-        private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        @Override
-        public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(formatter.format(src));
-        }
-
-        @Override
-        public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            return LocalDateTime.parse(json.getAsString(), formatter);
-        }
-    }
+    private final Gson gson = JsonResponseWriter.getGson();
       @Override
     public void init() throws ServletException {
         super.init();        
@@ -70,7 +42,7 @@ public class UserLoginController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */    
     private void initRequestRouter() {
-        router = new RequestRouter();
+        router = RequestRouter.forBasePath("/login");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -126,6 +98,13 @@ public class UserLoginController extends HttpServlet implements Controller {
                 }
                 
                 return result;
+            } catch (RejectedExecutionException e) {
+                // 비밀번호 검증 대기열이 가득 참
+                res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                Map<String, Object> errorResult = new HashMap<>();
+                errorResult.put("success", false);
+                errorResult.put("message", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                return errorResult;
             } catch (Exception e) {
                 Map<String, Object> errorResult = new HashMap<>();
                 errorResult.put("success", false);
@@ -139,10 +118,7 @@ public class UserLoginController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();    
+        JsonResponseWriter.write(response, data);
     }
     
     @Override
@@ -231,7 +207,7 @@ public class UserLoginController extends HttpServlet implements Controller {
             if (isDoRequest) {
                 sendJsonResponse(response, errorResult);
             } else {
-                response.getWriter().write(gson.toJson(errorResult));
+                JsonResponseWriter.write(response, errorResult);
             }
             return;
         }
@@ -257,7 +233,7 @@ public class UserLoginController extends HttpServlet implements Controller {
                 if (isDoRequest) {
                     sendJsonResponse(response, successResult);
                 } else {
-                    response.getWriter().write(gson.toJson(successResult));
+                    JsonResponseWriter.write(response, successResult);
                 }
             } else {                
                 // 로그인 실패 처리
@@ -268,9 +244,21 @@ public class UserLoginController extends HttpServlet implements Controller {
                 if (isDoRequest) {
                     sendJsonResponse(response, errorResult);
                 } else {
-                    response.getWriter().write(gson.toJson(errorResult));
+                    JsonResponseWriter.write(response, errorResult);
                 }
             }
+        } catch (RejectedExecutionException e) {
+            // 비밀번호 검증 대기열이 가득 참
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("message", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            
+            if (isDoRequest) {
+                sendJsonResponse(response, errorResult);
+            } else {
+                JsonResponseWriter.write(response, errorResult);
+            }
         } catch (Exception e) {
             LoggerConfig.logError(UserLoginController.class, "doPost", "로그인 처리 중 오류 발생", e);
             // 오류 응답 처리
@@ -281,7 +269,7 @@ public class UserLoginController extends HttpServlet implements Controller {
             if (isDoRequest) {
                 sendJsonResponse(response, errorResult);
             } else {
-                response.getWriter().write(gson.toJson(errorResult));
+                JsonResponseWriter.write(response, errorResult);
             }
         }
     }
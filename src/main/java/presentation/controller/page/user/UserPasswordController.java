@@ -1,11 +1,9 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import business.service.user.UserService;
 import dto.user.UserDTO;
 import jakarta.servlet.ServletException;
@@ -16,6 +14,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import presentation.controller.page.Controller;
 import util.web.RequestRouter;
+import util.json.JsonResponseWriter;
 
 /**
  * 비밀번호 찾기/변경 기능 컨트롤러
@@ -26,7 +25,6 @@ public class UserPasswordController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private UserService userService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
     
     public UserPasswordController() {
         userService = new UserService();
@@ -44,7 +42,7 @@ public class UserPasswordController extends HttpServlet implements Controller {
      * 요청 라우터 초기화
      */
     private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/password");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -148,10 +146,7 @@ public class UserPasswordController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();    }
+        JsonResponseWriter.write(response, data);}
     
     @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response)
@@ -1,7 +1,6 @@
 package presentation.controller.page.user;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.BufferedReader;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +15,8 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import presentation.controller.page.Controller;
+import util.json.JsonResponseWriter;
+import util.logging.LoggerConfig;
 
 /**
  * 사용자 회원가입 관련 요청을 처리하는 컨트롤러
@@ -26,7 +27,7 @@ public class UserRegisterController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private UserService userService;
     private util.web.RequestRouter router;
-    private final Gson gson = new Gson();
+    private final Gson gson = JsonResponseWriter.getGson();
     
     @Override
     public void init() throws ServletException {
@@ -40,7 +41,7 @@ public class UserRegisterController extends HttpServlet implements Controller {
     /**
      * 요청 라우터 초기화
      */    private void initRequestRouter() {
-        router = new util.web.RequestRouter();
+        router = util.web.RequestRouter.forBasePath("/signup");
         
         // GET 요청 JSON 라우터 설정
         router.getJson("/", (req, res) -> {
@@ -94,10 +95,7 @@ public class UserRegisterController extends HttpServlet implements Controller {
      * JSON 응답 전송
      */
     private void sendJsonResponse(HttpServletResponse response, Object data) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.write(response, data);
     }    @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
@@ -249,7 +247,7 @@ public class UserRegisterController extends HttpServlet implements Controller {
             
             sendJsonResponse(response, resultResponse);
         } catch (Exception e) {
-            e.printStackTrace();
+            LoggerConfig.logError(UserRegisterController.class, "registerUserFromSignup", "회원가입 처리 실패", e);
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
             errorResponse.put("message", "회원가입 처리 중 오류가 발생했습니다: " + e.getMessage());
@@ -1,20 +1,15 @@
 package repository.dao.admin;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-import util.db.DBConnectionUtil;
+import repository.dao.board.FreeboardDAO;
+import repository.dao.board.NewsDAO;
+import util.db.JdbcTemplate;
 
 /**
  * 삭제된 게시물/댓글/첨부파일을 복원하는 DAO 클래스
  */
 public class AdminContentRecoveryDAO {
-    private DBConnectionUtil dbUtil;
-    
-    public AdminContentRecoveryDAO() {
-        dbUtil = new DBConnectionUtil();
-    }
     
     /**
      * 삭제된 게시글을 복원합니다.
@@ -25,61 +20,27 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedPost(String boardType, long postId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 테이블 업데이트
+        String tableName = getTableNameByBoardType(boardType);
+        String sql = "UPDATE " + tableName + " SET " + tableName + "_deleted = 'maintained' " +
+                     "WHERE " + tableName + "_uid = ?";
+        String logSql = "DELETE FROM log_delete_post WHERE log_delete_boardtype = ? AND log_deleted_post_uid = ?";
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 트랜잭션 시작
-            conn.setAutoCommit(false);
-            
-            // 게시판 종류에 따라 적절한 테이블 업데이트
-            String tableName = getTableNameByBoardType(boardType);
-            String sql = "UPDATE " + tableName + " SET " + tableName + "_deleted = 'maintained' " +
-                         "WHERE " + tableName + "_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, postId);
-            
-            int rowsAffected = pstmt.executeUpdate();
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int rowsAffected = JdbcTemplate.update(conn, sql, postId);
             
-            // 로그 테이블에서 삭제 기록 업데이트 또는 삭제
+            // 로그 테이블에서 삭제 기록 삭제
             if (rowsAffected > 0) {
-                dbUtil.close(null, pstmt, null);
-                
-                sql = "DELETE FROM log_delete_post WHERE log_delete_boardtype = ? AND log_deleted_post_uid = ?";
-                pstmt = conn.prepareStatement(sql);
-                pstmt.setString(1, boardType);
-                pstmt.setLong(2, postId);
-                pstmt.executeUpdate();
-                
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, boardType, postId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // 롤백 실패는 로깅만 하고 넘어감
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            dbUtil.close(null, pstmt, conn);
+            return false;
+        });
+        if (success) {
+            invalidateListCaches(boardType);
+            refreshSearchDocument(boardType, postId);
         }
+        return success;
     }
     
     /**
@@ -91,60 +52,73 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedComment(String boardType, long commentId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 댓글 테이블 업데이트
+        String commentTableName = getCommentTableNameByBoardType(boardType);
+        String sql = "UPDATE " + commentTableName + " SET " + commentTableName + "_deleted = 'maintained' " +
+                     "WHERE " + commentTableName + "_uid = ?";
+        String logSql = "DELETE FROM log_delete_comment WHERE log_delete_boardtype = ? AND log_deleted_comment_uid = ?";
+        String countSql = getRecountSqlByBoardType(boardType);
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 트랜잭션 시작
-            conn.setAutoCommit(false);
-            
-            // 게시판 종류에 따라 적절한 댓글 테이블 업데이트
-            String commentTableName = getCommentTableNameByBoardType(boardType);
-            String sql = "UPDATE " + commentTableName + " SET " + commentTableName + "_deleted = 'maintained' " +
-                         "WHERE " + commentTableName + "_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int rowsAffected = JdbcTemplate.update(conn, sql, commentId);
             
-            int rowsAffected = pstmt.executeUpdate();
-            
-            // 로그 테이블에서 삭제 기록 업데이트 또는 삭제
+            // 로그 테이블에서 삭제 기록 삭제 및 원본 게시글의 댓글 수 재계산
             if (rowsAffected > 0) {
-                dbUtil.close(null, pstmt, null);
-                
-                sql = "DELETE FROM log_delete_comment WHERE log_delete_boardtype = ? AND log_deleted_comment_uid = ?";
-                pstmt = conn.prepareStatement(sql);
-                pstmt.setString(1, boardType);
-                pstmt.setLong(2, commentId);
-                pstmt.executeUpdate();
-                
-                conn.commit();
+                JdbcTemplate.update(conn, logSql, boardType, commentId);
+                JdbcTemplate.update(conn, countSql, commentId);
                 return true;
-            } else {
-                conn.rollback();
-                return false;
-            }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // 롤백 실패는 로깅만 하고 넘어감
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
             }
-            dbUtil.close(null, pstmt, conn);
+            return false;
+        });
+        if (success) {
+            invalidateListCaches(boardType);
+        }
+        return success;
+    }
+    
+    /**
+     * 게시글의 댓글 수(comment_count)를 실제 댓글 수와 맞춥니다. (일회성 보정 작업)
+     * 값이 어긋난 게시글만 갱신하므로 반복 실행해도 안전합니다.
+     * 
+     * @param boardType 게시판 유형 (freeboard, news)
+     * @return 보정된 게시글 수
+     * @throws SQLException SQL 예외 발생 시
+     */
+    public int reconcileCommentCounts(String boardType) throws SQLException {
+        String tableName = "news".equalsIgnoreCase(boardType) ? "news" : "freeboard";
+        String commentTableName = getCommentTableNameByBoardType(boardType);
+        String sql = "UPDATE " + tableName + " p " +
+                     "LEFT JOIN (SELECT " + tableName + "_uid, COUNT(*) AS cnt FROM " + commentTableName +
+                     " GROUP BY " + tableName + "_uid) c ON c." + tableName + "_uid = p." + tableName + "_uid " +
+                     "SET p.comment_count = COALESCE(c.cnt, 0) " +
+                     "WHERE p.comment_count <> COALESCE(c.cnt, 0)";
+        
+        int fixed = JdbcTemplate.update(sql);
+        if (fixed > 0) {
+            invalidateListCaches(boardType);
+        }
+        return fixed;
+    }
+    
+    /**
+     * 복원/보정 후 해당 게시판의 목록 캐시를 무효화합니다.
+     */
+    private void invalidateListCaches(String boardType) {
+        if ("news".equalsIgnoreCase(boardType)) {
+            NewsDAO.invalidateListCaches();
+        } else if ("freeboard".equalsIgnoreCase(boardType)) {
+            FreeboardDAO.invalidateListCaches();
+        }
+    }
+    
+    /**
+     * 복원한 게시글을 검색 색인에 다시 추가합니다.
+     */
+    private void refreshSearchDocument(String boardType, long postId) {
+        if ("news".equalsIgnoreCase(boardType)) {
+            new NewsDAO().refreshSearchDocument(postId);
+        } else if ("freeboard".equalsIgnoreCase(boardType)) {
+            new FreeboardDAO().refreshSearchDocument(postId);
         }
     }
     
@@ -157,24 +131,11 @@ public class AdminContentRecoveryDAO {
      * @throws SQLException SQL 예외 발생 시
      */
     public boolean recoverDeletedAttach(String boardType, long attachId) throws SQLException {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
+        // 게시판 종류에 따라 적절한 첨부파일 테이블
+        String attachTableName = getAttachmentTableByBoardType(boardType);
+        String sql = "UPDATE " + attachTableName + " SET is_deleted = 0 WHERE attach_uid = ?";
         
-        try {
-            conn = dbUtil.getConnection();
-            
-            // 게시판 종류에 따라 적절한 첨부파일 테이블
-            String attachTableName = getAttachmentTableByBoardType(boardType);
-            String sql = "UPDATE " + attachTableName + " SET is_deleted = 0 WHERE attach_uid = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, attachId);
-            
-            int rowsAffected = pstmt.executeUpdate();
-            return rowsAffected > 0;
-        } finally {
-            dbUtil.close(null, pstmt, conn);
-        }
+        return JdbcTemplate.update(sql, attachId) > 0;
     }
     
     /**
@@ -211,6 +172,20 @@ public class AdminContentRecoveryDAO {
         }
     }
     
+    /**
+     * 댓글 ID로 원본 게시글을 찾아 댓글 수를 다시 세는 SQL을 반환합니다.
+     */
+    private String getRecountSqlByBoardType(String boardType) {
+        if ("news".equalsIgnoreCase(boardType)) {
+            return "UPDATE news n SET n.comment_count = " +
+                   "(SELECT COUNT(*) FROM news_comment c WHERE c.news_uid = n.news_uid) " +
+                   "WHERE n.news_uid = (SELECT news_uid FROM news_comment WHERE news_comment_uid = ?)";
+        }
+        return "UPDATE freeboard f SET f.comment_count = " +
+               "(SELECT COUNT(*) FROM freeboard_comment c WHERE c.freeboard_uid = f.freeboard_uid) " +
+               "WHERE f.freeboard_uid = (SELECT freeboard_uid FROM freeboard_comment WHERE freeboard_comment_uid = ?)";
+    }
+    
     /**
      * 게시판 유형에 따른 첨부파일 테이블 이름을 반환합니다.
      */
@@ -1,22 +1,16 @@
 package repository.dao.admin;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 
 import dto.keyboard.GuideDTO;
-import util.db.DBConnectionUtil;
+import util.db.JdbcTemplate;
 
 /**
  * 관리자용 키보드 용어집 관리 DAO 클래스
  */
 public class AdminGuideDAO {
-    private Connection conn;
-    private PreparedStatement pstmt;
-    private ResultSet rs;
     
     /**
      * 키보드 용어를 등록합니다.
@@ -25,31 +19,10 @@ public class AdminGuideDAO {
      * @return 등록 성공 여부
      */
     public boolean addGuide(GuideDTO guide) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "INSERT INTO keyboard_glossary (keyboard_glossary_title, keyboard_glossary_summary, keyboard_glossary_url) VALUES (?, ?, ?)";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, guide.getTerm());
-            
-            // URL 정보 처리
-            String description = guide.getDescription();
-            String url = "";
-            if (description.contains("참고 링크:")) {
-                int index = description.indexOf("참고 링크:");
-                url = description.substring(index + "참고 링크:".length()).trim();
-                // 설명에서 URL 부분 제거
-                description = description.substring(0, index).trim();
-                pstmt.setString(2, description);
-            } else {
-                pstmt.setString(2, description);
-            }
-            pstmt.setString(3, url);
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
+        String sql = "INSERT INTO keyboard_glossary (keyboard_glossary_title, keyboard_glossary_summary, keyboard_glossary_url) VALUES (?, ?, ?)";
+        String[] descriptionAndUrl = splitDescriptionAndUrl(guide.getDescription());
+        
+        return JdbcTemplate.update(sql, guide.getTerm(), descriptionAndUrl[0], descriptionAndUrl[1]) > 0;
     }
     
     /**
@@ -59,32 +32,27 @@ public class AdminGuideDAO {
      * @return 수정 성공 여부
      */
     public boolean updateGuide(GuideDTO guide) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE keyboard_glossary SET keyboard_glossary_title = ?, keyboard_glossary_summary = ?, keyboard_glossary_url = ? WHERE keyboard_glossary_uid = ?";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, guide.getTerm());
-            
-            // URL 정보 처리
-            String description = guide.getDescription();
-            String url = "";
-            if (description.contains("참고 링크:")) {
-                int index = description.indexOf("참고 링크:");
-                url = description.substring(index + "참고 링크:".length()).trim();
-                // 설명에서 URL 부분 제거
-                description = description.substring(0, index).trim();
-                pstmt.setString(2, description);
-            } else {
-                pstmt.setString(2, description);
-            }
-            pstmt.setString(3, url);
-            pstmt.setLong(4, guide.getId());
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+        String sql = "UPDATE keyboard_glossary SET keyboard_glossary_title = ?, keyboard_glossary_summary = ?, keyboard_glossary_url = ? WHERE keyboard_glossary_uid = ?";
+        String[] descriptionAndUrl = splitDescriptionAndUrl(guide.getDescription());
+        
+        return JdbcTemplate.update(sql, guide.getTerm(), descriptionAndUrl[0], descriptionAndUrl[1], guide.getId()) > 0;
+    }
+    
+    /**
+     * 설명에 포함된 "참고 링크:" 이후 URL을 분리합니다.
+     * 
+     * @param description 용어 설명
+     * @return [URL이 제거된 설명, URL] (URL이 없으면 빈 문자열)
+     */
+    private String[] splitDescriptionAndUrl(String description) {
+        String url = "";
+        if (description.contains("참고 링크:")) {
+            int index = description.indexOf("참고 링크:");
+            url = description.substring(index + "참고 링크:".length()).trim();
+            // 설명에서 URL 부분 제거
+            description = description.substring(0, index).trim();
         }
+        return new String[] { description, url };
     }
     
     /**
@@ -94,17 +62,8 @@ public class AdminGuideDAO {
      * @return 삭제 성공 여부
      */
     public boolean deleteGuide(long guideId) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "DELETE FROM keyboard_glossary WHERE keyboard_glossary_uid = ?";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setLong(1, guideId);
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
+        String sql = "DELETE FROM keyboard_glossary WHERE keyboard_glossary_uid = ?";
+        return JdbcTemplate.update(sql, guideId) > 0;
     }
     
     /**
@@ -113,43 +72,33 @@ public class AdminGuideDAO {
      * @return 용어 목록
      */
     public List<GuideDTO> getAllGuides() throws SQLException {
-        List<GuideDTO> guideList = new ArrayList<>();
+        String sql = "SELECT * FROM keyboard_glossary ORDER BY keyboard_glossary_title";
         
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM keyboard_glossary ORDER BY keyboard_glossary_title";
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                GuideDTO guide = new GuideDTO();
-                guide.setId(rs.getLong("keyboard_glossary_uid"));
-                guide.setTerm(rs.getString("keyboard_glossary_title"));
-                guide.setDescription(rs.getString("keyboard_glossary_summary"));
-                
-                // URL이 있으면 설명에 추가
-                String url = rs.getString("keyboard_glossary_url");
-                if (url != null && !url.isEmpty()) {
-                    guide.setUrl(url);
-                    String description = guide.getDescription();
-                    if (!description.contains("참고 링크:")) {
-                        guide.setDescription(description + "\n\n참고 링크: " + url);
-                    }
-                }
-                
-                // 카테고리 ID가 있으면 설정
-                Object categoryIdObj = rs.getObject("category_id");
-                if (categoryIdObj != null) {
-                    guide.setCategory(getCategoryNameById(rs.getLong("category_id")));
+        // 카테고리 이름 조회에 같은 커넥션을 재사용
+        return JdbcTemplate.withConnection(conn -> JdbcTemplate.query(conn, sql, rs -> {
+            GuideDTO guide = new GuideDTO();
+            guide.setId(rs.getLong("keyboard_glossary_uid"));
+            guide.setTerm(rs.getString("keyboard_glossary_title"));
+            guide.setDescription(rs.getString("keyboard_glossary_summary"));
+            
+            // URL이 있으면 설명에 추가
+            String url = rs.getString("keyboard_glossary_url");
+            if (url != null && !url.isEmpty()) {
+                guide.setUrl(url);
+                String description = guide.getDescription();
+                if (!description.contains("참고 링크:")) {
+                    guide.setDescription(description + "\n\n참고 링크: " + url);
                 }
-                
-                guideList.add(guide);
             }
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return guideList;
+            
+            // 카테고리 ID가 있으면 설정
+            Object categoryIdObj = rs.getObject("category_id");
+            if (categoryIdObj != null) {
+                guide.setCategory(getCategoryNameById(conn, rs.getLong("category_id")));
+            }
+            
+            return guide;
+        }));
     }
     
     /**
@@ -158,22 +107,8 @@ public class AdminGuideDAO {
      * @return 카테고리 이름 목록
      */
     public List<String> getAllGuideCategories() throws SQLException {
-        List<String> categoryList = new ArrayList<>();
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT category_name FROM keyboard_glossary_category ORDER BY category_name";
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                categoryList.add(rs.getString("category_name"));
-            }
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return categoryList;
+        String sql = "SELECT category_name FROM keyboard_glossary_category ORDER BY category_name";
+        return JdbcTemplate.query(sql, rs -> rs.getString("category_name"));
     }
     
     /**
@@ -183,17 +118,8 @@ public class AdminGuideDAO {
      * @return 추가 성공 여부
      */
     public boolean addGuideCategory(String categoryName) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "INSERT INTO keyboard_glossary_category (category_name) VALUES (?)";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, categoryName);
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
+        String sql = "INSERT INTO keyboard_glossary_category (category_name) VALUES (?)";
+        return JdbcTemplate.update(sql, categoryName) > 0;
     }
     
     /**
@@ -204,18 +130,8 @@ public class AdminGuideDAO {
      * @return 수정 성공 여부
      */
     public boolean updateGuideCategory(String oldCategoryName, String newCategoryName) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE keyboard_glossary_category SET category_name = ? WHERE category_name = ?";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, newCategoryName);
-            pstmt.setString(2, oldCategoryName);
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
+        String sql = "UPDATE keyboard_glossary_category SET category_name = ? WHERE category_name = ?";
+        return JdbcTemplate.update(sql, newCategoryName, oldCategoryName) > 0;
     }
     
     /**
@@ -225,46 +141,19 @@ public class AdminGuideDAO {
      * @return 삭제 성공 여부
      */
     public boolean deleteGuideCategory(String categoryName) throws SQLException {
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "DELETE FROM keyboard_glossary_category WHERE category_name = ?";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, categoryName);
-            
-            return pstmt.executeUpdate() > 0;
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
+        String sql = "DELETE FROM keyboard_glossary_category WHERE category_name = ?";
+        return JdbcTemplate.update(sql, categoryName) > 0;
     }
     
     /**
      * 카테고리 ID로 카테고리 이름을 조회합니다.
      * 
+     * @param conn 사용할 커넥션
      * @param categoryId 카테고리 ID
      * @return 카테고리 이름
      */
-    private String getCategoryNameById(long categoryId) throws SQLException {
-        String categoryName = null;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT category_name FROM keyboard_glossary_category WHERE category_id = ?";
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setLong(1, categoryId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                categoryName = rs.getString("category_name");
-            }
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return categoryName;
+    private String getCategoryNameById(Connection conn, long categoryId) throws SQLException {
+        String sql = "SELECT category_name FROM keyboard_glossary_category WHERE category_id = ?";
+        return JdbcTemplate.queryForObject(conn, sql, rs -> rs.getString("category_name"), categoryId);
     }
 }
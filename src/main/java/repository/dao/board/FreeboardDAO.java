@@ -1,107 +1,64 @@
 package repository.dao.board;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import dto.board.AttachmentDTO;
 import dto.board.FreeboardDTO;
 import dto.board.FreeboardCommentDTO;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
-import util.db.DBConnectionUtil;
+import util.cache.LocalCache;
+import util.db.CursorPage;
+import util.db.JdbcTemplate;
+import util.db.PageCursor;
+import util.db.ViewCountAggregator;
+import util.db.ViewCountAggregator.Board;
+import util.logging.EventLog;
 import util.logging.LoggerConfig;
+import util.search.NgramTokenizer;
+import util.search.SearchIndex;
+import util.web.ViewDedupStore;
 
 public class FreeboardDAO {
-	private Connection conn = null;
-	private PreparedStatement pstmt = null;
-	private ResultSet rs = null;
-
 	private static final Logger logger = LoggerConfig.getLogger(FreeboardDAO.class);
+	private static final EventLog eventLog = EventLog.get(FreeboardDAO.class);
 
-	// 공지사항 목록을 위한 캐싱 메서드
-	private static final Map<String, Object> cache = new ConcurrentHashMap<>();
-	private static final long CACHE_EXPIRY = 5 * 60 * 1000; // 5분
-
-	// 누락된 CacheItem 클래스 추가
-	private static class CacheItem {
-		private final Object data;
-		private final long expiry;
-		private final long createdAt;
-
-		public CacheItem(Object data, long expiry) {
-			this.data = data;
-			this.expiry = expiry;
-			this.createdAt = System.currentTimeMillis();
-		}
+	// 공지사항 목록 캐시 (5분), 첫 페이지 캐시 (페이지 크기별, 30초)
+	private static final LocalCache<String, List<FreeboardDTO>> NOTICE_CACHE = LocalCache.region("freeboard-notice",
+			5 * 60 * 1000, 1);
+	private static final LocalCache<Integer, List<FreeboardDTO>> FIRST_PAGE_CACHE = LocalCache
+			.region("freeboard-first-page", 30 * 1000, 16);
 
-		public Object getData() {
-			return data;
-		}
+	// 검색 색인 (필드: 제목, 내용)
+	// 작성자 이름은 회원 정보 수정으로 글과 무관하게 바뀌므로 색인하지 않고 SQL로 검색
+	private static final SearchIndex SEARCH_INDEX = new SearchIndex("freeboard", 3.0, 1.0);
+	private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
 
-		public boolean isExpired() {
-			return System.currentTimeMillis() - createdAt > expiry;
-		}
+	/**
+	 * 목록 캐시 무효화 (게시글/공지/댓글 수가 바뀌는 작업 후 호출)
+	 */
+	public static void invalidateListCaches() {
+		NOTICE_CACHE.invalidateAll();
+		FIRST_PAGE_CACHE.invalidateAll();
 	}
 
 	public List<FreeboardDTO> getNoticeList() throws SQLException {
-		String cacheKey = "notice_list";
-		CacheItem cacheItem = (CacheItem) cache.get(cacheKey);
-
-		if (cacheItem != null && !cacheItem.isExpired()) {
-			return (List<FreeboardDTO>) cacheItem.getData();
-		}
-
-		// 캐시에 없으면 DB에서 조회
-		List<FreeboardDTO> noticeList = new ArrayList<>();
 		String sql = "SELECT f.*, u.user_name FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
 				+ "WHERE f.freeboard_deleted = 'maintained' AND f.freeboard_notify = 'notification' "
 				+ "ORDER BY f.freeboard_writetime DESC";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				noticeList.add(post);
-			}
-		} finally {
-			closeResources();
-		}
-
-		// 결과를 캐시에 저장
-		cache.put(cacheKey, new CacheItem(noticeList, CACHE_EXPIRY));
-		return noticeList;
-	}
-
-	// DB 연결 가져오기
-	private Connection getConnection() throws SQLException {
-		return DBConnectionUtil.getConnection();
-	}
-
-	// 자원 해제 메서드
-	private void closeResources() {
-		try {
-			if (rs != null)
-				rs.close();
-			if (pstmt != null)
-				pstmt.close();
-			if (conn != null)
-				conn.close();
-		} catch (SQLException e) {
-			e.printStackTrace();
-		}
+		// 캐시에 없을 때만 DB에서 조회
+		return NOTICE_CACHE.get("notice_list", () -> JdbcTemplate.query(sql, rs -> {
+			FreeboardDTO post = createFreeboardFromResultSet(rs);
+			post.setUserName(rs.getString("user_name"));
+			return post;
+		}));
 	}
 
 	// ResultSet에서 DTO 객체 생성 유틸리티 메서드
@@ -132,6 +89,53 @@ public class FreeboardDAO {
 		return freeboard;
 	}
 
+	// 목록/상세 조회용 매핑 (작성자 이름, 댓글 수 포함)
+	private FreeboardDTO createFreeboardWithSummaryFromResultSet(ResultSet rs) throws SQLException {
+		FreeboardDTO post = createFreeboardFromResultSet(rs);
+		post.setUserName(rs.getString("user_name"));
+		post.setCommentCount(rs.getInt("comment_count"));
+		// 아직 DB에 반영되지 않은 조회수 포함
+		post.setFreeboardRead(post.getFreeboardRead()
+				+ (int) ViewCountAggregator.getInstance().getPendingCount(Board.FREEBOARD, post.getFreeboardUid()));
+		return post;
+	}
+
+	// ResultSet에서 첨부파일 DTO 객체 생성
+	private AttachmentDTO createAttachmentFromResultSet(ResultSet rs) throws SQLException {
+		AttachmentDTO attachment = new AttachmentDTO();
+		attachment.setAttachId(rs.getLong("attach_uid"));
+		attachment.setPostId(rs.getLong("freeboard_uid"));
+		attachment.setFileName(rs.getString("file_name"));
+		attachment.setFilePath(rs.getString("file_path"));
+		attachment.setFileSize(rs.getLong("file_size"));
+
+		Timestamp uploadDate = rs.getTimestamp("upload_date");
+		if (uploadDate != null) {
+			attachment.setUploadDate(uploadDate.toLocalDateTime());
+		}
+
+		return attachment;
+	}
+
+	// ResultSet에서 댓글 DTO 객체 생성
+	private FreeboardCommentDTO createCommentFromResultSet(ResultSet rs) throws SQLException {
+		FreeboardCommentDTO comment = new FreeboardCommentDTO();
+		comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
+		comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
+		comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
+
+		Timestamp modifyTime = rs.getTimestamp("freeboard_comment_modifytime");
+		if (modifyTime != null) {
+			comment.setFreeboardCommentModifytime(modifyTime.toLocalDateTime());
+		}
+
+		comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
+		comment.setFreeboardUid(rs.getLong("freeboard_uid"));
+		comment.setUserUid(rs.getLong("user_uid"));
+		comment.setUserName(rs.getString("user_name"));
+		return comment;
+	}
+
 	// 게시글 등록
 	public boolean postFreeboard(FreeboardDTO post) throws SQLException {
 		String sql = "INSERT INTO freeboard (freeboard_title, freeboard_contents, freeboard_read, "
@@ -140,87 +144,98 @@ public class FreeboardDAO {
 				+ "VALUES (?, ?, 0, 0, NOW(), ?, 'common', 'maintained', ?)";
 
 		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
-			pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-			pstmt.setString(1, post.getFreeboardTitle());
-			pstmt.setString(2, post.getFreeboardContents());
-			pstmt.setString(3, post.getFreeboardAuthorIp());
-			pstmt.setLong(4, post.getUserUid());
+			long postId = JdbcTemplate.insertAndReturnKey(sql, post.getFreeboardTitle(), post.getFreeboardContents(),
+					post.getFreeboardAuthorIp(), post.getUserUid());
 
-			int result = pstmt.executeUpdate();
-			boolean success = result > 0;
-
-			if (success) {
-				// 생성된 게시글 ID 가져오기
-				try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-					if (generatedKeys.next()) {
-						post.setFreeboardUid(generatedKeys.getLong(1));
-					}
-				}
-				conn.commit();
+			if (postId > 0) {
+				post.setFreeboardUid(postId);
+				invalidateListCaches();
+				refreshSearchDocument(postId);
 				logger.info("게시글 등록 성공: ID=" + post.getFreeboardUid() + ", 작성자=" + post.getUserUid());
-			} else {
-				conn.rollback();
-				logger.warning("게시글 등록 실패: 영향받은 행 없음");
+				return true;
 			}
 
-			return success;
+			logger.warning("게시글 등록 실패: 영향받은 행 없음");
+			return false;
 		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("롤백 중 오류 발생: " + ex.getMessage());
-				}
-			}
-
 			String errorCode = "DB_ERROR_" + System.currentTimeMillis();
 			logger.severe("게시글 등록 중 오류 발생 [" + errorCode + "]: " + e.getMessage());
 			logger.severe("SQL 상태: " + e.getSQLState() + ", 에러코드: " + e.getErrorCode());
 			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("AutoCommit 설정 복구 중 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
 		}
 	}
 
 	// 모든 게시글 조회 (페이징 포함)
 	public List<FreeboardDTO> getAllFreeboards(int page, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
+		String sql = "SELECT f.*, u.user_name, f.comment_count "
 				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
 				+ "WHERE f.freeboard_deleted = 'maintained' "
 				+ "ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC " + "LIMIT ? OFFSET ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setInt(1, pageSize);
-			pstmt.setInt(2, (page - 1) * pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				// 추가 정보 설정
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-				freeboard.add(post);
+		// 첫 페이지는 요청이 몰리므로 캐시
+		if (page == 1) {
+			return FIRST_PAGE_CACHE.get(pageSize,
+					() -> JdbcTemplate.query(sql, this::createFreeboardWithSummaryFromResultSet, pageSize, 0));
+		}
+		return JdbcTemplate.query(sql, this::createFreeboardWithSummaryFromResultSet, pageSize, (page - 1) * pageSize);
+	}
+
+	/**
+	 * 커서 기반 게시글 목록 조회 (공지 우선, 최신순)
+	 * 공지와 일반 글을 따로 키셋 조회해 이어 붙임 - OFFSET 없이 인덱스 범위 조건으로 페이지를 찾음
+	 * - 공지: idx_freeboard_notify_writetime_uid (freeboard_notify 일치 + 작성 시간, uid 범위)
+	 * - 일반 글: idx_freeboard_writetime_uid 순서대로 읽으며 공지만 걸러냄 (공지는 소수)
+	 * 커서 키: 구간(1 = 공지, 0 = 일반 글), 작성 시간, uid
+	 * @param cursor 이전 응답의 nextCursor/prevCursor (null 또는 빈 문자열이면 첫 페이지)
+	 * @param pageSize 페이지 크기
+	 * @throws IllegalArgumentException 잘못된 커서
+	 */
+	public CursorPage<FreeboardDTO> getFreeboardsByCursor(String cursor, int pageSize) throws SQLException {
+		PageCursor pageCursor = PageCursor.decode(cursor, 3);
+		boolean backward = pageCursor != null && pageCursor.isBackward();
+		int limit = pageSize + 1;
+
+		// 표시 순서: 공지(최신순) → 일반 글(최신순), 역방향이면 반대 순서로 조회
+		List<FreeboardDTO> rows;
+		if (!backward) {
+			boolean inNotices = pageCursor == null || pageCursor.getInt(0) == 1;
+			rows = inNotices ? queryCursorSegment(true, pageCursor, false, limit) : new ArrayList<>();
+			if (rows.size() < limit) {
+				rows.addAll(queryCursorSegment(false, inNotices ? null : pageCursor, false, limit - rows.size()));
+			}
+		} else {
+			boolean inNotices = pageCursor.getInt(0) == 1;
+			rows = inNotices ? new ArrayList<>() : queryCursorSegment(false, pageCursor, true, limit);
+			if (rows.size() < limit) {
+				rows.addAll(queryCursorSegment(true, inNotices ? pageCursor : null, true, limit - rows.size()));
 			}
+		}
+		return CursorPage.fromRows(rows, pageSize, pageCursor, post -> new Object[] {
+				"notification".equals(post.getFreeboardNotify()) ? 1 : 0,
+				post.getFreeboardWritetime(),
+				post.getFreeboardUid() });
+	}
 
-			return freeboard;
-		} finally {
-			closeResources();
+	// 공지 또는 일반 글 구간을 (작성 시간, uid) 키셋으로 조회 (cursor가 null이면 구간의 처음부터)
+	private List<FreeboardDTO> queryCursorSegment(boolean notices, PageCursor cursor, boolean ascending, int limit)
+			throws SQLException {
+		StringBuilder sql = new StringBuilder("SELECT f.*, u.user_name, f.comment_count "
+				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
+				+ "WHERE f.freeboard_deleted = 'maintained' ");
+		sql.append(notices ? "AND f.freeboard_notify = 'notification' "
+				: "AND (f.freeboard_notify IS NULL OR f.freeboard_notify <> 'notification') ");
+		List<Object> params = new ArrayList<>();
+		if (cursor != null) {
+			sql.append("AND (f.freeboard_writetime, f.freeboard_uid) ").append(ascending ? "> " : "< ")
+					.append("(?, ?) ");
+			params.add(cursor.getDateTime(1));
+			params.add(cursor.getLong(2));
 		}
+		String order = ascending ? "ASC" : "DESC";
+		sql.append("ORDER BY f.freeboard_writetime ").append(order)
+				.append(", f.freeboard_uid ").append(order).append(" LIMIT ?");
+		params.add(limit);
+		return JdbcTemplate.query(sql.toString(), this::createFreeboardWithSummaryFromResultSet, params.toArray());
 	}
 
 	// 기본 모든 게시글 조회 (페이징 없음 - 오버로딩)
@@ -230,46 +245,28 @@ public class FreeboardDAO {
 
 	// ID로 게시글 조회
 	public FreeboardDTO getFreeboardById(long postId) throws SQLException {
-		FreeboardDTO post = null;
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
+		String sql = "SELECT f.*, u.user_name, f.comment_count "
 				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
 				+ "WHERE f.freeboard_uid = ? AND f.freeboard_deleted = 'maintained'";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-
-				// 조회수 증가
-				updateReadCount(postId);
-			}
+		FreeboardDTO post = JdbcTemplate.queryForObject(sql, this::createFreeboardWithSummaryFromResultSet, postId);
 
-			return post;
-		} finally {
-			closeResources();
+		if (post != null) {
+			// 조회수 증가 (방금 조회한 1회를 표시 값에도 반영)
+			updateReadCount(postId);
+			post.setFreeboardRead(post.getFreeboardRead() + 1);
 		}
-	}
 
-	// 조회수 증가
-	private void updateReadCount(long postId) throws SQLException {
-		String sql = "UPDATE freeboard SET freeboard_read = freeboard_read + 1 WHERE freeboard_uid = ?";
+		return post;
+	}
 
-		try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			pstmt.setLong(1, postId);
-			pstmt.executeUpdate();
-		}
+	// 조회수 증가 (메모리에 누적 후 주기적으로 일괄 저장)
+	private void updateReadCount(long postId) {
+		ViewCountAggregator.getInstance().increment(Board.FREEBOARD, postId);
 	}
 
 	/**
-	 * 조회수 증가 (세션 기반 중복 방지)
+	 * 조회수 증가 (조회자 기준 중복 방지, ViewDedupStore)
 	 * 
 	 * @param postId  게시글 ID
 	 * @param request HTTP 요청 객체
@@ -278,7 +275,7 @@ public class FreeboardDAO {
 	public void updateReadCount(long postId, jakarta.servlet.http.HttpServletRequest request) throws SQLException {
 		// 세션이 없으면 그냥 조회수 증가
 		if (request == null) {
-			System.out.println("Request 객체가 null이어서 단순 조회수 증가 처리: " + postId);
+			eventLog.debug("read_count_no_request", "postId", postId);
 			updateReadCount(postId);
 			return;
 		}
@@ -286,36 +283,16 @@ public class FreeboardDAO {
 		// increaseReadCount 파라미터 체크 (false인 경우 증가 안 함)
 		String increaseParam = request.getParameter("increaseReadCount");
 		if (increaseParam != null && "false".equalsIgnoreCase(increaseParam)) {
-			System.out.println("increaseReadCount=false 파라미터로 조회수 증가 생략: " + postId);
+			eventLog.debug("read_count_skipped", "postId", postId, "reason", "increaseReadCount=false");
 			return;
 		}
 
-		jakarta.servlet.http.HttpSession session = request.getSession();
-		// 세션 타임아웃 설정 (30분)
-		session.setMaxInactiveInterval(1800);
-
-		// 세션에서 방문한 게시글 목록 가져오기
-		@SuppressWarnings("unchecked")
-		java.util.Set<Long> viewedPosts = (java.util.Set<Long>) session.getAttribute("VIEWED_FREEBOARD_POSTS");
-
-		// 세션에 방문 기록이 없으면 새로 생성
-		if (viewedPosts == null) {
-			viewedPosts = new java.util.HashSet<>();
-			session.setAttribute("VIEWED_FREEBOARD_POSTS", viewedPosts);
-			System.out.println("새 세션 생성 및 조회 기록 초기화: " + session.getId());
-		}
-
-		// 이미 방문한 게시글이면 조회수 증가 생략
-		if (viewedPosts.contains(postId)) {
-			System.out.println("이미 조회한 게시글이므로 조회수 증가 생략: " + postId + " (세션 ID: " + session.getId() + ")");
+		// 같은 조회자의 반복 조회는 TTL 동안 한 번만 집계 (세션에 기록을 쌓지 않음)
+		String viewer = ViewDedupStore.viewerKey(request);
+		if (!ViewDedupStore.getInstance().markViewed(viewer, "freeboard", postId)) {
 			return;
 		}
 
-		// 방문 기록에 추가
-		viewedPosts.add(postId);
-		System.out.println("조회 기록에 게시글 추가 및 조회수 증가: " + postId + " (세션 ID: " + session.getId() + ")");
-
-		// 조회수 증가 쿼리 실행
 		updateReadCount(postId);
 	}
 
@@ -324,18 +301,13 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard SET freeboard_title = ?, freeboard_contents = ?, "
 				+ "freeboard_modify_time = NOW() WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, post.getFreeboardTitle());
-			pstmt.setString(2, post.getFreeboardContents());
-			pstmt.setLong(3, post.getFreeboardUid());
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
+		boolean success = JdbcTemplate.update(sql, post.getFreeboardTitle(), post.getFreeboardContents(),
+				post.getFreeboardUid()) > 0;
+		if (success) {
+			invalidateListCaches();
+			refreshSearchDocument(post.getFreeboardUid());
 		}
+		return success;
 	}
 
 	// 게시글 삭제 (소프트 삭제)
@@ -343,14 +315,11 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard SET freeboard_deleted = 'deleted' WHERE freeboard_uid = ?";
 
 		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			int result = pstmt.executeUpdate();
-			boolean success = result > 0;
+			boolean success = JdbcTemplate.update(sql, postId) > 0;
 
 			if (success) {
+				invalidateListCaches();
+				SEARCH_INDEX.remove(postId);
 				logger.info("게시글 삭제 성공: ID=" + postId);
 			} else {
 				logger.warning("게시글 삭제 실패: ID=" + postId + ", 영향받은 행 없음");
@@ -360,8 +329,6 @@ public class FreeboardDAO {
 		} catch (SQLException e) {
 			logger.severe("게시글 삭제 중 오류 발생: ID=" + postId + ", 오류=" + e.getMessage());
 			throw e;
-		} finally {
-			closeResources();
 		}
 	}
 
@@ -370,39 +337,28 @@ public class FreeboardDAO {
 		// 실제로는 freeboard_deleted를 'hidden'으로 설정하고 이유를 로그 테이블에 기록
 		String sql = "UPDATE freeboard SET freeboard_deleted = 'deleted' WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-
-			int result = pstmt.executeUpdate();
-
-			if (result > 0) {
-				// 로그 테이블에 숨김 이유 기록 (log_delete_post 테이블 활용)
-				logPostDeletion(postId, hideReason);
-				return true;
+		boolean success = JdbcTemplate.inTransaction(conn -> {
+			if (JdbcTemplate.update(conn, sql, postId) == 0) {
+				return false;
 			}
-			return false;
-		} finally {
-			closeResources();
+
+			// 로그 테이블에 숨김 이유 기록 (log_delete_post 테이블 활용)
+			logPostDeletion(conn, postId, hideReason);
+			return true;
+		});
+		if (success) {
+			invalidateListCaches();
+			SEARCH_INDEX.remove(postId);
 		}
+		return success;
 	}
 
 	// 게시글 삭제 로그 기록
-	private void logPostDeletion(long postId, String reason) throws SQLException {
+	private void logPostDeletion(Connection conn, long postId, String reason) throws SQLException {
 		String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_deleted_post_uid, "
 				+ "log_delete_date, user_uid) " + "VALUES ('freeboard', ?, NOW(), ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(logSql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, 0); // 관리자 ID
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		JdbcTemplate.update(conn, logSql, postId, 0L); // 관리자 ID
 	}
 
 	// 공지사항 지정/해제
@@ -410,35 +366,17 @@ public class FreeboardDAO {
 		String notifyValue = isNotice ? "notification" : "common";
 		String sql = "UPDATE freeboard SET freeboard_notify = ? WHERE freeboard_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, notifyValue);
-			pstmt.setLong(2, postId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
+		boolean success = JdbcTemplate.update(sql, notifyValue, postId) > 0;
+		if (success) {
+			invalidateListCaches();
 		}
+		return success;
 	}
 
 	// 총 게시물 수 조회 (페이징용)
 	public int getTotalCount() throws SQLException {
 		String sql = "SELECT COUNT(*) FROM freeboard WHERE freeboard_deleted = 'maintained'";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				return rs.getInt(1);
-			}
-			return 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForInt(sql);
 	}
 
 	/**
@@ -457,24 +395,11 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 				+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
+		// category를 report_target_type ENUM 값으로 변환
+		// 클라이언트에서 받은 category가 ENUM에 맞지 않으면 기본값 사용
+		String targetType = convertCategoryToEnum(category);
 
-			// category를 report_target_type ENUM 값으로 변환
-			// 클라이언트에서 받은 category가 ENUM에 맞지 않으면 기본값 사용
-			String targetType = convertCategoryToEnum(category);
-
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, reporterId); // report_user_uid
-			pstmt.setLong(4, post.getUserUid()); // target_user_uid
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, targetType, reason, reporterId, post.getUserUid()) > 0;
 	}
 
 	/**
@@ -514,23 +439,10 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 				+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-
-			// category를 report_target_type ENUM 값으로 변환
-			String targetType = convertCategoryToEnum(category);
-
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, reporterId); // report_user_uid
-			pstmt.setLong(4, targetUserId); // target_user_uid
+		// category를 report_target_type ENUM 값으로 변환
+		String targetType = convertCategoryToEnum(category);
 
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, targetType, reason, reporterId, targetUserId) > 0;
 	}
 
 	/**
@@ -538,25 +450,14 @@ public class FreeboardDAO {
 	 */
 	public boolean penalizeUser(long targetUserId, long adminId, String reason, String category, String penaltyType,
 			int duration) throws SQLException {
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
+		return JdbcTemplate.inTransaction(conn -> {
 			// 1. 신고 기록 추가 - 실제 DB 스키마와 일치하도록 수정
 			String reportSql = "INSERT INTO report (report_target_type, report_reason, report_status, "
 					+ "report_createtime, report_user_uid, target_user_uid) " + "VALUES (?, ?, 'active', NOW(), ?, ?)";
 
-			pstmt = conn.prepareStatement(reportSql);
 			// category를 report_target_type ENUM 값으로 변환
 			String targetType = convertCategoryToEnum(category);
-			pstmt.setString(1, targetType); // report_target_type (ENUM 값)
-			pstmt.setString(2, reason); // report_reason
-			pstmt.setLong(3, adminId); // report_user_uid (관리자 ID)
-			pstmt.setLong(4, targetUserId); // target_user_uid (대상 사용자)
-
-			boolean reportResult = pstmt.executeUpdate() > 0;
-
-			if (!reportResult) {
+			if (JdbcTemplate.update(conn, reportSql, targetType, reason, adminId, targetUserId) == 0) {
 				conn.rollback();
 				return false;
 			}
@@ -566,54 +467,22 @@ public class FreeboardDAO {
 					+ "penalty_start_date, penalty_end_date, penalty_status, penalty_duration) "
 					+ "VALUES (?, ?, NOW(), DATE_ADD(NOW(), INTERVAL ? DAY), 'active', ?)";
 
-			pstmt = conn.prepareStatement(penaltySql);
-			pstmt.setLong(1, targetUserId); // user_uid
-			pstmt.setString(2, reason); // penalty_reason
-			pstmt.setInt(3, duration); // penalty_end_date (계산)
-			pstmt.setString(4, duration > 0 ? "temporary" : "permanent"); // penalty_duration
-
-			boolean penaltyResult = pstmt.executeUpdate() > 0;
-
-			if (!penaltyResult) {
+			if (JdbcTemplate.update(conn, penaltySql, targetUserId, reason, duration,
+					duration > 0 ? "temporary" : "permanent") == 0) {
 				conn.rollback();
 				return false;
 			}
 
-			// 3. 사용자 상태 업데이트 (이 부분은 이미 올바름)
+			// 3. 사용자 상태 업데이트
 			String statusSql = "UPDATE user SET user_status = ? WHERE user_uid = ?";
 
-			pstmt = conn.prepareStatement(statusSql);
-			pstmt.setString(1, "restricted");
-			pstmt.setLong(2, targetUserId);
-
-			boolean statusResult = pstmt.executeUpdate() > 0;
-
-			if (!statusResult) {
+			if (JdbcTemplate.update(conn, statusSql, "restricted", targetUserId) == 0) {
 				conn.rollback();
 				return false;
 			}
 
-			conn.commit();
 			return true;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					ex.printStackTrace();
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					e.printStackTrace();
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -621,18 +490,7 @@ public class FreeboardDAO {
 	 */
 	private boolean updateUserStatus(long userId, String status) throws SQLException {
 		String sql = "UPDATE user SET user_status = ? WHERE user_uid = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, status);
-			pstmt.setLong(2, userId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, status, userId) > 0;
 	}
 
 	/**
@@ -640,168 +498,196 @@ public class FreeboardDAO {
 	 */
 	public boolean deleteAttachByFilename(long postId, String filename, String reason, long adminId)
 			throws SQLException {
-		// 1. 로그 테이블에 삭제 이유 기록 - SQL 쿼리와 파라미터 수 일치시키기
+		// 1. 로그 테이블에 삭제 이유 기록
 		String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_deleted_post_uid, "
 				+ "log_delete_date, user_uid) " + "VALUES ('freeboard', ?, NOW(), ?)";
 
 		// 2. 첨부파일 테이블에서 파일 정보 삭제
 		String deleteSql = "DELETE FROM freeboard_attach WHERE freeboard_uid = ? AND file_name = ?";
 
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false); // 트랜잭션 시작
-
-			// 로그 기록 - 파라미터 개수 수정 (2개만 필요)
-			pstmt = conn.prepareStatement(logSql);
-			pstmt.setLong(1, postId); // log_deleted_post_uid
-			pstmt.setLong(2, adminId); // user_uid
-
-			int logResult = pstmt.executeUpdate();
-
-			// 파일 정보 삭제
-			pstmt = conn.prepareStatement(deleteSql);
-			pstmt.setLong(1, postId);
-			pstmt.setString(2, filename);
-
-			int deleteResult = pstmt.executeUpdate();
+		return JdbcTemplate.inTransaction(conn -> {
+			int logResult = JdbcTemplate.update(conn, logSql, postId, adminId);
+			int deleteResult = JdbcTemplate.update(conn, deleteSql, postId, filename);
 
 			if (logResult > 0 && deleteResult > 0) {
-				conn.commit();
 				return true;
-			} else {
-				conn.rollback();
-				return false;
 			}
-		} catch (SQLException e) {
-			if (conn != null)
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-				}
-			throw e;
-		} finally {
-			if (conn != null)
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-				}
-			closeResources();
-		}
+			conn.rollback();
+			return false;
+		});
 	}
 
 	/**
 	 * 게시글 검색
+	 * 검색 색인이 준비되어 있으면 색인으로 관련도 순 검색, 아니면 (작성자 검색 포함) SQL LIKE 검색
 	 */
 	public List<FreeboardDTO> searchFreeboards(String keyword, String searchType, int page, int pageSize)
 			throws SQLException {
-		List<FreeboardDTO> searchResults = new ArrayList<>();
+		if (useSearchIndex(keyword, searchType)) {
+			List<Long> ids = SEARCH_INDEX.search(keyword, searchFields(searchType)).page(page, pageSize);
+			return getFreeboardsByIds(ids);
+		}
+
 		StringBuilder sql = new StringBuilder();
 
-		sql.append("SELECT f.*, u.user_name, ");
-		sql.append(
-				"(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count ");
+		sql.append("SELECT f.*, u.user_name, f.comment_count ");
 		sql.append("FROM freeboard f ");
 		sql.append("JOIN user u ON f.user_uid = u.user_uid ");
 		sql.append("WHERE f.freeboard_deleted = 'maintained' ");
 
+		String pattern = "%" + keyword + "%";
+		Object[] params;
+
 		// 검색 조건 추가
-		if (searchType.equals("title")) {
+		if ("title".equals(searchType)) {
 			sql.append("AND f.freeboard_title LIKE ? ");
-		} else if (searchType.equals("content")) {
+			params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
+		} else if ("content".equals(searchType)) {
 			sql.append("AND f.freeboard_contents LIKE ? ");
-		} else if (searchType.equals("author")) {
+			params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
+		} else if ("author".equals(searchType)) {
 			sql.append("AND u.user_name LIKE ? ");
+			params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
 		} else {
 			sql.append("AND (f.freeboard_title LIKE ? OR f.freeboard_contents LIKE ?) ");
+			params = new Object[] { pattern, pattern, pageSize, (page - 1) * pageSize };
 		}
 
 		sql.append("ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC ");
 		sql.append("LIMIT ? OFFSET ?");
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql.toString());
+		return JdbcTemplate.query(sql.toString(), this::createFreeboardWithSummaryFromResultSet, params);
+	}
 
-			if (searchType.equals("title") || searchType.equals("content") || searchType.equals("author")) {
-				pstmt.setString(1, "%" + keyword + "%");
-				pstmt.setInt(2, pageSize);
-				pstmt.setInt(3, (page - 1) * pageSize);
-			} else {
-				pstmt.setString(1, "%" + keyword + "%");
-				pstmt.setString(2, "%" + keyword + "%");
-				pstmt.setInt(3, pageSize);
-				pstmt.setInt(4, (page - 1) * pageSize);
-			}
+	/**
+	 * 검색 결과 수
+	 */
+	public int getSearchCount(String keyword, String searchType) throws SQLException {
+		if (useSearchIndex(keyword, searchType)) {
+			return SEARCH_INDEX.search(keyword, searchFields(searchType)).getTotal();
+		}
 
-			rs = pstmt.executeQuery();
+		StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM freeboard f ");
+		sql.append("JOIN user u ON f.user_uid = u.user_uid ");
+		sql.append("WHERE f.freeboard_deleted = 'maintained' ");
 
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-				searchResults.add(post);
+		String pattern = "%" + keyword + "%";
+		if ("title".equals(searchType)) {
+			sql.append("AND f.freeboard_title LIKE ?");
+			return JdbcTemplate.queryForInt(sql.toString(), pattern);
+		} else if ("content".equals(searchType)) {
+			sql.append("AND f.freeboard_contents LIKE ?");
+			return JdbcTemplate.queryForInt(sql.toString(), pattern);
+		} else if ("author".equals(searchType)) {
+			sql.append("AND u.user_name LIKE ?");
+			return JdbcTemplate.queryForInt(sql.toString(), pattern);
+		}
+		sql.append("AND (f.freeboard_title LIKE ? OR f.freeboard_contents LIKE ?)");
+		return JdbcTemplate.queryForInt(sql.toString(), pattern, pattern);
+	}
+
+	private boolean useSearchIndex(String keyword, String searchType) {
+		return !"author".equals(searchType) && SEARCH_INDEX.isReady() && NgramTokenizer.isIndexable(keyword);
+	}
+
+	// 검색 유형 → 색인 필드 (0: 제목, 1: 내용, 그 외/미지정은 전체)
+	private int[] searchFields(String searchType) {
+		switch (searchType == null ? "all" : searchType) {
+			case "title":
+				return new int[] { 0 };
+			case "content":
+				return new int[] { 1 };
+			default:
+				return new int[] { 0, 1 };
+		}
+	}
+
+	// ID 목록 순서대로 게시글 조회
+	private List<FreeboardDTO> getFreeboardsByIds(List<Long> ids) throws SQLException {
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		String sql = "SELECT f.*, u.user_name, f.comment_count " + "FROM freeboard f "
+				+ "JOIN user u ON f.user_uid = u.user_uid " + "WHERE f.freeboard_deleted = 'maintained' "
+				+ "AND f.freeboard_uid IN (" + JdbcTemplate.placeholders(ids.size()) + ")";
+
+		Map<Long, FreeboardDTO> byId = new HashMap<>();
+		for (FreeboardDTO post : JdbcTemplate.query(sql, this::createFreeboardWithSummaryFromResultSet,
+				ids.toArray())) {
+			byId.put(post.getFreeboardUid(), post);
+		}
+		List<FreeboardDTO> posts = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			FreeboardDTO post = byId.get(id);
+			if (post != null) {
+				posts.add(post);
 			}
+		}
+		return posts;
+	}
 
-			return searchResults;
+	/**
+	 * 검색 색인 전체 재구성 (애플리케이션 시작 시 백그라운드에서 호출)
+	 * @return 색인한 게시글 수
+	 */
+	public int rebuildSearchIndex() throws SQLException {
+		String sql = "SELECT f.freeboard_uid, f.freeboard_title, f.freeboard_contents "
+				+ "FROM freeboard f "
+				+ "WHERE f.freeboard_deleted = 'maintained' AND f.freeboard_uid > ? "
+				+ "ORDER BY f.freeboard_uid LIMIT ?";
+
+		SEARCH_INDEX.beginBuild();
+		boolean success = false;
+		try {
+			int total = 0;
+			long lastId = 0;
+			List<Long> batch;
+			do {
+				batch = JdbcTemplate.query(sql, rs -> {
+					long id = rs.getLong("freeboard_uid");
+					SEARCH_INDEX.addIfAbsent(id, rs.getString("freeboard_title"), rs.getString("freeboard_contents"));
+					return id;
+				}, lastId, SEARCH_INDEX_BATCH_SIZE);
+				if (!batch.isEmpty()) {
+					lastId = batch.get(batch.size() - 1);
+				}
+				total += batch.size();
+			} while (batch.size() == SEARCH_INDEX_BATCH_SIZE);
+			success = true;
+			return total;
 		} finally {
-			closeResources();
+			SEARCH_INDEX.finishBuild(success);
 		}
 	}
 
-	// 새로운 커서 기반 페이징 메서드 추가
-	public List<FreeboardDTO> getNextFreeboards(long lastPostId, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
-		String sql = "SELECT f.*, u.user_name, "
-				+ "(SELECT COUNT(*) FROM freeboard_comment fc WHERE fc.freeboard_uid = f.freeboard_uid) AS comment_count "
-				+ "FROM freeboard f " + "JOIN user u ON f.user_uid = u.user_uid "
-				+ "WHERE f.freeboard_deleted = 'maintained' " + "AND f.freeboard_uid < ? " + // 커서 조건
-				"ORDER BY f.freeboard_uid DESC " + "LIMIT ?";
-
+	/**
+	 * 게시글 하나의 검색 색인 갱신 (등록/수정/복원 후 호출, 삭제된 글이면 색인에서 제거)
+	 * 색인 갱신 실패는 글 작성 결과에 영향을 주지 않도록 로그만 남김
+	 */
+	public void refreshSearchDocument(long postId) {
+		String sql = "SELECT f.freeboard_uid, f.freeboard_title, f.freeboard_contents "
+				+ "FROM freeboard f "
+				+ "WHERE f.freeboard_uid = ? AND f.freeboard_deleted = 'maintained'";
 		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, lastPostId); // 마지막으로 본 게시글 ID
-			pstmt.setInt(2, pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				post.setUserName(rs.getString("user_name"));
-				post.setCommentCount(rs.getInt("comment_count"));
-				freeboard.add(post);
+			String[] fields = JdbcTemplate.queryForObject(sql, rs -> new String[] { rs.getString("freeboard_title"),
+					rs.getString("freeboard_contents") }, postId);
+			if (fields != null) {
+				SEARCH_INDEX.index(postId, fields);
+			} else {
+				SEARCH_INDEX.remove(postId);
 			}
-
-			return freeboard;
-		} finally {
-			closeResources();
+		} catch (SQLException e) {
+			logger.warning("검색 색인 갱신 실패: ID=" + postId + ", 오류=" + e.getMessage());
 		}
 	}
 
 	// 간단한 목록 조회용 메서드 추가 (작성자 이름 없이)
 	public List<FreeboardDTO> getSimpleFreeboardList(int page, int pageSize) throws SQLException {
-		List<FreeboardDTO> freeboard = new ArrayList<>();
 		String sql = "SELECT f.* FROM freeboard f " + "WHERE f.freeboard_deleted = 'maintained' "
 				+ "ORDER BY f.freeboard_notify DESC, f.freeboard_writetime DESC " + "LIMIT ? OFFSET ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setInt(1, pageSize);
-			pstmt.setInt(2, (page - 1) * pageSize);
-
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardDTO post = createFreeboardFromResultSet(rs);
-				// 작성자 정보 조회 없이 기본 데이터만 설정
-				freeboard.add(post);
-			}
-
-			return freeboard;
-		} finally {
-			closeResources();
-		}
+		// 작성자 정보 조회 없이 기본 데이터만 설정
+		return JdbcTemplate.query(sql, this::createFreeboardFromResultSet, pageSize, (page - 1) * pageSize);
 	}
 
 	/**
@@ -811,18 +697,17 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO freeboard_attach (freeboard_uid, file_name, file_path, file_size, upload_date) "
 				+ "VALUES (?, ?, ?, ?, NOW())";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setString(2, fileName);
-			pstmt.setString(3, filePath);
-			pstmt.setLong(4, fileSize);
-
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, postId, fileName, filePath, fileSize) > 0;
+	}
+
+	/**
+	 * 첨부파일 추가 후 생성된 attach_uid 반환 (다운로드 링크에 사용)
+	 */
+	public long insertAttachment(long postId, String fileName, String filePath, long fileSize) throws SQLException {
+		String sql = "INSERT INTO freeboard_attach (freeboard_uid, file_name, file_path, file_size, upload_date) "
+				+ "VALUES (?, ?, ?, ?, NOW())";
+
+		return JdbcTemplate.insertAndReturnKey(sql, postId, fileName, filePath, fileSize);
 	}
 
 	/**
@@ -830,60 +715,33 @@ public class FreeboardDAO {
 	 */
 	public AttachmentDTO getAttachmentById(long attachId) throws SQLException {
 		String sql = "SELECT * FROM freeboard_attach WHERE attach_uid = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, attachId);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				AttachmentDTO attachment = new AttachmentDTO();
-				attachment.setAttachId(rs.getLong("attach_uid"));
-				attachment.setPostId(rs.getLong("freeboard_uid"));
-				attachment.setFileName(rs.getString("file_name"));
-				attachment.setFilePath(rs.getString("file_path"));
-				attachment.setFileSize(rs.getLong("file_size"));
-				attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-				return attachment;
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForObject(sql, this::createAttachmentFromResultSet, attachId);
 	}
 
 	/**
-	 * 파일명으로 첨부파일 조회
+	 * 게시글의 저장 경로로 첨부파일 조회
+	 * 같은 내용의 업로드는 저장 파일을 공유하므로 경로만으로는 어느 게시글의 첨부인지 알 수 없음
 	 */
-	public AttachmentDTO getAttachmentByFilename(String filename) throws SQLException {
-		String sql = "SELECT * FROM freeboard_attach WHERE file_path = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, filename);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				AttachmentDTO attachment = new AttachmentDTO();
-				attachment.setAttachId(rs.getLong("attach_uid"));
-				attachment.setPostId(rs.getLong("freeboard_uid"));
-				attachment.setFileName(rs.getString("file_name"));
-				attachment.setFilePath(rs.getString("file_path"));
-				attachment.setFileSize(rs.getLong("file_size"));
-
-				if (rs.getTimestamp("upload_date") != null) {
-					attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-				}
+	public AttachmentDTO getAttachmentByPostAndPath(long postId, String filePath) throws SQLException {
+		String sql = "SELECT * FROM freeboard_attach WHERE freeboard_uid = ? AND file_path = ? "
+				+ "ORDER BY attach_uid LIMIT 1";
+		return JdbcTemplate.queryForObject(sql, this::createAttachmentFromResultSet, postId, filePath);
+	}
 
-				return attachment;
-			}
+	/**
+	 * 게시글의 원본 파일명으로 첨부파일 조회
+	 */
+	public AttachmentDTO getAttachmentByPostAndName(long postId, String fileName) throws SQLException {
+		String sql = "SELECT * FROM freeboard_attach WHERE freeboard_uid = ? AND file_name = ? LIMIT 1";
+		return JdbcTemplate.queryForObject(sql, this::createAttachmentFromResultSet, postId, fileName);
+	}
 
-			return null;
-		} finally {
-			closeResources();
-		}
+	/**
+	 * 같은 저장 파일을 참조하는 첨부 수 (중복 제거된 파일 삭제 판단용)
+	 */
+	public int countAttachmentsByFilePath(String filePath) throws SQLException {
+		String sql = "SELECT COUNT(*) FROM freeboard_attach WHERE file_path = ?";
+		return JdbcTemplate.queryForInt(sql, filePath);
 	}
 
 	// 자유게시판 댓글 관련 메서드
@@ -892,39 +750,10 @@ public class FreeboardDAO {
 	 * 게시글의 모든 댓글 조회
 	 */
 	public List<FreeboardCommentDTO> getCommentsByPostId(long postId) throws SQLException {
-		List<FreeboardCommentDTO> comments = new ArrayList<>();
 		String sql = "SELECT c.*, u.user_name FROM freeboard_comment c " + "JOIN user u ON c.user_uid = u.user_uid "
 				+ "WHERE c.freeboard_uid = ? " + "ORDER BY c.freeboard_comment_writetime ASC";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-
-			while (rs.next()) {
-				FreeboardCommentDTO comment = new FreeboardCommentDTO();
-				comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
-				comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
-				comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
-
-				if (rs.getTimestamp("freeboard_comment_modifytime") != null) {
-					comment.setFreeboardCommentModifytime(
-							rs.getTimestamp("freeboard_comment_modifytime").toLocalDateTime());
-				}
-
-				comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
-				comment.setFreeboardUid(rs.getLong("freeboard_uid"));
-				comment.setUserUid(rs.getLong("user_uid"));
-				comment.setUserName(rs.getString("user_name"));
-
-				comments.add(comment);
-			}
-		} finally {
-			closeResources();
-		}
-
-		return comments;
+		return JdbcTemplate.query(sql, this::createCommentFromResultSet, postId);
 	}
 
 	/**
@@ -935,19 +764,21 @@ public class FreeboardDAO {
 				+ "(freeboard_comment_contents, freeboard_comment_writetime, freeboard_comment_author_ip, freeboard_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, comment.getFreeboardCommentContents());
-			pstmt.setString(2, comment.getFreeboardCommentAuthorIp());
-			pstmt.setLong(3, comment.getFreeboardUid());
-			pstmt.setLong(4, comment.getUserUid());
-
-			int result = pstmt.executeUpdate();
+		boolean success = JdbcTemplate.inTransaction(conn -> {
+			int result = JdbcTemplate.update(conn, sql, comment.getFreeboardCommentContents(),
+					comment.getFreeboardCommentAuthorIp(), comment.getFreeboardUid(), comment.getUserUid());
+
+			// 게시글의 댓글 수 갱신 (같은 트랜잭션)
+			if (result > 0) {
+				adjustCommentCount(conn, comment.getFreeboardUid(), 1);
+			}
+
 			return result > 0;
-		} finally {
-			closeResources();
+		});
+		if (success) {
+			invalidateListCaches();
 		}
+		return success;
 	}
 
 	/**
@@ -957,24 +788,17 @@ public class FreeboardDAO {
 		String sql = "UPDATE freeboard_comment SET " + "freeboard_comment_contents = ?, "
 				+ "freeboard_comment_modifytime = NOW() " + "WHERE freeboard_comment_uid = ? AND user_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, comment.getFreeboardCommentContents());
-			pstmt.setLong(2, comment.getFreeboardCommentUid());
-			pstmt.setLong(3, comment.getUserUid());
-
-			int result = pstmt.executeUpdate();
+		return JdbcTemplate.inTransaction(conn -> {
+			int result = JdbcTemplate.update(conn, sql, comment.getFreeboardCommentContents(),
+					comment.getFreeboardCommentUid(), comment.getUserUid());
 
 			// 수정 로그 저장
 			if (result > 0) {
-				logModifyComment(comment.getFreeboardCommentUid(), comment.getUserUid(), "freeboard");
+				logModifyComment(conn, comment.getFreeboardCommentUid(), comment.getUserUid(), "freeboard");
 			}
 
 			return result > 0;
-		} finally {
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -989,22 +813,21 @@ public class FreeboardDAO {
 
 		String sql = "DELETE FROM freeboard_comment WHERE freeboard_comment_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, commentId);
-
-			int result = pstmt.executeUpdate();
+		boolean success = JdbcTemplate.inTransaction(conn -> {
+			int result = JdbcTemplate.update(conn, sql, commentId);
 
-			// 삭제 로그 저장
+			// 삭제 로그 저장 및 게시글의 댓글 수 갱신
 			if (result > 0) {
-				logDeleteComment(commentId, userId, "freeboard");
+				logDeleteComment(conn, commentId, userId, "freeboard");
+				adjustCommentCount(conn, comment.getFreeboardUid(), -1);
 			}
 
 			return result > 0;
-		} finally {
-			closeResources();
+		});
+		if (success) {
+			invalidateListCaches();
 		}
+		return success;
 	}
 
 	/**
@@ -1014,94 +837,46 @@ public class FreeboardDAO {
 		String sql = "SELECT c.*, u.user_name FROM freeboard_comment c " + "JOIN user u ON c.user_uid = u.user_uid "
 				+ "WHERE c.freeboard_comment_uid = ?";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, commentId);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				FreeboardCommentDTO comment = new FreeboardCommentDTO();
-				comment.setFreeboardCommentUid(rs.getLong("freeboard_comment_uid"));
-				comment.setFreeboardCommentContents(rs.getString("freeboard_comment_contents"));
-				comment.setFreeboardCommentWritetime(rs.getTimestamp("freeboard_comment_writetime").toLocalDateTime());
-
-				if (rs.getTimestamp("freeboard_comment_modifytime") != null) {
-					comment.setFreeboardCommentModifytime(
-							rs.getTimestamp("freeboard_comment_modifytime").toLocalDateTime());
-				}
-
-				comment.setFreeboardCommentAuthorIp(rs.getString("freeboard_comment_author_ip"));
-				comment.setFreeboardUid(rs.getLong("freeboard_uid"));
-				comment.setUserUid(rs.getLong("user_uid"));
-				comment.setUserName(rs.getString("user_name"));
+		return JdbcTemplate.queryForObject(sql, this::createCommentFromResultSet, commentId);
+	}
 
-				return comment;
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+	/**
+	 * 게시글의 댓글 수(comment_count) 증감
+	 * 목록 조회 시 댓글 테이블을 다시 세지 않도록 댓글 등록/삭제 트랜잭션 안에서 함께 갱신
+	 */
+	private void adjustCommentCount(Connection conn, long postId, int delta) throws SQLException {
+		String sql = "UPDATE freeboard SET comment_count = GREATEST(comment_count + ?, 0) WHERE freeboard_uid = ?";
+		JdbcTemplate.update(conn, sql, delta, postId);
 	}
 
 	/**
 	 * 댓글 수정 로그 저장
 	 */
-	private void logModifyComment(long commentId, long userId, String boardType) throws SQLException {
+	private void logModifyComment(Connection conn, long commentId, long userId, String boardType) throws SQLException {
 		String sql = "INSERT INTO log_modify_comment "
 				+ "(log_modify_boardtype, log_modify_date, log_modify_comment_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, boardType);
-			pstmt.setLong(2, commentId);
-			pstmt.setLong(3, userId);
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		JdbcTemplate.update(conn, sql, boardType, commentId, userId);
 	}
 
 	/**
 	 * 댓글 삭제 로그 저장
 	 */
-	private void logDeleteComment(long commentId, long userId, String boardType) throws SQLException {
+	private void logDeleteComment(Connection conn, long commentId, long userId, String boardType) throws SQLException {
 		String sql = "INSERT INTO log_delete_comment "
 				+ "(log_delete_boardtype, log_delete_date, log_deleted_comment_uid, user_uid) "
 				+ "VALUES (?, NOW(), ?, ?)";
 
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, boardType);
-			pstmt.setLong(2, commentId);
-			pstmt.setLong(3, userId);
-
-			pstmt.executeUpdate();
-		} finally {
-			closeResources();
-		}
+		JdbcTemplate.update(conn, sql, boardType, commentId, userId);
 	}
 
 	/**
-	 * 첨부파일 다운로드 수 증가
+	 * 첨부파일 다운로드 수 증가 (메모리에 누적 후 주기적으로 일괄 저장)
 	 */
 	public boolean increaseDownloadCount(long attachId) throws SQLException {
-		String sql = "UPDATE freeboard_attach SET download_count = download_count + 1 WHERE attach_uid = ?";
-
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, attachId);
-
-			int result = pstmt.executeUpdate();
-			return result > 0;
-		} finally {
-			closeResources();
-		}
+		ViewCountAggregator.getInstance().increment(Board.ATTACHMENT_DOWNLOAD, attachId);
+		return true;
 	}
 
 	// 추천 관련 DAO 메서드 시작
@@ -1117,19 +892,7 @@ public class FreeboardDAO {
 	public boolean hasUserRecommended(long postId, int userId) throws SQLException {
 		String sql = "SELECT COUNT(*) FROM log_recommend "
 				+ "WHERE log_recommend_boardtype = 'freeboard' AND log_recommend_post_id = ? AND user_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1) > 0;
-			}
-			return false;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForInt(sql, postId, userId) > 0;
 	}
 
 	/**
@@ -1143,15 +906,7 @@ public class FreeboardDAO {
 	public boolean removeRecommendationLog(long postId, int userId) throws SQLException {
 		String sql = "DELETE FROM log_recommend "
 				+ "WHERE log_recommend_boardtype = 'freeboard' AND log_recommend_post_id = ? AND user_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, postId, userId) > 0;
 	}
 
 	/**
@@ -1165,15 +920,7 @@ public class FreeboardDAO {
 	public boolean addRecommendationLog(long postId, int userId) throws SQLException {
 		String sql = "INSERT INTO log_recommend (log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) "
 				+ "VALUES ('freeboard', ?, NOW(), ?)";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setInt(2, userId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, postId, userId) > 0;
 	}
 
 	/**
@@ -1185,14 +932,7 @@ public class FreeboardDAO {
 	 */
 	public boolean decrementFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend - 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, postId) > 0;
 	}
 
 	/**
@@ -1204,14 +944,7 @@ public class FreeboardDAO {
 	 */
 	public boolean incrementFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend + 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			return pstmt.executeUpdate() > 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.update(sql, postId) > 0;
 	}
 
 	/**
@@ -1223,18 +956,7 @@ public class FreeboardDAO {
 	 */
 	public int getFreeboardRecommendCount(long postId) throws SQLException {
 		String sql = "SELECT freeboard_recommend FROM freeboard WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt("freeboard_recommend");
-			}
-			return 0; // 게시글이 없거나 추천 수가 없는 경우
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForInt(sql, postId); // 게시글이 없으면 0
 	}
 
 	/**
@@ -1248,19 +970,7 @@ public class FreeboardDAO {
 	public String getUserRecommendationType(long postId, long userId) throws SQLException {
 		String sql = "SELECT recommendation_type FROM post_recommendation "
 				+ "WHERE post_id = ? AND user_uid = ? AND post_type = 'freeboard'";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getString("recommendation_type");
-			}
-			return null;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForObject(sql, rs -> rs.getString("recommendation_type"), postId, userId);
 	}
 
 	/**
@@ -1276,48 +986,16 @@ public class FreeboardDAO {
 		String sql = "INSERT INTO post_recommendation (post_id, user_uid, post_type, recommendation_type, recommended_at) "
 				+ "VALUES (?, ?, 'freeboard', ?, NOW())";
 		String updateSql = "UPDATE freeboard SET freeboard_recommend = freeboard_recommend + 1 WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false);
-
-			// 추천 기록 추가
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			pstmt.setString(3, recommendationType);
-			int result = pstmt.executeUpdate();
 
-			if (result > 0) {
-				// 게시글 추천 수 업데이트
-				pstmt = conn.prepareStatement(updateSql);
-				pstmt.setLong(1, postId);
-				int updateResult = pstmt.executeUpdate();
-				if (updateResult > 0) {
-					conn.commit();
-					return true;
-				}
+		return JdbcTemplate.inTransaction(conn -> {
+			// 추천 기록 추가 후 게시글 추천 수 업데이트
+			if (JdbcTemplate.update(conn, sql, postId, userId, recommendationType) > 0
+					&& JdbcTemplate.update(conn, updateSql, postId) > 0) {
+				return true;
 			}
 			conn.rollback();
 			return false;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("추천 추가 중 롤백 오류: " + ex.getMessage());
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("추천 추가 후 AutoCommit 설정 복구 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -1331,47 +1009,16 @@ public class FreeboardDAO {
 	public boolean removeRecommendation(long postId, long userId) throws SQLException {
 		String sql = "DELETE FROM post_recommendation WHERE post_id = ? AND user_uid = ? AND post_type = 'freeboard'";
 		String updateSql = "UPDATE freeboard SET freeboard_recommend = GREATEST(0, freeboard_recommend - 1) WHERE freeboard_uid = ?";
-		try {
-			conn = getConnection();
-			conn.setAutoCommit(false);
-
-			// 추천 기록 삭제
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			pstmt.setLong(2, userId);
-			int result = pstmt.executeUpdate();
 
-			if (result > 0) {
-				// 게시글 추천 수 업데이트
-				pstmt = conn.prepareStatement(updateSql);
-				pstmt.setLong(1, postId);
-				int updateResult = pstmt.executeUpdate();
-				if (updateResult > 0) {
-					conn.commit();
-					return true;
-				}
+		return JdbcTemplate.inTransaction(conn -> {
+			// 추천 기록 삭제 후 게시글 추천 수 업데이트
+			if (JdbcTemplate.update(conn, sql, postId, userId) > 0
+					&& JdbcTemplate.update(conn, updateSql, postId) > 0) {
+				return true;
 			}
 			conn.rollback();
 			return false;
-		} catch (SQLException e) {
-			if (conn != null) {
-				try {
-					conn.rollback();
-				} catch (SQLException ex) {
-					logger.severe("추천 삭제 중 롤백 오류: " + ex.getMessage());
-				}
-			}
-			throw e;
-		} finally {
-			if (conn != null) {
-				try {
-					conn.setAutoCommit(true);
-				} catch (SQLException e) {
-					logger.severe("추천 삭제 후 AutoCommit 설정 복구 오류: " + e.getMessage());
-				}
-			}
-			closeResources();
-		}
+		});
 	}
 
 	/**
@@ -1383,17 +1030,6 @@ public class FreeboardDAO {
 	 */
 	public int getLikeCountByPostId(long postId) throws SQLException {
 		String sql = "SELECT COUNT(*) FROM post_recommendation WHERE post_id = ? AND post_type = 'freeboard' AND recommendation_type = 'like'";
-		try {
-			conn = getConnection();
-			pstmt = conn.prepareStatement(sql);
-			pstmt.setLong(1, postId);
-			rs = pstmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1);
-			}
-			return 0;
-		} finally {
-			closeResources();
-		}
+		return JdbcTemplate.queryForInt(sql, postId);
 	}
-}
\ No newline at end of file
+}
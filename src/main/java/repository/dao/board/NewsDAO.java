@@ -1,47 +1,53 @@
 package repository.dao.board;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import dto.board.NewsDTO;
 import dto.board.NewsCommentDTO;
-import util.db.DBConnectionUtil;
+import util.cache.LocalCache;
+import util.db.CursorPage;
+import util.db.JdbcTemplate;
+import util.db.PageCursor;
+import util.db.ViewCountAggregator;
+import util.db.ViewCountAggregator.Board;
+import util.logging.EventLog;
 import util.logging.LoggerConfig;
+import util.search.NgramTokenizer;
+import util.search.SearchIndex;
+import util.web.ViewDedupStore;
 
 /**
  * 키보드 소식 게시판 DAO 클래스
  */
 public class NewsDAO {
-    // 클래스 레벨 멤버 변수 제거 - 각 메서드에서 로컬 변수로 사용
-    // private Connection conn = null;
-    // private PreparedStatement pstmt = null;
-    // private ResultSet rs = null;
-    
     private static final Logger logger = LoggerConfig.getLogger(NewsDAO.class);
+    private static final EventLog eventLog = EventLog.get(NewsDAO.class);
     
-    // DB 연결 가져오기
-    private Connection getConnection() throws SQLException {
-        return DBConnectionUtil.getConnection();
-    }
-      // 자원 해제 메서드 - 더 이상 사용하지 않음 (각 메서드에서 직접 리소스를 해제)
-    @Deprecated
-    private void closeResources(Connection conn, PreparedStatement pstmt, ResultSet rs) {
-        try {
-            if (rs != null) rs.close();
-            if (pstmt != null) pstmt.close();
-            if (conn != null) conn.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    // 첫 페이지 캐시 (페이지 크기별, 30초)
+    private static final LocalCache<Integer, List<NewsDTO>> FIRST_PAGE_CACHE =
+            LocalCache.region("news-first-page", 30 * 1000, 16);
+    
+    // 검색 색인 (필드: 제목, 내용)
+    // 작성자 이름은 회원 정보 수정으로 글과 무관하게 바뀌므로 색인하지 않고 SQL로 검색
+    private static final SearchIndex SEARCH_INDEX = new SearchIndex("news", 3.0, 1.0);
+    private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
+    
+    /**
+     * 목록 캐시 무효화 (게시글/댓글 수가 바뀌는 작업 후 호출)
+     */
+    public static void invalidateListCaches() {
+        FIRST_PAGE_CACHE.invalidateAll();
     }
-      // ResultSet에서 DTO 객체 생성 유틸리티 메서드
+    
+    // ResultSet에서 DTO 객체 생성 유틸리티 메서드
     private NewsDTO createNewsFromResultSet(ResultSet rs) throws SQLException {
         NewsDTO news = new NewsDTO();
         
@@ -68,7 +74,39 @@ public class NewsDAO {
         news.setUserId(rs.getLong("user_uid"));
         
         return news;
-    }    /**
+    }
+    
+    // 목록/상세 조회용 매핑 (작성자 이름, 댓글 수 포함)
+    private NewsDTO createNewsWithSummaryFromResultSet(ResultSet rs) throws SQLException {
+        NewsDTO news = createNewsFromResultSet(rs);
+        news.setUserName(rs.getString("user_name"));
+        news.setCommentCount(rs.getInt("comment_count"));
+        // 아직 DB에 반영되지 않은 조회수 포함
+        news.setNewsRead(news.getNewsRead()
+                + (int) ViewCountAggregator.getInstance().getPendingCount(Board.NEWS, news.getNewsId()));
+        return news;
+    }
+    
+    // ResultSet에서 댓글 DTO 객체 생성
+    private NewsCommentDTO createCommentFromResultSet(ResultSet rs) throws SQLException {
+        NewsCommentDTO comment = new NewsCommentDTO();
+        comment.setNewsCommentId(rs.getLong("news_comment_uid"));
+        comment.setNewsCommentContents(rs.getString("news_comment_contents"));
+        comment.setNewsCommentWritetime(rs.getTimestamp("news_comment_writetime").toLocalDateTime());
+        
+        Timestamp modifyTime = rs.getTimestamp("news_comment_modifytime");
+        if (modifyTime != null) {
+            comment.setNewsCommentModifytime(modifyTime.toLocalDateTime());
+        }
+        
+        comment.setNewsCommentAuthorIp(rs.getString("news_comment_author_ip"));
+        comment.setNewsId(rs.getLong("news_uid"));
+        comment.setUserId(rs.getLong("user_uid"));
+        comment.setUserName(rs.getString("user_name"));
+        return comment;
+    }
+    
+    /**
      * 소식 게시글 등록
      */
     public boolean postNews(NewsDTO news) throws SQLException {
@@ -77,111 +115,78 @@ public class NewsDAO {
                     "news_deleted, user_uid) " +
                     "VALUES (?, ?, 0, 0, NOW(), ?, 'maintained', ?)";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
         try {
-            conn = getConnection();
-            conn.setAutoCommit(false); // 트랜잭션 시작
-            
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, news.getNewsTitle());
-            pstmt.setString(2, news.getNewsContents());
-            pstmt.setString(3, news.getNewsAuthorIp());
-            pstmt.setLong(4, news.getUserId());
-            
-            int result = pstmt.executeUpdate();
-            boolean success = result > 0;
-            
-            if (success) {
-                // 생성된 게시글 ID 가져오기
-                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        news.setNewsId(generatedKeys.getLong(1));
-                    }
-                }
-                conn.commit();
+            long newsId = JdbcTemplate.insertAndReturnKey(sql,
+                    news.getNewsTitle(),
+                    news.getNewsContents(),
+                    news.getNewsAuthorIp(),
+                    news.getUserId());
+            
+            if (newsId > 0) {
+                news.setNewsId(newsId);
+                invalidateListCaches();
+                refreshSearchDocument(newsId);
                 logger.info("소식 게시글 등록 성공: ID=" + news.getNewsId() + ", 작성자=" + news.getUserId());
-            } else {
-                conn.rollback();
-                logger.warning("소식 게시글 등록 실패: 영향받은 행 없음");
+                return true;
             }
             
-            return success;
+            logger.warning("소식 게시글 등록 실패: 영향받은 행 없음");
+            return false;
         } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    logger.severe("롤백 중 오류 발생: " + ex.getMessage());
-                }
-            }
-            
             String errorCode = "DB_ERROR_" + System.currentTimeMillis();
             logger.severe("소식 게시글 등록 중 오류 발생 [" + errorCode + "]: " + e.getMessage());
             logger.severe("SQL 상태: " + e.getSQLState() + ", 에러코드: " + e.getErrorCode());
             throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    logger.severe("AutoCommit 설정 복구 중 오류: " + e.getMessage());
-                }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
         }
     }
-      /**
+    
+    /**
      * 모든 키보드 소식 조회 (페이징 처리)
      */
     public List<NewsDTO> getAllNews(int page, int pageSize) throws SQLException {
-        List<NewsDTO> newsList = new ArrayList<>();
-        String sql = "SELECT n.*, u.user_name, " +
-                    "(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count " +
+        String sql = "SELECT n.*, u.user_name, n.comment_count " +
                     "FROM news n " +
                     "JOIN user u ON n.user_uid = u.user_uid " +
                     "WHERE n.news_deleted = 'maintained' " +
                     "ORDER BY n.news_writetime DESC " +
                     "LIMIT ? OFFSET ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                NewsDTO news = createNewsFromResultSet(rs);
-                // 추가 정보 설정
-                news.setUserName(rs.getString("user_name"));
-                news.setCommentCount(rs.getInt("comment_count"));
-                newsList.add(news);
-            }
-            
-            return newsList;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
+        // 첫 페이지는 요청이 몰리므로 캐시
+        if (page == 1) {
+            return FIRST_PAGE_CACHE.get(pageSize,
+                    () -> JdbcTemplate.query(sql, this::createNewsWithSummaryFromResultSet, pageSize, 0));
         }
+        return JdbcTemplate.query(sql, this::createNewsWithSummaryFromResultSet, pageSize, (page - 1) * pageSize);
+    }
+    
+    /**
+     * 커서 기반 소식 목록 조회 (최신순)
+     * 정렬 키: 작성 시간, uid - OFFSET 없이 인덱스 범위 조건으로 페이지를 찾음
+     * @param cursor 이전 응답의 nextCursor/prevCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param pageSize 페이지 크기
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<NewsDTO> getNewsByCursor(String cursor, int pageSize) throws SQLException {
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        boolean backward = pageCursor != null && pageCursor.isBackward();
+        
+        StringBuilder sql = new StringBuilder("SELECT n.*, u.user_name, n.comment_count " +
+                    "FROM news n " +
+                    "JOIN user u ON n.user_uid = u.user_uid " +
+                    "WHERE n.news_deleted = 'maintained' ");
+        List<Object> params = new ArrayList<>();
+        if (pageCursor != null) {
+            sql.append("AND (n.news_writetime, n.news_uid) ").append(backward ? "> " : "< ").append("(?, ?) ");
+            params.add(pageCursor.getDateTime(0));
+            params.add(pageCursor.getLong(1));
+        }
+        String order = backward ? "ASC" : "DESC";
+        sql.append("ORDER BY n.news_writetime ").append(order).append(", n.news_uid ").append(order).append(" LIMIT ?");
+        params.add(pageSize + 1);
+        
+        List<NewsDTO> rows = JdbcTemplate.query(sql.toString(), this::createNewsWithSummaryFromResultSet, params.toArray());
+        return CursorPage.fromRows(rows, pageSize, pageCursor,
+                news -> new Object[] { news.getNewsWritetime(), news.getNewsId() });
     }
     
     /**
@@ -190,67 +195,36 @@ public class NewsDAO {
     public List<NewsDTO> getAllNews() throws SQLException {
         return getAllNews(1, 20); // 기본값으로 첫 페이지, 20개 항목
     }
-      /**
+    
+    /**
      * ID로 소식 조회
-     */    
+     */
     public NewsDTO getNewsById(long newsId) throws SQLException {
-        NewsDTO news = null;
-        String sql = "SELECT n.*, u.user_name, " + 
-                    "(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count " +
+        String sql = "SELECT n.*, u.user_name, n.comment_count " +
                     "FROM news n " +
                     "JOIN user u ON n.user_uid = u.user_uid " +
                     "WHERE n.news_uid = ? AND n.news_deleted = 'maintained'";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        NewsDTO news = JdbcTemplate.queryForObject(sql, this::createNewsWithSummaryFromResultSet, newsId);
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                news = createNewsFromResultSet(rs);
-                news.setUserName(rs.getString("user_name"));
-                news.setCommentCount(rs.getInt("comment_count"));
-            }
-            
-            // 리소스를 닫기 전에 조회수 증가
-            if (news != null) {
-                // 별도의 connection에서 실행
-                updateReadCount(newsId);
-            }
-            
-            return news;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
+        // 조회 성공 시 조회수 증가 (방금 조회한 1회를 표시 값에도 반영)
+        if (news != null) {
+            updateReadCount(newsId);
+            news.setNewsRead(news.getNewsRead() + 1);
         }
+        
+        return news;
     }
-      /**
-     * 조회수 증가
+    
+    /**
+     * 조회수 증가 (메모리에 누적 후 주기적으로 일괄 저장)
      */
-    private void updateReadCount(long newsId) throws SQLException {
-        String sql = "UPDATE news SET news_read = news_read + 1 WHERE news_uid = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, newsId);
-            pstmt.executeUpdate();
-        }
+    private void updateReadCount(long newsId) {
+        ViewCountAggregator.getInstance().increment(Board.NEWS, newsId);
     }
-      /**
-     * 조회수 증가 (세션 기반 중복 방지)
+    
+    /**
+     * 조회수 증가 (조회자 기준 중복 방지, ViewDedupStore)
      * @param newsId 뉴스 ID
      * @param request HTTP 요청 객체
      * @throws SQLException SQL 예외 발생 시
@@ -258,7 +232,7 @@ public class NewsDAO {
     public void updateReadCount(long newsId, jakarta.servlet.http.HttpServletRequest request) throws SQLException {
         // 세션이 없으면 그냥 조회수 증가
         if (request == null) {
-            System.out.println("Request 객체가 null이어서 단순 조회수 증가 처리: " + newsId);
+            eventLog.debug("read_count_no_request", "newsId", newsId);
             updateReadCount(newsId);
             return;
         }
@@ -266,209 +240,245 @@ public class NewsDAO {
         // increaseReadCount 파라미터 체크 (false인 경우 증가 안 함)
         String increaseParam = request.getParameter("increaseReadCount");
         if (increaseParam != null && "false".equalsIgnoreCase(increaseParam)) {
-            System.out.println("increaseReadCount=false 파라미터로 조회수 증가 생략: " + newsId);
+            eventLog.debug("read_count_skipped", "newsId", newsId, "reason", "increaseReadCount=false");
             return;
         }
         
-        jakarta.servlet.http.HttpSession session = request.getSession();
-        // 세션 타임아웃 설정 (30분)
-        session.setMaxInactiveInterval(1800);
-        
-        // 세션에서 방문한 게시글 목록 가져오기
-        @SuppressWarnings("unchecked")
-        java.util.Set<Long> viewedPosts = (java.util.Set<Long>) session.getAttribute("VIEWED_NEWS_POSTS");
-        
-        // 세션에 방문 기록이 없으면 새로 생성
-        if (viewedPosts == null) {
-            viewedPosts = new java.util.HashSet<>();
-            session.setAttribute("VIEWED_NEWS_POSTS", viewedPosts);
-            System.out.println("새 세션 생성 및 조회 기록 초기화: " + session.getId());
-        }
-        
-        // 이미 방문한 게시글이면 조회수 증가 생략
-        if (viewedPosts.contains(newsId)) {
-            System.out.println("이미 조회한 게시글이므로 조회수 증가 생략: " + newsId + " (세션 ID: " + session.getId() + ")");
+        // 같은 조회자의 반복 조회는 TTL 동안 한 번만 집계 (세션에 기록을 쌓지 않음)
+        String viewer = ViewDedupStore.viewerKey(request);
+        if (!ViewDedupStore.getInstance().markViewed(viewer, "news", newsId)) {
             return;
         }
         
-        // 방문 기록에 추가
-        viewedPosts.add(newsId);
-        System.out.println("조회 기록에 게시글 추가 및 조회수 증가: " + newsId + " (세션 ID: " + session.getId() + ")");
-        
-        // 조회수 증가 쿼리 실행
         updateReadCount(newsId);
     }
-      /**
+    
+    /**
      * 소식 수정
      */
     public boolean updateNewsById(NewsDTO news) throws SQLException {
         String sql = "UPDATE news SET news_title = ?, news_contents = ?, " +
                     "news_modify_time = NOW() WHERE news_uid = ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, news.getNewsTitle());
-            pstmt.setString(2, news.getNewsContents());
-            pstmt.setLong(3, news.getNewsId());
-            
-            int result = pstmt.executeUpdate();
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, news.getNewsTitle(), news.getNewsContents(), news.getNewsId());
             
             if (result > 0) {
                 // 수정 로그 저장
-                logModifyPost(news.getNewsId(), news.getUserId(), "news");
+                logModifyPost(conn, news.getNewsId(), news.getUserId(), "news");
             }
             
             return result > 0;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
+        });
+        if (success) {
+            invalidateListCaches();
+            refreshSearchDocument(news.getNewsId());
         }
+        return success;
     }
-      /**
+    
+    /**
      * 소식 삭제 (소프트 삭제)
      */
     public boolean deleteNewsById(long newsId, long userId) throws SQLException {
         String sql = "UPDATE news SET news_deleted = 'deleted' WHERE news_uid = ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, newsId);
             
             if (result > 0) {
                 // 삭제 로그 저장
-                logDeletePost(newsId, userId, "news");
+                logDeletePost(conn, newsId, userId, "news");
             }
             
             return result > 0;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
+        });
+        if (success) {
+            invalidateListCaches();
+            SEARCH_INDEX.remove(newsId);
         }
+        return success;
     }
-      /**
+    
+    /**
      * 공지사항으로 지정/해제
-     */    public boolean setNoticeById(long newsId, boolean isNotice) throws SQLException {
+     */
+    public boolean setNoticeById(long newsId, boolean isNotice) throws SQLException {
         // 데이터베이스에 news_notify 컬럼이 없으므로 구현 생략
         // 향후 데이터베이스 스키마 업데이트가 필요함
         logger.warning("news_notify 컬럼이 데이터베이스에 존재하지 않아 공지 기능을 사용할 수 없습니다.");
         return true; // 구현 불가로 항상 성공 반환
     }
-      /**
+    
+    /**
      * 총 소식 수 조회 (페이징용)
      */
     public int getTotalCount() throws SQLException {
         String sql = "SELECT COUNT(*) FROM news WHERE news_deleted = 'maintained'";
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        return JdbcTemplate.queryForInt(sql);
     }
     
     /**
      * 소식 검색
-     */    public List<NewsDTO> searchNewsBy(String keyword, String searchType, int page, int pageSize) throws SQLException {
-        List<NewsDTO> searchResults = new ArrayList<>();
+     */
+    public List<NewsDTO> searchNewsBy(String keyword, String searchType, int page, int pageSize) throws SQLException {
+        // 검색 색인이 준비되어 있으면 색인으로 관련도 순 검색, 아니면 (작성자 검색 포함) SQL LIKE 검색
+        if (useSearchIndex(keyword, searchType)) {
+            List<Long> ids = SEARCH_INDEX.search(keyword, searchFields(searchType)).page(page, pageSize);
+            return getNewsByIds(ids);
+        }
+        
         StringBuilder sql = new StringBuilder();
         
-        sql.append("SELECT n.*, u.user_name, ");
-        sql.append("(SELECT COUNT(*) FROM news_comment nc WHERE nc.news_uid = n.news_uid) AS comment_count ");
+        sql.append("SELECT n.*, u.user_name, n.comment_count ");
         sql.append("FROM news n ");
         sql.append("JOIN user u ON n.user_uid = u.user_uid ");
         sql.append("WHERE n.news_deleted = 'maintained' ");
         
+        String pattern = "%" + keyword + "%";
+        Object[] params;
+        
         // 검색 조건 추가
-        if (searchType.equals("title")) {
+        if ("title".equals(searchType)) {
             sql.append("AND n.news_title LIKE ? ");
-        } else if (searchType.equals("content")) {
+            params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
+        } else if ("content".equals(searchType)) {
             sql.append("AND n.news_contents LIKE ? ");
-        } else if (searchType.equals("author")) {
+            params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
+        } else if ("author".equals(searchType)) {
             sql.append("AND u.user_name LIKE ? ");
+            params = new Object[] { pattern, pageSize, (page - 1) * pageSize };
         } else {
             sql.append("AND (n.news_title LIKE ? OR n.news_contents LIKE ?) ");
+            params = new Object[] { pattern, pattern, pageSize, (page - 1) * pageSize };
         }
-          sql.append("ORDER BY n.news_writetime DESC ");
+        sql.append("ORDER BY n.news_writetime DESC ");
         sql.append("LIMIT ? OFFSET ?");
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        return JdbcTemplate.query(sql.toString(), this::createNewsWithSummaryFromResultSet, params);
+    }
+    
+    /**
+     * 검색 결과 수
+     */
+    public int getSearchCount(String keyword, String searchType) throws SQLException {
+        if (useSearchIndex(keyword, searchType)) {
+            return SEARCH_INDEX.search(keyword, searchFields(searchType)).getTotal();
+        }
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            if (searchType.equals("title") || searchType.equals("content") || searchType.equals("author")) {
-                pstmt.setString(1, "%" + keyword + "%");
-                pstmt.setInt(2, pageSize);
-                pstmt.setInt(3, (page - 1) * pageSize);
-            } else {
-                pstmt.setString(1, "%" + keyword + "%");
-                pstmt.setString(2, "%" + keyword + "%");
-                pstmt.setInt(3, pageSize);
-                pstmt.setInt(4, (page - 1) * pageSize);
-            }
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                NewsDTO news = createNewsFromResultSet(rs);
-                news.setUserName(rs.getString("user_name"));
-                news.setCommentCount(rs.getInt("comment_count"));
-                searchResults.add(news);
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM news n ");
+        sql.append("JOIN user u ON n.user_uid = u.user_uid ");
+        sql.append("WHERE n.news_deleted = 'maintained' ");
+        
+        String pattern = "%" + keyword + "%";
+        if ("title".equals(searchType)) {
+            sql.append("AND n.news_title LIKE ?");
+            return JdbcTemplate.queryForInt(sql.toString(), pattern);
+        } else if ("content".equals(searchType)) {
+            sql.append("AND n.news_contents LIKE ?");
+            return JdbcTemplate.queryForInt(sql.toString(), pattern);
+        } else if ("author".equals(searchType)) {
+            sql.append("AND u.user_name LIKE ?");
+            return JdbcTemplate.queryForInt(sql.toString(), pattern);
+        }
+        sql.append("AND (n.news_title LIKE ? OR n.news_contents LIKE ?)");
+        return JdbcTemplate.queryForInt(sql.toString(), pattern, pattern);
+    }
+    
+    private boolean useSearchIndex(String keyword, String searchType) {
+        return !"author".equals(searchType) && SEARCH_INDEX.isReady() && NgramTokenizer.isIndexable(keyword);
+    }
+    
+    // 검색 유형 → 색인 필드 (0: 제목, 1: 내용, 그 외/미지정은 전체)
+    private int[] searchFields(String searchType) {
+        switch (searchType == null ? "all" : searchType) {
+            case "title":
+                return new int[] { 0 };
+            case "content":
+                return new int[] { 1 };
+            default:
+                return new int[] { 0, 1 };
+        }
+    }
+    
+    // ID 목록 순서대로 소식 조회
+    private List<NewsDTO> getNewsByIds(List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT n.*, u.user_name, n.comment_count FROM news n " +
+                    "JOIN user u ON n.user_uid = u.user_uid " +
+                    "WHERE n.news_deleted = 'maintained' " +
+                    "AND n.news_uid IN (" + JdbcTemplate.placeholders(ids.size()) + ")";
+        
+        Map<Long, NewsDTO> byId = new HashMap<>();
+        for (NewsDTO news : JdbcTemplate.query(sql, this::createNewsWithSummaryFromResultSet, ids.toArray())) {
+            byId.put(news.getNewsId(), news);
+        }
+        List<NewsDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            NewsDTO news = byId.get(id);
+            if (news != null) {
+                result.add(news);
             }
-            
-            return searchResults;
+        }
+        return result;
+    }
+    
+    /**
+     * 검색 색인 전체 재구성 (애플리케이션 시작 시 백그라운드에서 호출)
+     * @return 색인한 게시글 수
+     */
+    public int rebuildSearchIndex() throws SQLException {
+        String sql = "SELECT n.news_uid, n.news_title, n.news_contents FROM news n " +
+                    "WHERE n.news_deleted = 'maintained' AND n.news_uid > ? " +
+                    "ORDER BY n.news_uid LIMIT ?";
+        
+        SEARCH_INDEX.beginBuild();
+        boolean success = false;
+        try {
+            int total = 0;
+            long lastId = 0;
+            List<Long> batch;
+            do {
+                batch = JdbcTemplate.query(sql, rs -> {
+                    long id = rs.getLong("news_uid");
+                    SEARCH_INDEX.addIfAbsent(id, rs.getString("news_title"), rs.getString("news_contents"));
+                    return id;
+                }, lastId, SEARCH_INDEX_BATCH_SIZE);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1);
+                }
+                total += batch.size();
+            } while (batch.size() == SEARCH_INDEX_BATCH_SIZE);
+            success = true;
+            return total;
         } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
+            SEARCH_INDEX.finishBuild(success);
+        }
+    }
+    
+    /**
+     * 소식 하나의 검색 색인 갱신 (등록/수정/복원 후 호출, 삭제된 글이면 색인에서 제거)
+     * 색인 갱신 실패는 글 작성 결과에 영향을 주지 않도록 로그만 남김
+     */
+    public void refreshSearchDocument(long newsId) {
+        String sql = "SELECT n.news_uid, n.news_title, n.news_contents FROM news n " +
+                    "WHERE n.news_uid = ? AND n.news_deleted = 'maintained'";
+        try {
+            String[] fields = JdbcTemplate.queryForObject(sql, rs -> new String[] {
+                    rs.getString("news_title"), rs.getString("news_contents") }, newsId);
+            if (fields != null) {
+                SEARCH_INDEX.index(newsId, fields);
+            } else {
+                SEARCH_INDEX.remove(newsId);
             }
+        } catch (SQLException e) {
+            logger.warning("검색 색인 갱신 실패: ID=" + newsId + ", 오류=" + e.getMessage());
         }
     }
-      /**
+    
+    /**
      * 게시글 추천
      */
     public boolean recommendNewsById(long newsId, long userId) throws SQLException {
@@ -479,49 +489,18 @@ public class NewsDAO {
         
         String sql = "UPDATE news SET news_recommend = news_recommend + 1 WHERE news_uid = ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 추천 로그 기록
-                logRecommendation(newsId, userId, "news");
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        return JdbcTemplate.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, newsId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+            
+            // 추천 로그 기록
+            logRecommendation(conn, newsId, userId, "news");
+            return true;
+        });
     }
-      /**
+    
+    /**
      * 게시글 추천 취소
      */
     public boolean recommendNewsCancelById(long newsId, long userId) throws SQLException {
@@ -532,246 +511,77 @@ public class NewsDAO {
         
         String sql = "UPDATE news SET news_recommend = news_recommend - 1 WHERE news_uid = ? AND news_recommend > 0";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 추천 로그 삭제
-                deleteRecommendLog(newsId, userId, "news");
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        return JdbcTemplate.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, newsId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+            
+            // 추천 로그 삭제
+            deleteRecommendLog(conn, newsId, userId, "news");
+            return true;
+        });
     }
-      /**
+    
+    /**
      * 이미 추천했는지 확인
      */
     private boolean hasAlreadyRecommended(long postId, long userId, String boardType) throws SQLException {
         String sql = "SELECT COUNT(*) FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next() && rs.getInt(1) > 0) {
-                return true;
-            }
-            return false;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        return JdbcTemplate.queryForInt(sql, boardType, postId, userId) > 0;
     }
-      /**
+    
+    /**
      * 추천 로그 기록
      */
-    private void logRecommendation(long postId, long userId, String boardType) throws SQLException {
+    private void logRecommendation(Connection conn, long postId, long userId, String boardType) throws SQLException {
         String sql = "INSERT INTO log_recommend (log_recommend_boardtype, log_recommend_post_id, log_recommend_date, user_uid) " +
                     "VALUES (?, ?, NOW(), ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, postId, userId);
     }
-      /**
+    
+    /**
      * 추천 로그 삭제
      */
-    private void deleteRecommendLog(long postId, long userId, String boardType) throws SQLException {
+    private void deleteRecommendLog(Connection conn, long postId, long userId, String boardType) throws SQLException {
         String sql = "DELETE FROM log_recommend WHERE log_recommend_boardtype = ? AND log_recommend_post_id = ? AND user_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, postId, userId);
     }
-      /**
+    
+    /**
      * 게시글 수정 로그 저장
      */
-    private void logModifyPost(long postId, long userId, String boardType) throws SQLException {
+    private void logModifyPost(Connection conn, long postId, long userId, String boardType) throws SQLException {
         String sql = "INSERT INTO log_modify_post " +
                     "(log_modify_boardtype, log_modify_date, log_modify_post_uid, user_uid) " +
                     "VALUES (?, NOW(), ?, ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, postId, userId);
     }
-      /**
+    
+    /**
      * 게시글 삭제 로그 저장
      */
-    private void logDeletePost(long postId, long userId, String boardType) throws SQLException {
+    private void logDeletePost(Connection conn, long postId, long userId, String boardType) throws SQLException {
         String sql = "INSERT INTO log_delete_post " +
                     "(log_delete_boardtype, log_delete_date, log_deleted_post_uid, user_uid) " +
                     "VALUES (?, NOW(), ?, ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, postId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, postId, userId);
     }
     
     // -------------------- 댓글 관련 기능 --------------------
-      /**
+    
+    /**
      * 게시글의 모든 댓글 조회
      */
     public List<NewsCommentDTO> getCommentsByNewsId(long newsId) throws SQLException {
-        List<NewsCommentDTO> comments = new ArrayList<>();
         String sql = "SELECT c.*, u.user_name FROM news_comment c " +
                     "JOIN user u ON c.user_uid = u.user_uid " +
                     "WHERE c.news_uid = ? " +
                     "ORDER BY c.news_comment_writetime ASC";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                NewsCommentDTO comment = new NewsCommentDTO();
-                comment.setNewsCommentId(rs.getLong("news_comment_uid"));
-                comment.setNewsCommentContents(rs.getString("news_comment_contents"));
-                comment.setNewsCommentWritetime(rs.getTimestamp("news_comment_writetime").toLocalDateTime());
-                
-                if (rs.getTimestamp("news_comment_modifytime") != null) {
-                    comment.setNewsCommentModifytime(rs.getTimestamp("news_comment_modifytime").toLocalDateTime());
-                }
-                
-                comment.setNewsCommentAuthorIp(rs.getString("news_comment_author_ip"));
-                comment.setNewsId(rs.getLong("news_uid"));
-                comment.setUserId(rs.getLong("user_uid"));
-                comment.setUserName(rs.getString("user_name"));
-                
-                comments.add(comment);
-            }
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
-        
-        return comments;
+        return JdbcTemplate.query(sql, this::createCommentFromResultSet, newsId);
     }
-      /**
+    
+    /**
      * 새 댓글 등록
      */
     public boolean addNewsComment(NewsCommentDTO comment) throws SQLException {
@@ -779,33 +589,32 @@ public class NewsDAO {
                     "(news_comment_contents, news_comment_writetime, news_comment_author_ip, news_uid, user_uid) " +
                     "VALUES (?, NOW(), ?, ?, ?)";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, comment.getNewsCommentContents());
-            pstmt.setString(2, comment.getNewsCommentAuthorIp());
-            pstmt.setLong(3, comment.getNewsId());
-            pstmt.setLong(4, comment.getUserId());
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql,
+                    comment.getNewsCommentContents(),
+                    comment.getNewsCommentAuthorIp(),
+                    comment.getNewsId(),
+                    comment.getUserId());
             
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
+            // 게시글의 댓글 수 갱신 (같은 트랜잭션)
+            if (result > 0) {
+                adjustCommentCount(conn, comment.getNewsId(), 1);
             }
+            
+            return result > 0;
+        });
+        if (success) {
+            invalidateListCaches();
         }
+        return success;
     }
-      /**
+    
+    /**
      * 댓글 수정
      */
     public boolean updateNewsCommentById(NewsCommentDTO comment, boolean isAdmin) throws SQLException {
         String sql;
+        Object[] params;
         
         if (isAdmin) {
             // 관리자는 다른 사람의 댓글도 수정 가능
@@ -813,45 +622,29 @@ public class NewsDAO {
                  "news_comment_contents = ?, " +
                  "news_comment_modifytime = NOW() " +
                  "WHERE news_comment_uid = ?";
+            params = new Object[] { comment.getNewsCommentContents(), comment.getNewsCommentId() };
         } else {
             // 일반 사용자는 자신의 댓글만 수정 가능
             sql = "UPDATE news_comment SET " +
                  "news_comment_contents = ?, " +
                  "news_comment_modifytime = NOW() " +
                  "WHERE news_comment_uid = ? AND user_uid = ?";
+            params = new Object[] { comment.getNewsCommentContents(), comment.getNewsCommentId(), comment.getUserId() };
         }
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, comment.getNewsCommentContents());
-            pstmt.setLong(2, comment.getNewsCommentId());
-            
-            if (!isAdmin) {
-                pstmt.setLong(3, comment.getUserId());
-            }
-            
-            int result = pstmt.executeUpdate();
+        return JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, params);
             
             // 수정 로그 저장
             if (result > 0) {
-                logModifyComment(comment.getNewsCommentId(), comment.getUserId(), "news");
+                logModifyComment(conn, comment.getNewsCommentId(), comment.getUserId(), "news");
             }
             
             return result > 0;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        });
     }
-      /**
+    
+    /**
      * 댓글 삭제
      */
     public boolean deleteNewsCommentById(long commentId, long userId, boolean isAdmin) throws SQLException {
@@ -862,45 +655,36 @@ public class NewsDAO {
         }
         
         String sql;
+        Object[] params;
         
         if (isAdmin) {
             // 관리자는 모든 댓글 삭제 가능
             sql = "DELETE FROM news_comment WHERE news_comment_uid = ?";
+            params = new Object[] { commentId };
         } else {
             // 일반 사용자는 자신의 댓글만 삭제 가능
             sql = "DELETE FROM news_comment WHERE news_comment_uid = ? AND user_uid = ?";
+            params = new Object[] { commentId, userId };
         }
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
-            
-            if (!isAdmin) {
-                pstmt.setLong(2, userId);
-            }
-            
-            int result = pstmt.executeUpdate();
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql, params);
             
-            // 삭제 로그 저장
+            // 삭제 로그 저장 및 게시글의 댓글 수 갱신
             if (result > 0) {
-                logDeleteComment(commentId, userId, "news");
+                logDeleteComment(conn, commentId, userId, "news");
+                adjustCommentCount(conn, comment.getNewsId(), -1);
             }
             
             return result > 0;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
+        });
+        if (success) {
+            invalidateListCaches();
         }
+        return success;
     }
-      /**
+    
+    /**
      * 댓글 상세 조회
      */
     public NewsCommentDTO getCommentById(long commentId) throws SQLException {
@@ -908,107 +692,42 @@ public class NewsDAO {
                     "JOIN user u ON c.user_uid = u.user_uid " +
                     "WHERE c.news_comment_uid = ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                NewsCommentDTO comment = new NewsCommentDTO();
-                comment.setNewsCommentId(rs.getLong("news_comment_uid"));
-                comment.setNewsCommentContents(rs.getString("news_comment_contents"));
-                comment.setNewsCommentWritetime(rs.getTimestamp("news_comment_writetime").toLocalDateTime());
-                
-                if (rs.getTimestamp("news_comment_modifytime") != null) {
-                    comment.setNewsCommentModifytime(rs.getTimestamp("news_comment_modifytime").toLocalDateTime());
-                }
-                
-                comment.setNewsCommentAuthorIp(rs.getString("news_comment_author_ip"));
-                comment.setNewsId(rs.getLong("news_uid"));
-                comment.setUserId(rs.getLong("user_uid"));
-                comment.setUserName(rs.getString("user_name"));
-                
-                return comment;
-            }
-            return null;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        return JdbcTemplate.queryForObject(sql, this::createCommentFromResultSet, commentId);
+    }
+    
+    /**
+     * 게시글의 댓글 수(comment_count) 증감
+     * 목록 조회 시 댓글 테이블을 다시 세지 않도록 댓글 등록/삭제 트랜잭션 안에서 함께 갱신
+     */
+    private void adjustCommentCount(Connection conn, long newsId, int delta) throws SQLException {
+        String sql = "UPDATE news SET comment_count = GREATEST(comment_count + ?, 0) WHERE news_uid = ?";
+        JdbcTemplate.update(conn, sql, delta, newsId);
     }
-      /**
+    
+    /**
      * 댓글 수정 로그 저장
      */
-    private void logModifyComment(long commentId, long userId, String boardType) throws SQLException {
+    private void logModifyComment(Connection conn, long commentId, long userId, String boardType) throws SQLException {
         String sql = "INSERT INTO log_modify_comment " +
                     "(log_modify_boardtype, log_modify_date, log_modify_comment_uid, user_uid) " +
                     "VALUES (?, NOW(), ?, ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, commentId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, commentId, userId);
     }
     
     /**
      * 댓글 삭제 로그 저장
      */
-    private void logDeleteComment(long commentId, long userId, String boardType) throws SQLException {
+    private void logDeleteComment(Connection conn, long commentId, long userId, String boardType) throws SQLException {
         String sql = "INSERT INTO log_delete_comment " +
                     "(log_delete_boardtype, log_delete_date, log_deleted_comment_uid, user_uid) " +
                     "VALUES (?, NOW(), ?, ?)";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            pstmt.setLong(2, commentId);
-            pstmt.setLong(3, userId);
-            
-            pstmt.executeUpdate();
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+        JdbcTemplate.update(conn, sql, boardType, commentId, userId);
     }
     
     /**
      * 사용자가 특정 게시글을 추천했는지 확인
-     */    public boolean hasUserRecommended(long newsId, long userId) throws SQLException {
+     */
+    public boolean hasUserRecommended(long newsId, long userId) throws SQLException {
         try {
             return hasAlreadyRecommended(newsId, userId, "news");
         } catch (SQLException e) {
@@ -1016,69 +735,26 @@ public class NewsDAO {
             throw e;
         }
     }
-      /**
+    
+    /**
      * 게시글의 추천 수 조회
      */
     public int getRecommendCount(long newsId) throws SQLException {
         String sql = "SELECT news_recommend FROM news WHERE news_uid = ?";
         
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
         try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("news_recommend");
-            }
-            
-            return 0;
+            return JdbcTemplate.queryForInt(sql, newsId);
         } catch (SQLException e) {
             logger.severe("Failed to get recommend count: " + e.getMessage());
             throw e;
-        } finally {
-            if (rs != null) {
-                try { rs.close(); } catch (SQLException e) { }
-            }
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
         }
     }
     
     /**
      * 조회수 증가
-     */    public boolean increaseViewCount(long newsId) throws SQLException {
-        String sql = "UPDATE news SET news_read = news_read + 1 WHERE news_uid = ?";
-        
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, newsId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } catch (SQLException e) {
-            logger.severe("Failed to increase view count: " + e.getMessage());
-            throw e;
-        } finally {
-            if (pstmt != null) {
-                try { pstmt.close(); } catch (SQLException e) { }
-            }
-            if (conn != null) {
-                try { conn.close(); } catch (SQLException e) { }
-            }
-        }
+     */
+    public boolean increaseViewCount(long newsId) throws SQLException {
+        updateReadCount(newsId);
+        return true;
     }
 }
@@ -1,10 +1,7 @@
 package repository.dao.board;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,22 +10,13 @@ import dto.board.AnswerDTO;
 import dto.board.AttachmentDTO;
 import dto.board.QuestionDTO;
 import dto.user.UserDTO;
-import util.db.DBConnectionUtil;
+import util.db.CursorPage;
+import util.db.JdbcTemplate;
+import util.db.PageCursor;
+import util.db.ViewCountAggregator;
+import util.db.ViewCountAggregator.Board;
 
 public class QuestionDAO {
-    private Connection conn = null;
-    private PreparedStatement pstmt = null;
-    private ResultSet rs = null;
-    
-    // DB 연결 메서드
-    private Connection getConnection() throws SQLException {
-        return DBConnectionUtil.getConnection();
-    }
-    
-    // 자원 해제 메서드
-    private void closeResources() {
-        DBConnectionUtil.close(rs, pstmt, conn);
-    }
     
     /**
      * 질문 ID로 질문 정보 조회
@@ -39,19 +27,7 @@ public class QuestionDAO {
                     "JOIN user u ON q.user_uid = u.user_uid " +
                     "WHERE q.inquiry_uid = ? AND q.inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToQuestion(rs);
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForObject(sql, this::mapResultSetToQuestion, questionId);
     }
     
     /**
@@ -63,29 +39,19 @@ public class QuestionDAO {
                     "inquiry_category, inquiry_read_status) " +
                     "VALUES (?, ?, NOW(), NOW(), ?, 'maintained', ?, ?, 'unread')";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, question.getTitle());
-            pstmt.setString(2, question.getContent());
-            pstmt.setString(3, question.getAuthorIp());
-            pstmt.setLong(4, question.getUserUid());
-            pstmt.setString(5, question.getCategory());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows > 0) {
-                // 생성된 ID 가져오기
-                rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    question.setQuestionId(rs.getLong(1));
-                }
-                return true;
-            }
-            return false;
-        } finally {
-            closeResources();
+        long questionId = JdbcTemplate.insertAndReturnKey(sql,
+                question.getTitle(),
+                question.getContent(),
+                question.getAuthorIp(),
+                question.getUserUid(),
+                question.getCategory());
+        
+        if (questionId > 0) {
+            // 생성된 ID 설정
+            question.setQuestionId(questionId);
+            return true;
         }
+        return false;
     }
     
     /**
@@ -96,54 +62,21 @@ public class QuestionDAO {
                     "inquiry_modify_time = NOW(), inquiry_category = ? " +
                     "WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, question.getTitle());
-            pstmt.setString(2, question.getContent());
-            pstmt.setString(3, question.getCategory());
-            pstmt.setLong(4, question.getQuestionId());
-            
-            int result = pstmt.executeUpdate();
+        return JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql,
+                    question.getTitle(), question.getContent(), question.getCategory(), question.getQuestionId());
             
-            if (result > 0) {
-                // 수정 로그 저장
-                String logSql = "INSERT INTO log_modify_post (log_modify_boardtype, log_modify_date, " +
-                               "log_modify_post_uid, user_uid) " +
-                               "VALUES ('inquiry', NOW(), ?, ?)";
-                
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, question.getQuestionId());
-                pstmt.setLong(2, modifierId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+            if (result == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            
+            // 수정 로그 저장
+            String logSql = "INSERT INTO log_modify_post (log_modify_boardtype, log_modify_date, " +
+                           "log_modify_post_uid, user_uid) " +
+                           "VALUES ('inquiry', NOW(), ?, ?)";
+            JdbcTemplate.update(conn, logSql, question.getQuestionId(), modifierId);
+            return true;
+        });
     }
     
     /**
@@ -152,51 +85,18 @@ public class QuestionDAO {
     public boolean deleteQuestion(long questionId, long deleterId, String reason) throws SQLException {
         String sql = "UPDATE inquiry SET inquiry_deleted = 'deleted' WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 삭제 로그 저장
-                String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_delete_date, " +
-                               "log_deleted_post_uid, user_uid) " +
-                               "VALUES ('inquiry', NOW(), ?, ?)";
-                
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, questionId);
-                pstmt.setLong(2, deleterId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        return JdbcTemplate.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, questionId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            
+            // 삭제 로그 저장
+            String logSql = "INSERT INTO log_delete_post (log_delete_boardtype, log_delete_date, " +
+                           "log_deleted_post_uid, user_uid) " +
+                           "VALUES ('inquiry', NOW(), ?, ?)";
+            JdbcTemplate.update(conn, logSql, questionId, deleterId);
+            return true;
+        });
     }
     
     /**
@@ -204,17 +104,7 @@ public class QuestionDAO {
      */
     public boolean increaseViewCount(long questionId) throws SQLException {
         String sql = "UPDATE inquiry SET inquiry_read_status = 'read' WHERE inquiry_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.update(sql, questionId) > 0;
     }
     
     /**
@@ -230,24 +120,38 @@ public class QuestionDAO {
                      "ORDER BY q.inquiry_writetime DESC " +
                      "LIMIT ? OFFSET ?";
         
-        List<QuestionDTO> questions = new ArrayList<>();
+        return JdbcTemplate.query(sql, this::mapResultSetToQuestion, pageSize, offset);
+    }
+    
+    /**
+     * 커서 기반 질문 목록 조회 (최신순)
+     * 정렬 키: 작성 시간, uid - OFFSET 없이 인덱스 범위 조건으로 페이지를 찾음
+     * @param cursor 이전 응답의 nextCursor/prevCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param pageSize 페이지 크기
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<QuestionDTO> getQuestionsByCursor(String cursor, int pageSize) throws SQLException {
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        boolean backward = pageCursor != null && pageCursor.isBackward();
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, offset);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                QuestionDTO question = mapResultSetToQuestion(rs);
-                questions.add(question);
-            }
-            
-            return questions;
-        } finally {
-            closeResources();
+        StringBuilder sql = new StringBuilder("SELECT q.*, u.user_name " +
+                     "FROM inquiry q " +
+                     "JOIN user u ON q.user_uid = u.user_uid " +
+                     "WHERE q.inquiry_parent_uid IS NULL " +
+                     "AND q.inquiry_deleted = 'maintained' ");
+        List<Object> params = new ArrayList<>();
+        if (pageCursor != null) {
+            sql.append("AND (q.inquiry_writetime, q.inquiry_uid) ").append(backward ? "> " : "< ").append("(?, ?) ");
+            params.add(pageCursor.getDateTime(0));
+            params.add(pageCursor.getLong(1));
         }
+        String order = backward ? "ASC" : "DESC";
+        sql.append("ORDER BY q.inquiry_writetime ").append(order).append(", q.inquiry_uid ").append(order).append(" LIMIT ?");
+        params.add(pageSize + 1);
+        
+        List<QuestionDTO> rows = JdbcTemplate.query(sql.toString(), this::mapResultSetToQuestion, params.toArray());
+        return CursorPage.fromRows(rows, pageSize, pageCursor,
+                question -> new Object[] { question.getCreatedAt(), question.getQuestionId() });
     }
     
     /**
@@ -256,19 +160,7 @@ public class QuestionDAO {
     public int getTotalQuestions() throws SQLException {
         String sql = "SELECT COUNT(*) FROM inquiry WHERE inquiry_parent_uid IS NULL " +
                      "AND inquiry_deleted = 'maintained'";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql);
     }
     
     /**
@@ -285,25 +177,7 @@ public class QuestionDAO {
                      "ORDER BY q.inquiry_writetime DESC " +
                      "LIMIT ? OFFSET ?";
         
-        List<QuestionDTO> questions = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, offset);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                QuestionDTO question = mapResultSetToQuestion(rs);
-                questions.add(question);
-            }
-            
-            return questions;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, this::mapResultSetToQuestion, userId, pageSize, offset);
     }
     
     /**
@@ -312,20 +186,7 @@ public class QuestionDAO {
     public int getTotalQuestionsByUserId(long userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM inquiry WHERE inquiry_parent_uid IS NULL " +
                      "AND inquiry_deleted = 'maintained' AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql, userId);
     }
     
     /**
@@ -339,23 +200,7 @@ public class QuestionDAO {
                      "AND a.inquiry_deleted = 'maintained' " +
                      "ORDER BY a.inquiry_writetime ASC";
         
-        List<AnswerDTO> answers = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                AnswerDTO answer = mapResultSetToAnswer(rs);
-                answers.add(answer);
-            }
-            
-            return answers;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, this::mapResultSetToAnswer, questionId);
     }
     
     /**
@@ -368,19 +213,7 @@ public class QuestionDAO {
                      "WHERE a.inquiry_uid = ? " +
                      "AND a.inquiry_deleted = 'maintained'";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, answerId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToAnswer(rs);
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForObject(sql, this::mapResultSetToAnswer, answerId);
     }
     
     /**
@@ -392,28 +225,18 @@ public class QuestionDAO {
                     "inquiry_parent_uid, inquiry_category, inquiry_read_status) " +
                     "VALUES ('답변', ?, NOW(), NOW(), ?, 'maintained', ?, ?, 'question', 'read')";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            pstmt.setString(1, answer.getContent());
-            pstmt.setString(2, answer.getAuthorIp());
-            pstmt.setLong(3, answer.getUserUid());
-            pstmt.setLong(4, answer.getQuestionId());
-            
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows > 0) {
-                // 생성된 ID 가져오기
-                rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    answer.setAnswerId(rs.getLong(1));
-                }
-                return true;
-            }
-            return false;
-        } finally {
-            closeResources();
+        long answerId = JdbcTemplate.insertAndReturnKey(sql,
+                answer.getContent(),
+                answer.getAuthorIp(),
+                answer.getUserUid(),
+                answer.getQuestionId());
+        
+        if (answerId > 0) {
+            // 생성된 ID 설정
+            answer.setAnswerId(answerId);
+            return true;
         }
+        return false;
     }
     
     /**
@@ -423,52 +246,18 @@ public class QuestionDAO {
         String sql = "UPDATE inquiry SET inquiry_contents = ?, inquiry_modify_time = NOW() " +
                     "WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, answer.getContent());
-            pstmt.setLong(2, answer.getAnswerId());
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 수정 로그 저장
-                String logSql = "INSERT INTO log_modify_comment (log_modify_boardtype, log_modify_date, " +
-                              "log_modify_comment_uid, user_uid) " +
-                              "VALUES ('inquiry', NOW(), ?, ?)";
-                
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, answer.getAnswerId());
-                pstmt.setLong(2, modifierId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        return JdbcTemplate.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, answer.getContent(), answer.getAnswerId()) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            
+            // 수정 로그 저장
+            String logSql = "INSERT INTO log_modify_comment (log_modify_boardtype, log_modify_date, " +
+                          "log_modify_comment_uid, user_uid) " +
+                          "VALUES ('inquiry', NOW(), ?, ?)";
+            JdbcTemplate.update(conn, logSql, answer.getAnswerId(), modifierId);
+            return true;
+        });
     }
     
     /**
@@ -477,51 +266,18 @@ public class QuestionDAO {
     public boolean deleteAnswer(long answerId, long deleterId, String reason) throws SQLException {
         String sql = "UPDATE inquiry SET inquiry_deleted = 'deleted' WHERE inquiry_uid = ?";
         
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, answerId);
-            
-            int result = pstmt.executeUpdate();
-            
-            if (result > 0) {
-                // 삭제 로그 저장
-                String logSql = "INSERT INTO log_delete_comment (log_delete_boardtype, log_delete_date, " +
-                              "log_deleted_comment_uid, user_uid) " +
-                              "VALUES ('inquiry', NOW(), ?, ?)";
-                
-                pstmt = conn.prepareStatement(logSql);
-                pstmt.setLong(1, answerId);
-                pstmt.setLong(2, deleterId);
-                
-                pstmt.executeUpdate();
-                conn.commit();
-                return true;
-            } else {
-                conn.rollback();
+        return JdbcTemplate.inTransaction(conn -> {
+            if (JdbcTemplate.update(conn, sql, answerId) == 0) {
                 return false;
             }
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
-            closeResources();
-        }
+            
+            // 삭제 로그 저장
+            String logSql = "INSERT INTO log_delete_comment (log_delete_boardtype, log_delete_date, " +
+                          "log_deleted_comment_uid, user_uid) " +
+                          "VALUES ('inquiry', NOW(), ?, ?)";
+            JdbcTemplate.update(conn, logSql, answerId, deleterId);
+            return true;
+        });
     }
     
     /**
@@ -530,20 +286,7 @@ public class QuestionDAO {
     public boolean addAttachment(long questionId, String fileName, String filePath, long fileSize) throws SQLException {
         String sql = "INSERT INTO freeboard_attach (freeboard_uid, file_name, file_path, file_size, upload_date) " +
                     "VALUES (?, ?, ?, ?, NOW())";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            pstmt.setString(2, fileName);
-            pstmt.setString(3, filePath);
-            pstmt.setLong(4, fileSize);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.update(sql, questionId, fileName, filePath, fileSize) > 0;
     }
     
     /**
@@ -551,30 +294,7 @@ public class QuestionDAO {
      */
     public List<AttachmentDTO> getAttachmentsByQuestionId(long questionId) throws SQLException {
         String sql = "SELECT * FROM freeboard_attach WHERE freeboard_uid = ?";
-        
-        List<AttachmentDTO> attachments = new ArrayList<>();
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, questionId);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                AttachmentDTO attachment = new AttachmentDTO();
-                attachment.setAttachId(rs.getLong("attach_uid"));
-                attachment.setPostId(rs.getLong("freeboard_uid"));
-                attachment.setFileName(rs.getString("file_name"));
-                attachment.setFilePath(rs.getString("file_path"));
-                attachment.setFileSize(rs.getLong("file_size"));
-                attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-                attachments.add(attachment);
-            }
-            
-            return attachments;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, this::mapResultSetToAttachment, questionId);
     }
     
     /**
@@ -582,27 +302,14 @@ public class QuestionDAO {
      */
     public AttachmentDTO getAttachmentById(long attachId) throws SQLException {
         String sql = "SELECT * FROM freeboard_attach WHERE attach_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, attachId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                AttachmentDTO attachment = new AttachmentDTO();
-                attachment.setAttachId(rs.getLong("attach_uid"));
-                attachment.setPostId(rs.getLong("freeboard_uid"));
-                attachment.setFileName(rs.getString("file_name"));
-                attachment.setFilePath(rs.getString("file_path"));
-                attachment.setFileSize(rs.getLong("file_size"));
-                attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
-                return attachment;
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForObject(sql, this::mapResultSetToAttachment, attachId);
+    }
+    
+    /**
+     * 첨부파일 다운로드 수 증가 (메모리에 누적 후 주기적으로 일괄 저장)
+     */
+    public void increaseDownloadCount(long attachId) {
+        ViewCountAggregator.getInstance().increment(Board.ATTACHMENT_DOWNLOAD, attachId);
     }
     
     /**
@@ -611,25 +318,15 @@ public class QuestionDAO {
     public UserDTO getUserById(long userId) throws SQLException {
         String sql = "SELECT * FROM user WHERE user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                UserDTO user = new UserDTO();
-                user.setUserId(rs.getLong("user_uid"));
-                user.setUsername(rs.getString("user_id"));
-                user.setNickname(rs.getString("user_name"));
-                user.setEmail(rs.getString("user_email"));
-                user.setUserAuthority(rs.getString("user_authority"));
-                return user;
-            }
-            return null;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForObject(sql, rs -> {
+            UserDTO user = new UserDTO();
+            user.setUserId(rs.getLong("user_uid"));
+            user.setUsername(rs.getString("user_id"));
+            user.setNickname(rs.getString("user_name"));
+            user.setEmail(rs.getString("user_email"));
+            user.setUserAuthority(rs.getString("user_authority"));
+            return user;
+        }, userId);
     }
     
     /**
@@ -685,4 +382,18 @@ public class QuestionDAO {
         
         return answer;
     }
+    
+    /**
+     * ResultSet에서 AttachmentDTO 객체로 매핑
+     */
+    private AttachmentDTO mapResultSetToAttachment(ResultSet rs) throws SQLException {
+        AttachmentDTO attachment = new AttachmentDTO();
+        attachment.setAttachId(rs.getLong("attach_uid"));
+        attachment.setPostId(rs.getLong("freeboard_uid"));
+        attachment.setFileName(rs.getString("file_name"));
+        attachment.setFilePath(rs.getString("file_path"));
+        attachment.setFileSize(rs.getLong("file_size"));
+        attachment.setUploadDate(rs.getTimestamp("upload_date").toLocalDateTime());
+        return attachment;
+    }
 }
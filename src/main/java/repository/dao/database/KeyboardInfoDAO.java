@@ -1,13 +1,12 @@
 package repository.dao.database;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,32 +15,51 @@ import java.util.logging.Logger;
 import dto.keyboard.KeyboardInfoDTO;
 import dto.keyboard.KeyboardScoreDTO;
 import dto.keyboard.KeyboardTagDTO;
-import util.db.DBConnectionUtil;
+import util.cache.LocalCache;
+import util.db.CursorPage;
+import util.db.JdbcTemplate;
+import util.db.PageCursor;
 import util.logging.LoggerConfig;
+import util.search.NgramTokenizer;
+import util.search.SearchIndex;
+import util.upload.ThumbnailService;
 
 /**
  * 키보드 정보 DAO 클래스
  */
 public class KeyboardInfoDAO {
-    private Connection conn = null;
-    private PreparedStatement pstmt = null;
-    private ResultSet rs = null;
-    
     private static final Logger logger = LoggerConfig.getLogger(KeyboardInfoDAO.class);
     
-    // DB 연결 가져오기
-    private Connection getConnection() throws SQLException {
-        return DBConnectionUtil.getConnection();
-    }
+    // 키보드 상세 캐시 (키보드 ID별, 5분)
+    private static final LocalCache<Long, KeyboardInfoDTO> DETAIL_CACHE =
+            LocalCache.region("keyboard-detail", 5 * 60 * 1000, 1000);
     
-    // 자원 해제 메서드
-    private void closeResources() {
-        try {
-            if (rs != null) rs.close();
-            if (pstmt != null) pstmt.close();
-            if (conn != null) conn.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
+    // 검색 색인 (필드: 이름, 설명)
+    private static final SearchIndex SEARCH_INDEX = new SearchIndex("keyboard", 3.0, 1.0);
+    private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
+    
+    // 태그 투표 멱등 키별 처리 결과 (10분)
+    private static final LocalCache<String, Boolean> TAG_VOTE_IDEMPOTENCY =
+            LocalCache.region("keyboard-tag-vote-idempotency", 10 * 60 * 1000, 10000);
+    
+    // 별점 범위 (1~5점)
+    private static final int SCORE_MAX = 5;
+    private static final String ADJUST_SCORE_SQL = "UPDATE keyboard_information SET " +
+                    "score_sum = GREATEST(score_sum + ?, 0), score_count = GREATEST(score_count + ?, 0), " +
+                    "score_1 = GREATEST(score_1 + ?, 0), score_2 = GREATEST(score_2 + ?, 0), " +
+                    "score_3 = GREATEST(score_3 + ?, 0), score_4 = GREATEST(score_4 + ?, 0), " +
+                    "score_5 = GREATEST(score_5 + ?, 0) " +
+                    "WHERE keyboard_uid = ?";
+    
+    /**
+     * 키보드 상세 캐시 무효화 (평점/태그/키보드 정보가 바뀌는 작업 후 호출)
+     * @param keyboardId 키보드 ID, 0 이하이면 전체 무효화
+     */
+    public static void invalidateDetailCache(long keyboardId) {
+        if (keyboardId > 0) {
+            DETAIL_CACHE.invalidate(keyboardId);
+        } else {
+            DETAIL_CACHE.invalidateAll();
         }
     }
     
@@ -49,93 +67,139 @@ public class KeyboardInfoDAO {
      * 키보드 정보 목록 조회 (페이징 처리)
      */
     public List<KeyboardInfoDTO> getAllKeyboardInfos(int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> keyboardList = new ArrayList<>();
-        String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score " +
+        return getAllKeyboardInfos(page, pageSize, null);
+    }
+    
+    /**
+     * 키보드 정보 목록 조회 (페이징, 정렬)
+     * @param sortBy rating(평균 별점 높은 순), reviews(별점 참여 많은 순), 그 외 이름순
+     */
+    public List<KeyboardInfoDTO> getAllKeyboardInfos(int page, int pageSize, String sortBy) throws SQLException {
+        String sql = "SELECT k.* " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
-                    "ORDER BY k.keyboard_name " +
+                    "ORDER BY " + getKeyboardOrderBy(sortBy) + " " +
                     "LIMIT ? OFFSET ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, (page - 1) * pageSize);
+        return JdbcTemplate.withConnection(conn -> {
+            List<KeyboardInfoDTO> keyboardList = JdbcTemplate.query(conn, sql, this::createKeyboardFromResultSet,
+                    pageSize, (page - 1) * pageSize);
             
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                keyboardList.add(keyboard);
-            }
-            
-            // 각 키보드의 태그 정보 가져오기
-            for (KeyboardInfoDTO keyboard : keyboardList) {
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-            }
+            // 페이지 전체 키보드의 태그 정보를 한 번에 가져오기
+            attachTags(conn, keyboardList);
             
             return keyboardList;
-        } finally {
-            closeResources();
+        });
+    }
+    
+    /**
+     * 커서 기반 키보드 정보 목록 조회 (이름순)
+     * 정렬 키: 키보드 이름, uid - OFFSET 없이 (이름, uid) 인덱스 범위 조건으로 페이지를 찾음
+     * 이름은 NOT NULL 컬럼 (NULL이면 행 비교에서 빠지므로 스키마에서 보장)
+     * @param cursor 이전 응답의 nextCursor/prevCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param pageSize 페이지 크기
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<KeyboardInfoDTO> getKeyboardInfosByCursor(String cursor, int pageSize) throws SQLException {
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        boolean backward = pageCursor != null && pageCursor.isBackward();
+        
+        StringBuilder sql = new StringBuilder("SELECT k.* FROM keyboard_information k ");
+        List<Object> params = new ArrayList<>();
+        if (pageCursor != null) {
+            sql.append("WHERE (k.keyboard_name, k.keyboard_uid) ").append(backward ? "< " : "> ").append("(?, ?) ");
+            params.add(pageCursor.getString(0));
+            params.add(pageCursor.getLong(1));
         }
+        String order = backward ? "DESC" : "ASC";
+        sql.append("ORDER BY k.keyboard_name ").append(order).append(", k.keyboard_uid ").append(order).append(" LIMIT ?");
+        params.add(pageSize + 1);
+        
+        return JdbcTemplate.withConnection(conn -> {
+            List<KeyboardInfoDTO> rows = JdbcTemplate.query(conn, sql.toString(), this::createKeyboardFromResultSet,
+                    params.toArray());
+            CursorPage<KeyboardInfoDTO> page = CursorPage.fromRows(rows, pageSize, pageCursor,
+                    keyboard -> new Object[] { keyboard.getName(), keyboard.getKeyboardId() });
+            
+            // 현재 페이지 키보드의 태그 정보를 한 번에 가져오기
+            attachTags(conn, page.getItems());
+            
+            return page;
+        });
     }
     
     /**
      * 키보드 ID로 상세 정보 조회
      */
     public KeyboardInfoDTO getKeyboardInfoById(long keyboardId) throws SQLException {
-        String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score " +
+        String sql = "SELECT k.* " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
                     "WHERE k.keyboard_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            
-            rs = pstmt.executeQuery();
+        return DETAIL_CACHE.get(keyboardId, () -> JdbcTemplate.withConnection(conn -> {
+            KeyboardInfoDTO keyboard = JdbcTemplate.queryForObject(conn, sql, this::createKeyboardFromResultSet, keyboardId);
             
-            if (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                
+            if (keyboard != null) {
                 // 키보드의 태그 정보 가져오기
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-                
-                return keyboard;
+                attachTags(conn, Collections.singletonList(keyboard));
             }
             
-            return null;
-        } finally {
-            closeResources();
-        }
+            return keyboard;
+        }));
     }
     
     /**
-     * 키보드의 태그 목록 조회
+     * 여러 키보드의 태그 목록 조회 (투표 수 포함, IN (...) 조회 1회)
+     * @return 키보드 ID → 태그 목록 (투표 수 많은 순), 태그가 없는 키보드는 포함하지 않음
      */
-    private List<String> getKeyboardTags(long keyboardId) throws SQLException {
-        List<String> tags = new ArrayList<>();
-        String sql = "SELECT t.tag_name " +
+    public Map<Long, List<KeyboardTagDTO>> getKeyboardTagsByIds(List<Long> keyboardIds) throws SQLException {
+        if (keyboardIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return JdbcTemplate.withConnection(conn -> getKeyboardTagsByIds(conn, keyboardIds));
+    }
+    
+    private Map<Long, List<KeyboardTagDTO>> getKeyboardTagsByIds(Connection conn, List<Long> keyboardIds) throws SQLException {
+        String sql = "SELECT r.keyboard_uid, t.tag_uid, t.tag_name, t.tag_type, r.vote_count " +
                     "FROM keyboard_tag t " +
                     "JOIN keyboard_tag_relation r ON t.tag_uid = r.tag_uid " +
-                    "WHERE r.keyboard_uid = ? " +
-                    "ORDER BY r.vote_count DESC, t.tag_name";
+                    "WHERE r.keyboard_uid IN (" + JdbcTemplate.placeholders(keyboardIds.size()) + ") " +
+                    "ORDER BY r.keyboard_uid, r.vote_count DESC, t.tag_name";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    tags.add(rs.getString("tag_name"));
-                }
-            }
+        Map<Long, List<KeyboardTagDTO>> tagsByKeyboard = new HashMap<>();
+        JdbcTemplate.query(conn, sql, rs -> {
+            KeyboardTagDTO tag = new KeyboardTagDTO();
+            tag.setTagId(rs.getLong("tag_uid"));
+            tag.setTagName(rs.getString("tag_name"));
+            tag.setTagType(rs.getString("tag_type"));
+            tag.setVoteCount(rs.getInt("vote_count"));
+            tagsByKeyboard.computeIfAbsent(rs.getLong("keyboard_uid"), id -> new ArrayList<>()).add(tag);
+            return tag;
+        }, keyboardIds.toArray());
+        return tagsByKeyboard;
+    }
+    
+    /**
+     * 키보드 목록에 태그 정보 설정 (목록 크기와 관계없이 조회 1회)
+     */
+    private void attachTags(Connection conn, List<KeyboardInfoDTO> keyboards) throws SQLException {
+        if (keyboards.isEmpty()) {
+            return;
+        }
+        List<Long> keyboardIds = new ArrayList<>(keyboards.size());
+        for (KeyboardInfoDTO keyboard : keyboards) {
+            keyboardIds.add(keyboard.getKeyboardId());
         }
+        Map<Long, List<KeyboardTagDTO>> tagsByKeyboard = getKeyboardTagsByIds(conn, keyboardIds);
         
-        return tags;
+        for (KeyboardInfoDTO keyboard : keyboards) {
+            List<KeyboardTagDTO> tagVotes = tagsByKeyboard.getOrDefault(keyboard.getKeyboardId(), Collections.emptyList());
+            List<String> tagNames = new ArrayList<>(tagVotes.size());
+            for (KeyboardTagDTO tag : tagVotes) {
+                tagNames.add(tag.getTagName());
+            }
+            keyboard.setTags(tagNames);
+            keyboard.setTagVotes(tagVotes);
+        }
     }
     
     /**
@@ -149,37 +213,85 @@ public class KeyboardInfoDAO {
         keyboard.setManufacturer(rs.getString("keyboard_manufacturer"));
         keyboard.setDescription(rs.getString("keyboard_description"));
         keyboard.setImageUrl(rs.getString("keyboard_image_url"));
+        keyboard.setThumbnailUrl(ThumbnailService.thumbnailUrl(keyboard.getImageUrl(), ThumbnailService.LIST_WIDTH));
         keyboard.setSwitchType(rs.getString("keyboard_switch_type"));
         keyboard.setLayoutType(rs.getString("keyboard_layout_type"));
         keyboard.setConnectType(rs.getString("keyboard_connect_type"));
         
-        // 평균 점수 설정
-        double avgScore = rs.getDouble("avg_score");
-        keyboard.setAverageScore(avgScore > 0 ? avgScore : 0);
+        // 별점 집계 (score_sum/score_count/분포는 별점 등록/수정/삭제 트랜잭션에서 갱신)
+        int scoreCount = rs.getInt("score_count");
+        keyboard.setScoreCount(scoreCount);
+        keyboard.setAverageScore(scoreCount > 0 ? (double) rs.getInt("score_sum") / scoreCount : 0);
+        int[] histogram = new int[SCORE_MAX];
+        for (int score = 1; score <= SCORE_MAX; score++) {
+            histogram[score - 1] = rs.getInt("score_" + score);
+        }
+        keyboard.setScoreHistogram(histogram);
         
         return keyboard;
     }
     
+    // 목록 정렬 조건
+    private String getKeyboardOrderBy(String sortBy) {
+        if ("rating".equals(sortBy)) {
+            return "k.score_sum / GREATEST(k.score_count, 1) DESC, k.score_count DESC, k.keyboard_uid DESC";
+        } else if ("reviews".equals(sortBy)) {
+            return "k.score_count DESC, k.keyboard_uid DESC";
+        }
+        return "k.keyboard_name, k.keyboard_uid";
+    }
+    
+    /**
+     * 키보드 별점 집계 갱신 (별점 테이블과 같은 트랜잭션에서 호출)
+     * @param oldScore 이전 별점 (새 별점이면 0)
+     * @param newScore 새 별점 (삭제면 0)
+     */
+    private void adjustScoreAggregate(Connection conn, long keyboardId, int oldScore, int newScore) throws SQLException {
+        boolean hadScore = oldScore >= 1 && oldScore <= SCORE_MAX;
+        boolean hasScore = newScore >= 1 && newScore <= SCORE_MAX;
+        if (!hadScore && !hasScore) {
+            return;
+        }
+        
+        List<Object> params = new ArrayList<>();
+        params.add((hasScore ? newScore : 0) - (hadScore ? oldScore : 0));
+        params.add((hasScore ? 1 : 0) - (hadScore ? 1 : 0));
+        for (int score = 1; score <= SCORE_MAX; score++) {
+            params.add((hasScore && newScore == score ? 1 : 0) - (hadScore && oldScore == score ? 1 : 0));
+        }
+        params.add(keyboardId);
+        JdbcTemplate.update(conn, ADJUST_SCORE_SQL, params.toArray());
+    }
+    
     /**
      * 조건별 키보드 검색
      */
     public List<KeyboardInfoDTO> searchKeyboardInfosByCondition(String keyword, String manufacturer, 
             String switchType, String layoutType, String connectType, int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> searchResults = new ArrayList<>();
         StringBuilder sql = new StringBuilder();
         
-        sql.append("SELECT k.*, ");
-        sql.append("(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score ");
+        sql.append("SELECT k.* ");
         sql.append("FROM keyboard_information k "); // keyboard_info -> keyboard_information
         sql.append("WHERE 1=1 ");
         
         // 검색 조건 추가
         List<Object> params = new ArrayList<>();
         
+        // 키워드는 검색 색인이 준비되어 있으면 색인 결과(관련도 순)로, 아니면 LIKE로 조건 추가
+        List<Long> rankedIds = null;
         if (keyword != null && !keyword.trim().isEmpty()) {
-            sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
-            params.add("%" + keyword + "%");
-            params.add("%" + keyword + "%");
+            if (useSearchIndex(keyword)) {
+                rankedIds = SEARCH_INDEX.search(keyword).getIds();
+                if (rankedIds.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                sql.append("AND k.keyboard_uid IN (").append(JdbcTemplate.placeholders(rankedIds.size())).append(") ");
+                params.addAll(rankedIds);
+            } else {
+                sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
+                params.add("%" + keyword + "%");
+                params.add("%" + keyword + "%");
+            }
         }
         
         if (manufacturer != null && !manufacturer.trim().isEmpty()) {
@@ -202,39 +314,26 @@ public class KeyboardInfoDAO {
             params.add(connectType);
         }
         
-        sql.append("ORDER BY k.keyboard_name ");
+        if (rankedIds != null) {
+            sql.append("ORDER BY FIELD(k.keyboard_uid, ").append(JdbcTemplate.placeholders(rankedIds.size())).append(") ");
+            params.addAll(rankedIds);
+        } else {
+            sql.append("ORDER BY k.keyboard_name ");
+        }
         sql.append("LIMIT ? OFFSET ?");
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            // 파라미터 설정
-            int paramIndex = 1;
-            for (Object param : params) {
-                pstmt.setObject(paramIndex++, param);
-            }
-            
-            pstmt.setInt(paramIndex++, pageSize);
-            pstmt.setInt(paramIndex, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
-                searchResults.add(keyboard);
-            }
+        params.add(pageSize);
+        params.add((page - 1) * pageSize);
+        
+        return JdbcTemplate.withConnection(conn -> {
+            List<KeyboardInfoDTO> searchResults = JdbcTemplate.query(conn, sql.toString(),
+                    this::createKeyboardFromResultSet, params.toArray());
             
-            // 각 키보드의 태그 정보 가져오기
-            for (KeyboardInfoDTO keyboard : searchResults) {
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-            }
+            // 검색 결과 키보드의 태그 정보를 한 번에 가져오기
+            attachTags(conn, searchResults);
             
             return searchResults;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
@@ -245,91 +344,74 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, score_value, score_review, score_created_at) " +
                     "VALUES (?, ?, ?, ?, ?)";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, comment.getKeyboardId());
-            pstmt.setLong(2, comment.getUserId());
-            pstmt.setInt(3, comment.getScoreValue());
-            pstmt.setString(4, comment.getReview());
-            pstmt.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql,
+                    comment.getKeyboardId(),
+                    comment.getUserId(),
+                    comment.getScoreValue(),
+                    comment.getReview(),
+                    LocalDateTime.now());
             
-            int result = pstmt.executeUpdate();
+            // 별점 집계 갱신 (같은 트랜잭션)
+            if (result > 0) {
+                adjustScoreAggregate(conn, comment.getKeyboardId(), 0, comment.getScoreValue());
+            }
             return result > 0;
-        } finally {
-            closeResources();
+        });
+        if (success) {
+            invalidateDetailCache(comment.getKeyboardId());
         }
+        return success;
     }
     
     /**
      * 키보드 한줄평 목록 조회
      */
     public List<KeyboardScoreDTO> getKeyboardComments(long keyboardId) throws SQLException {
-        List<KeyboardScoreDTO> commentList = new ArrayList<>();
         String sql = "SELECT s.*, u.user_name " +
                     "FROM keyboard_score s " +
                     "JOIN user u ON s.user_uid = u.user_uid " +
                     "WHERE s.keyboard_uid = ? " +
                     "ORDER BY s.score_created_at DESC";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardScoreDTO comment = new KeyboardScoreDTO();
-                comment.setScoreId(rs.getLong("score_uid"));
-                comment.setKeyboardId(rs.getLong("keyboard_uid"));
-                comment.setUserId(rs.getLong("user_uid"));
-                comment.setUserName(rs.getString("user_name"));
-                comment.setScoreValue(rs.getInt("score_value"));
-                comment.setReview(rs.getString("score_review"));
-                
-                Timestamp createdAt = rs.getTimestamp("score_created_at");
-                if (createdAt != null) {
-                    comment.setCreatedAt(createdAt.toLocalDateTime());
-                }
-                
-                commentList.add(comment);
-            }
-            
-            return commentList;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, rs -> {
+            KeyboardScoreDTO comment = mapScore(rs);
+            comment.setUserName(rs.getString("user_name"));
+            return comment;
+        }, keyboardId);
     }
     
     /**
      * 한줄평 삭제 (본인 또는 관리자)
      */
     public boolean deleteKeyboardCommentById(long commentId, long userId, boolean isAdmin) throws SQLException {
-        String sql;
-        
-        if (isAdmin) {
-            // 관리자는 모든 한줄평 삭제 가능
-            sql = "DELETE FROM keyboard_score WHERE score_uid = ?";
-        } else {
-            // 일반 사용자는 자신의 한줄평만 삭제 가능
-            sql = "DELETE FROM keyboard_score WHERE score_uid = ? AND user_uid = ?";
-        }
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, commentId);
-            
-            if (!isAdmin) {
-                pstmt.setLong(2, userId);
+        // 관리자는 모든 한줄평, 일반 사용자는 자신의 한줄평만 삭제 가능
+        String ownerCondition = isAdmin ? "" : " AND user_uid = ?";
+        Object[] params = isAdmin ? new Object[] { commentId } : new Object[] { commentId, userId };
+        String selectSql = "SELECT keyboard_uid, score_value FROM keyboard_score WHERE score_uid = ?" + ownerCondition +
+                    " FOR UPDATE";
+        String deleteSql = "DELETE FROM keyboard_score WHERE score_uid = ?" + ownerCondition;
+        
+        // 삭제한 한줄평의 키보드 ID (없으면 0)
+        long keyboardId = JdbcTemplate.inTransaction(conn -> {
+            KeyboardScoreDTO deleted = JdbcTemplate.queryForObject(conn, selectSql, rs -> {
+                KeyboardScoreDTO score = new KeyboardScoreDTO();
+                score.setKeyboardId(rs.getLong("keyboard_uid"));
+                score.setScoreValue(rs.getInt("score_value"));
+                return score;
+            }, params);
+            if (deleted == null || JdbcTemplate.update(conn, deleteSql, params) == 0) {
+                return 0L;
             }
             
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
+            // 별점 집계 갱신 (같은 트랜잭션)
+            adjustScoreAggregate(conn, deleted.getKeyboardId(), deleted.getScoreValue(), 0);
+            return deleted.getKeyboardId();
+        });
+        if (keyboardId > 0) {
+            invalidateDetailCache(keyboardId);
         }
+        return keyboardId > 0;
     }
     
     /**
@@ -345,17 +427,7 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, scrap_date) " +
                     "VALUES (?, ?, NOW())";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.update(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -365,17 +437,7 @@ public class KeyboardInfoDAO {
         String sql = "DELETE FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            int result = pstmt.executeUpdate();
-            return result > 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.update(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -385,223 +447,108 @@ public class KeyboardInfoDAO {
         String sql = "SELECT COUNT(*) FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next() && rs.getInt(1) > 0) {
-                return true;
-            }
-            return false;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql, keyboardId, userId) > 0;
     }
     
     /**
      * 키보드 태그 투표
      */
     public boolean voteKeyboardTag(long keyboardId, long tagId, long userId, String voteType) throws SQLException {
-        // 이미 투표했는지 확인
-        String voteStatus = getUserTagVoteStatus(keyboardId, tagId, userId);
-        
-        if (voteStatus != null) {
-            // 같은 투표 타입이면 투표 취소
-            if (voteStatus.equals(voteType)) {
-                return cancelTagVote(keyboardId, tagId, userId);
-            } else {
-                // 다른 투표 타입이면 투표 수정
-                return updateTagVote(keyboardId, tagId, userId, voteType);
-            }
-        }
-        
-        // 새로운 투표 추가
-        String sql = "INSERT INTO keyboard_tag_vote " +
-                    "(keyboard_uid, tag_uid, user_uid, vote_type, vote_date) " +
-                    "VALUES (?, ?, ?, ?, NOW())";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 추가
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
-            pstmt.setString(4, voteType);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
-        }
+        return voteKeyboardTag(keyboardId, tagId, userId, voteType, null);
     }
     
     /**
-     * 태그 투표 취소
+     * 키보드 태그 투표 (멱등 키 지원)
+     * 같은 사용자가 같은 멱등 키로 다시 요청하면(더블 클릭, 재전송) 투표를 다시 적용하지 않고 처음 결과를 반환
+     * 동시에 들어온 같은 키의 요청은 하나만 실행되고 나머지는 그 결과를 기다림
+     * @param idempotencyKey 투표 동작 하나마다 클라이언트가 만든 고유 키, 재시도에도 같은 값 (null 또는 빈 문자열이면 멱등 처리 없음)
      */
-    private boolean cancelTagVote(long keyboardId, long tagId, long userId) throws SQLException {
-        String sql = "DELETE FROM keyboard_tag_vote " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 삭제
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
+    public boolean voteKeyboardTag(long keyboardId, long tagId, long userId, String voteType, String idempotencyKey)
+            throws SQLException {
+        if (idempotencyKey == null || idempotencyKey.isEmpty()) {
+            return applyTagVoteAndInvalidate(keyboardId, tagId, userId, voteType);
         }
+        String key = userId + ":" + keyboardId + ":" + tagId + ":" + idempotencyKey;
+        return TAG_VOTE_IDEMPOTENCY.get(key, () -> applyTagVoteAndInvalidate(keyboardId, tagId, userId, voteType));
     }
     
-    /**
-     * 태그 투표 수정
-     */
-    private boolean updateTagVote(long keyboardId, long tagId, long userId, String voteType) throws SQLException {
-        String sql = "UPDATE keyboard_tag_vote " +
-                    "SET vote_type = ?, vote_date = NOW() " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
-            
-            // 투표 기록 수정
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, voteType);
-            pstmt.setLong(2, keyboardId);
-            pstmt.setLong(3, tagId);
-            pstmt.setLong(4, userId);
-            
-            int voteResult = pstmt.executeUpdate();
-            
-            // 태그 관계 테이블의 투표수 업데이트
-            if (voteResult > 0) {
-                updateTagRelationVoteCount(keyboardId, tagId);
-            }
-            
-            conn.commit();
-            return voteResult > 0;
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
+    private boolean applyTagVoteAndInvalidate(long keyboardId, long tagId, long userId, String voteType)
+            throws SQLException {
+        boolean success = applyTagVote(keyboardId, tagId, userId, voteType);
+        // 태그 정렬 순서(투표수)가 바뀌므로 커밋 후 상세 캐시 무효화
+        if (success) {
+            invalidateDetailCache(keyboardId);
         }
+        return success;
     }
     
     /**
-     * 태그 관계 테이블의 투표수 업데이트
+     * 투표 적용 (한 커넥션, 한 트랜잭션)
+     * 1. 사용자의 기존 투표를 잠금 조회 (SELECT ... FOR UPDATE)
+     * 2. 없으면 추가, 같은 타입이면 취소(삭제), 다른 타입이면 변경
+     * 3. 바뀐 만큼만 keyboard_tag_relation.vote_count에 더함 (전체 재집계 없음)
      */
-    private void updateTagRelationVoteCount(long keyboardId, long tagId) throws SQLException {
-        String sql = "UPDATE keyboard_tag_relation " +
-                    "SET vote_count = (" +
-                    "    SELECT COUNT(*) FROM keyboard_tag_vote " +
-                    "    WHERE keyboard_uid = ? AND tag_uid = ? AND vote_type = 'up'" +
-                    ") - (" +
-                    "    SELECT COUNT(*) FROM keyboard_tag_vote " +
-                    "    WHERE keyboard_uid = ? AND tag_uid = ? AND vote_type = 'down'" +
-                    ") " +
-                    "WHERE keyboard_uid = ? AND tag_uid = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, keyboardId);
-            pstmt.setLong(4, tagId);
-            pstmt.setLong(5, keyboardId);
-            pstmt.setLong(6, tagId);
-            
-            pstmt.executeUpdate();
+    private boolean applyTagVote(long keyboardId, long tagId, long userId, String voteType) throws SQLException {
+        int newValue = tagVoteValue(voteType);
+        if (newValue == 0) {
+            return false;
         }
-    }
-    
-    /**
-     * 사용자의 태그 투표 상태 조회
-     */
-    private String getUserTagVoteStatus(long keyboardId, long tagId, long userId) throws SQLException {
-        String sql = "SELECT vote_type FROM keyboard_tag_vote " +
+        String selectSql = "SELECT vote_type FROM keyboard_tag_vote " +
+                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ? FOR UPDATE";
+        String insertSql = "INSERT INTO keyboard_tag_vote " +
+                    "(keyboard_uid, tag_uid, user_uid, vote_type, vote_date) " +
+                    "VALUES (?, ?, ?, ?, NOW())";
+        String deleteSql = "DELETE FROM keyboard_tag_vote " +
+                    "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
+        String updateSql = "UPDATE keyboard_tag_vote " +
+                    "SET vote_type = ?, vote_date = NOW() " +
                     "WHERE keyboard_uid = ? AND tag_uid = ? AND user_uid = ?";
+        String countSql = "UPDATE keyboard_tag_relation SET vote_count = vote_count + ? " +
+                    "WHERE keyboard_uid = ? AND tag_uid = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            pstmt.setLong(3, userId);
+        return JdbcTemplate.inTransaction(conn -> {
+            String currentVote = JdbcTemplate.queryForObject(conn, selectSql, rs -> rs.getString("vote_type"),
+                    keyboardId, tagId, userId);
+            int oldValue = tagVoteValue(currentVote);
+            
+            int voteResult;
+            int delta;
+            if (currentVote == null) {
+                // 새로운 투표 추가
+                voteResult = JdbcTemplate.update(conn, insertSql, keyboardId, tagId, userId, voteType);
+                delta = newValue;
+            } else if (currentVote.equals(voteType)) {
+                // 같은 투표 타입이면 투표 취소
+                voteResult = JdbcTemplate.update(conn, deleteSql, keyboardId, tagId, userId);
+                delta = -oldValue;
+            } else {
+                // 다른 투표 타입이면 투표 수정
+                voteResult = JdbcTemplate.update(conn, updateSql, voteType, keyboardId, tagId, userId);
+                delta = newValue - oldValue;
+            }
             
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getString("vote_type");
-                }
-                return null;
+            // 태그 관계 테이블의 투표수에 변화량만 반영
+            if (voteResult > 0 && delta != 0) {
+                JdbcTemplate.update(conn, countSql, delta, keyboardId, tagId);
             }
+            return voteResult > 0;
+        });
+    }
+    
+    // 투표 타입별 투표수 기여값 (up: +1, down: -1, 그 외: 0)
+    private static int tagVoteValue(String voteType) {
+        if ("up".equals(voteType)) {
+            return 1;
+        } else if ("down".equals(voteType)) {
+            return -1;
         }
+        return 0;
     }
     
     /**
      * 키보드의 태그 목록 조회 (투표수 포함)
      */
     public List<KeyboardTagDTO> getKeyboardTagsWithVotes(long keyboardId, long userId) throws SQLException {
-        List<KeyboardTagDTO> tagList = new ArrayList<>();
         String sql = "SELECT t.*, r.vote_count, v.vote_type " +
                     "FROM keyboard_tag t " +
                     "JOIN keyboard_tag_relation r ON t.tag_uid = r.tag_uid " +
@@ -609,30 +556,15 @@ public class KeyboardInfoDAO {
                     "WHERE r.keyboard_uid = ? " +
                     "ORDER BY r.vote_count DESC, t.tag_name";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            pstmt.setLong(3, keyboardId);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardTagDTO tag = new KeyboardTagDTO();
-                tag.setTagId(rs.getLong("tag_uid"));
-                tag.setTagName(rs.getString("tag_name"));
-                tag.setTagType(rs.getString("tag_type"));
-                tag.setVoteCount(rs.getInt("vote_count"));
-                tag.setUserVote(rs.getString("vote_type"));
-                
-                tagList.add(tag);
-            }
-            
-            return tagList;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, rs -> {
+            KeyboardTagDTO tag = new KeyboardTagDTO();
+            tag.setTagId(rs.getLong("tag_uid"));
+            tag.setTagName(rs.getString("tag_name"));
+            tag.setTagType(rs.getString("tag_type"));
+            tag.setVoteCount(rs.getInt("vote_count"));
+            tag.setUserVote(rs.getString("vote_type"));
+            return tag;
+        }, keyboardId, userId, keyboardId);
     }
     
     /**
@@ -643,108 +575,49 @@ public class KeyboardInfoDAO {
             return false;
         }
         
-        // 이미 존재하는 태그인지 확인
-        long existingTagId = getTagIdByName(tagName);
-        long tagId;
-        
-        try {
-            conn = getConnection();
-            conn.setAutoCommit(false);
+        // 태그 생성과 키보드 연결은 하나의 트랜잭션으로 처리하고, 투표는 별도로 수행
+        long tagId = JdbcTemplate.inTransaction(conn -> {
+            // 이미 존재하는 태그인지 확인
+            Long existingTagId = JdbcTemplate.queryForObject(conn,
+                    "SELECT tag_uid FROM keyboard_tag WHERE tag_name = ?",
+                    rs -> rs.getLong("tag_uid"), tagName.trim());
             
-            if (existingTagId > 0) {
-                // 이미 존재하는 태그인 경우
-                tagId = existingTagId;
-                
-                // 이미 해당 키보드에 연결되어 있는지 확인
-                if (isTagLinkedToKeyboard(keyboardId, tagId)) {
-                    // 이미 연결되어 있으면 해당 태그에 바로 투표
-                    conn.commit();
-                    return voteKeyboardTag(keyboardId, tagId, userId, "up");
-                }
+            long resolvedTagId;
+            if (existingTagId != null && existingTagId > 0) {
+                resolvedTagId = existingTagId;
             } else {
                 // 새로운 태그 생성
                 String insertTagSql = "INSERT INTO keyboard_tag (tag_name, tag_type) VALUES (?, 'user')";
-                try (PreparedStatement pstmt = conn.prepareStatement(insertTagSql, Statement.RETURN_GENERATED_KEYS)) {
-                    pstmt.setString(1, tagName.trim());
-                    pstmt.executeUpdate();
-                    
-                    try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                        if (generatedKeys.next()) {
-                            tagId = generatedKeys.getLong(1);
-                        } else {
-                            conn.rollback();
-                            return false;
-                        }
-                    }
+                resolvedTagId = JdbcTemplate.insertAndReturnKey(conn, insertTagSql, tagName.trim());
+                if (resolvedTagId <= 0) {
+                    conn.rollback();
+                    return -1L;
                 }
             }
             
             // 태그와 키보드 연결
-            if (!isTagLinkedToKeyboard(keyboardId, tagId)) {
+            if (!isTagLinkedToKeyboard(conn, keyboardId, resolvedTagId)) {
                 String linkTagSql = "INSERT INTO keyboard_tag_relation (keyboard_uid, tag_uid, vote_count) VALUES (?, ?, 0)";
-                try (PreparedStatement pstmt = conn.prepareStatement(linkTagSql)) {
-                    pstmt.setLong(1, keyboardId);
-                    pstmt.setLong(2, tagId);
-                    pstmt.executeUpdate();
-                }
+                JdbcTemplate.update(conn, linkTagSql, keyboardId, resolvedTagId);
             }
             
-            conn.commit();
-            // 새로 추가된 태그에 투표
-            return voteKeyboardTag(keyboardId, tagId, userId, "up");
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {}
-            }
-            throw e;
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {}
-            }
-            closeResources();
-        }
-    }
-    
-    /**
-     * 태그 이름으로 ID 조회
-     */
-    private long getTagIdByName(String tagName) throws SQLException {
-        String sql = "SELECT tag_uid FROM keyboard_tag WHERE tag_name = ?";
+            return resolvedTagId;
+        });
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, tagName.trim());
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getLong("tag_uid");
-                }
-                return 0;
-            }
+        if (tagId <= 0) {
+            return false;
         }
+        
+        // 태그에 투표
+        return voteKeyboardTag(keyboardId, tagId, userId, "up");
     }
     
     /**
      * 태그가 키보드와 연결되어 있는지 확인
      */
-    private boolean isTagLinkedToKeyboard(long keyboardId, long tagId) throws SQLException {
+    private boolean isTagLinkedToKeyboard(Connection conn, long keyboardId, long tagId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_tag_relation WHERE keyboard_uid = ? AND tag_uid = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, tagId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next() && rs.getInt(1) > 0) {
-                    return true;
-                }
-                return false;
-            }
-        }
+        return JdbcTemplate.queryForInt(conn, sql, keyboardId, tagId) > 0;
     }
     
     /**
@@ -760,42 +633,51 @@ public class KeyboardInfoDAO {
                     "(keyboard_uid, user_uid, score_value, score_review, score_created_at) " +
                     "VALUES (?, ?, ?, ?, NOW())";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, score.getKeyboardId());
-            pstmt.setLong(2, score.getUserId());
-            pstmt.setInt(3, score.getScoreValue());
-            pstmt.setString(4, score.getReview());
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            int result = JdbcTemplate.update(conn, sql,
+                    score.getKeyboardId(), score.getUserId(), score.getScoreValue(), score.getReview());
             
-            int result = pstmt.executeUpdate();
+            // 별점 집계 갱신 (같은 트랜잭션)
+            if (result > 0) {
+                adjustScoreAggregate(conn, score.getKeyboardId(), 0, score.getScoreValue());
+            }
             return result > 0;
-        } finally {
-            closeResources();
+        });
+        if (success) {
+            invalidateDetailCache(score.getKeyboardId());
         }
+        return success;
     }
     
     /**
      * 별점 수정
      */
     public boolean updateKeyboardScore(KeyboardScoreDTO score) throws SQLException {
+        String selectSql = "SELECT score_value FROM keyboard_score " +
+                    "WHERE keyboard_uid = ? AND user_uid = ? FOR UPDATE";
         String sql = "UPDATE keyboard_score " +
                     "SET score_value = ?, score_review = ?, score_created_at = NOW() " +
                     "WHERE keyboard_uid = ? AND user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, score.getScoreValue());
-            pstmt.setString(2, score.getReview());
-            pstmt.setLong(3, score.getKeyboardId());
-            pstmt.setLong(4, score.getUserId());
-            
-            int result = pstmt.executeUpdate();
+        boolean success = JdbcTemplate.inTransaction(conn -> {
+            // 이전 별점 (한줄평으로 여러 건 등록된 경우 모두 같은 값으로 수정됨)
+            List<Integer> oldScores = JdbcTemplate.query(conn, selectSql, rs -> rs.getInt("score_value"),
+                    score.getKeyboardId(), score.getUserId());
+            int result = JdbcTemplate.update(conn, sql,
+                    score.getScoreValue(), score.getReview(), score.getKeyboardId(), score.getUserId());
+            
+            // 별점 집계 갱신 (같은 트랜잭션)
+            if (result > 0) {
+                for (int oldScore : oldScores) {
+                    adjustScoreAggregate(conn, score.getKeyboardId(), oldScore, score.getScoreValue());
+                }
+            }
             return result > 0;
-        } finally {
-            closeResources();
+        });
+        if (success) {
+            invalidateDetailCache(score.getKeyboardId());
         }
+        return success;
     }
     
     /**
@@ -803,19 +685,7 @@ public class KeyboardInfoDAO {
      */
     public boolean hasUserRated(long keyboardId, long userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_score WHERE keyboard_uid = ? AND user_uid = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next() && rs.getInt(1) > 0) {
-                    return true;
-                }
-                return false;
-            }
-        }
+        return JdbcTemplate.queryForInt(sql, keyboardId, userId) > 0;
     }
     
     /**
@@ -823,35 +693,26 @@ public class KeyboardInfoDAO {
      */
     public KeyboardScoreDTO getUserScore(long keyboardId, long userId) throws SQLException {
         String sql = "SELECT * FROM keyboard_score WHERE keyboard_uid = ? AND user_uid = ?";
+        return JdbcTemplate.queryForObject(sql, this::mapScore, keyboardId, userId);
+    }
+    
+    /**
+     * ResultSet에서 별점 객체 생성
+     */
+    private KeyboardScoreDTO mapScore(ResultSet rs) throws SQLException {
+        KeyboardScoreDTO score = new KeyboardScoreDTO();
+        score.setScoreId(rs.getLong("score_uid"));
+        score.setKeyboardId(rs.getLong("keyboard_uid"));
+        score.setUserId(rs.getLong("user_uid"));
+        score.setScoreValue(rs.getInt("score_value"));
+        score.setReview(rs.getString("score_review"));
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, keyboardId);
-            pstmt.setLong(2, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                KeyboardScoreDTO score = new KeyboardScoreDTO();
-                score.setScoreId(rs.getLong("score_uid"));
-                score.setKeyboardId(rs.getLong("keyboard_uid"));
-                score.setUserId(rs.getLong("user_uid"));
-                score.setScoreValue(rs.getInt("score_value"));
-                score.setReview(rs.getString("score_review"));
-                
-                Timestamp createdAt = rs.getTimestamp("score_created_at");
-                if (createdAt != null) {
-                    score.setCreatedAt(createdAt.toLocalDateTime());
-                }
-                
-                return score;
-            }
-            
-            return null;
-        } finally {
-            closeResources();
+        Timestamp createdAt = rs.getTimestamp("score_created_at");
+        if (createdAt != null) {
+            score.setCreatedAt(createdAt.toLocalDateTime());
         }
+        
+        return score;
     }
     
     /**
@@ -859,19 +720,7 @@ public class KeyboardInfoDAO {
      */
     public int getTotalKeyboardCount() throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_information"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql);
     }
     
     /**
@@ -887,9 +736,18 @@ public class KeyboardInfoDAO {
         List<Object> params = new ArrayList<>();
         
         if (keyword != null && !keyword.trim().isEmpty()) {
-            sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
-            params.add("%" + keyword + "%");
-            params.add("%" + keyword + "%");
+            if (useSearchIndex(keyword)) {
+                List<Long> rankedIds = SEARCH_INDEX.search(keyword).getIds();
+                if (rankedIds.isEmpty()) {
+                    return 0;
+                }
+                sql.append("AND k.keyboard_uid IN (").append(JdbcTemplate.placeholders(rankedIds.size())).append(") ");
+                params.addAll(rankedIds);
+            } else {
+                sql.append("AND (k.keyboard_name LIKE ? OR k.keyboard_description LIKE ?) ");
+                params.add("%" + keyword + "%");
+                params.add("%" + keyword + "%");
+            }
         }
         
         if (manufacturer != null && !manufacturer.trim().isEmpty()) {
@@ -912,156 +770,130 @@ public class KeyboardInfoDAO {
             params.add(connectType);
         }
         
+        return JdbcTemplate.queryForInt(sql.toString(), params.toArray());
+    }
+    
+    private boolean useSearchIndex(String keyword) {
+        return SEARCH_INDEX.isReady() && NgramTokenizer.isIndexable(keyword);
+    }
+    
+    /**
+     * 검색 색인 전체 재구성 (애플리케이션 시작 시 백그라운드에서 호출)
+     * @return 색인한 키보드 수
+     */
+    public int rebuildSearchIndex() throws SQLException {
+        String sql = "SELECT k.keyboard_uid, k.keyboard_name, k.keyboard_description " +
+                    "FROM keyboard_information k WHERE k.keyboard_uid > ? " +
+                    "ORDER BY k.keyboard_uid LIMIT ?";
+        
+        SEARCH_INDEX.beginBuild();
+        boolean success = false;
         try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            
-            // 파라미터 설정
-            int paramIndex = 1;
-            for (Object param : params) {
-                pstmt.setObject(paramIndex++, param);
-            }
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            return 0;
+            int total = 0;
+            long lastId = 0;
+            List<Long> batch;
+            do {
+                batch = JdbcTemplate.query(sql, rs -> {
+                    long id = rs.getLong("keyboard_uid");
+                    SEARCH_INDEX.addIfAbsent(id, rs.getString("keyboard_name"), rs.getString("keyboard_description"));
+                    return id;
+                }, lastId, SEARCH_INDEX_BATCH_SIZE);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1);
+                }
+                total += batch.size();
+            } while (batch.size() == SEARCH_INDEX_BATCH_SIZE);
+            success = true;
+            return total;
         } finally {
-            closeResources();
+            SEARCH_INDEX.finishBuild(success);
         }
     }
     
     /**
-     * 제조사 목록 조회
+     * 키보드 하나의 검색 색인 갱신 (등록/수정 후 호출, 없는 키보드면 색인에서 제거)
+     * 색인 갱신 실패는 저장 결과에 영향을 주지 않도록 로그만 남김
      */
-    public List<String> getAllManufacturers() throws SQLException {
-        List<String> manufacturers = new ArrayList<>();
-        String sql = "SELECT DISTINCT keyboard_manufacturer FROM keyboard_information ORDER BY keyboard_manufacturer"; // keyboard_info -> keyboard_information
-        
+    public static void refreshSearchDocument(long keyboardId) {
+        String sql = "SELECT k.keyboard_name, k.keyboard_description " +
+                    "FROM keyboard_information k WHERE k.keyboard_uid = ?";
         try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                manufacturers.add(rs.getString("keyboard_manufacturer"));
+            String[] fields = JdbcTemplate.queryForObject(sql, rs -> new String[] {
+                    rs.getString("keyboard_name"), rs.getString("keyboard_description") }, keyboardId);
+            if (fields != null) {
+                SEARCH_INDEX.index(keyboardId, fields);
+            } else {
+                SEARCH_INDEX.remove(keyboardId);
             }
-            
-            return manufacturers;
-        } finally {
-            closeResources();
+        } catch (SQLException e) {
+            logger.warning("검색 색인 갱신 실패: ID=" + keyboardId + ", 오류=" + e.getMessage());
         }
     }
     
+    /**
+     * 키보드 검색 색인에서 제거 (삭제 후 호출)
+     */
+    public static void removeSearchDocument(long keyboardId) {
+        SEARCH_INDEX.remove(keyboardId);
+    }
+    
+    /**
+     * 제조사 목록 조회
+     */
+    public List<String> getAllManufacturers() throws SQLException {
+        String sql = "SELECT DISTINCT keyboard_manufacturer FROM keyboard_information ORDER BY keyboard_manufacturer"; // keyboard_info -> keyboard_information
+        return JdbcTemplate.query(sql, rs -> rs.getString("keyboard_manufacturer"));
+    }
+    
     /**
      * 스위치 타입 목록 조회
      */
     public List<String> getAllSwitchTypes() throws SQLException {
-        List<String> switchTypes = new ArrayList<>();
         String sql = "SELECT DISTINCT keyboard_switch_type FROM keyboard_information ORDER BY keyboard_switch_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                switchTypes.add(rs.getString("keyboard_switch_type"));
-            }
-            
-            return switchTypes;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, rs -> rs.getString("keyboard_switch_type"));
     }
     
     /**
      * 레이아웃 타입 목록 조회
      */
     public List<String> getAllLayoutTypes() throws SQLException {
-        List<String> layoutTypes = new ArrayList<>();
         String sql = "SELECT DISTINCT keyboard_layout_type FROM keyboard_information ORDER BY keyboard_layout_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                layoutTypes.add(rs.getString("keyboard_layout_type"));
-            }
-            
-            return layoutTypes;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, rs -> rs.getString("keyboard_layout_type"));
     }
     
     /**
      * 연결 타입 목록 조회
      */
     public List<String> getAllConnectTypes() throws SQLException {
-        List<String> connectTypes = new ArrayList<>();
         String sql = "SELECT DISTINCT keyboard_connect_type FROM keyboard_information ORDER BY keyboard_connect_type"; // keyboard_info -> keyboard_information
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                connectTypes.add(rs.getString("keyboard_connect_type"));
-            }
-            
-            return connectTypes;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.query(sql, rs -> rs.getString("keyboard_connect_type"));
     }
     
     /**
      * 사용자가 스크랩한 키보드 목록 조회
      */
     public List<KeyboardInfoDTO> getScrapsByUserId(long userId, int page, int pageSize) throws SQLException {
-        List<KeyboardInfoDTO> scrapList = new ArrayList<>();
-        
-        String sql = "SELECT k.*, " +
-                    "(SELECT AVG(score_value) FROM keyboard_score WHERE keyboard_uid = k.keyboard_uid) AS avg_score, " +
-                    "s.scrap_date " +
+        String sql = "SELECT k.*, s.scrap_date " +
                     "FROM keyboard_information k " + // keyboard_info -> keyboard_information
                     "JOIN scrap s ON k.keyboard_uid = s.keyboard_uid " + // keyboard_scrap -> scrap
                     "WHERE s.user_uid = ? " +
                     "ORDER BY s.scrap_date DESC " +
                     "LIMIT ? OFFSET ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
+        return JdbcTemplate.withConnection(conn -> {
+            List<KeyboardInfoDTO> scrapList = JdbcTemplate.query(conn, sql, rs -> {
                 KeyboardInfoDTO keyboard = createKeyboardFromResultSet(rs);
                 
                 // 스크랩 날짜 설정
                 keyboard.setScrapDate(rs.getTimestamp("scrap_date"));
-                
-                // 키보드의 태그 정보 가져오기
-                List<String> tags = getKeyboardTags(keyboard.getKeyboardId());
-                keyboard.setTags(tags);
-                
-                scrapList.add(keyboard);
-            }
+                return keyboard;
+            }, userId, pageSize, (page - 1) * pageSize);
+            
+            // 스크랩한 키보드의 태그 정보를 한 번에 가져오기
+            attachTags(conn, scrapList);
             
             return scrapList;
-        } finally {
-            closeResources();
-        }
+        });
     }
     
     /**
@@ -1072,29 +904,13 @@ public class KeyboardInfoDAO {
                     "FROM scrap " + // keyboard_scrap -> scrap
                     "WHERE user_uid = ?";
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql, userId);
     }
     
     /**
      * 사용자가 작성한 별점 목록 조회
      */
     public List<KeyboardScoreDTO> getScoresByUserId(long userId, String sortBy, int page, int pageSize) throws SQLException {
-        List<KeyboardScoreDTO> scoreList = new ArrayList<>();
-        
         StringBuilder sql = new StringBuilder();
         sql.append("SELECT s.*, k.keyboard_name, u.nickname ");
         sql.append("FROM keyboard_score s ");
@@ -1113,39 +929,14 @@ public class KeyboardInfoDAO {
         
         sql.append("LIMIT ? OFFSET ?");
         
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql.toString());
-            pstmt.setLong(1, userId);
-            pstmt.setInt(2, pageSize);
-            pstmt.setInt(3, (page - 1) * pageSize);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                KeyboardScoreDTO score = new KeyboardScoreDTO();
-                score.setScoreId(rs.getLong("score_uid"));
-                score.setKeyboardId(rs.getLong("keyboard_uid"));
-                score.setUserId(rs.getLong("user_uid"));
-                score.setScoreValue(rs.getInt("score_value"));
-                score.setReview(rs.getString("score_review"));
-                // Timestamp를 LocalDateTime으로 변환
-                java.sql.Timestamp timestamp = rs.getTimestamp("score_created_at");
-                if (timestamp != null) {
-                    score.setCreatedAt(timestamp.toLocalDateTime());
-                }
-                
-                // 키보드 이름과 사용자 닉네임 설정
-                score.setUserName(rs.getString("nickname"));
-                score.setKeyboardName(rs.getString("keyboard_name"));
-                
-                scoreList.add(score);
-            }
+        return JdbcTemplate.query(sql.toString(), rs -> {
+            KeyboardScoreDTO score = mapScore(rs);
             
-            return scoreList;
-        } finally {
-            closeResources();
-        }
+            // 키보드 이름과 사용자 닉네임 설정
+            score.setUserName(rs.getString("nickname"));
+            score.setKeyboardName(rs.getString("keyboard_name"));
+            return score;
+        }, userId, pageSize, (page - 1) * pageSize);
     }
     
     /**
@@ -1153,21 +944,6 @@ public class KeyboardInfoDAO {
      */
     public int getTotalScoreCountByUserId(long userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM keyboard_score WHERE user_uid = ?";
-        
-        try {
-            conn = getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, userId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-            
-            return 0;
-        } finally {
-            closeResources();
-        }
+        return JdbcTemplate.queryForInt(sql, userId);
     }
 }
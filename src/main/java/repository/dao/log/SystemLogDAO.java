@@ -1,24 +1,22 @@
 package repository.dao.log;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import dto.log.SystemLogDTO;
-import util.db.DBConnectionUtil;
+import util.db.JdbcTemplate;
 
 /**
  * 시스템 로그 데이터 액세스 객체
  */
 public class SystemLogDAO {
-    private Connection conn;
-    private PreparedStatement pstmt;
-    private ResultSet rs;
+    // 로그 저장 실패를 다시 DB 로그로 남기지 않도록 콘솔 로거 사용
+    private static final Logger logger = Logger.getLogger(SystemLogDAO.class.getName());
     
     /**
      * 시스템 로그 추가
@@ -26,37 +24,59 @@ public class SystemLogDAO {
      * @return 추가 성공 여부
      */
     public boolean addLog(SystemLogDTO logDTO) {
+        String sql = "INSERT INTO system_log (log_level, log_message, log_exception, log_class, log_method, log_timestamp, user_id) " +
+                      "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        
         try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "INSERT INTO system_log (log_level, log_message, log_exception, log_class, log_method, log_timestamp, user_id) " +
-                          "VALUES (?, ?, ?, ?, ?, ?, ?)";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, logDTO.getLogLevel());
-            pstmt.setString(2, logDTO.getLogMessage());
-            pstmt.setString(3, logDTO.getLogException());
-            pstmt.setString(4, logDTO.getLogClass());
-            pstmt.setString(5, logDTO.getLogMethod());
-            pstmt.setTimestamp(6, Timestamp.valueOf(logDTO.getLogTimestamp()));
-            
-            if (logDTO.getUserId() != null) {
-                pstmt.setLong(7, logDTO.getUserId());
-            } else {
-                pstmt.setNull(7, java.sql.Types.INTEGER);
-            }
-            
-            int result = pstmt.executeUpdate();
+            LocalDateTime timestamp = logDTO.getLogTimestamp() != null ? logDTO.getLogTimestamp() : LocalDateTime.now();
+            int result = JdbcTemplate.update(sql,
+                    logDTO.getLogLevel(),
+                    logDTO.getLogMessage(),
+                    logDTO.getLogException(),
+                    logDTO.getLogClass(),
+                    logDTO.getLogMethod(),
+                    timestamp,
+                    logDTO.getUserId());
             return result > 0;
         } catch (SQLException e) {
             // 로그 저장 실패 시 콘솔에만 출력
-            System.err.println("[SystemLogDAO] 로그 저장 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.log(Level.SEVERE, "로그 저장 실패", e);
             return false;
-        } finally {
-            DBConnectionUtil.close(null, pstmt, conn);
         }
     }
     
+    /**
+     * 시스템 로그 일괄 추가 (JDBC 배치)
+     * @param logs 로그 목록
+     * @return 저장된 로그 수, 실패 시 -1
+     */
+    public int addLogs(List<SystemLogDTO> logs) {
+        String sql = "INSERT INTO system_log (log_level, log_message, log_exception, log_class, log_method, log_timestamp, user_id) " +
+                      "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batchParams = new ArrayList<>(logs.size());
+        for (SystemLogDTO logDTO : logs) {
+            LocalDateTime timestamp = logDTO.getLogTimestamp() != null ? logDTO.getLogTimestamp() : LocalDateTime.now();
+            batchParams.add(new Object[] {
+                    logDTO.getLogLevel(),
+                    logDTO.getLogMessage(),
+                    logDTO.getLogException(),
+                    logDTO.getLogClass(),
+                    logDTO.getLogMethod(),
+                    timestamp,
+                    logDTO.getUserId() });
+        }
+
+        try {
+            JdbcTemplate.batchUpdate(sql, batchParams);
+            return logs.size();
+        } catch (SQLException e) {
+            // 로그 저장 실패 시 콘솔에만 출력
+            logger.log(Level.SEVERE, "로그 일괄 저장 실패 (" + logs.size() + "건)", e);
+            return -1;
+        }
+    }
+
     /**
      * 로그 레벨에 따른 로그 조회
      * @param logLevel 조회할 로그 레벨
@@ -64,43 +84,14 @@ public class SystemLogDAO {
      * @return 로그 목록
      */
     public List<SystemLogDTO> getLogsByLevel(String logLevel, int limit) {
-        List<SystemLogDTO> logList = new ArrayList<>();
+        String sql = "SELECT * FROM system_log WHERE log_level = ? ORDER BY log_timestamp DESC LIMIT ?";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM system_log WHERE log_level = ? ORDER BY log_timestamp DESC LIMIT ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, logLevel);
-            pstmt.setInt(2, limit);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                SystemLogDTO log = new SystemLogDTO();
-                log.setLogId(rs.getLong("log_id"));
-                log.setLogLevel(rs.getString("log_level"));
-                log.setLogMessage(rs.getString("log_message"));
-                log.setLogException(rs.getString("log_exception"));
-                log.setLogClass(rs.getString("log_class"));
-                log.setLogMethod(rs.getString("log_method"));
-                log.setLogTimestamp(rs.getTimestamp("log_timestamp").toLocalDateTime());
-                
-                long userId = rs.getLong("user_id");
-                if (!rs.wasNull()) {
-                    log.setUserId(userId);
-                }
-                
-                logList.add(log);
-            }
+            return JdbcTemplate.query(sql, this::mapLog, logLevel, limit);
         } catch (SQLException e) {
-            System.err.println("[SystemLogDAO-getLogsByLevel] 로그 조회 실패: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+            logger.log(Level.SEVERE, "로그 조회 실패 (getLogsByLevel)", e);
+            return new ArrayList<>();
         }
-        
-        return logList;
     }
     
     /**
@@ -111,45 +102,15 @@ public class SystemLogDAO {
      * @return 로그 목록
      */
     public List<SystemLogDTO> getLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int limit) {
-        List<SystemLogDTO> logList = new ArrayList<>();
+        String sql = "SELECT * FROM system_log WHERE log_timestamp BETWEEN ? AND ? " +
+                      "ORDER BY log_timestamp DESC LIMIT ?";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM system_log WHERE log_timestamp BETWEEN ? AND ? " +
-                          "ORDER BY log_timestamp DESC LIMIT ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setTimestamp(1, Timestamp.valueOf(startDate));
-            pstmt.setTimestamp(2, Timestamp.valueOf(endDate));
-            pstmt.setInt(3, limit);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                SystemLogDTO log = new SystemLogDTO();
-                log.setLogId(rs.getLong("log_id"));
-                log.setLogLevel(rs.getString("log_level"));
-                log.setLogMessage(rs.getString("log_message"));
-                log.setLogException(rs.getString("log_exception"));
-                log.setLogClass(rs.getString("log_class"));
-                log.setLogMethod(rs.getString("log_method"));
-                log.setLogTimestamp(rs.getTimestamp("log_timestamp").toLocalDateTime());
-                
-                long userId = rs.getLong("user_id");
-                if (!rs.wasNull()) {
-                    log.setUserId(userId);
-                }
-                
-                logList.add(log);
-            }
+            return JdbcTemplate.query(sql, this::mapLog, startDate, endDate, limit);
         } catch (SQLException e) {
-            System.err.println("[SystemLogDAO-getLogsByDateRange] 로그 조회 실패: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+            logger.log(Level.SEVERE, "로그 조회 실패 (getLogsByDateRange)", e);
+            return new ArrayList<>();
         }
-        
-        return logList;
     }
     
     /**
@@ -159,42 +120,32 @@ public class SystemLogDAO {
      * @return 로그 목록
      */
     public List<SystemLogDTO> getLogsByClass(String className, int limit) {
-        List<SystemLogDTO> logList = new ArrayList<>();
+        String sql = "SELECT * FROM system_log WHERE log_class = ? ORDER BY log_timestamp DESC LIMIT ?";
         
         try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM system_log WHERE log_class = ? ORDER BY log_timestamp DESC LIMIT ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, className);
-            pstmt.setInt(2, limit);
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                SystemLogDTO log = new SystemLogDTO();
-                log.setLogId(rs.getLong("log_id"));
-                log.setLogLevel(rs.getString("log_level"));
-                log.setLogMessage(rs.getString("log_message"));
-                log.setLogException(rs.getString("log_exception"));
-                log.setLogClass(rs.getString("log_class"));
-                log.setLogMethod(rs.getString("log_method"));
-                log.setLogTimestamp(rs.getTimestamp("log_timestamp").toLocalDateTime());
-                
-                long userId = rs.getLong("user_id");
-                if (!rs.wasNull()) {
-                    log.setUserId(userId);
-                }
-                
-                logList.add(log);
-            }
+            return JdbcTemplate.query(sql, this::mapLog, className, limit);
         } catch (SQLException e) {
-            System.err.println("[SystemLogDAO-getLogsByClass] 로그 조회 실패: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+            logger.log(Level.SEVERE, "로그 조회 실패 (getLogsByClass)", e);
+            return new ArrayList<>();
+        }
+    }
+    
+    // ResultSet 행을 로그 DTO로 변환
+    private SystemLogDTO mapLog(ResultSet rs) throws SQLException {
+        SystemLogDTO log = new SystemLogDTO();
+        log.setLogId(rs.getLong("log_id"));
+        log.setLogLevel(rs.getString("log_level"));
+        log.setLogMessage(rs.getString("log_message"));
+        log.setLogException(rs.getString("log_exception"));
+        log.setLogClass(rs.getString("log_class"));
+        log.setLogMethod(rs.getString("log_method"));
+        log.setLogTimestamp(rs.getTimestamp("log_timestamp").toLocalDateTime());
+        
+        long userId = rs.getLong("user_id");
+        if (!rs.wasNull()) {
+            log.setUserId(userId);
         }
         
-        return logList;
+        return log;
     }
 }
@@ -0,0 +1,303 @@
+package util.cache;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import util.jfr.CacheEvent;
+import util.metrics.PrometheusWriter;
+
+/**
+ * 프로세스 내 TTL + LRU 캐시 (영역 단위)
+ * - 영역(region)마다 만료 시간과 최대 항목 수를 지정하고, 초과 시 가장 오래 사용하지 않은 항목부터 제거
+ * - 같은 키를 동시에 조회하면 한 요청만 로더를 실행하고 나머지는 그 결과를 기다림 (캐시 스탬피드 방지)
+ * - 로딩 중 무효화가 일어나면 로딩 결과를 캐시에 저장하지 않음 (무효화 이전 데이터가 남지 않도록)
+ * - 조회/적중/로딩/제거 통계를 영역별로 집계 (/metrics), JFR 녹화 중에는 조회/로딩마다 CacheEvent 기록
+ *
+ * 캐시된 객체는 여러 요청이 공유하므로 호출하는 쪽에서 수정하지 않아야 합니다.
+ * null 결과는 캐시하지 않습니다.
+ */
+public class LocalCache<K, V> {
+
+    /**
+     * 캐시에 값이 없을 때 실행하는 로더
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private static final Map<String, LocalCache<?, ?>> REGISTRY = new ConcurrentSkipListMap<>();
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가 (로딩 시작 이후 무효화가 있었는지 판단)
+    private long generation;
+
+    // 통계
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private static final class CacheEntry<V> {
+        final V value;
+        final long expiresAt;
+
+        CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private LocalCache(String name, long ttlMillis, int maxEntries) {
+        this.name = name;
+        this.ttlNanos = Math.max(1, ttlMillis) * 1_000_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        // 접근 순서 유지 (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 캐시 영역 생성 및 등록
+     * @param name 영역 이름 (통계 표시용, 고유해야 함)
+     * @param ttlMillis 항목 만료 시간
+     * @param maxEntries 최대 항목 수
+     */
+    public static <K, V> LocalCache<K, V> region(String name, long ttlMillis, int maxEntries) {
+        LocalCache<K, V> cache = new LocalCache<>(name, ttlMillis, maxEntries);
+        if (REGISTRY.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 영역입니다: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * 등록된 모든 캐시 영역
+     */
+    public static List<LocalCache<?, ?>> getRegions() {
+        return new ArrayList<>(REGISTRY.values());
+    }
+
+    /**
+     * 캐시 조회, 없으면 로더로 읽어 저장
+     * 같은 키의 로딩이 진행 중이면 새로 로딩하지 않고 그 결과를 기다림
+     */
+    public V get(K key, Loader<V> loader) throws SQLException {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        try {
+            V value = loader.load();
+            event.end();
+            if (event.shouldCommit()) {
+                event.region = name;
+                event.operation = "load";
+                event.commit();
+            }
+            loads.increment();
+            if (value != null) {
+                putIfCurrent(key, value, startGeneration);
+            }
+            future.complete(value);
+            return value;
+        } catch (SQLException | RuntimeException e) {
+            loadFailures.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight) throws SQLException {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("캐시 로딩 대기 중 인터럽트되었습니다: " + name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException("캐시 로딩 실패: " + name, cause);
+        }
+    }
+
+    /**
+     * 캐시에 있는 값만 조회 (만료된 값은 제거)
+     */
+    public V getIfPresent(K key) {
+        // JFR 녹화 중일 때만 기록 (락 대기 시간 포함)
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        V value = lookup(key);
+        event.end();
+        if (event.shouldCommit()) {
+            event.region = name;
+            event.operation = "get";
+            event.hit = value != null;
+            event.commit();
+        }
+        return value;
+    }
+
+    private synchronized V lookup(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * 값 저장
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+        evictOverflow();
+    }
+
+    private synchronized void putIfCurrent(K key, V value, long startGeneration) {
+        if (generation == startGeneration) {
+            put(key, value);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<K> it = entries.keySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 특정 키 무효화
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 영역 전체 무효화
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * 모든 영역의 통계를 Prometheus 작성기에 추가
+     */
+    public static void writeMetrics(PrometheusWriter out) {
+        List<LocalCache<?, ?>> regions = getRegions();
+        metric(out, regions, "kirini_cache_hits_total", "캐시 적중 수", "counter", LocalCache::getHitCount);
+        metric(out, regions, "kirini_cache_misses_total", "캐시 미적중 수", "counter", LocalCache::getMissCount);
+        metric(out, regions, "kirini_cache_loads_total", "로더 실행 수", "counter", LocalCache::getLoadCount);
+        metric(out, regions, "kirini_cache_load_failures_total", "로더 실패 수", "counter",
+                LocalCache::getLoadFailureCount);
+        metric(out, regions, "kirini_cache_evictions_total", "크기 초과로 제거된 항목 수", "counter",
+                LocalCache::getEvictionCount);
+        metric(out, regions, "kirini_cache_expirations_total", "만료로 제거된 항목 수", "counter",
+                LocalCache::getExpirationCount);
+        metric(out, regions, "kirini_cache_invalidations_total", "무효화된 항목 수", "counter",
+                LocalCache::getInvalidationCount);
+        metric(out, regions, "kirini_cache_size", "현재 항목 수", "gauge", LocalCache::size);
+        metric(out, regions, "kirini_cache_max_entries", "최대 항목 수", "gauge", LocalCache::getMaxEntries);
+    }
+
+    private static void metric(PrometheusWriter out, List<LocalCache<?, ?>> regions, String name, String help,
+            String type, ToLongFunction<LocalCache<?, ?>> value) {
+        out.family(name, help, type);
+        for (LocalCache<?, ?> region : regions) {
+            out.sample(name, PrometheusWriter.label("region", region.getName()), value.applyAsLong(region));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package util.config;
+
+import java.util.logging.Logger;
+
+/**
+ * 환경변수 설정값 조회
+ * 값이 없으면 기본값을 사용하고, 숫자가 아닌 값은 경고 로그를 남긴 뒤 기본값을 사용합니다.
+ */
+public final class EnvConfig {
+    private static final Logger logger = Logger.getLogger(EnvConfig.class.getName());
+
+    private EnvConfig() {
+    }
+
+    /**
+     * 정수 환경변수 조회
+     * @param name 환경변수 이름
+     * @param defaultValue 값이 없거나 잘못된 경우 사용할 값
+     */
+    public static int getInt(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("잘못된 환경변수 값 " + name + "=" + value + ", 기본값 사용: " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package util.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.metrics.PrometheusWriter;
+
+/**
+ * 고정 크기 JDBC 커넥션 풀
+ * - 최소/최대 크기, 대여 타임아웃, 유휴 커넥션 정리
+ * - 대여 시 유효성 검사, 반납되지 않은 커넥션(누수) 감지
+ * - 대여된 커넥션은 프록시로 감싸서 close() 호출 시 풀로 반납됨
+ */
+public class ConnectionPool {
+    private static final Logger logger = Logger.getLogger(ConnectionPool.class.getName());
+
+    // 최근에 사용된 커넥션은 유효성 검사를 생략 (밀리초)
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakThresholdMillis;
+
+    // 유휴 커넥션 (앞쪽이 가장 최근에 반납된 커넥션)
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    // 대여 중인 커넥션
+    private final Map<PooledConnection, Boolean> borrowed = new ConcurrentHashMap<>();
+    // 전체 커넥션 수 제한용 허가
+    private final Semaphore permits;
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed = false;
+
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+            long acquireTimeoutMillis, long idleTimeoutMillis, long leakThresholdMillis) {
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("잘못된 커넥션 풀 크기: min=" + minSize + ", max=" + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "kirini-db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, Math.min(idleTimeoutMillis, 30_000));
+        housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 풀에서 커넥션을 대여합니다.
+     * 대여 타임아웃 안에 커넥션을 얻지 못하면 SQLTimeoutException이 발생합니다.
+     *
+     * @return close() 시 풀로 반납되는 커넥션
+     * @throws SQLException 커넥션 획득 실패 시
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 종료되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        waiters.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트 발생", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+
+        if (!acquired) {
+            metrics.recordTimeout();
+            throw new SQLTimeoutException("커넥션 획득 시간 초과 (" + acquireTimeoutMillis + "ms, active="
+                    + borrowed.size() + ", max=" + maxSize + ")");
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = createPooledConnection();
+            }
+            Connection proxy = pooled.borrow();
+            borrowed.put(pooled, Boolean.TRUE);
+            metrics.recordAcquire(System.nanoTime() - start);
+            return proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 유효한 유휴 커넥션을 하나 꺼냅니다. 없으면 null을 반환합니다.
+     */
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isValid(pooled)) {
+                return pooled;
+            }
+            metrics.recordValidationFailure();
+            destroy(pooled);
+        }
+        return null;
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastReturnedAt < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection createPooledConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        totalConnections.incrementAndGet();
+        metrics.recordCreated();
+        return new PooledConnection(physical);
+    }
+
+    /**
+     * 커넥션 프록시의 close() 호출 시 실행되어 커넥션을 풀로 되돌립니다.
+     */
+    private void release(PooledConnection pooled) {
+        if (borrowed.remove(pooled) == null) {
+            return;
+        }
+        try {
+            if (closed || !resetState(pooled)) {
+                destroy(pooled);
+            } else {
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 반납된 커넥션의 트랜잭션 상태를 초기화합니다.
+     * 커밋되지 않은 작업이 남아있으면 롤백합니다.
+     */
+    private boolean resetState(PooledConnection pooled) {
+        try {
+            Connection physical = pooled.physical;
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly()) {
+                physical.setReadOnly(false);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            logger.warning("반납된 커넥션 상태 초기화 실패, 커넥션을 폐기합니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        metrics.recordDestroyed();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.fine("물리 커넥션 종료 중 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적으로 실행되는 풀 관리 작업
+     * - 유휴 시간이 초과된 커넥션 정리 (최소 크기는 유지)
+     * - 최소 크기만큼 커넥션 미리 생성
+     * - 장시간 반납되지 않은 커넥션 경고
+     */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            // 가장 오래된 유휴 커넥션부터 정리
+            PooledConnection oldest;
+            while (idle.size() > minSize && (oldest = idle.peekLast()) != null
+                    && now - oldest.lastReturnedAt > idleTimeoutMillis) {
+                if (idle.removeLastOccurrence(oldest)) {
+                    metrics.recordIdleEviction();
+                    destroy(oldest);
+                }
+            }
+
+            while (!closed && totalConnections.get() < minSize && permits.tryAcquire()) {
+                try {
+                    PooledConnection pooled = createPooledConnection();
+                    pooled.lastReturnedAt = System.currentTimeMillis();
+                    idle.offerLast(pooled);
+                } catch (SQLException e) {
+                    logger.warning("최소 커넥션 생성 실패: " + e.getMessage());
+                    break;
+                } finally {
+                    permits.release();
+                }
+            }
+
+            if (leakThresholdMillis > 0) {
+                for (PooledConnection pooled : borrowed.keySet()) {
+                    if (!pooled.leakReported && now - pooled.borrowedAt > leakThresholdMillis) {
+                        pooled.leakReported = true;
+                        metrics.recordLeak();
+                        logger.log(Level.WARNING, "커넥션 누수 의심: " + (now - pooled.borrowedAt)
+                                + "ms 동안 반납되지 않음 (스레드: " + pooled.borrowerThread + ")", pooled.borrowSite);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe("커넥션 풀 관리 작업 중 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 풀을 종료하고 유휴 커넥션을 모두 닫습니다.
+     * 대여 중인 커넥션은 반납되는 시점에 닫힙니다.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+        if (!borrowed.isEmpty()) {
+            logger.warning("커넥션 풀 종료 시점에 반납되지 않은 커넥션 " + borrowed.size() + "개");
+        }
+    }
+
+    public int getActiveCount() {
+        return borrowed.size();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getWaiterCount() {
+        return waiters.get();
+    }
+
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 풀 상태와 지표를 Prometheus 작성기에 추가합니다.
+     */
+    public void writeMetrics(PrometheusWriter out) {
+        out.gauge("kirini_db_pool_active_connections", "대여 중인 커넥션 수", getActiveCount());
+        out.gauge("kirini_db_pool_idle_connections", "유휴 커넥션 수", getIdleCount());
+        out.gauge("kirini_db_pool_total_connections", "전체 물리 커넥션 수", getTotalCount());
+        out.gauge("kirini_db_pool_waiters", "커넥션을 기다리는 스레드 수", getWaiterCount());
+        out.gauge("kirini_db_pool_max_connections", "최대 커넥션 수", maxSize);
+        metrics.writeMetrics(out);
+    }
+
+    /**
+     * 물리 커넥션과 대여 정보를 보관하는 내부 클래스
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private volatile long lastReturnedAt;
+        private volatile long borrowedAt;
+        private volatile boolean leakReported;
+        private volatile String borrowerThread;
+        private volatile Throwable borrowSite;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        /**
+         * 대여 정보를 기록하고 이번 대여에만 유효한 프록시를 만듭니다.
+         */
+        private Connection borrow() {
+            borrowedAt = System.currentTimeMillis();
+            leakReported = false;
+            borrowerThread = Thread.currentThread().getName();
+            borrowSite = leakThresholdMillis > 0 ? new Throwable("커넥션 대여 위치") : null;
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Lease(this));
+        }
+    }
+
+    /**
+     * 대여 1회에 해당하는 프록시 핸들러
+     * close() 이후에는 물리 커넥션에 접근할 수 없습니다.
+     */
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pooled;
+        private volatile boolean returned = false;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "close":
+                if (!returned) {
+                    returned = true;
+                    release(pooled);
+                }
+                return null;
+            case "isClosed":
+                return returned || pooled.physical.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "PooledConnection[" + pooled.physical + "]";
+            default:
+                break;
+            }
+            if (returned) {
+                throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package util.db;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import util.metrics.LatencyHistogram;
+import util.metrics.PrometheusWriter;
+
+/**
+ * 커넥션 풀 지표 수집 클래스
+ * 커넥션 획득 대기 시간은 LatencyHistogram으로 기록합니다.
+ */
+public class ConnectionPoolMetrics {
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+
+    void recordAcquire(long nanos) {
+        acquireLatency.record(nanos);
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordCreated() {
+        created.increment();
+    }
+
+    void recordDestroyed() {
+        destroyed.increment();
+    }
+
+    void recordValidationFailure() {
+        validationFailures.increment();
+    }
+
+    void recordIdleEviction() {
+        idleEvictions.increment();
+    }
+
+    void recordLeak() {
+        leaks.increment();
+    }
+
+    public long getAcquireCount() {
+        return acquireLatency.getCount();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getLeakCount() {
+        return leaks.sum();
+    }
+
+    /**
+     * 누적 지표를 Prometheus 작성기에 추가합니다.
+     */
+    void writeMetrics(PrometheusWriter out) {
+        out.counter("kirini_db_pool_acquire_timeouts_total", "커넥션 획득 시간 초과 횟수", timeouts.sum());
+        out.counter("kirini_db_pool_connections_created_total", "생성된 물리 커넥션 수", created.sum());
+        out.counter("kirini_db_pool_connections_destroyed_total", "종료된 물리 커넥션 수", destroyed.sum());
+        out.counter("kirini_db_pool_validation_failures_total", "대여 시 유효성 검사 실패 횟수", validationFailures.sum());
+        out.counter("kirini_db_pool_idle_evictions_total", "유휴 시간 초과로 정리된 커넥션 수", idleEvictions.sum());
+        out.counter("kirini_db_pool_leaks_total", "누수로 의심된 커넥션 수", leaks.sum());
+        out.histogram("kirini_db_pool_acquire_seconds", "커넥션 획득 대기 시간", acquireLatency);
+    }
+}
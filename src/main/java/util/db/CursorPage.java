@@ -0,0 +1,77 @@
+package util.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션 결과
+ * - items: 화면 표시 순서의 목록
+ * - nextCursor / prevCursor: 다음/이전 페이지 커서 (없으면 null)
+ */
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final String prevCursor;
+    private final boolean hasNext;
+    private final boolean hasPrev;
+
+    public CursorPage(List<T> items, String nextCursor, String prevCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+        this.hasNext = nextCursor != null;
+        this.hasPrev = prevCursor != null;
+    }
+
+    /**
+     * 커서 조건으로 조회한 행(pageSize + 1개까지)을 페이지로 변환
+     *
+     * @param rows 조회 결과 (PREV 방향이면 역순으로 조회된 상태)
+     * @param pageSize 페이지 크기
+     * @param cursor 요청 커서 (첫 페이지면 null)
+     * @param keyExtractor 행에서 정렬 키(마지막은 uid)를 추출하는 함수
+     */
+    public static <T> CursorPage<T> fromRows(List<T> rows, int pageSize, PageCursor cursor,
+            Function<T, Object[]> keyExtractor) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        boolean backward = cursor != null && cursor.isBackward();
+        if (backward) {
+            Collections.reverse(items);
+        }
+        if (items.isEmpty()) {
+            return new CursorPage<>(items, null, null);
+        }
+
+        // 정방향: 더 있으면 다음 페이지, 커서가 있었으면 이전 페이지 존재
+        // 역방향: 더 있으면 이전 페이지, 다음 페이지는 항상 존재 (출발한 페이지)
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : cursor != null;
+
+        String next = hasNext ? PageCursor.next(keyExtractor.apply(items.get(items.size() - 1))).encode() : null;
+        String prev = hasPrev ? PageCursor.prev(keyExtractor.apply(items.get(0))).encode() : null;
+        return new CursorPage<>(items, next, prev);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public boolean isHasPrev() {
+        return hasPrev;
+    }
+}
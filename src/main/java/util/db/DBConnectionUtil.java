@@ -1,41 +1,74 @@
 package util.db;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
 
 /**
  * 데이터베이스 연결을 관리하는 유틸리티 클래스
+ * 커넥션은 내부 커넥션 풀에서 대여되며, close() 호출 시 풀로 반납됩니다.
+ * 대여된 커넥션은 QueryInstrumentation으로 감싸져 SQL 실행 시간이 현재 요청과 전역 지표에 기록됩니다.
  */
 public class DBConnectionUtil {
-    
+    // DB 로그 핸들러가 커넥션을 사용하므로 콘솔 로거 사용 (ConnectionPool과 동일)
+    private static final Logger logger = Logger.getLogger(DBConnectionUtil.class.getName());
+
     // 데이터베이스 연결 정보
     private static final String DRIVER = System.getenv("DB_DRIVER");
     private static final String URL = System.getenv("DB_URL");
     private static final String USER = System.getenv("DB_USER");
     private static final String PASSWORD = System.getenv("DB_PASSWORD");
-    
-    // 정적 초기화 블록으로 드라이버 로드
+
+    // 커넥션 풀 설정 (환경변수, 미지정 시 기본값)
+    private static final int POOL_MIN_SIZE = EnvConfig.getInt("DB_POOL_MIN_SIZE", 2);
+    private static final int POOL_MAX_SIZE = EnvConfig.getInt("DB_POOL_MAX_SIZE", 20);
+    private static final long POOL_ACQUIRE_TIMEOUT_MS = EnvConfig.getInt("DB_POOL_ACQUIRE_TIMEOUT_MS", 5000);
+    private static final long POOL_IDLE_TIMEOUT_MS = EnvConfig.getInt("DB_POOL_IDLE_TIMEOUT_MS", 600000);
+    private static final long POOL_LEAK_THRESHOLD_MS = EnvConfig.getInt("DB_POOL_LEAK_THRESHOLD_MS", 60000);
+
+    private static final ConnectionPool pool;
+
+    // 정적 초기화 블록으로 드라이버 로드 및 커넥션 풀 생성
     static {
         try {
             Class.forName(DRIVER);
         } catch (ClassNotFoundException e) {
-            e.printStackTrace();
+            logger.log(Level.SEVERE, "DB 드라이버 로드 실패: " + DRIVER, e);
             throw new RuntimeException("DB 드라이버 로드 실패", e);
         }
+        pool = new ConnectionPool(URL, USER, PASSWORD, POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_ACQUIRE_TIMEOUT_MS, POOL_IDLE_TIMEOUT_MS, POOL_LEAK_THRESHOLD_MS);
     }
-    
+
     /**
      * 데이터베이스 연결 객체 반환
-     * @return Connection 객체
-     * @throws SQLException 연결 실패 시 예외 발생
+     * @return Connection 객체 (close() 시 풀로 반납)
+     * @throws SQLException 연결 실패 또는 대여 시간 초과 시 예외 발생
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        return QueryInstrumentation.wrap(pool.getConnection());
     }
-    
+
+    /**
+     * 커넥션 풀 반환 (지표 조회용)
+     * @return 커넥션 풀
+     */
+    public static ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * 커넥션 풀 종료 (애플리케이션 종료 시 호출)
+     */
+    public static void shutdown() {
+        pool.shutdown();
+    }
+
     /**
      * 자원 해제 (조회 사용 후)
      * @param rs ResultSet 객체
@@ -47,24 +80,24 @@ public class DBConnectionUtil {
             try {
                 rs.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                logger.log(Level.WARNING, "ResultSet 해제 실패", e);
             }
         }
-        
+
         if (pstmt != null) {
             try {
                 pstmt.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                logger.log(Level.WARNING, "PreparedStatement 해제 실패", e);
             }
         }
-        
+
         if (conn != null) {
             try {
                 conn.close();
             } catch (SQLException e) {
-                e.printStackTrace();
+                logger.log(Level.WARNING, "Connection 해제 실패", e);
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package util.db;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import jakarta.servlet.ServletRequest;
+
+/**
+ * 배치 + 메모이제이션 데이터 로더 (N+1 조회 방지)
+ * - 여러 키를 한 번의 IN (...) 조회로 읽고, 이미 읽은 키는 다시 조회하지 않음
+ * - 결과가 없는 키는 missingValue로 기억 (같은 키를 반복 조회하지 않도록)
+ * - 요청 하나(또는 작업 단위 하나) 동안만 사용하며 스레드 안전하지 않음
+ *   요청 단위로 공유하려면 forRequest()로 요청 속성에 보관
+ *
+ * 예:
+ *   DataLoader<Long, List<KeyboardTagDTO>> loader = new DataLoader<>(dao::getKeyboardTagsByIds, Collections.emptyList());
+ *   Map<Long, List<KeyboardTagDTO>> tags = loader.loadMany(keyboardIds); // 조회 1회
+ */
+public class DataLoader<K, V> {
+
+    /**
+     * 키 목록으로 값을 한 번에 읽는 함수 (결과에 없는 키는 값이 없는 것으로 처리)
+     */
+    @FunctionalInterface
+    public interface BatchFunction<K, V> {
+        Map<K, V> load(List<K> keys) throws SQLException;
+    }
+
+    // IN (...) 자리표시자 수 제한
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final String REQUEST_ATTRIBUTE_PREFIX = DataLoader.class.getName() + ".";
+
+    private final BatchFunction<K, V> batchFunction;
+    private final V missingValue;
+    private final int maxBatchSize;
+    private final Map<K, V> memo = new HashMap<>();
+    private int batchCount;
+
+    /**
+     * @param batchFunction 배치 조회 함수
+     * @param missingValue 결과가 없는 키의 값 (빈 목록 등)
+     */
+    public DataLoader(BatchFunction<K, V> batchFunction, V missingValue) {
+        this(batchFunction, missingValue, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchFunction 배치 조회 함수
+     * @param missingValue 결과가 없는 키의 값 (빈 목록 등)
+     * @param maxBatchSize 한 번에 조회할 최대 키 수 (초과 시 나눠서 조회)
+     */
+    public DataLoader(BatchFunction<K, V> batchFunction, V missingValue, int maxBatchSize) {
+        this.batchFunction = batchFunction;
+        this.missingValue = missingValue;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * 요청 범위 로더 조회 (없으면 생성해 요청 속성에 보관)
+     * @param name 로더 이름 (요청 안에서 고유)
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> DataLoader<K, V> forRequest(ServletRequest request, String name,
+            Supplier<DataLoader<K, V>> factory) {
+        String attribute = REQUEST_ATTRIBUTE_PREFIX + name;
+        DataLoader<K, V> loader = (DataLoader<K, V>) request.getAttribute(attribute);
+        if (loader == null) {
+            loader = factory.get();
+            request.setAttribute(attribute, loader);
+        }
+        return loader;
+    }
+
+    /**
+     * 키 하나의 값 조회
+     */
+    public V load(K key) throws SQLException {
+        return loadMany(Collections.singletonList(key)).get(key);
+    }
+
+    /**
+     * 여러 키의 값 조회 (아직 읽지 않은 키만 배치로 조회)
+     * @return 키 순서대로의 값 (중복 키는 한 번만 포함)
+     */
+    public Map<K, V> loadMany(Collection<K> keys) throws SQLException {
+        Set<K> pending = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!memo.containsKey(key)) {
+                pending.add(key);
+            }
+        }
+
+        List<K> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        for (K key : pending) {
+            batch.add(key);
+            if (batch.size() == maxBatchSize) {
+                loadBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loadBatch(batch);
+        }
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            result.put(key, memo.get(key));
+        }
+        return result;
+    }
+
+    private void loadBatch(List<K> batch) throws SQLException {
+        batchCount++;
+        Map<K, V> loaded = batchFunction.load(new ArrayList<>(batch));
+        for (K key : batch) {
+            V value = loaded != null ? loaded.get(key) : null;
+            memo.put(key, value != null ? value : missingValue);
+        }
+    }
+
+    /**
+     * 미리 읽은 값 등록 (다른 조회에서 이미 얻은 값)
+     */
+    public void prime(K key, V value) {
+        memo.put(key, value);
+    }
+
+    /**
+     * 기억한 값 제거 (변경 후 다시 읽어야 할 때)
+     */
+    public void clear(K key) {
+        memo.remove(key);
+    }
+
+    /**
+     * 지금까지 실행한 배치 조회 수 (진단용)
+     */
+    public int getBatchCount() {
+        return batchCount;
+    }
+}
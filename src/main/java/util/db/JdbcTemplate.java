@@ -0,0 +1,226 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 반복 코드를 줄이기 위한 템플릿 유틸리티
+ * - 모든 자원은 try-with-resources로 메서드 안에서 열고 닫으므로 DAO가 상태를 가지지 않음
+ * - Connection을 인자로 받는 메서드는 트랜잭션 안에서 같은 커넥션을 재사용할 때 사용
+ */
+public class JdbcTemplate {
+
+    /**
+     * ResultSet의 현재 행을 객체로 변환
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T mapRow(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * 하나의 커넥션으로 수행할 작업 (트랜잭션 단위)
+     */
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+        T doInConnection(Connection conn) throws SQLException;
+    }
+
+    private JdbcTemplate() {
+    }
+
+    /**
+     * 여러 행 조회
+     */
+    public static <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return query(conn, sql, mapper, params);
+        }
+    }
+
+    public static <T> List<T> query(Connection conn, String sql, RowMapper<T> mapper, Object... params)
+            throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<T> results = new ArrayList<>();
+                while (rs.next()) {
+                    results.add(mapper.mapRow(rs));
+                }
+                return results;
+            }
+        }
+    }
+
+    /**
+     * 단일 행 조회
+     * @return 첫 번째 행을 변환한 객체, 결과가 없으면 null
+     */
+    public static <T> T queryForObject(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return queryForObject(conn, sql, mapper, params);
+        }
+    }
+
+    public static <T> T queryForObject(Connection conn, String sql, RowMapper<T> mapper, Object... params)
+            throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapper.mapRow(rs) : null;
+            }
+        }
+    }
+
+    /**
+     * 첫 번째 컬럼의 정수 값 조회 (COUNT 등)
+     * @return 결과가 없으면 0
+     */
+    public static int queryForInt(String sql, Object... params) throws SQLException {
+        Integer value = queryForObject(sql, rs -> rs.getInt(1), params);
+        return value != null ? value : 0;
+    }
+
+    public static int queryForInt(Connection conn, String sql, Object... params) throws SQLException {
+        Integer value = queryForObject(conn, sql, rs -> rs.getInt(1), params);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * INSERT / UPDATE / DELETE 실행
+     * @return 영향받은 행 수
+     */
+    public static int update(String sql, Object... params) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return update(conn, sql, params);
+        }
+    }
+
+    public static int update(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * INSERT 실행 후 생성된 키 반환
+     * @return 생성된 키, 삽입된 행이 없거나 키가 없으면 -1
+     */
+    public static long insertAndReturnKey(String sql, Object... params) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return insertAndReturnKey(conn, sql, params);
+        }
+    }
+
+    public static long insertAndReturnKey(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bind(pstmt, params);
+            if (pstmt.executeUpdate() == 0) {
+                return -1;
+            }
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                return keys.next() ? keys.getLong(1) : -1;
+            }
+        }
+    }
+
+    /**
+     * 같은 SQL을 여러 파라미터 묶음으로 일괄 실행
+     * @return 각 묶음별 영향받은 행 수
+     */
+    public static int[] batchUpdate(String sql, List<Object[]> batchParams) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return batchUpdate(conn, sql, batchParams);
+        }
+    }
+
+    public static int[] batchUpdate(Connection conn, String sql, List<Object[]> batchParams) throws SQLException {
+        if (batchParams.isEmpty()) {
+            return new int[0];
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Object[] params : batchParams) {
+                bind(pstmt, params);
+                pstmt.addBatch();
+            }
+            return pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * 하나의 커넥션으로 트랜잭션을 실행
+     * 콜백이 정상 종료되면 커밋하고, 예외가 발생하면 롤백합니다.
+     */
+    public static <T> T inTransaction(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                T result = callback.doInConnection(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                TransactionHelper.rollback(conn);
+                throw e;
+            } finally {
+                TransactionHelper.setAutoCommit(conn, true);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 없이 하나의 커넥션을 여러 쿼리에 재사용
+     */
+    public static <T> T withConnection(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection conn = DBConnectionUtil.getConnection()) {
+            return callback.doInConnection(conn);
+        }
+    }
+
+    /**
+     * IN 절에 사용할 "?, ?, ?" 형태의 플레이스홀더 생성
+     */
+    public static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 파라미터 바인딩 (1부터 순서대로)
+     */
+    private static void bind(PreparedStatement pstmt, Object... params) throws SQLException {
+        if (params == null) {
+            return;
+        }
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            int index = i + 1;
+            if (param == null) {
+                pstmt.setNull(index, Types.NULL);
+            } else if (param instanceof LocalDateTime) {
+                pstmt.setTimestamp(index, Timestamp.valueOf((LocalDateTime) param));
+            } else if (param instanceof LocalDate) {
+                pstmt.setDate(index, java.sql.Date.valueOf((LocalDate) param));
+            } else if (param instanceof Enum<?>) {
+                pstmt.setString(index, ((Enum<?>) param).name());
+            } else {
+                pstmt.setObject(index, param);
+            }
+        }
+    }
+}
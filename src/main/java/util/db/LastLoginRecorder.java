@@ -0,0 +1,134 @@
+package util.db;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
+import util.logging.LoggerConfig;
+
+/**
+ * 마지막 로그인 시간 지연 저장기 (write-behind)
+ * - 로그인 요청은 메모리에 사용자별 최근 로그인 시각만 기록하고 UPDATE를 하지 않음
+ * - 백그라운드 스레드가 주기적으로 배치 UPDATE 한 번으로 저장 (같은 사용자의 여러 로그인은 마지막 시각 하나로 합쳐짐)
+ * - 저장 실패 시 시각을 되돌려 다음 주기에 다시 시도
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - LAST_LOGIN_FLUSH_INTERVAL_MS: 저장 주기 (기본 10000)
+ */
+public class LastLoginRecorder {
+    private static final Logger logger = LoggerConfig.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_SQL = "UPDATE user SET last_login_date = ? WHERE user_uid = ?";
+
+    private static final LastLoginRecorder INSTANCE =
+            new LastLoginRecorder(EnvConfig.getInt("LAST_LOGIN_FLUSH_INTERVAL_MS", 10000));
+
+    // 사용자 ID → 아직 저장하지 않은 마지막 로그인 시각 (epoch ms)
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Object flushLock = new Object();
+
+    LastLoginRecorder(long flushIntervalMs) {
+        long interval = Math.max(100, flushIntervalMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static LastLoginRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 로그인 시각 기록 (메모리에만 기록)
+     */
+    public void record(long userId) {
+        pending.merge(userId, System.currentTimeMillis(), Math::max);
+    }
+
+    /**
+     * 저장 대기 중인 사용자 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 기록된 로그인 시각을 배치 UPDATE로 저장
+     * @return 저장한 사용자 수
+     */
+    public int flush() throws SQLException {
+        synchronized (flushLock) {
+            List<Object[]> batch = new ArrayList<>();
+            List<Map.Entry<Long, Long>> taken = new ArrayList<>();
+            for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+                Long userId = entry.getKey();
+                Long loginAt = entry.getValue();
+                // 그 사이 새 로그인이 기록되었으면 다음 주기에 저장
+                if (pending.remove(userId, loginAt)) {
+                    batch.add(new Object[] { new Timestamp(loginAt), userId });
+                    taken.add(Map.entry(userId, loginAt));
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                JdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                return batch.size();
+            } catch (SQLException | RuntimeException e) {
+                for (Map.Entry<Long, Long> entry : taken) {
+                    pending.merge(entry.getKey(), entry.getValue(), Math::max);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Throwable t) {
+            logger.warning("마지막 로그인 시간 저장 실패 (다음 주기에 재시도): " + t.getMessage());
+        }
+    }
+
+    /**
+     * 스케줄러를 멈추고 남은 기록을 저장 (커넥션 풀 종료 전에 호출)
+     * @param timeoutMs 진행 중인 저장을 기다리는 최대 시간
+     * @return 남은 기록을 모두 저장했으면 true
+     */
+    public boolean shutdown(long timeoutMs) {
+        scheduler.shutdown();
+        boolean interrupted = false;
+        try {
+            scheduler.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // 인터럽트 상태에서는 커넥션 대여가 실패하므로 저장 후 복원
+            interrupted = true;
+        }
+        try {
+            flush();
+        } catch (SQLException e) {
+            logger.warning("종료 시 마지막 로그인 시간 저장 실패: " + e.getMessage());
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return pending.isEmpty();
+    }
+}
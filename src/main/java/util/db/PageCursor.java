@@ -0,0 +1,147 @@
+package util.db;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서
+ * - 마지막으로 본 행의 정렬 키 + uid를 담아 다음/이전 페이지의 시작 위치를 표현
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달되며 내부 형식은 노출하지 않음
+ *
+ * 형식: "v1" + "." + 방향(n/p) + "." + Base64(키1) + "." + Base64(키2) ...
+ */
+public final class PageCursor {
+
+    /**
+     * 페이지 이동 방향
+     */
+    public enum Direction {
+        /** 커서 이후 (다음 페이지) */
+        NEXT,
+        /** 커서 이전 (이전 페이지) */
+        PREV
+    }
+
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Direction direction;
+    private final String[] keys;
+
+    private PageCursor(Direction direction, String[] keys) {
+        this.direction = direction;
+        this.keys = keys;
+    }
+
+    /**
+     * 다음 페이지 커서 생성
+     * @param keys 정렬 키 (마지막 값은 uid)
+     */
+    public static PageCursor next(Object... keys) {
+        return new PageCursor(Direction.NEXT, toStrings(keys));
+    }
+
+    /**
+     * 이전 페이지 커서 생성
+     * @param keys 정렬 키 (마지막 값은 uid)
+     */
+    public static PageCursor prev(Object... keys) {
+        return new PageCursor(Direction.PREV, toStrings(keys));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param token 클라이언트가 전달한 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @param keyCount 기대하는 정렬 키 개수
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static PageCursor decode(String token, int keyCount) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String payload = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\.", -1);
+            if (parts.length != keyCount + 2 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            Direction direction;
+            if ("n".equals(parts[1])) {
+                direction = Direction.NEXT;
+            } else if ("p".equals(parts[1])) {
+                direction = Direction.PREV;
+            } else {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            String[] keys = new String[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = new String(DECODER.decode(parts[i + 2]), StandardCharsets.UTF_8);
+            }
+            return new PageCursor(direction, keys);
+        } catch (IllegalArgumentException e) {
+            // Base64 형식 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 클라이언트에 전달할 커서 문자열 생성
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder(VERSION).append('.').append(direction == Direction.NEXT ? 'n' : 'p');
+        for (String key : keys) {
+            sb.append('.').append(ENCODER.encodeToString(key.getBytes(StandardCharsets.UTF_8)));
+        }
+        return ENCODER.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.PREV;
+    }
+
+    public String getString(int index) {
+        return keys[index];
+    }
+
+    public long getLong(int index) {
+        try {
+            return Long.parseLong(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public int getInt(int index) {
+        try {
+            return Integer.parseInt(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private static String[] toStrings(Object[] keys) {
+        String[] result = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = String.valueOf(keys[i]);
+        }
+        return result;
+    }
+}
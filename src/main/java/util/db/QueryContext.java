@@ -0,0 +1,109 @@
+package util.db;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계 (요청 스레드에 묶임)
+ * QueryBudgetFilter가 요청 시작 시 begin, 종료 시 end를 호출하며,
+ * 요청 밖(백그라운드 스레드)에서 실행된 SQL은 전역 지표에만 반영됩니다.
+ */
+public final class QueryContext {
+    private static final ThreadLocal<QueryContext> CURRENT = new ThreadLocal<>();
+
+    private final String label;
+    private final long budgetNanos;
+    // SQL 문자열 → 실행 횟수 (같은 SQL 반복 = N+1 의심)
+    private final Map<String, int[]> executions = new HashMap<>();
+
+    private int queryCount;
+    private long dbNanos;
+    private int maxRepeat;
+    private String maxRepeatSql;
+    private boolean budgetExceeded;
+
+    private QueryContext(String label, long budgetMs) {
+        this.label = label;
+        this.budgetNanos = Math.max(0, budgetMs) * 1_000_000L;
+    }
+
+    /**
+     * 현재 스레드에 요청 통계 시작
+     * @param label 로그에 남길 요청 이름 (예: "GET /freeboard")
+     * @param budgetMs 요청당 DB 시간 예산, 0이면 제한 없음
+     */
+    public static QueryContext begin(String label, long budgetMs) {
+        QueryContext context = new QueryContext(label, budgetMs);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 현재 스레드의 요청 통계 (요청 밖이면 null)
+     */
+    public static QueryContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 요청 통계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordExecution(String sql, long nanos) {
+        queryCount++;
+        dbNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        int[] count = executions.computeIfAbsent(sql, key -> new int[1]);
+        if (++count[0] > maxRepeat) {
+            maxRepeat = count[0];
+            maxRepeatSql = sql;
+        }
+    }
+
+    void recordFetch(long nanos) {
+        dbNanos += nanos;
+    }
+
+    /**
+     * 남은 DB 시간 예산 (나노초), 예산이 없으면 Long.MAX_VALUE
+     */
+    long remainingBudgetNanos() {
+        return budgetNanos > 0 ? budgetNanos - dbNanos : Long.MAX_VALUE;
+    }
+
+    void markBudgetExceeded() {
+        budgetExceeded = true;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * 같은 SQL이 가장 많이 실행된 횟수
+     */
+    public int getMaxRepeat() {
+        return maxRepeat;
+    }
+
+    public String getMaxRepeatSql() {
+        return maxRepeatSql;
+    }
+
+    public boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+}
@@ -0,0 +1,387 @@
+package util.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
+import util.jfr.SqlEvent;
+import util.metrics.LatencyHistogram;
+import util.metrics.PrometheusWriter;
+
+/**
+ * JDBC 계측 프록시
+ * - DBConnectionUtil이 빌려주는 커넥션을 감싸 Statement 실행과 ResultSet 읽기(next) 시간을 측정
+ * - 측정값은 현재 요청의 QueryContext(쿼리 수, DB 시간, 같은 SQL 반복 횟수)와 전역 히스토그램에 반영
+ * - 실행 + 읽기 시간이 기준을 넘은 SQL은 표본 추출하여 로그로 남김 (파라미터 값은 남기지 않음)
+ * - 요청당 DB 시간 예산이 있으면 남은 예산으로 Statement.setQueryTimeout을 설정하고, 다 쓴 뒤의 실행은 거부
+ * - JFR 녹화 중이면 SQL마다 SqlEvent(DAO 메소드, 게시판, SQL 종류, 행 수)를 기록
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - DB_SLOW_QUERY_MS: 느린 쿼리 기준 (기본 500, 0이면 로그 사용 안 함)
+ * - DB_SLOW_QUERY_SAMPLE_PERCENT: 느린 쿼리 중 로그로 남길 비율 (기본 100)
+ */
+public final class QueryInstrumentation {
+    private static final Logger logger = Logger.getLogger("util.db.SlowQuery");
+
+    private static final long SLOW_QUERY_NANOS = EnvConfig.getInt("DB_SLOW_QUERY_MS", 500) * 1_000_000L;
+    private static final int SLOW_QUERY_SAMPLE_PERCENT = Math.max(0, Math.min(100,
+            EnvConfig.getInt("DB_SLOW_QUERY_SAMPLE_PERCENT", 100)));
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private static final String DAO_PACKAGE = "repository.dao.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final int MAX_CALLER_FRAMES = 16;
+
+    private static final LatencyHistogram statementLatency = new LatencyHistogram();
+    private static final LongAdder slowQueries = new LongAdder();
+    private static final LongAdder budgetRejections = new LongAdder();
+
+    private QueryInstrumentation() {
+    }
+
+    /**
+     * 커넥션을 계측 프록시로 감쌈 (close 등 나머지 호출은 그대로 전달)
+     */
+    public static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    /**
+     * 누적 지표를 Prometheus 작성기에 추가
+     */
+    public static void writeMetrics(PrometheusWriter out) {
+        out.histogram("kirini_db_statement_seconds", "SQL 실행 + 결과 읽기 시간", statementLatency);
+        out.counter("kirini_db_slow_queries_total", "느린 쿼리 기준을 넘은 SQL 수", slowQueries.sum());
+        out.counter("kirini_db_budget_rejections_total", "요청 DB 시간 예산을 다 써서 거부한 SQL 수",
+                budgetRejections.sum());
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 실행 + 읽기 시간이 끝난 SQL 하나를 전역 지표와 JFR에 반영
+    private static void complete(String sql, long execNanos, long fetchNanos, long rows, SqlEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            commitEvent(event, sql, rows);
+        }
+        long total = execNanos + fetchNanos;
+        statementLatency.record(total);
+        if (SLOW_QUERY_NANOS <= 0 || total < SLOW_QUERY_NANOS) {
+            return;
+        }
+        slowQueries.increment();
+        if (SLOW_QUERY_SAMPLE_PERCENT < 100
+                && ThreadLocalRandom.current().nextInt(100) >= SLOW_QUERY_SAMPLE_PERCENT) {
+            return;
+        }
+        QueryContext context = QueryContext.current();
+        logger.warning(String.format("느린 쿼리 %.1fms (실행 %.1fms, 읽기 %.1fms, 행 %d) [%s] %s",
+                total / 1e6, execNanos / 1e6, fetchNanos / 1e6, rows,
+                context != null ? context.getLabel() : "background", abbreviate(sql)));
+    }
+
+    // 녹화 중이고 기준 시간을 넘은 경우에만 호출되므로 호출 스택 탐색 비용은 이때만 듦
+    private static void commitEvent(SqlEvent event, String sql, long rows) {
+        // DAO를 거치지 않은 SQL(서비스에서 직접 실행 등)은 가장 가까운 애플리케이션 호출자를 기록
+        List<StackWalker.StackFrame> callers = WALKER.walk(frames -> frames
+                .filter(frame -> !isInfrastructure(frame.getClassName()))
+                .limit(MAX_CALLER_FRAMES)
+                .collect(Collectors.toList()));
+        StackWalker.StackFrame caller = callers.stream()
+                .filter(frame -> frame.getClassName().startsWith(DAO_PACKAGE))
+                .findFirst()
+                .orElse(callers.isEmpty() ? null : callers.get(0));
+        if (caller != null) {
+            String simpleName = simpleName(caller.getClassName());
+            event.dao = simpleName + "." + caller.getMethodName();
+            if (caller.getClassName().startsWith(DAO_PACKAGE) && simpleName.endsWith("DAO")) {
+                event.board = simpleName.substring(0, simpleName.length() - 3).toLowerCase(Locale.ROOT);
+            }
+        }
+        event.kind = kindOf(sql);
+        event.rows = rows;
+        event.sql = abbreviate(sql);
+        event.commit();
+    }
+
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith("util.db.") || className.startsWith("java.") || className.startsWith("jdk.")
+                || className.startsWith("sun.") || className.startsWith("com.sun.") || className.contains("$Proxy");
+    }
+
+    // 패키지와 내부/람다 클래스 접미사를 뗀 이름
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int inner = name.indexOf('$');
+        return inner > 0 ? name.substring(0, inner) : name;
+    }
+
+    static String kindOf(String sql) {
+        if (sql == null) {
+            return "OTHER";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        switch (trimmed.substring(0, end).toUpperCase(Locale.ROOT)) {
+        case "SELECT":
+        case "WITH":
+            return "SELECT";
+        case "INSERT":
+        case "REPLACE":
+            return "INSERT";
+        case "UPDATE":
+            return "UPDATE";
+        case "DELETE":
+            return "DELETE";
+        default:
+            return "OTHER";
+        }
+    }
+
+    // 로그용 SQL (공백 정리, 길이 제한)
+    static String abbreviate(String sql) {
+        if (sql == null) {
+            return "(batch)";
+        }
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > MAX_LOGGED_SQL_LENGTH
+                ? compact.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+                : compact;
+    }
+
+    /**
+     * 커넥션 프록시: Statement 생성 메소드의 결과만 감쌈
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return target.toString();
+            case "prepareStatement":
+            case "prepareCall":
+            case "createStatement": {
+                Statement statement = (Statement) QueryInstrumentation.invoke(target, method, args);
+                // prepare 계열은 첫 인자가 SQL, createStatement는 실행 시 SQL을 받음
+                String sql = method.getName().equals("createStatement") ? null : (String) args[0];
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] { method.getReturnType() }, new StatementHandler(statement, sql));
+            }
+            default:
+                return QueryInstrumentation.invoke(target, method, args);
+            }
+        }
+    }
+
+    /**
+     * Statement 프록시: 실행 시간 측정, 예산에 따른 쿼리 타임아웃 설정, ResultSet 감싸기
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        // 호출하는 쪽에서 직접 지정한 타임아웃 (초), 예산보다 짧으면 그대로 유지
+        private int requestedTimeout;
+        private ResultSetHandler openResult;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return target.toString();
+            case "setQueryTimeout":
+                requestedTimeout = (Integer) args[0];
+                return QueryInstrumentation.invoke(target, method, args);
+            case "getResultSet":
+                return wrapResult(QueryInstrumentation.invoke(target, method, args), sqlOf(args), 0, null);
+            case "close":
+                finishResult();
+                return QueryInstrumentation.invoke(target, method, args);
+            default:
+                break;
+            }
+            if (!name.startsWith("execute")) {
+                return QueryInstrumentation.invoke(target, method, args);
+            }
+
+            String sql = sqlOf(args);
+            QueryContext context = QueryContext.current();
+            if (context != null) {
+                applyBudget(context, sql);
+            }
+            finishResult();
+            SqlEvent event = new SqlEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result = QueryInstrumentation.invoke(target, method, args);
+            long execNanos = System.nanoTime() - start;
+            if (context != null) {
+                context.recordExecution(sql, execNanos);
+            }
+
+            if ("executeQuery".equals(name)) {
+                // 읽기가 끝날 때(ResultSet 또는 Statement close) 전체 시간을 기록
+                return wrapResult(result, sql, execNanos, event);
+            }
+            complete(sql, execNanos, 0, rowsOf(result), event);
+            return result;
+        }
+
+        private String sqlOf(Object[] args) {
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            return args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+        }
+
+        private void applyBudget(QueryContext context, String sql) throws Exception {
+            long remaining = context.remainingBudgetNanos();
+            if (remaining == Long.MAX_VALUE) {
+                return;
+            }
+            if (remaining <= 0) {
+                context.markBudgetExceeded();
+                budgetRejections.increment();
+                throw new SQLTimeoutException("요청의 DB 시간 예산을 초과했습니다: " + abbreviate(sql));
+            }
+            int seconds = (int) Math.min(Integer.MAX_VALUE, (remaining + 999_999_999L) / 1_000_000_000L);
+            if (requestedTimeout > 0) {
+                seconds = Math.min(seconds, requestedTimeout);
+            }
+            target.setQueryTimeout(seconds);
+        }
+
+        // event가 null이면 실행은 이미 기록된 ResultSet (execute 후 getResultSet)
+        private Object wrapResult(Object result, String sql, long execNanos, SqlEvent event) {
+            if (!(result instanceof ResultSet)) {
+                return result;
+            }
+            ResultSetHandler handler = new ResultSetHandler((ResultSet) result, sql, execNanos, event);
+            openResult = handler;
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class }, handler);
+        }
+
+        // Statement를 다시 실행하거나 닫으면 열린 ResultSet도 닫히므로 그 시점까지의 읽기 시간을 기록
+        private void finishResult() {
+            if (openResult != null) {
+                openResult.finish();
+                openResult = null;
+            }
+        }
+
+        private static long rowsOf(Object result) {
+            if (result instanceof Integer || result instanceof Long) {
+                return ((Number) result).longValue();
+            }
+            if (result instanceof int[]) {
+                return ((int[]) result).length;
+            }
+            if (result instanceof long[]) {
+                return ((long[]) result).length;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * ResultSet 프록시: next() 시간(드라이버의 행 읽기)과 행 수를 누적
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final String sql;
+        private final long execNanos;
+        private final SqlEvent event;
+        private long fetchNanos;
+        private long rows;
+        private boolean finished;
+
+        ResultSetHandler(ResultSet target, String sql, long execNanos, SqlEvent event) {
+            this.target = target;
+            this.sql = sql;
+            this.execNanos = execNanos;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "next": {
+                long start = System.nanoTime();
+                Object hasRow = QueryInstrumentation.invoke(target, method, args);
+                long nanos = System.nanoTime() - start;
+                fetchNanos += nanos;
+                QueryContext context = QueryContext.current();
+                if (context != null) {
+                    context.recordFetch(nanos);
+                }
+                if (Boolean.TRUE.equals(hasRow)) {
+                    rows++;
+                }
+                return hasRow;
+            }
+            case "close":
+                finish();
+                return QueryInstrumentation.invoke(target, method, args);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return QueryInstrumentation.invoke(target, method, args);
+            }
+        }
+
+        void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            // execute() 후 getResultSet으로 읽은 경우 실행은 이미 기록되었으므로 읽기 시간은 요청 통계에만 반영
+            if (event != null) {
+                complete(sql, execNanos, fetchNanos, rows, event);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package util.db;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
+import util.logging.LoggerConfig;
+
+/**
+ * 조회수/다운로드 수 지연 저장기 (write-behind)
+ * - 요청 스레드는 메모리 카운터(LongAdder)만 증가시키고 DB UPDATE를 하지 않음
+ * - 백그라운드 스레드가 주기적으로 게시판별 배치 UPDATE 한 번으로 누적분을 저장
+ * - 아직 저장되지 않은 증가분은 getPendingCount()로 조회해 화면 표시 값에 더함
+ * - 저장 실패 시 증가분을 카운터에 되돌려 다음 주기에 다시 시도
+ *
+ * 저장 후 0이 된 카운터 키는 제거 (증가와 제거 모두 ConcurrentHashMap.compute 안에서 처리해 동시 증가분을 잃지 않음)
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - VIEWCOUNT_FLUSH_INTERVAL_MS: 저장 주기 (기본 5000)
+ */
+public class ViewCountAggregator {
+
+    /**
+     * 조회수를 집계하는 게시판 (첨부파일은 다운로드 수)
+     */
+    public enum Board {
+        FREEBOARD("freeboard", "freeboard_read", "freeboard_uid"),
+        NEWS("news", "news_read", "news_uid"),
+        ATTACHMENT_DOWNLOAD("freeboard_attach", "download_count", "attach_uid");
+
+        private final String updateSql;
+
+        Board(String table, String readColumn, String idColumn) {
+            this.updateSql = "UPDATE " + table + " SET " + readColumn + " = IFNULL(" + readColumn + ", 0) + ? "
+                    + "WHERE " + idColumn + " = ?";
+        }
+    }
+
+    private static final Logger logger = LoggerConfig.getLogger(ViewCountAggregator.class);
+
+    private static final ViewCountAggregator INSTANCE =
+            new ViewCountAggregator(EnvConfig.getInt("VIEWCOUNT_FLUSH_INTERVAL_MS", 5000));
+
+    private final Map<Board, ConcurrentHashMap<Long, LongAdder>> counters = new ConcurrentHashMap<>();
+    // 저장 중인 증가분 (DB 반영 전까지 표시 값에 포함)
+    private final Map<Board, ConcurrentHashMap<Long, Long>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Object flushLock = new Object();
+
+    ViewCountAggregator(long flushIntervalMs) {
+        for (Board board : Board.values()) {
+            counters.put(board, new ConcurrentHashMap<>());
+            inFlight.put(board, new ConcurrentHashMap<>());
+        }
+
+        long interval = Math.max(100, flushIntervalMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "view-count-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static ViewCountAggregator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     */
+    public void increment(Board board, long postId) {
+        increment(board, postId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public long getPendingCount(Board board, long postId) {
+        LongAdder adder = counters.get(board).get(postId);
+        Long flushing = inFlight.get(board).get(postId);
+        return (adder != null ? adder.sum() : 0) + (flushing != null ? flushing : 0);
+    }
+
+    /**
+     * 누적된 증가분을 게시판별 배치 UPDATE로 저장
+     * @return 저장한 게시글 수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int flushed = 0;
+            for (Board board : Board.values()) {
+                flushed += flushBoard(board);
+            }
+            return flushed;
+        }
+    }
+
+    private int flushBoard(Board board) {
+        ConcurrentHashMap<Long, Long> flushing = inFlight.get(board);
+        ConcurrentHashMap<Long, LongAdder> boardCounters = counters.get(board);
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : boardCounters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                flushing.put(entry.getKey(), delta);
+                batch.add(new Object[] { delta, entry.getKey() });
+            }
+            // 그 사이 증가가 없었으면 키 제거 (다음 증가 때 다시 생성)
+            boardCounters.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 일부만 반영된 뒤 재시도해 중복 집계되지 않도록 트랜잭션으로 저장
+            JdbcTemplate.inTransaction(conn -> JdbcTemplate.batchUpdate(conn, board.updateSql, batch));
+            return batch.size();
+        } catch (SQLException e) {
+            // 다음 주기에 다시 저장하도록 증가분 복원
+            for (Object[] params : batch) {
+                increment(board, (Long) params[1], (Long) params[0]);
+            }
+            logger.warning("조회수 저장 실패 (" + board + ", " + batch.size() + "건, 다음 주기에 재시도): " + e.getMessage());
+            return 0;
+        } finally {
+            flushing.clear();
+        }
+    }
+
+    private void increment(Board board, long postId, long delta) {
+        // 저장 스레드의 키 제거와 겹치지 않도록 키 단위로 잠그는 compute 안에서 증가
+        counters.get(board).compute(postId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "조회수 저장 스레드 오류", t);
+        }
+    }
+
+    /**
+     * 스케줄러를 멈추고 남은 증가분을 저장 (커넥션 풀 종료 전에 호출)
+     * @param timeoutMs 진행 중인 저장을 기다리는 최대 시간
+     * @return 남은 증가분을 모두 저장했으면 true
+     */
+    public boolean shutdown(long timeoutMs) {
+        scheduler.shutdown();
+        boolean interrupted = false;
+        try {
+            scheduler.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // 인터럽트 상태에서는 커넥션 대여가 실패하므로 저장 후 복원
+            interrupted = true;
+        }
+        flush();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return !hasPending();
+    }
+
+    private boolean hasPending() {
+        for (ConcurrentHashMap<Long, LongAdder> boardCounters : counters.values()) {
+            for (LongAdder adder : boardCounters.values()) {
+                if (adder.sum() != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,232 @@
+package util.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
+import util.json.JsonResponseWriter;
+import util.logging.LoggerConfig;
+
+/**
+ * 프로세스 내 이벤트 버스 (새 채팅, 새 게시글 등 실시간 알림용)
+ * - 발행한 이벤트에 1부터 증가하는 ID를 붙이고, 최근 이벤트를 재전송 버퍼에 보관 (SSE Last-Event-ID 재연결용)
+ * - 구독자 전달은 하나의 백그라운드 스레드가 발행 순서대로 처리 (발행하는 요청 스레드는 기다리지 않음)
+ * - 이벤트 데이터는 발행할 때 한 번만 JSON으로 변환하고 SSE 프레임도 한 번만 만들어 모든 구독자가 공유
+ *
+ * 이벤트 ID는 프로세스가 재시작되면 다시 1부터 시작합니다.
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - EVENT_REPLAY_SIZE: 재전송 버퍼에 보관할 최근 이벤트 수 (기본 1000)
+ */
+public class EventBus {
+    private static final Logger logger = LoggerConfig.getLogger(EventBus.class);
+
+    private static final EventBus INSTANCE = new EventBus(Math.max(1, EnvConfig.getInt("EVENT_REPLAY_SIZE", 1000)));
+
+    /**
+     * 발행된 이벤트 (불변)
+     */
+    public static final class Event {
+        private final long id;
+        private final String type;
+        private final String data;
+        private final byte[] frame;
+
+        Event(long id, String type, String data) {
+            this.id = id;
+            this.type = type;
+            this.data = data;
+            this.frame = ("id: " + id + "\nevent: " + type + "\ndata: " + data + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * JSON 데이터
+         */
+        public String getData() {
+            return data;
+        }
+
+        /**
+         * SSE 프레임 (UTF-8, 공유 배열이므로 수정하지 않아야 함)
+         */
+        public byte[] getFrame() {
+            return frame;
+        }
+    }
+
+    /**
+     * 이벤트 구독자 (버스 전달 스레드에서 호출되므로 오래 걸리는 작업을 하지 않아야 함)
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(Event event);
+
+        /**
+         * 전달 대기열이 가득 차 이벤트를 전달하지 못함 (발행한 스레드에서 호출)
+         * 구독자는 연결을 끊는 등으로 재전송 버퍼나 전체 조회로 다시 맞춰야 함
+         */
+        default void onDispatchDropped() {
+        }
+    }
+
+    private final int replaySize;
+    private final ArrayDeque<Event> replay;
+    private long lastId;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ThreadPoolExecutor dispatcher;
+
+    // 지표
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dispatchDropped = new LongAdder();
+
+    EventBus(int replaySize) {
+        this.replaySize = replaySize;
+        this.replay = new ArrayDeque<>(replaySize);
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10000), r -> {
+                    Thread thread = new Thread(r, "event-bus-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static EventBus getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 이벤트 발행
+     * @param type 이벤트 유형 (chat, post 등, SSE event 필드)
+     * @param data JSON으로 변환할 데이터
+     * @return 발행된 이벤트
+     */
+    public Event publish(String type, Object data) {
+        String json = JsonResponseWriter.toJson(data);
+        Event event;
+        boolean dropped = false;
+        synchronized (this) {
+            event = new Event(++lastId, type, json);
+            replay.addLast(event);
+            while (replay.size() > replaySize) {
+                replay.pollFirst();
+            }
+            published.increment();
+            // 발행 순서대로 전달되도록 잠금 안에서 넘김
+            try {
+                dispatcher.execute(() -> deliver(event));
+            } catch (RejectedExecutionException e) {
+                dispatchDropped.increment();
+                dropped = true;
+            }
+        }
+        if (dropped) {
+            // 전달이 밀린 경우 구독자에게 알려 재연결 시 재전송 버퍼에서 받게 함
+            for (Listener listener : listeners) {
+                try {
+                    listener.onDispatchDropped();
+                } catch (RuntimeException e) {
+                    logger.warning("이벤트 누락 알림 실패: " + e.getMessage());
+                }
+            }
+        }
+        return event;
+    }
+
+    private void deliver(Event event) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                logger.warning("이벤트 전달 실패: " + event.getType() + ", " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 구독 등록 + 놓친 이벤트 조회
+     * 등록 이후 발행된 이벤트는 모두 listener로 전달되고, 등록 직전 이벤트가 한 번 더 전달될 수 있으므로
+     * 구독자는 이벤트 ID로 중복을 걸러야 함
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 -1)
+     * @return lastEventId 이후 이벤트 (오래된 순), 재전송 버퍼에 없는 이벤트가 있으면 null
+     */
+    public synchronized List<Event> subscribe(Listener listener, long lastEventId) {
+        listeners.add(listener);
+        return eventsAfter(lastEventId);
+    }
+
+    /**
+     * 구독 해제
+     */
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 지정한 ID 이후 이벤트
+     * @return 오래된 순 이벤트, 이미 버퍼에서 밀려났거나 알 수 없는 ID(재시작 전 ID 등)면 null
+     */
+    public synchronized List<Event> eventsAfter(long lastEventId) {
+        if (lastEventId < 0 || lastEventId == lastId) {
+            return Collections.emptyList();
+        }
+        if (lastEventId > lastId || replay.isEmpty() || replay.peekFirst().getId() > lastEventId + 1) {
+            return null;
+        }
+        List<Event> result = new ArrayList<>();
+        for (Event event : replay) {
+            if (event.getId() > lastEventId) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마지막 이벤트 ID (발행된 이벤트가 없으면 0)
+     */
+    public synchronized long getLastEventId() {
+        return lastId;
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getDispatchDroppedCount() {
+        return dispatchDropped.sum();
+    }
+
+    /**
+     * 전달 스레드 종료
+     */
+    public void shutdown() {
+        listeners.clear();
+        dispatcher.shutdownNow();
+    }
+}
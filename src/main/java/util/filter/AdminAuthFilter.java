@@ -7,7 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
-@WebFilter("/admin/*")
+@WebFilter({"/admin/*", "/metrics"})
 public class AdminAuthFilter implements Filter {
 
     @Override
@@ -0,0 +1,205 @@
+package util.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import util.config.EnvConfig;
+import util.db.QueryContext;
+
+/**
+ * 요청 단위 SQL 통계 필터
+ * - 요청 스레드에 QueryContext를 열어 SQL 수, DB 시간, 같은 SQL 반복 횟수를 모음 (QueryInstrumentation이 기록)
+ * - 요청당 DB 시간 예산을 넘기면 이후 SQL은 쿼리 타임아웃/거부로 끊김
+ * - 같은 SQL이 기준 횟수 이상 실행된 요청은 N+1 의심 로그를 남김 (느린 쿼리 로그와 같은 표본 비율)
+ * - 개발 환경에서는 응답 헤더로 통계를 노출 (X-Db-Query-Count, X-Db-Time-Ms, X-Db-Max-Repeat)
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - DB_REQUEST_TIME_BUDGET_MS: 요청당 DB 시간 예산 (기본 0 = 제한 없음)
+ * - DB_REPEATED_QUERY_WARN: N+1 의심으로 볼 같은 SQL 실행 횟수 (기본 10, 0이면 사용 안 함)
+ * - DB_QUERY_DEBUG_HEADERS: true이면 응답 헤더 추가 (기본 false, 운영에서는 사용하지 않음)
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class QueryBudgetFilter implements Filter {
+    private static final Logger logger = Logger.getLogger("util.db.SlowQuery");
+
+    private static final int REQUEST_TIME_BUDGET_MS = EnvConfig.getInt("DB_REQUEST_TIME_BUDGET_MS", 0);
+    private static final int REPEATED_QUERY_WARN = EnvConfig.getInt("DB_REPEATED_QUERY_WARN", 10);
+    private static final int LOG_SAMPLE_PERCENT = Math.max(0, Math.min(100,
+            EnvConfig.getInt("DB_SLOW_QUERY_SAMPLE_PERCENT", 100)));
+    private static final boolean DEBUG_HEADERS = "true".equalsIgnoreCase(System.getenv("DB_QUERY_DEBUG_HEADERS"));
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        // include/forward 등으로 다시 들어온 경우 바깥 요청의 통계를 그대로 사용
+        if (QueryContext.current() != null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        QueryContext context = QueryContext.begin(
+                httpRequest.getMethod() + " " + httpRequest.getRequestURI(), REQUEST_TIME_BUDGET_MS);
+        try {
+            if (DEBUG_HEADERS) {
+                DebugHeaderResponse wrapped = new DebugHeaderResponse((HttpServletResponse) response, context);
+                chain.doFilter(request, wrapped);
+                wrapped.applyHeaders();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            QueryContext.end();
+            reportRepeatedQuery(context);
+        }
+    }
+
+    private static void reportRepeatedQuery(QueryContext context) {
+        if (REPEATED_QUERY_WARN <= 0 || context.getMaxRepeat() < REPEATED_QUERY_WARN) {
+            return;
+        }
+        if (LOG_SAMPLE_PERCENT < 100 && ThreadLocalRandom.current().nextInt(100) >= LOG_SAMPLE_PERCENT) {
+            return;
+        }
+        logger.warning(String.format("N+1 의심: 같은 SQL %d회 실행 (요청 전체 %d회, DB %.1fms) [%s] %s",
+                context.getMaxRepeat(), context.getQueryCount(), context.getDbNanos() / 1e6,
+                context.getLabel(), context.getMaxRepeatSql().replaceAll("\\s+", " ").trim()));
+    }
+
+    /**
+     * 응답 본문을 처음 쓰기 직전(커밋 전)에 통계 헤더를 추가하는 응답 래퍼
+     * 본문 쓰기 이후의 SQL은 헤더에 반영되지 않음
+     */
+    private static final class DebugHeaderResponse extends HttpServletResponseWrapper {
+        private final QueryContext context;
+        private boolean applied;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        DebugHeaderResponse(HttpServletResponse response, QueryContext context) {
+            super(response);
+            this.context = context;
+        }
+
+        void applyHeaders() {
+            if (applied || isCommitted()) {
+                return;
+            }
+            applied = true;
+            setIntHeader("X-Db-Query-Count", context.getQueryCount());
+            setHeader("X-Db-Time-Ms", String.format(Locale.ROOT, "%.1f", context.getDbNanos() / 1e6));
+            setIntHeader("X-Db-Max-Repeat", context.getMaxRepeat());
+            if (context.isBudgetExceeded()) {
+                setHeader("X-Db-Budget-Exceeded", "true");
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        applyHeaders();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        applyHeaders();
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        applyHeaders();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        applyHeaders();
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] buf, int off, int len) {
+                        applyHeaders();
+                        delegate.write(buf, off, len);
+                    }
+
+                    @Override
+                    public void write(String str, int off, int len) {
+                        applyHeaders();
+                        delegate.write(str, off, len);
+                    }
+
+                    @Override
+                    public void flush() {
+                        applyHeaders();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        applyHeaders();
+                        delegate.close();
+                    }
+                });
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applyHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applyHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            applyHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
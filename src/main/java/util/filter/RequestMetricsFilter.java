@@ -0,0 +1,133 @@
+package util.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import util.logging.EventLog;
+import util.metrics.RequestMetrics;
+import util.web.IpUtil;
+
+/**
+ * 모든 요청의 처리 시간, 처리 중인 요청 수, 응답 상태를 RequestMetrics에 기록하는 필터
+ * 라우트 이름은 RequestRouter/DispatcherServlet이 설정한 요청 속성을 사용하고,
+ * 없으면 "메소드 + 서블릿 매핑 패턴"(예: "GET /freeboard/*")으로 기록합니다.
+ * 비동기 요청(SSE 등)은 비동기 처리가 끝날 때 기록합니다.
+ * 요청마다 "access" 로거로 접근 로그(JSON)를 남깁니다. (EVENT_LOG_LEVELS/EVENT_LOG_SAMPLE로 조정)
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class RequestMetricsFilter implements Filter {
+    private static final EventLog accessLog = EventLog.get("access");
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String handler = mappingPattern(httpRequest);
+        AtomicInteger inFlight = RequestMetrics.begin(handler);
+        long start = System.nanoTime();
+        long cpuStart = RequestMetrics.currentThreadCpuNanos();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long cpuNanos = RequestMetrics.currentThreadCpuNanos() - cpuStart;
+            if (!failed && httpRequest.isAsyncStarted()) {
+                httpRequest.getAsyncContext().addListener(
+                        new CompletionListener(httpRequest, httpResponse, inFlight, start, cpuNanos));
+            } else {
+                // 예외가 컨테이너까지 전달되면 500 응답이 되므로 그대로 기록
+                int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : httpResponse.getStatus();
+                finish(httpRequest, handler, inFlight, status, start, cpuNanos);
+            }
+        }
+    }
+
+    // 지표 기록 + 접근 로그
+    private static void finish(HttpServletRequest request, String handler, AtomicInteger inFlight, int status,
+            long start, long cpuNanos) {
+        long nanos = System.nanoTime() - start;
+        String route = routeName(request, handler);
+        RequestMetrics.end(inFlight, route, status, nanos, cpuNanos);
+        if (accessLog.isEnabled(EventLog.Level.INFO)) {
+            accessLog.log(EventLog.Level.INFO, "request", null,
+                    "method", request.getMethod(),
+                    "uri", request.getRequestURI(),
+                    "route", route,
+                    "status", status,
+                    "ms", nanos / 1_000_000L,
+                    "ip", IpUtil.getClientIpAddr(request));
+        }
+    }
+
+    private static String mappingPattern(HttpServletRequest request) {
+        HttpServletMapping mapping = request.getHttpServletMapping();
+        String pattern = mapping != null ? mapping.getPattern() : null;
+        return pattern == null || pattern.isEmpty() ? "/" : pattern;
+    }
+
+    private static String routeName(HttpServletRequest request, String handler) {
+        Object route = request.getAttribute(RequestMetrics.ROUTE_ATTRIBUTE);
+        if (route instanceof String) {
+            return (String) route;
+        }
+        return RequestMetrics.methodLabel(request.getMethod()) + " " + handler;
+    }
+
+    /**
+     * 비동기 요청 완료 시 한 번만 기록
+     */
+    private static final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final AtomicInteger inFlight;
+        private final long start;
+        private final long cpuNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, AtomicInteger inFlight,
+                long start, long cpuNanos) {
+            this.request = request;
+            this.response = response;
+            this.inFlight = inFlight;
+            this.start = start;
+            this.cpuNanos = cpuNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(-1);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            record(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            record(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 다시 비동기로 전환된 경우 새 AsyncContext에도 등록
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void record(int statusOverride) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            int status = statusOverride > 0 ? statusOverride : response.getStatus();
+            finish(request, mappingPattern(request), inFlight, status, start, cpuNanos);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * LocalCache 조회/로딩/무효화 JFR 이벤트
+ */
+@Name("kirini.Cache")
+@Label("Cache Operation")
+@Category({ "Kirini", "Cache" })
+@StackTrace(false)
+public class CacheEvent extends jdk.jfr.Event {
+    @Label("Region")
+    public String region;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,33 @@
+package util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 첨부파일 업로드/다운로드 JFR 이벤트 (UploadPipeline, FileDownloadHandler)
+ * sendfile로 넘긴 다운로드는 실제 전송이 서블릿 반환 후 커넥터에서 이루어지므로 준비 시간만 포함
+ */
+@Name("kirini.FileTransfer")
+@Label("File Transfer")
+@Category({ "Kirini", "File" })
+@StackTrace(false)
+public class FileTransferEvent extends jdk.jfr.Event {
+    @Label("Direction")
+    public String direction;
+
+    @Label("File")
+    public String file;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Sendfile")
+    public boolean sendfile;
+}
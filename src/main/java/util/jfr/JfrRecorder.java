@@ -0,0 +1,114 @@
+package util.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 관리자용 JFR 녹화 관리 (/admin/jfr)
+ * - 한 번에 하나의 녹화만 유지하며, 최근 maxAge 구간만 디스크에 보관 (순환 버퍼)
+ * - JDK 기본 설정(default/profile)에 Kirini 이벤트를 지정한 기준 시간 이상만 기록하도록 추가
+ * - 녹화 중이 아니면 Kirini 이벤트는 비활성이므로 요청 경로의 비용은 shouldCommit() 확인뿐
+ */
+public final class JfrRecorder {
+    private static final JfrRecorder INSTANCE = new JfrRecorder();
+
+    private Recording recording;
+
+    private JfrRecorder() {
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static JfrRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 녹화 시작
+     * @param settings JDK 설정 이름 ("default": 약 1% 부하, "profile": 약 2% 부하)
+     * @param maxAge 보관할 최근 구간
+     * @param maxSizeBytes 보관할 최대 크기
+     * @param threshold 요청/SQL/캐시 이벤트 기록 기준 시간 (이보다 짧은 것은 버림)
+     * @throws IllegalStateException 이미 녹화 중인 경우
+     * @throws IllegalArgumentException 설정 이름이 잘못된 경우
+     */
+    public synchronized void start(String settings, Duration maxAge, long maxSizeBytes, Duration threshold)
+            throws IOException {
+        if (isRecording()) {
+            throw new IllegalStateException("이미 녹화 중입니다.");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("알 수 없는 JFR 설정입니다: " + settings, e);
+        }
+
+        Recording newRecording = new Recording(configuration);
+        newRecording.setName("kirini");
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.enable(RequestEvent.class).withThreshold(threshold);
+        newRecording.enable(SqlEvent.class).withThreshold(threshold);
+        newRecording.enable(CacheEvent.class).withThreshold(threshold);
+        // 파일 전송은 빈도가 낮으므로 모두 기록
+        newRecording.enable(FileTransferEvent.class).withThreshold(Duration.ZERO);
+        newRecording.start();
+        recording = newRecording;
+    }
+
+    /**
+     * 지금까지의 녹화 내용을 파일로 저장 (녹화는 계속됨)
+     * @throws IllegalStateException 녹화 중이 아닌 경우
+     */
+    public synchronized void dump(Path target) throws IOException {
+        if (!isRecording()) {
+            throw new IllegalStateException("녹화 중이 아닙니다.");
+        }
+        recording.dump(target);
+    }
+
+    /**
+     * 녹화 중지 및 보관 중인 데이터 삭제
+     * @return 녹화 중이었으면 true
+     */
+    public synchronized boolean stop() {
+        if (recording == null) {
+            return false;
+        }
+        boolean wasRecording = isRecording();
+        recording.close();
+        recording = null;
+        return wasRecording;
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * 현재 상태 (관리자 화면 표시용)
+     */
+    public synchronized String describe() {
+        if (!isRecording()) {
+            return "recording=false\n";
+        }
+        Instant startTime = recording.getStartTime();
+        return "recording=true\n"
+                + "startTime=" + startTime + "\n"
+                + "maxAgeSeconds=" + recording.getMaxAge().getSeconds() + "\n"
+                + "maxSizeBytes=" + recording.getMaxSize() + "\n"
+                + "sizeBytes=" + recording.getSize() + "\n";
+    }
+}
@@ -0,0 +1,28 @@
+package util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 처리 JFR 이벤트 (DispatcherServlet, RequestRouter)
+ * 기록하지 않는 설정이면 shouldCommit()이 false라 필드를 채우지 않음
+ */
+@Name("kirini.Request")
+@Label("Request")
+@Category({ "Kirini", "HTTP" })
+@Description("*.do 명령어 또는 라우터 핸들러 처리")
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("등록된 명령어 또는 경로 패턴")
+    public String route;
+
+    @Label("Status")
+    public int status;
+}
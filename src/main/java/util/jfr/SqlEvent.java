@@ -0,0 +1,37 @@
+package util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SQL 실행 JFR 이벤트 (QueryInstrumentation)
+ * 실행부터 결과 읽기 완료까지의 구간이며, 어느 DAO 메소드에서 실행했는지는 기록할 때만 호출 스택에서 찾음
+ */
+@Name("kirini.Sql")
+@Label("SQL Statement")
+@Category({ "Kirini", "Database" })
+@Description("DAO 메소드의 SQL 실행과 결과 읽기")
+@StackTrace(false)
+public class SqlEvent extends jdk.jfr.Event {
+    @Label("DAO Method")
+    @Description("SQL을 실행한 repository.dao 메소드 (없으면 가장 가까운 호출자)")
+    public String dao;
+
+    @Label("Board")
+    @Description("DAO 클래스 이름에서 DAO를 뺀 이름 (예: freeboard, keyboardinfo)")
+    public String board;
+
+    @Label("Kind")
+    @Description("SELECT, INSERT, UPDATE, DELETE, OTHER")
+    public String kind;
+
+    @Label("Rows")
+    @Description("읽은 행 수 또는 변경된 행 수")
+    public long rows;
+
+    @Label("SQL")
+    public String sql;
+}
@@ -0,0 +1,107 @@
+package util.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * JSON 응답 공용 작성기
+ * - 모든 컨트롤러가 하나의 Gson 인스턴스(스레드 안전)를 공유
+ * - 중간 문자열을 만들지 않고 response.getOutputStream()으로 바로 직렬화
+ * - 클라이언트가 gzip을 허용하면 압축해서 전송
+ * - LocalDateTime은 LocalDateTimeAdapter 형식("yyyy-MM-dd HH:mm:ss")으로 변환
+ */
+public class JsonResponseWriter {
+
+    public static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+            .create();
+
+    private JsonResponseWriter() {
+    }
+
+    /**
+     * 공용 Gson 인스턴스 반환 (요청 본문 파싱 등)
+     */
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    /**
+     * 객체를 JSON 문자열로 변환 (응답 외 용도)
+     */
+    public static String toJson(Object data) {
+        return GSON.toJson(data);
+    }
+
+    /**
+     * JSON 응답 전송 (압축 없음)
+     * @param response HTTP 응답
+     * @param data 직렬화할 객체
+     */
+    public static void write(HttpServletResponse response, Object data) throws IOException {
+        write(null, response, data);
+    }
+
+    /**
+     * JSON 응답 전송 (Accept-Encoding에 gzip이 있으면 압축)
+     * @param request HTTP 요청 (null이면 압축하지 않음)
+     * @param response HTTP 응답
+     * @param data 직렬화할 객체
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, Object data)
+            throws IOException {
+        response.setContentType(CONTENT_TYPE);
+
+        OutputStream out;
+        try {
+            out = response.getOutputStream();
+        } catch (IllegalStateException e) {
+            // 이미 getWriter()를 사용한 응답이면 Writer로 직렬화
+            Writer writer = response.getWriter();
+            GSON.toJson(data, writer);
+            writer.flush();
+            return;
+        }
+
+        boolean gzip = acceptsGzip(request);
+        GZIPOutputStream gzipOut = null;
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+            response.addHeader("Vary", "Accept-Encoding");
+            gzipOut = new GZIPOutputStream(out, BUFFER_SIZE);
+            out = gzipOut;
+        }
+
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        GSON.toJson(data, writer);
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        // 서블릿 스트림은 컨테이너가 닫음
+        response.getOutputStream().flush();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        if (request == null) {
+            return false;
+        }
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
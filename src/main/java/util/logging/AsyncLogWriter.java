@@ -0,0 +1,263 @@
+package util.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import dto.log.SystemLogDTO;
+import repository.dao.log.SystemLogDAO;
+import util.config.EnvConfig;
+import util.metrics.PrometheusWriter;
+
+/**
+ * 시스템 로그 비동기 일괄 저장기
+ * - 고정 크기 링 버퍼에 로그를 쌓고, 하나의 백그라운드 스레드가 JDBC 배치로 저장
+ * - 배치 크기에 도달하거나 플러시 주기가 지나면 저장
+ * - 버퍼가 가득 찬 경우 오버플로 정책(DROP_OLDEST / BLOCK / SAMPLE)에 따라 처리
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - SYSLOG_QUEUE_CAPACITY: 버퍼 크기 (기본 10000)
+ * - SYSLOG_BATCH_SIZE: 한 번에 저장할 최대 건수 (기본 200)
+ * - SYSLOG_FLUSH_INTERVAL_MS: 최대 저장 지연 시간 (기본 1000)
+ * - SYSLOG_OVERFLOW_POLICY: drop-oldest / block / sample (기본 drop-oldest)
+ * - SYSLOG_BLOCK_TIMEOUT_MS: block 정책의 최대 대기 시간, 초과 시 버림 (기본 100)
+ * - SYSLOG_SAMPLE_RATE: sample 정책에서 N건 중 1건만 보존 (기본 10)
+ */
+public class AsyncLogWriter {
+    // DB 로그 핸들러를 거치지 않는 콘솔 로거 (저장 실패를 다시 이 큐에 넣지 않도록)
+    private static final Logger logger = Logger.getLogger(AsyncLogWriter.class.getName());
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 가장 오래된 로그를 버리고 새 로그를 넣음 */
+        DROP_OLDEST,
+        /** 자리가 날 때까지 호출 스레드를 대기시킴 (제한 시간 초과 시 새 로그를 버림) */
+        BLOCK,
+        /** N건 중 1건만 가장 오래된 로그와 교체하고 나머지는 버림 */
+        SAMPLE;
+
+        static OverflowPolicy parse(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return DROP_OLDEST;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                logger.warning("알 수 없는 오버플로 정책: " + value + ", 기본값 사용: drop-oldest");
+                return DROP_OLDEST;
+            }
+        }
+    }
+
+    private static final AsyncLogWriter INSTANCE = new AsyncLogWriter(
+            EnvConfig.getInt("SYSLOG_QUEUE_CAPACITY", 10000),
+            EnvConfig.getInt("SYSLOG_BATCH_SIZE", 200),
+            EnvConfig.getInt("SYSLOG_FLUSH_INTERVAL_MS", 1000),
+            OverflowPolicy.parse(System.getenv("SYSLOG_OVERFLOW_POLICY")),
+            EnvConfig.getInt("SYSLOG_BLOCK_TIMEOUT_MS", 100),
+            EnvConfig.getInt("SYSLOG_SAMPLE_RATE", 10));
+
+    private final SystemLogDAO logDAO = new SystemLogDAO();
+    private final ArrayBlockingQueue<SystemLogDTO> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int sampleRate;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // 지표
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong overflowSequence = new AtomicLong();
+
+    AsyncLogWriter(int capacity, int batchSize, long flushIntervalMs, OverflowPolicy overflowPolicy,
+            long blockTimeoutMs, int sampleRate) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = Math.max(0, blockTimeoutMs);
+        this.sampleRate = Math.max(1, sampleRate);
+
+        this.writerThread = new Thread(this::runWriter, "system-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static AsyncLogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 로그를 버퍼에 추가 (호출 스레드에서 DB 작업을 하지 않음)
+     * @param logDTO 저장할 로그
+     * @return 버퍼에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean enqueue(SystemLogDTO logDTO) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        if (queue.offer(logDTO)) {
+            enqueued.increment();
+            return true;
+        }
+
+        boolean accepted;
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    accepted = queue.offer(logDTO, blockTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+                break;
+            case SAMPLE:
+                accepted = overflowSequence.incrementAndGet() % sampleRate == 0 && replaceOldest(logDTO);
+                break;
+            case DROP_OLDEST:
+            default:
+                accepted = replaceOldest(logDTO);
+                break;
+        }
+
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    // 가장 오래된 로그 하나를 버리고 새 로그 삽입
+    private boolean replaceOldest(SystemLogDTO logDTO) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            if (queue.poll() != null) {
+                dropped.increment();
+            }
+            if (queue.offer(logDTO)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void runWriter() {
+        List<SystemLogDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                // 배치 크기가 차거나 플러시 주기가 지날 때까지 수집
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    SystemLogDTO first = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 인터럽트 상태를 유지하면 남은 로그 저장 시 커넥션 대여가 실패하므로 종료 플래그만 설정
+                running = false;
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "로그 저장 스레드 오류", t);
+                batch.clear();
+            }
+        }
+
+        // 종료 시 남은 로그 모두 저장
+        flush(batch);
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            flush(batch);
+        }
+    }
+
+    private void flush(List<SystemLogDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int result = logDAO.addLogs(batch);
+        flushes.increment();
+        if (result < 0) {
+            failed.add(batch.size());
+        } else {
+            written.add(result);
+        }
+        batch.clear();
+    }
+
+    /**
+     * 새 로그 수신을 중단하고 버퍼에 남은 로그를 저장한 뒤 종료 (애플리케이션 종료 시 호출)
+     * @param timeoutMs 최대 대기 시간
+     * @return 제한 시간 안에 모두 저장했으면 true
+     */
+    public boolean shutdown(long timeoutMs) {
+        // 저장 중인 JDBC 작업을 끊지 않도록 인터럽트하지 않음 (최대 플러시 주기 안에 루프 종료)
+        running = false;
+        try {
+            writerThread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !writerThread.isAlive();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 지표를 Prometheus 작성기에 추가
+     */
+    public void writeMetrics(PrometheusWriter out) {
+        out.counter("kirini_system_log_enqueued_total", "버퍼에 들어간 로그 수", enqueued.sum());
+        out.counter("kirini_system_log_dropped_total", "버퍼 초과로 버려진 로그 수", dropped.sum());
+        out.counter("kirini_system_log_flushes_total", "배치 저장 실행 횟수", flushes.sum());
+        out.counter("kirini_system_log_written_total", "DB에 저장된 로그 수", written.sum());
+        out.counter("kirini_system_log_failed_total", "저장에 실패한 로그 수", failed.sum());
+        out.gauge("kirini_system_log_queue_size", "저장 대기 중인 로그 수", queue.size());
+        out.gauge("kirini_system_log_queue_capacity", "버퍼 크기", queue.size() + queue.remainingCapacity());
+    }
+}
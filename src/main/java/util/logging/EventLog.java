@@ -0,0 +1,220 @@
+package util.logging;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * 구조화 이벤트/접근 로그 API
+ * 사용 예: log.info("read_count_skipped", "postId", postId, "reason", "viewed")
+ * → {"ts":...,"level":"INFO","logger":"FreeboardDAO","event":"read_count_skipped","postId":12,"reason":"viewed"}
+ *
+ * - 기록은 EventLogWriter의 잠금 없는 큐로 넘기고 파일 기록은 백그라운드 스레드에서 수행
+ * - 레벨이 꺼져 있으면 필드 배열도 만들지 않고 바로 반환 (고정 인자 메소드 사용 시)
+ *   값을 만드는 데 비용이 드는 경우 isEnabled로 먼저 확인
+ * - WARN 미만 기록은 로거별 표본 비율만큼만 남길 수 있음 (WARN/ERROR는 항상 기록)
+ * - 필드 값은 기록 스레드에서 문자열로 바뀌므로 문자열/숫자처럼 바뀌지 않는 값을 넘겨야 함
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - EVENT_LOG_LEVEL: 기본 레벨 DEBUG / INFO / WARN / ERROR / OFF (기본 INFO)
+ * - EVENT_LOG_LEVELS: 로거별 레벨 (예: "UserpageController=DEBUG,access=WARN")
+ * - EVENT_LOG_SAMPLE: 로거별 표본 비율 % (예: "access=10")
+ */
+public final class EventLog {
+
+    /**
+     * 로그 레벨
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    // 설정 오류는 콘솔 로거로 남김 (EventLog 자체는 아직 초기화 중)
+    private static final Logger logger = Logger.getLogger(EventLog.class.getName());
+
+    private static final Level DEFAULT_LEVEL = parseLevel(System.getenv("EVENT_LOG_LEVEL"), Level.INFO);
+    private static final Map<String, Level> LEVELS = parseLevels(System.getenv("EVENT_LOG_LEVELS"));
+    private static final Map<String, Integer> SAMPLES = parseSamples(System.getenv("EVENT_LOG_SAMPLE"));
+    private static final ConcurrentHashMap<String, EventLog> LOGGERS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int threshold;
+    private final int samplePercent;
+
+    private EventLog(String name) {
+        this.name = name;
+        this.threshold = LEVELS.getOrDefault(name, DEFAULT_LEVEL).ordinal();
+        this.samplePercent = SAMPLES.getOrDefault(name, 100);
+    }
+
+    /**
+     * 클래스 이름(패키지 제외)을 로거 이름으로 사용
+     */
+    public static EventLog get(Class<?> clazz) {
+        return get(clazz.getSimpleName());
+    }
+
+    /**
+     * 이름으로 로거 반환 (예: "access")
+     */
+    public static EventLog get(String name) {
+        return LOGGERS.computeIfAbsent(name, EventLog::new);
+    }
+
+    /**
+     * 해당 레벨이 기록되는지 (표본 추출 전 기준)
+     */
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold && level != Level.OFF;
+    }
+
+    public void debug(String event) {
+        if (isEnabled(Level.DEBUG)) {
+            write(Level.DEBUG, event, null, null);
+        }
+    }
+
+    public void debug(String event, String k1, Object v1) {
+        if (isEnabled(Level.DEBUG)) {
+            write(Level.DEBUG, event, new Object[] { k1, v1 }, null);
+        }
+    }
+
+    public void debug(String event, String k1, Object v1, String k2, Object v2) {
+        if (isEnabled(Level.DEBUG)) {
+            write(Level.DEBUG, event, new Object[] { k1, v1, k2, v2 }, null);
+        }
+    }
+
+    public void debug(String event, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        if (isEnabled(Level.DEBUG)) {
+            write(Level.DEBUG, event, new Object[] { k1, v1, k2, v2, k3, v3 }, null);
+        }
+    }
+
+    public void info(String event) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, event, null, null);
+        }
+    }
+
+    public void info(String event, String k1, Object v1) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, event, new Object[] { k1, v1 }, null);
+        }
+    }
+
+    public void info(String event, String k1, Object v1, String k2, Object v2) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, event, new Object[] { k1, v1, k2, v2 }, null);
+        }
+    }
+
+    public void info(String event, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, event, new Object[] { k1, v1, k2, v2, k3, v3 }, null);
+        }
+    }
+
+    public void warn(String event, Throwable error) {
+        if (isEnabled(Level.WARN)) {
+            write(Level.WARN, event, null, error);
+        }
+    }
+
+    public void warn(String event, Throwable error, String k1, Object v1) {
+        if (isEnabled(Level.WARN)) {
+            write(Level.WARN, event, new Object[] { k1, v1 }, error);
+        }
+    }
+
+    public void warn(String event, Throwable error, String k1, Object v1, String k2, Object v2) {
+        if (isEnabled(Level.WARN)) {
+            write(Level.WARN, event, new Object[] { k1, v1, k2, v2 }, error);
+        }
+    }
+
+    public void error(String event, Throwable error) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, event, null, error);
+        }
+    }
+
+    public void error(String event, Throwable error, String k1, Object v1) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, event, new Object[] { k1, v1 }, error);
+        }
+    }
+
+    public void error(String event, Throwable error, String k1, Object v1, String k2, Object v2) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, event, new Object[] { k1, v1, k2, v2 }, error);
+        }
+    }
+
+    /**
+     * 필드가 많은 경우용 (이름, 값, 이름, 값, ... 순서)
+     * 호출 전에 배열이 만들어지므로 자주 호출되는 곳에서는 isEnabled로 먼저 확인
+     */
+    public void log(Level level, String event, Throwable error, Object... keyValues) {
+        if (isEnabled(level)) {
+            write(level, event, keyValues, error);
+        }
+    }
+
+    private void write(Level level, String event, Object[] fields, Throwable error) {
+        if (level.ordinal() < Level.WARN.ordinal() && samplePercent < 100
+                && ThreadLocalRandom.current().nextInt(100) >= samplePercent) {
+            return;
+        }
+        EventLogWriter.getInstance().enqueue(new EventLogWriter.Entry(level, name, event, fields, error));
+    }
+
+    private static Level parseLevel(String value, Level defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warning("알 수 없는 로그 레벨: " + value + ", 기본값 사용: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    // "이름=값,이름=값" 형식
+    private static Map<String, String> parsePairs(String value) {
+        Map<String, String> pairs = new HashMap<>();
+        if (value == null) {
+            return pairs;
+        }
+        for (String pair : value.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                pairs.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+            }
+        }
+        return pairs;
+    }
+
+    private static Map<String, Level> parseLevels(String value) {
+        Map<String, Level> levels = new HashMap<>();
+        parsePairs(value).forEach((name, level) -> levels.put(name, parseLevel(level, DEFAULT_LEVEL)));
+        return levels;
+    }
+
+    private static Map<String, Integer> parseSamples(String value) {
+        Map<String, Integer> samples = new HashMap<>();
+        parsePairs(value).forEach((name, percent) -> {
+            try {
+                samples.put(name, Math.max(0, Math.min(100, Integer.parseInt(percent))));
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 표본 비율: " + name + "=" + percent);
+            }
+        });
+        return samples;
+    }
+}
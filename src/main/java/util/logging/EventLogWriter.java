@@ -0,0 +1,371 @@
+package util.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import util.config.EnvConfig;
+import util.metrics.PrometheusWriter;
+
+/**
+ * 구조화 로그(JSON Lines) 파일 기록기
+ * - 요청 스레드는 잠금 없는 큐(ConcurrentLinkedQueue)에 기록만 넣고 바로 반환 (콘솔 잠금/파일 I/O 없음)
+ * - 하나의 백그라운드 스레드가 JSON 문자열로 변환해 파일에 모아 쓰고, 크기나 날짜가 바뀌면 파일을 교체
+ * - 큐가 가득 차면 새 기록을 버리고 횟수만 집계 (요청 스레드를 기다리게 하지 않음)
+ * - 로그 디렉토리에 쓸 수 없으면 기록 스레드에서 콘솔로 대신 출력
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - EVENT_LOG_DIR: 기록 디렉토리 (기본 ${catalina.base}/logs, 없으면 /usr/local/tomcat/logs)
+ * - EVENT_LOG_QUEUE_CAPACITY: 큐 크기 (기본 50000)
+ * - EVENT_LOG_FLUSH_INTERVAL_MS: 최대 기록 지연 시간 (기본 200)
+ * - EVENT_LOG_MAX_FILE_MB: 파일 하나의 최대 크기 (기본 100)
+ * - EVENT_LOG_MAX_FILES: 보관할 이전 파일 수 (기본 10)
+ */
+public final class EventLogWriter {
+    // 기록기 자체의 오류는 콘솔 로거로만 남김
+    private static final Logger logger = Logger.getLogger(EventLogWriter.class.getName());
+    private static final String FILE_PREFIX = "kirini-events";
+    private static final DateTimeFormatter ROTATED_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final EventLogWriter INSTANCE = new EventLogWriter(
+            new File(logDirectory()),
+            EnvConfig.getInt("EVENT_LOG_QUEUE_CAPACITY", 50000),
+            EnvConfig.getInt("EVENT_LOG_FLUSH_INTERVAL_MS", 200),
+            EnvConfig.getInt("EVENT_LOG_MAX_FILE_MB", 100) * 1024L * 1024L,
+            EnvConfig.getInt("EVENT_LOG_MAX_FILES", 10));
+
+    /**
+     * 큐에 들어가는 기록 (문자열 변환은 기록 스레드에서 수행)
+     */
+    static final class Entry {
+        final long timestamp;
+        final EventLog.Level level;
+        final String logger;
+        final String event;
+        final String thread;
+        final Object[] fields;
+        final Throwable error;
+
+        Entry(EventLog.Level level, String logger, String event, Object[] fields, Throwable error) {
+            this.timestamp = System.currentTimeMillis();
+            this.level = level;
+            this.logger = logger;
+            this.event = event;
+            this.thread = Thread.currentThread().getName();
+            this.fields = fields;
+            this.error = error;
+        }
+    }
+
+    private final File directory;
+    private final File file;
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final int capacity;
+    private final long flushIntervalNanos;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // 기록 스레드 전용 상태
+    private Writer out;
+    private long fileBytes;
+    private LocalDate fileDate;
+    private boolean consoleFallback;
+    private final StringBuilder line = new StringBuilder(512);
+
+    // 지표
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+
+    EventLogWriter(File directory, int capacity, long flushIntervalMs, long maxFileBytes, int maxFiles) {
+        this.directory = directory;
+        this.file = new File(directory, FILE_PREFIX + ".log");
+        this.capacity = Math.max(1, capacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        this.maxFileBytes = Math.max(1024 * 1024, maxFileBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+
+        this.writerThread = new Thread(this::runWriter, "event-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static EventLogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    private static String logDirectory() {
+        String dir = System.getenv("EVENT_LOG_DIR");
+        if (dir != null && !dir.trim().isEmpty()) {
+            return dir.trim();
+        }
+        String catalinaBase = System.getProperty("catalina.base");
+        return catalinaBase != null ? catalinaBase + File.separator + "logs" : "/usr/local/tomcat/logs";
+    }
+
+    /**
+     * 기록을 큐에 추가 (가득 찼거나 종료 중이면 버림)
+     */
+    void enqueue(Entry entry) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        if (queueSize.incrementAndGet() > capacity) {
+            queueSize.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(entry);
+        enqueued.increment();
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (!drain()) {
+                    // 큐가 비어 있으면 주기만큼 쉼 (생산자는 깨우지 않으므로 잠금이 필요 없음)
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "로그 기록 스레드 오류", t);
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        // 종료 시 남은 기록 모두 저장
+        drain();
+        closeQuietly();
+    }
+
+    // 큐의 기록을 모두 쓰고 flush, 쓴 기록이 있으면 true
+    private boolean drain() {
+        Entry entry = queue.poll();
+        if (entry == null) {
+            return false;
+        }
+        int count = 0;
+        do {
+            queueSize.decrementAndGet();
+            write(entry);
+            count++;
+        } while ((entry = queue.poll()) != null);
+        try {
+            if (out != null) {
+                out.flush();
+                // 기록 중에는 문자 수로 추정하고 flush 후 실제 크기로 보정
+                fileBytes = file.length();
+            }
+        } catch (IOException e) {
+            logger.warning("로그 파일 flush 실패: " + e.getMessage());
+        }
+        written.add(count);
+        return true;
+    }
+
+    private void write(Entry entry) {
+        line.setLength(0);
+        format(entry, line);
+        line.append('\n');
+        if (consoleFallback || !ensureFile(entry.timestamp)) {
+            System.out.print(line);
+            return;
+        }
+        try {
+            out.append(line);
+            fileBytes += line.length();
+        } catch (IOException e) {
+            logger.warning("로그 파일 기록 실패, 콘솔로 출력: " + e.getMessage());
+            closeQuietly();
+            consoleFallback = true;
+            System.out.print(line);
+        }
+    }
+
+    // 파일이 없으면 열고, 크기 초과나 날짜 변경 시 교체
+    private boolean ensureFile(long timestamp) {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(ZONE).toLocalDate();
+        if (out != null && (fileBytes >= maxFileBytes || !date.equals(fileDate))) {
+            closeQuietly();
+            rotate();
+        }
+        if (out != null) {
+            return true;
+        }
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("디렉토리를 만들 수 없습니다: " + directory);
+            }
+            // 이전 날짜에 쓰던 파일이 남아 있으면 먼저 교체
+            if (file.length() > 0
+                    && !date.equals(Instant.ofEpochMilli(file.lastModified()).atZone(ZONE).toLocalDate())) {
+                rotate();
+            }
+            out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8),
+                    64 * 1024);
+            fileBytes = file.length();
+            fileDate = date;
+            return true;
+        } catch (IOException e) {
+            logger.warning("로그 파일을 열 수 없어 콘솔로 출력합니다: " + e.getMessage());
+            consoleFallback = true;
+            return false;
+        }
+    }
+
+    private void rotate() {
+        String suffix = Instant.now().atZone(ZONE).format(ROTATED_SUFFIX);
+        File rotated = new File(directory, FILE_PREFIX + "-" + suffix + ".log");
+        if (file.exists() && !file.renameTo(rotated)) {
+            logger.warning("로그 파일 교체 실패: " + rotated);
+        }
+        rotations.increment();
+
+        File[] old = directory.listFiles((dir, name) -> name.startsWith(FILE_PREFIX + "-") && name.endsWith(".log"));
+        if (old != null && old.length > maxFiles) {
+            // 이름에 시각이 들어 있으므로 이름순 = 오래된 순
+            Arrays.sort(old);
+            for (int i = 0; i < old.length - maxFiles; i++) {
+                if (!old[i].delete()) {
+                    logger.warning("이전 로그 파일 삭제 실패: " + old[i]);
+                }
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warning("로그 파일 닫기 실패: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    // {"ts":...,"level":...,"logger":...,"event":...,"thread":...,필드...,"error":...}
+    static void format(Entry entry, StringBuilder sb) {
+        sb.append("{\"ts\":\"");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(entry.timestamp).atZone(ZONE), sb);
+        sb.append("\",\"level\":\"").append(entry.level.name()).append('"');
+        sb.append(",\"logger\":");
+        appendString(sb, entry.logger);
+        sb.append(",\"event\":");
+        appendString(sb, entry.event);
+        sb.append(",\"thread\":");
+        appendString(sb, entry.thread);
+        Object[] fields = entry.fields;
+        if (fields != null) {
+            for (int i = 0; i + 1 < fields.length; i += 2) {
+                sb.append(',');
+                appendString(sb, String.valueOf(fields[i]));
+                sb.append(':');
+                appendValue(sb, fields[i + 1]);
+            }
+        }
+        if (entry.error != null) {
+            StringWriter trace = new StringWriter();
+            entry.error.printStackTrace(new PrintWriter(trace));
+            sb.append(",\"error\":");
+            appendString(sb, trace.toString());
+        }
+        sb.append('}');
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            sb.append(value);
+        } else if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+            sb.append(value);
+        } else {
+            appendString(sb, String.valueOf(value));
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * 새 기록 수신을 중단하고 남은 기록을 저장한 뒤 종료 (애플리케이션 종료 시 호출)
+     * @param timeoutMs 최대 대기 시간
+     * @return 제한 시간 안에 모두 저장했으면 true
+     */
+    public boolean shutdown(long timeoutMs) {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !writerThread.isAlive();
+    }
+
+    public int getQueueSize() {
+        return Math.max(0, queueSize.get());
+    }
+
+    /**
+     * 지표를 Prometheus 작성기에 추가
+     */
+    public void writeMetrics(PrometheusWriter out) {
+        out.counter("kirini_event_log_enqueued_total", "큐에 들어간 구조화 로그 수", enqueued.sum());
+        out.counter("kirini_event_log_dropped_total", "큐 초과로 버려진 구조화 로그 수", dropped.sum());
+        out.counter("kirini_event_log_written_total", "기록된 구조화 로그 수", written.sum());
+        out.counter("kirini_event_log_rotations_total", "로그 파일 교체 횟수", rotations.sum());
+        out.gauge("kirini_event_log_queue_size", "기록 대기 중인 구조화 로그 수", getQueueSize());
+    }
+}
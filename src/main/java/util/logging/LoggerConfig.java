@@ -1,6 +1,7 @@
 package util.logging;
 
 import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -8,17 +9,14 @@ import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
 import dto.log.SystemLogDTO;
-import repository.dao.log.SystemLogDAO;
 
 /**
  * 로깅 시스템 구성을 담당하는 클래스
  * - 모든 로그: 콘솔에 출력
- * - 비즈니스 로직 관련 로그: 데이터베이스 테이블에 저장
+ * - 비즈니스 로직 관련 로그: 데이터베이스 테이블에 저장 (AsyncLogWriter가 비동기 일괄 저장)
  */
 public class LoggerConfig {
     
-    private static final SystemLogDAO logDAO = new SystemLogDAO();
-    
     /**
      * 주어진 클래스에 대한 로거 인스턴스 반환
      */
@@ -53,19 +51,13 @@ public class LoggerConfig {
                     logDTO.setLogMessage(record.getMessage());
                     logDTO.setLogClass(record.getSourceClassName());
                     logDTO.setLogMethod(record.getSourceMethodName());
+                    logDTO.setLogTimestamp(java.time.LocalDateTime.ofInstant(record.getInstant(), java.time.ZoneId.systemDefault()));
                     
-                    // 비동기적으로 DB에 저장 (파일 락 방지)
-                    new Thread(() -> {
-                        try {
-                            logDAO.addLog(logDTO);
-                        } catch (Exception e) {
-                            // 로그 저장 실패 시 콘솔에만 출력
-                            System.err.println("[로그 저장 실패] " + e.getMessage());
-                        }
-                    }).start();
+                    // 버퍼에 넣고 백그라운드 스레드가 일괄 저장
+                    AsyncLogWriter.getInstance().enqueue(logDTO);
                 } catch (Exception e) {
-                    // 로그 처리 중 오류 발생 시 콘솔에 출력
-                    System.err.println("[로그 처리 오류] " + e.getMessage());
+                    // 로그 처리 중 오류는 핸들러의 ErrorManager로 보고 (콘솔 출력)
+                    reportError("로그 처리 오류", e, ErrorManager.WRITE_FAILURE);
                 }
             }
             
@@ -90,7 +82,7 @@ public class LoggerConfig {
     }
     
     /**
-     * 에러 로그를 콘솔에 포맷팅해서 출력합니다.
+     * 에러 로그를 해당 클래스의 로거로 남깁니다. (SEVERE는 콘솔에만 출력되고 DB에는 저장되지 않음)
      * 
      * @param clazz 로깅을 수행하는 클래스
      * @param method 로깅을 수행하는 메소드 이름
@@ -98,20 +90,7 @@ public class LoggerConfig {
      * @param e 예외 객체
      */
     public static void logError(Class<?> clazz, String method, String message, Exception e) {
-        System.err.println("=== ERROR ===");
-        System.err.println("Time: " + java.time.LocalDateTime.now());
-        System.err.println("Class: " + clazz.getName());
-        System.err.println("Method: " + method);
-        System.err.println("Message: " + message);
-        if (e != null) {
-            System.err.println("Exception: " + e.getClass().getName());
-            System.err.println("Cause: " + e.getMessage());
-            System.err.println("Stack Trace:");
-            for (StackTraceElement element : e.getStackTrace()) {
-                System.err.println("    at " + element.toString());
-            }
-        }
-        System.err.println("=============");
+        getLogger(clazz).logp(Level.SEVERE, clazz.getName(), method, message, e);
     }
     
     /**
@@ -132,14 +111,7 @@ public class LoggerConfig {
         logDTO.setLogTimestamp(java.time.LocalDateTime.now());
         logDTO.setUserId(userId);
         
-        // 비동기적으로 DB에 저장
-        new Thread(() -> {
-            try {
-                logDAO.addLog(logDTO);
-            } catch (Exception e) {
-                // 로그 저장 실패 시 콘솔에만 출력
-                System.err.println("[로그 저장 실패] " + e.getMessage());
-            }
-        }).start();
+        // 버퍼에 넣고 백그라운드 스레드가 일괄 저장
+        AsyncLogWriter.getInstance().enqueue(logDTO);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (잠금 없음, 고정 메모리)
+ * - 구간 경계는 2배씩 커지는 로그 구간 (1µs, 2µs, 4µs, ... 약 67초)이므로 값 범위와 관계없이 구간 수가 일정
+ * - 기록은 구간 위치 계산(비트 연산) + AtomicLongArray 증가 한 번
+ * - Prometheus histogram 형식(누적 구간, 초 단위)으로 출력
+ */
+public final class LatencyHistogram {
+    // 1µs ~ 2^26µs(약 67초), 마지막 구간은 +Inf
+    private static final int BUCKET_COUNT = 28;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * 소요 시간 기록
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos) / 1000;
+        buckets.incrementAndGet(bucketIndex(micros));
+        sumNanos.add(Math.max(0, nanos));
+    }
+
+    // 값이 들어갈 가장 작은 구간 (상한 2^i µs 이상)
+    static int bucketIndex(long micros) {
+        if (micros <= 1) {
+            return 0;
+        }
+        int index = 64 - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    // 구간 상한 (초), 마지막 구간은 무한대
+    static double upperBoundSeconds(int index) {
+        return index == BUCKET_COUNT - 1 ? Double.POSITIVE_INFINITY : (1L << index) / 1_000_000.0;
+    }
+
+    /**
+     * 기록된 횟수
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * 분위수 추정 (구간 상한 기준, 초 단위)
+     * @param quantile 0~1
+     * @return 기록이 없으면 0
+     */
+    public double quantileSeconds(double quantile) {
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long value : snapshot) {
+            total += value;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= Math.max(1, rank)) {
+                return upperBoundSeconds(i);
+            }
+        }
+        return upperBoundSeconds(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Prometheus histogram 표본 추가 (HELP/TYPE 줄은 호출하는 쪽에서 한 번만 씀)
+     * @param name 지표 이름
+     * @param labels 중괄호 없는 레이블 (예: route="GET /list"), 없으면 빈 문자열
+     */
+    public void writeMetrics(PrometheusWriter out, String name, String labels) {
+        long[] snapshot = snapshot();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+            cumulative += snapshot[i];
+            out.sample(name + "_bucket", prefix + PrometheusWriter.label("le", String.valueOf(upperBoundSeconds(i))),
+                    cumulative);
+        }
+        cumulative += snapshot[BUCKET_COUNT - 1];
+        out.sample(name + "_bucket", prefix + PrometheusWriter.label("le", "+Inf"), cumulative);
+        out.sample(name + "_sum", labels, sumNanos.sum() / 1_000_000_000.0);
+        out.sample(name + "_count", labels, cumulative);
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,90 @@
+package util.metrics;
+
+/**
+ * Prometheus 텍스트 형식 작성기 (/metrics)
+ * 기능별 지표 클래스는 writeMetrics(PrometheusWriter)로 값만 넘기고,
+ * HELP/TYPE 줄과 레이블 형식은 이 클래스에서만 만듭니다.
+ *
+ * 사용 예
+ * - 레이블 없는 값: out.counter("kirini_x_total", "설명", value)
+ * - 레이블별 값: out.family("kirini_x_total", "설명", "counter") 후 out.sample("kirini_x_total", label("region", name), value)
+ */
+public final class PrometheusWriter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=UTF-8";
+
+    private final StringBuilder sb = new StringBuilder(16 * 1024);
+
+    /**
+     * 레이블 없는 counter 하나
+     */
+    public PrometheusWriter counter(String name, String help, long value) {
+        return family(name, help, "counter").sample(name, "", value);
+    }
+
+    /**
+     * 레이블 없는 gauge 하나
+     */
+    public PrometheusWriter gauge(String name, String help, long value) {
+        return family(name, help, "gauge").sample(name, "", value);
+    }
+
+    /**
+     * 레이블 없는 histogram 하나
+     */
+    public PrometheusWriter histogram(String name, String help, LatencyHistogram histogram) {
+        family(name, help, "histogram");
+        histogram.writeMetrics(this, name, "");
+        return this;
+    }
+
+    /**
+     * 지표 이름의 HELP/TYPE 줄 (이어서 sample/histogram 표본을 추가)
+     * @param type counter, gauge, histogram
+     */
+    public PrometheusWriter family(String name, String help, String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    /**
+     * 표본 한 줄
+     * @param labels label()로 만든 중괄호 없는 레이블 (쉼표로 이어 붙임), 없으면 빈 문자열
+     */
+    public PrometheusWriter sample(String name, String labels, long value) {
+        appendName(name, labels);
+        sb.append(value).append('\n');
+        return this;
+    }
+
+    public PrometheusWriter sample(String name, String labels, double value) {
+        appendName(name, labels);
+        if (value == Double.POSITIVE_INFINITY) {
+            sb.append("+Inf");
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+        return this;
+    }
+
+    private void appendName(String name, String labels) {
+        sb.append(name);
+        if (!labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+        }
+        sb.append(' ');
+    }
+
+    /**
+     * 레이블 하나 (값의 역슬래시, 따옴표, 줄바꿈을 이스케이프)
+     */
+    public static String label(String key, String value) {
+        return key + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 처리 지표 (/metrics)
+ * - 라우트별: 지연 시간 히스토그램, 요청 스레드 CPU 시간, 응답 상태 구간(2xx/4xx/5xx 등) 횟수
+ * - 서블릿 매핑별: 처리 중인 요청 수
+ * - 전체: 응답 상태 코드별 횟수
+ *
+ * 라우트 이름은 RequestRouter 패턴이나 *.do 명령어처럼 등록된 이름만 사용하므로 수가 제한되며,
+ * 그래도 MAX_ROUTES를 넘으면 "other"로 합산합니다.
+ */
+public final class RequestMetrics {
+    /** 라우트 이름을 담는 요청 속성 (RequestRouter/DispatcherServlet이 설정) */
+    public static final String ROUTE_ATTRIBUTE = "kirini.metrics.route";
+
+    private static final int MAX_ROUTES = 500;
+    private static final String OTHER_ROUTE = "other";
+
+    private static final ConcurrentHashMap<String, RouteStats> ROUTES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, AtomicInteger> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final AtomicLongArray STATUS_CODES = new AtomicLongArray(600);
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+    private RequestMetrics() {
+    }
+
+    private static final class RouteStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder cpuNanos = new LongAdder();
+        // 1xx ~ 5xx
+        final LongAdder[] statusClasses = new LongAdder[5];
+
+        RouteStats() {
+            for (int i = 0; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+    }
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 현재 스레드의 CPU 시간 (지원하지 않으면 0)
+     */
+    public static long currentThreadCpuNanos() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * 지표용 HTTP 메소드 이름 (알려진 메소드 외에는 OTHER로 합산)
+     */
+    public static String methodLabel(String method) {
+        if (method == null) {
+            return "OTHER";
+        }
+        switch (method.toUpperCase(Locale.ROOT)) {
+            case "GET": return "GET";
+            case "POST": return "POST";
+            case "PUT": return "PUT";
+            case "DELETE": return "DELETE";
+            case "PATCH": return "PATCH";
+            case "HEAD": return "HEAD";
+            case "OPTIONS": return "OPTIONS";
+            default: return "OTHER";
+        }
+    }
+
+    /**
+     * 처리 시작 (서블릿 매핑별 처리 중 요청 수 증가)
+     * @return end에 넘길 카운터
+     */
+    public static AtomicInteger begin(String handler) {
+        AtomicInteger inFlight = IN_FLIGHT.computeIfAbsent(handler, key -> new AtomicInteger());
+        inFlight.incrementAndGet();
+        return inFlight;
+    }
+
+    /**
+     * 처리 완료 기록
+     * @param inFlight begin이 반환한 카운터
+     * @param route 라우트 이름
+     * @param status 응답 상태 코드
+     * @param nanos 소요 시간
+     * @param cpuNanos 요청 스레드 CPU 시간 (측정하지 않았으면 0)
+     */
+    public static void end(AtomicInteger inFlight, String route, int status, long nanos, long cpuNanos) {
+        inFlight.decrementAndGet();
+        RouteStats stats = stats(route);
+        stats.latency.record(nanos);
+        if (cpuNanos > 0) {
+            stats.cpuNanos.add(cpuNanos);
+        }
+        if (status >= 100 && status < 600) {
+            stats.statusClasses[status / 100 - 1].increment();
+            STATUS_CODES.incrementAndGet(status);
+        }
+    }
+
+    private static RouteStats stats(String route) {
+        RouteStats stats = ROUTES.get(route);
+        if (stats != null) {
+            return stats;
+        }
+        if (ROUTES.size() >= MAX_ROUTES) {
+            return ROUTES.computeIfAbsent(OTHER_ROUTE, key -> new RouteStats());
+        }
+        return ROUTES.computeIfAbsent(route, key -> new RouteStats());
+    }
+
+    /**
+     * 누적 지표를 Prometheus 작성기에 추가
+     */
+    public static void writeMetrics(PrometheusWriter out) {
+        Map<String, RouteStats> routes = new TreeMap<>(ROUTES);
+
+        String name = "kirini_http_requests_in_flight";
+        out.family(name, "처리 중인 요청 수 (서블릿 매핑별)", "gauge");
+        for (Map.Entry<String, AtomicInteger> entry : new TreeMap<>(IN_FLIGHT).entrySet()) {
+            out.sample(name, PrometheusWriter.label("handler", entry.getKey()), entry.getValue().get());
+        }
+
+        name = "kirini_http_request_duration_seconds";
+        out.family(name, "라우트별 요청 처리 시간", "histogram");
+        for (Map.Entry<String, RouteStats> entry : routes.entrySet()) {
+            entry.getValue().latency.writeMetrics(out, name, PrometheusWriter.label("route", entry.getKey()));
+        }
+
+        if (CPU_TIME_SUPPORTED) {
+            name = "kirini_http_request_cpu_seconds_total";
+            out.family(name, "라우트별 요청 스레드 CPU 시간", "counter");
+            for (Map.Entry<String, RouteStats> entry : routes.entrySet()) {
+                out.sample(name, PrometheusWriter.label("route", entry.getKey()),
+                        entry.getValue().cpuNanos.sum() / 1_000_000_000.0);
+            }
+        }
+
+        name = "kirini_http_responses_total";
+        out.family(name, "라우트별 응답 상태 구간별 횟수", "counter");
+        for (Map.Entry<String, RouteStats> entry : routes.entrySet()) {
+            LongAdder[] classes = entry.getValue().statusClasses;
+            for (int i = 0; i < classes.length; i++) {
+                long count = classes[i].sum();
+                if (count > 0) {
+                    out.sample(name, PrometheusWriter.label("route", entry.getKey()) + ","
+                            + PrometheusWriter.label("code", (i + 1) + "xx"), count);
+                }
+            }
+        }
+
+        name = "kirini_http_responses_by_status_total";
+        out.family(name, "응답 상태 코드별 횟수", "counter");
+        for (int status = 100; status < 600; status++) {
+            long count = STATUS_CODES.get(status);
+            if (count > 0) {
+                out.sample(name, PrometheusWriter.label("code", String.valueOf(status)), count);
+            }
+        }
+    }
+}
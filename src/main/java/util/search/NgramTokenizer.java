@@ -0,0 +1,96 @@
+package util.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * - 문자/숫자가 이어진 구간(단어)을 찾아 소문자로 바꾼 뒤 2글자씩 겹쳐 자름 (바이그램)
+ * - 한글은 형태소 분석 없이도 부분 문자열 검색이 되고, 영문/숫자도 같은 방식으로 부분 일치 검색 가능
+ * - 한 글자 단어는 그대로 하나의 토큰으로 사용
+ *
+ * 예: "기계식 키보드" → [기계, 계식, 키보, 보드]
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 문서 텍스트를 토큰으로 분리 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 토큰으로 분리 (중복 제거)
+     */
+    public static Set<String> queryTokens(String query) {
+        return new LinkedHashSet<>(tokenize(query));
+    }
+
+    /**
+     * 부분 문자열 비교용 정규화 (소문자 단어를 공백 하나로 이어 붙임)
+     * 바이그램은 위치 정보가 없으므로 SearchIndex가 후보 문서를 이 형태로 다시 확인
+     * 예: "기계식  키보드!" → "기계식 키보드"
+     */
+    public static String normalize(String text) {
+        return String.join(" ", words(text));
+    }
+
+    /**
+     * 색인으로 처리할 수 있는 검색어인지 확인
+     * 한 글자 단어가 있으면 부분 문자열 일치를 보장할 수 없으므로 false (SQL 검색으로 처리)
+     */
+    public static boolean isIndexable(String query) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return false;
+        }
+        for (String word : words) {
+            if (word.codePointCount(0, word.length()) < 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 문자/숫자 구간을 소문자 단어 목록으로 분리
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length();) {
+            int codePoint = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,352 @@
+package util.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인 (게시판 단위)
+ * - 문서(게시글 ID)의 필드별 텍스트를 NgramTokenizer로 나눠 토큰 → 문서 목록으로 색인
+ * - 검색어의 모든 토큰을 포함하는 문서를 후보로 찾고, 바이그램에는 위치가 없으므로
+ *   정규화한 필드 텍스트에 검색어가 그대로 들어 있는지 다시 확인 (SQL LIKE '%검색어%'와 같은 결과)
+ *   예: "키보드"는 "키보"와 "보드"가 따로 떨어져 있는 문서와는 일치하지 않음
+ * - 일치한 문서를 점수(필드 가중치 × 빈도 포화 × IDF) 순으로 정렬
+ * - 애플리케이션 시작 시 전체 색인(beginBuild → addIfAbsent... → finishBuild) 후
+ *   글 등록/수정/삭제 때마다 index/remove로 갱신
+ * - 전체 색인이 끝나기 전(isReady() == false)에는 호출하는 쪽에서 SQL 검색으로 대신 처리
+ * - 최근 검색 결과를 기억해 목록과 결과 수 조회가 같은 검색을 다시 계산하지 않음 (색인이 바뀌면 비움)
+ */
+public class SearchIndex {
+    private static final int RECENT_SEARCHES = 64;
+
+    private final String name;
+    private final double[] fieldWeights;
+
+    // 토큰 → (문서 ID → 필드별 빈도)
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    // 문서 ID → 필드별 정규화 텍스트 (검색어 확인, 삭제/재색인 시 토큰 재계산용)
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // "필드 선택|정규화 검색어" → 결과 (읽기 잠금 중에 조회/저장, 색인 변경 시 쓰기 잠금 중에 비움)
+    private final Map<String, SearchHits> recentSearches = new LinkedHashMap<String, SearchHits>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SearchHits> eldest) {
+            return size() > RECENT_SEARCHES;
+        }
+    };
+
+    private volatile boolean ready;
+    private boolean building;
+    // 전체 색인 중에 개별 갱신된 문서 (전체 색인의 오래된 데이터로 덮어쓰지 않음)
+    private final Set<Long> touchedDuringBuild = new HashSet<>();
+
+    /**
+     * 검색 결과 (점수 순 문서 ID)
+     */
+    public static class SearchHits {
+        private final List<Long> ids;
+
+        SearchHits(List<Long> ids) {
+            // 최근 검색 결과로 여러 요청이 공유하므로 변경 불가
+            this.ids = Collections.unmodifiableList(ids);
+        }
+
+        /**
+         * 전체 검색 결과 수
+         */
+        public int getTotal() {
+            return ids.size();
+        }
+
+        /**
+         * 점수 순 전체 문서 ID
+         */
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        /**
+         * 페이지 범위의 문서 ID
+         * @param page 페이지 번호 (1부터)
+         * @param pageSize 페이지 크기
+         */
+        public List<Long> page(int page, int pageSize) {
+            int from = Math.max(0, (page - 1) * pageSize);
+            if (from >= ids.size()) {
+                return Collections.emptyList();
+            }
+            return ids.subList(from, Math.min(ids.size(), from + pageSize));
+        }
+    }
+
+    /**
+     * @param name 색인 이름 (로그 표시용)
+     * @param fieldWeights 필드별 가중치 (필드 순서대로)
+     */
+    public SearchIndex(String name, double... fieldWeights) {
+        this.name = name;
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 전체 색인이 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 시작 (기존 색인을 비움)
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            building = true;
+            postings.clear();
+            documents.clear();
+            clearRecentSearches();
+            touchedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 중 문서 추가 (전체 색인 시작 이후 개별 갱신된 문서는 건너뜀)
+     */
+    public void addIfAbsent(long id, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (!touchedDuringBuild.contains(id)) {
+                put(id, fields);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 종료
+     * @param success false이면 색인을 사용하지 않음 (SQL 검색 유지)
+     */
+    public void finishBuild(boolean success) {
+        lock.writeLock().lock();
+        try {
+            building = false;
+            touchedDuringBuild.clear();
+            ready = success;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     * @param fields 필드별 텍스트 (생성자에 지정한 가중치 순서)
+     */
+    public void index(long id, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                touchedDuringBuild.add(id);
+            }
+            put(id, fields);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                touchedDuringBuild.add(id);
+            }
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(long id, String[] fields) {
+        removeInternal(id);
+        clearRecentSearches();
+        String[] texts = new String[fieldWeights.length];
+        boolean indexed = false;
+        for (int field = 0; field < fields.length && field < fieldWeights.length; field++) {
+            texts[field] = NgramTokenizer.normalize(fields[field]);
+            for (String token : NgramTokenizer.tokenize(texts[field])) {
+                int[] frequencies = postings.computeIfAbsent(token, t -> new HashMap<>())
+                        .computeIfAbsent(id, d -> new int[fieldWeights.length]);
+                frequencies[field]++;
+                indexed = true;
+            }
+        }
+        if (indexed) {
+            documents.put(id, texts);
+        }
+    }
+
+    private void removeInternal(long id) {
+        String[] texts = documents.remove(id);
+        if (texts == null) {
+            return;
+        }
+        clearRecentSearches();
+        Set<String> docTokens = new HashSet<>();
+        for (String text : texts) {
+            docTokens.addAll(NgramTokenizer.tokenize(text));
+        }
+        for (String token : docTokens) {
+            Map<Long, int[]> docs = postings.get(token);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색 (지정 필드 중 하나에 검색어를 그대로 포함하는 문서)
+     * @param query 검색어
+     * @param fields 검색할 필드 번호 (비어 있으면 전체 필드)
+     * @return 점수 높은 순(같으면 최신 ID 순) 결과
+     */
+    public SearchHits search(String query, int... fields) {
+        Set<String> tokens = NgramTokenizer.queryTokens(query);
+        String phrase = NgramTokenizer.normalize(query);
+        if (tokens.isEmpty()) {
+            return new SearchHits(Collections.emptyList());
+        }
+        boolean[] selected = new boolean[fieldWeights.length];
+        for (int field : fields) {
+            if (field >= 0 && field < selected.length) {
+                selected[field] = true;
+            }
+        }
+        if (fields.length == 0) {
+            Arrays.fill(selected, true);
+        }
+        String key = Arrays.toString(selected) + "|" + phrase;
+
+        lock.readLock().lock();
+        try {
+            synchronized (recentSearches) {
+                SearchHits recent = recentSearches.get(key);
+                if (recent != null) {
+                    return recent;
+                }
+            }
+            // 문서 수가 적은 토큰부터 교집합 계산
+            List<Map<Long, int[]>> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, int[]> docs = postings.get(token);
+                if (docs == null) {
+                    return remember(key, new SearchHits(Collections.emptyList()));
+                }
+                lists.add(docs);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            int totalDocs = Math.max(1, documents.size());
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<Long, int[]> candidate : lists.get(0).entrySet()) {
+                long id = candidate.getKey();
+                double score = 0;
+                boolean matched = true;
+                for (Map<Long, int[]> docs : lists) {
+                    int[] frequencies = docs.get(id);
+                    double tokenScore = frequencies != null ? fieldScore(frequencies, selected) : 0;
+                    if (tokenScore == 0) {
+                        matched = false;
+                        break;
+                    }
+                    double idf = Math.log(1 + (double) totalDocs / docs.size());
+                    score += tokenScore * idf;
+                }
+                if (matched && containsPhrase(documents.get(id), phrase, selected)) {
+                    scores.put(id, score);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(scores.keySet());
+            ids.sort((a, b) -> {
+                int byScore = Double.compare(scores.get(b), scores.get(a));
+                return byScore != 0 ? byScore : Long.compare(b, a);
+            });
+            return remember(key, new SearchHits(ids));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 중에 호출 (그 사이 색인이 바뀌지 않았으므로 결과가 최신)
+    private SearchHits remember(String key, SearchHits hits) {
+        synchronized (recentSearches) {
+            recentSearches.put(key, hits);
+        }
+        return hits;
+    }
+
+    // 쓰기 잠금 중에 호출
+    private void clearRecentSearches() {
+        synchronized (recentSearches) {
+            recentSearches.clear();
+        }
+    }
+
+    // 선택한 필드 중 하나라도 검색어를 연속된 문자열로 포함하는지 (토큰은 위치 없이 모두 있어도 떨어져 있을 수 있음)
+    private static boolean containsPhrase(String[] texts, String phrase, boolean[] selected) {
+        if (texts == null) {
+            return false;
+        }
+        for (int field = 0; field < texts.length; field++) {
+            if (selected[field] && texts[field] != null && texts[field].contains(phrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 선택한 필드의 빈도 포화 점수 합 (tf / (tf + 1.2) × 가중치)
+    private double fieldScore(int[] frequencies, boolean[] selected) {
+        double score = 0;
+        for (int field = 0; field < frequencies.length; field++) {
+            if (selected[field] && frequencies[field] > 0) {
+                score += fieldWeights[field] * frequencies[field] / (frequencies[field] + 1.2);
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,57 @@
+package util.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 이전 방식 (솔트 없는 SHA-256, 소문자 16진수 64자)
+ * 기존 회원 검증용으로만 사용하고, 로그인에 성공하면 PBKDF2로 다시 저장됨
+ */
+public class LegacySha256PasswordEncoder implements PasswordEncoder {
+
+    @Override
+    public boolean supports(String encoded) {
+        if (encoded == null || encoded.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < encoded.length(); i++) {
+            if (Character.digit(encoded.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String encode(String password) {
+        byte[] hash = digest(password);
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean matches(String password, String encoded) {
+        // 이전 방식은 기본 문자 집합으로 변환했으므로 같은 방식으로 비교
+        byte[] expected = encoded.toLowerCase().getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = encode(password).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    @Override
+    public boolean needsRehash(String encoded) {
+        return true;
+    }
+
+    // 기존 가입 시 String.getBytes()(플랫폼 기본 문자 집합)로 해시했으므로 그대로 유지
+    private static byte[] digest(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(password.getBytes());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
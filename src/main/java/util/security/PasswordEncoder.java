@@ -0,0 +1,28 @@
+package util.security;
+
+/**
+ * 비밀번호 해시 방식
+ * 저장 형식의 앞부분으로 방식을 구분하므로 여러 방식으로 저장된 비밀번호를 함께 검증할 수 있음
+ */
+public interface PasswordEncoder {
+
+    /**
+     * 이 방식으로 저장된 값인지 여부
+     */
+    boolean supports(String encoded);
+
+    /**
+     * 평문 비밀번호를 저장 형식으로 변환 (솔트 포함)
+     */
+    String encode(String password);
+
+    /**
+     * 평문 비밀번호가 저장된 값과 일치하는지 (상수 시간 비교)
+     */
+    boolean matches(String password, String encoded);
+
+    /**
+     * 현재 설정보다 약한 값이라 다시 저장해야 하는지
+     */
+    boolean needsRehash(String encoded);
+}
@@ -0,0 +1,222 @@
+package util.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import util.cache.LocalCache;
+import util.config.EnvConfig;
+
+/**
+ * 비밀번호 해시/검증 모듈
+ * - 새 비밀번호는 PBKDF2(솔트 + 반복 횟수)로 저장하고, 이전 SHA-256 값도 검증 (로그인 시 다시 저장 대상)
+ * - 해시 계산은 CPU를 많이 쓰므로 크기가 정해진 전용 스레드 풀에서 수행
+ *   로그인이 몰려도 동시 계산 수가 제한되어 다른 요청 스레드가 CPU를 빼앗기지 않으며,
+ *   대기열이 가득 차거나 대기 시간이 지나면 RejectedExecutionException을 던짐 (호출하는 쪽에서 "잠시 후 다시 시도" 처리)
+ * - 검증에 성공한 비밀번호는 프로세스 비밀 키로 만든 HMAC만 짧게 캐시 (평문/해시 원본은 보관하지 않음)
+ *   같은 사용자의 재확인(비밀번호 확인 후 변경 등)은 PBKDF2를 다시 계산하지 않음
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - PASSWORD_PBKDF2_ITERATIONS: 반복 횟수 (기본 210000, src/bench의 PasswordHashBenchmark로 조정)
+ * - PASSWORD_HASH_THREADS: 해시 계산 스레드 수 (기본 CPU 수)
+ * - PASSWORD_HASH_QUEUE_SIZE: 대기 작업 수 상한 (기본 스레드 수 x 8)
+ * - PASSWORD_HASH_TIMEOUT_MS: 요청 스레드의 최대 대기 시간 (기본 5000)
+ * - PASSWORD_VERIFIER_CACHE_SIZE: 검증 결과 캐시 항목 수, 0이면 사용 안 함 (기본 10000)
+ */
+public final class PasswordHasher {
+
+    private static final int DEFAULT_ITERATIONS = 210_000;
+    private static final long VERIFIER_TTL_MS = 10 * 60 * 1000L;
+
+    private static final PasswordHasher INSTANCE = create();
+
+    private final Pbkdf2PasswordEncoder primary;
+    private final List<PasswordEncoder> encoders;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final LocalCache<String, byte[]> verifierCache;
+    private final SecretKeySpec verifierKey;
+    private final LongAdder rejected = new LongAdder();
+
+    PasswordHasher(int iterations, int threads, int queueSize, long timeoutMs, int verifierCacheSize) {
+        this.primary = new Pbkdf2PasswordEncoder(iterations);
+        this.encoders = List.of(primary, new LegacySha256PasswordEncoder());
+        this.timeoutMs = Math.max(1, timeoutMs);
+
+        int poolSize = Math.max(1, threads);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), r -> {
+                    Thread thread = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifierCache = verifierCacheSize > 0
+                ? LocalCache.region("password-verifier", VERIFIER_TTL_MS, verifierCacheSize)
+                : null;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.verifierKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    private static PasswordHasher create() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = EnvConfig.getInt("PASSWORD_HASH_THREADS", cores);
+        return new PasswordHasher(
+                EnvConfig.getInt("PASSWORD_PBKDF2_ITERATIONS", DEFAULT_ITERATIONS),
+                threads,
+                EnvConfig.getInt("PASSWORD_HASH_QUEUE_SIZE", Math.max(1, threads) * 8),
+                EnvConfig.getInt("PASSWORD_HASH_TIMEOUT_MS", 5000),
+                EnvConfig.getInt("PASSWORD_VERIFIER_CACHE_SIZE", 10000));
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static PasswordHasher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 새 비밀번호를 저장 형식으로 변환
+     * @throws RejectedExecutionException 해시 계산 대기열이 가득 찬 경우
+     */
+    public String hash(String password) {
+        return submit(() -> primary.encode(password));
+    }
+
+    /**
+     * 비밀번호 검증
+     * @param password 입력한 평문 비밀번호 (null이면 불일치)
+     * @param encoded 저장된 값 (null이면 불일치, 같은 시간이 걸리도록 계산은 수행)
+     * @throws RejectedExecutionException 해시 계산 대기열이 가득 찬 경우
+     */
+    public boolean verify(String password, String encoded) {
+        if (password == null) {
+            return false;
+        }
+        PasswordEncoder encoder = encoderFor(encoded);
+        if (encoder == null) {
+            // 없는 사용자도 응답 시간으로 구분되지 않도록 같은 비용을 들임
+            submit(() -> primary.encode(password));
+            return false;
+        }
+
+        byte[] verifier = verifierCache != null ? verifier(password, encoded) : null;
+        if (verifier != null) {
+            byte[] cached = verifierCache.getIfPresent(encoded);
+            if (cached != null && MessageDigest.isEqual(cached, verifier)) {
+                return true;
+            }
+        }
+
+        boolean matches = submit(() -> encoder.matches(password, encoded));
+        if (matches && verifier != null) {
+            verifierCache.put(encoded, verifier);
+        }
+        return matches;
+    }
+
+    /**
+     * 현재 설정으로 다시 저장해야 하는 값인지 (이전 방식 또는 더 적은 반복 횟수)
+     */
+    public boolean needsRehash(String encoded) {
+        PasswordEncoder encoder = encoderFor(encoded);
+        return encoder == null || encoder.needsRehash(encoded);
+    }
+
+    /**
+     * 새 비밀번호의 반복 횟수
+     */
+    public int getIterations() {
+        return primary.getIterations();
+    }
+
+    /**
+     * 대기열이 가득 차거나 시간 초과로 거절한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 해시 계산 스레드 종료
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private PasswordEncoder encoderFor(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        for (PasswordEncoder encoder : encoders) {
+            if (encoder.supports(encoded)) {
+                return encoder;
+            }
+        }
+        return null;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new RejectedExecutionException("비밀번호 처리 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 처리 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    // 저장된 값과 비밀번호를 묶은 HMAC (저장된 값이 바뀌면 이전 캐시 항목과 일치하지 않음)
+    private byte[] verifier(String password, String encoded) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(verifierKey);
+            mac.update(encoded.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+            try {
+                return mac.doFinal(passwordBytes);
+            } finally {
+                Arrays.fill(passwordBytes, (byte) 0);
+            }
+        } catch (GeneralSecurityException e) {
+            return null;
+        }
+    }
+}
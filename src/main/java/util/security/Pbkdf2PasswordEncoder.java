@@ -0,0 +1,111 @@
+package util.security;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * PBKDF2(HMAC-SHA512) 비밀번호 해시 (JDK 기본 제공)
+ * 저장 형식: pbkdf2-sha512${반복 횟수}${솔트(Base64)}${해시(Base64)}
+ * 반복 횟수를 값에 함께 저장하므로 설정을 바꿔도 기존 값은 그대로 검증되고, 로그인 시 새 횟수로 다시 저장됨
+ */
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+    private static final String PREFIX = "pbkdf2-sha512$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA512";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int iterations;
+
+    /**
+     * @param iterations 새로 저장할 때 사용할 반복 횟수
+     */
+    public Pbkdf2PasswordEncoder(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public boolean supports(String encoded) {
+        return encoded != null && encoded.startsWith(PREFIX);
+    }
+
+    @Override
+    public String encode(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = derive(password, salt, iterations, HASH_BITS);
+        return PREFIX + iterations + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String password, String encoded) {
+        String[] parts = parse(encoded);
+        if (parts == null) {
+            return false;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[0]);
+            byte[] salt = DECODER.decode(parts[1]);
+            byte[] expected = DECODER.decode(parts[2]);
+            if (storedIterations < 1 || expected.length == 0) {
+                return false;
+            }
+            byte[] actual = derive(password, salt, storedIterations, expected.length * 8);
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            // 반복 횟수나 Base64 형식 오류
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String encoded) {
+        String[] parts = parse(encoded);
+        if (parts == null) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(parts[0]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    // {반복 횟수, 솔트, 해시}
+    private static String[] parse(String encoded) {
+        if (encoded == null || !encoded.startsWith(PREFIX)) {
+            return null;
+        }
+        String[] parts = encoded.substring(PREFIX.length()).split("\\$");
+        return parts.length == 3 ? parts : null;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations, int bits) {
+        char[] chars = password.toCharArray();
+        PBEKeySpec spec = new PBEKeySpec(chars, salt, iterations, bits);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + "를 사용할 수 없습니다.", e);
+        } finally {
+            spec.clearPassword();
+            Arrays.fill(chars, '\0');
+        }
+    }
+}
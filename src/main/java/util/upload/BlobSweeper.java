@@ -0,0 +1,156 @@
+package util.upload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import repository.dao.board.FreeboardDAO;
+import util.config.EnvConfig;
+import util.logging.LoggerConfig;
+
+/**
+ * 참조가 없는 중복 제거 저장 파일(blobs/) 정리기
+ * - 첨부 삭제 시 파일을 바로 지우면, 같은 파일을 재사용했지만 아직 첨부 행을 INSERT하지 않은 업로드가 파일을 잃음
+ * - 그래서 삭제는 주기적으로 모아서 하고, 마지막 저장/재사용 후 유예 시간이 지난 파일만 대상으로 함
+ *   (저장 시각은 파일 수정 시각, 재사용 시각은 UploadPipeline이 markInUse로 알려 준 메모리 기록을 사용.
+ *    파일 수정 시각은 썸네일 최신 여부 판단에 쓰이므로 재사용 때 바꾸지 않음)
+ * - 이름이 내용 해시인 원본 파일만 대상으로 하고, 옆에 저장된 썸네일({이름}@w320.jpg)과 임시 파일은 건너뜀
+ *   (썸네일은 원본을 삭제할 때 함께 삭제됨)
+ * - 사용 시각 확인, 참조 수 확인, 삭제는 UploadPipeline과 같은 파일별 잠금 안에서 수행
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - UPLOAD_SWEEP_INTERVAL_MINUTES: 정리 주기 (기본 60, 0이면 사용 안 함)
+ * - UPLOAD_SWEEP_GRACE_MINUTES: 마지막 저장/재사용 후 정리 대상이 되기까지의 시간 (기본 60)
+ */
+public final class BlobSweeper {
+    private static final Logger logger = LoggerConfig.getLogger(BlobSweeper.class);
+
+    // 저장 파일 이름 형식: {SHA-256 해시}.{확장자}
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]+");
+
+    private static final BlobSweeper INSTANCE = new BlobSweeper(
+            EnvConfig.getInt("UPLOAD_SWEEP_INTERVAL_MINUTES", 60),
+            EnvConfig.getInt("UPLOAD_SWEEP_GRACE_MINUTES", 60));
+
+    private final long intervalMinutes;
+    private final long graceMillis;
+    private final FreeboardDAO attachmentDAO = new FreeboardDAO();
+    // 저장 경로 → 마지막 재사용 시각 (유예 시간이 지나면 정리 때 제거)
+    private final Map<String, Long> lastUsed = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    private BlobSweeper(long intervalMinutes, long graceMinutes) {
+        this.intervalMinutes = intervalMinutes;
+        this.graceMillis = TimeUnit.MINUTES.toMillis(Math.max(1, graceMinutes));
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static BlobSweeper getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 주기적 정리 시작 (주기가 0 이하이면 시작하지 않음)
+     */
+    public synchronized void start() {
+        if (scheduler != null || intervalMinutes <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "upload-blob-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 저장 파일 재사용 기록 (UploadPipeline이 파일별 잠금 안에서 호출)
+     * 정리를 사용하지 않으면 기록하지 않음
+     */
+    void markInUse(String storedPath) {
+        if (intervalMinutes > 0) {
+            lastUsed.put(storedPath, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 유예 시간이 지났고 참조하는 첨부가 없는 저장 파일 삭제
+     * @return 삭제한 파일 수
+     */
+    public int sweep() throws IOException {
+        Path blobRoot = UploadPipeline.blobRoot();
+        if (!Files.isDirectory(blobRoot)) {
+            return 0;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(blobRoot)) {
+            files = walk.filter(file -> BLOB_NAME.matcher(file.getFileName().toString()).matches())
+                    .filter(Files::isRegularFile)
+                    .collect(Collectors.toList());
+        }
+
+        long cutoff = System.currentTimeMillis() - graceMillis;
+        lastUsed.values().removeIf(usedAt -> usedAt <= cutoff);
+        int deleted = 0;
+        for (Path file : files) {
+            String storedPath = UploadPipeline.storedPathOf(file);
+            synchronized (UploadPipeline.lockFor(storedPath)) {
+                try {
+                    if (!Files.isRegularFile(file) || Files.getLastModifiedTime(file).toMillis() > cutoff
+                            || lastUsed.getOrDefault(storedPath, 0L) > cutoff) {
+                        continue;
+                    }
+                    if (attachmentDAO.countAttachmentsByFilePath(storedPath) > 0) {
+                        continue;
+                    }
+                    if (UploadPipeline.delete(storedPath)) {
+                        deleted++;
+                    }
+                } catch (SQLException e) {
+                    // 참조 여부를 모르면 지우지 않고 다음 주기에 다시 확인
+                    logger.log(Level.WARNING, "저장 파일 참조 확인 실패: " + storedPath, e);
+                    return deleted;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private void sweepQuietly() {
+        try {
+            int deleted = sweep();
+            if (deleted > 0) {
+                logger.info("참조가 없는 업로드 파일 " + deleted + "개를 삭제했습니다.");
+            }
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "업로드 파일 정리 중 오류", t);
+        }
+    }
+
+    /**
+     * 정리 중지 (진행 중인 정리는 최대 timeoutMs까지 기다림)
+     * @return 제한 시간 안에 멈췄으면 true
+     */
+    public synchronized boolean shutdown(long timeoutMs) throws InterruptedException {
+        if (scheduler == null) {
+            return true;
+        }
+        scheduler.shutdownNow();
+        return scheduler.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,309 @@
+package util.upload;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import util.config.EnvConfig;
+import util.logging.LoggerConfig;
+
+/**
+ * 업로드 이미지 썸네일 생성기
+ * - JDK ImageIO만 사용해 정해진 너비(WIDTHS) 이하로 축소한 JPEG/PNG를 만듦 (확대하지 않음)
+ * - 원본 옆에 너비가 들어간 이름({이름}@w320.jpg)으로 저장해 두고 다음 요청부터 그대로 사용
+ * - 생성은 백그라운드 스레드에서 수행하고, 같은 썸네일을 동시에 요청하면 한 번만 생성
+ * - 큰 원본은 읽을 때부터 서브샘플링해 메모리 사용을 줄이고, 픽셀 수가 너무 큰 원본은 거부
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - THUMBNAIL_THREADS: 생성 스레드 수 (기본 min(2, CPU 수))
+ * - THUMBNAIL_QUEUE_SIZE: 대기 작업 수 상한, 넘으면 원본으로 대체 (기본 100)
+ */
+public final class ThumbnailService {
+    private static final Logger logger = LoggerConfig.getLogger(ThumbnailService.class);
+
+    /** 생성 가능한 썸네일 너비 (요청 너비는 이 중 하나로 맞춤) */
+    private static final int[] WIDTHS = { 160, 320, 640, 1024 };
+    /** 목록 화면용 너비 */
+    public static final int LIST_WIDTH = 320;
+
+    // 이 픽셀 수를 넘는 원본은 디코딩하지 않음 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String DERIVATIVE_MARK = "@w";
+    private static final String UPLOAD_URL_PREFIX = "/uploads/";
+
+    private static final ThumbnailService INSTANCE = new ThumbnailService(
+            EnvConfig.getInt("THUMBNAIL_THREADS", Math.min(2, Runtime.getRuntime().availableProcessors())),
+            EnvConfig.getInt("THUMBNAIL_QUEUE_SIZE", 100));
+
+    private final ThreadPoolExecutor executor;
+    // 생성 중인 썸네일 (같은 파일을 동시에 두 번 만들지 않도록)
+    private final Map<String, CompletableFuture<File>> inFlight = new ConcurrentHashMap<>();
+
+    ThumbnailService(int threads, int queueSize) {
+        int poolSize = Math.max(1, threads);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), r -> {
+                    Thread thread = new Thread(r, "thumbnail-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static ThumbnailService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 요청 너비를 생성 가능한 너비로 맞춤 (요청 이상인 가장 작은 너비, 없으면 최대 너비)
+     */
+    public static int normalizeWidth(int requested) {
+        for (int width : WIDTHS) {
+            if (width >= requested) {
+                return width;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    /**
+     * 썸네일을 만들 수 있는 원본인지 (이미지 확장자이고 썸네일 파일 자체가 아님)
+     */
+    public static boolean isSupported(String path) {
+        if (path == null) {
+            return false;
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        if (name.contains(DERIVATIVE_MARK)) {
+            return false;
+        }
+        switch (extensionOf(name)) {
+            case "jpg":
+            case "jpeg":
+            case "png":
+            case "gif":
+            case "bmp":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 이미지 URL을 썸네일 URL로 변환
+     * 업로드 경로(/uploads/...)의 이미지가 아니면 원래 URL을 그대로 반환
+     */
+    public static String thumbnailUrl(String imageUrl, int width) {
+        if (imageUrl == null || !imageUrl.startsWith(UPLOAD_URL_PREFIX)) {
+            return imageUrl;
+        }
+        String storedPath = imageUrl.substring(UPLOAD_URL_PREFIX.length());
+        if (!isSupported(storedPath)) {
+            return imageUrl;
+        }
+        return "/thumb?src=" + URLEncoder.encode(storedPath, StandardCharsets.UTF_8) + "&w=" + normalizeWidth(width);
+    }
+
+    /**
+     * 썸네일 파일 조회 (없으면 백그라운드에서 생성)
+     * 원본이 요청 너비보다 작으면 원본 파일로 완료됨
+     * @param source 원본 이미지 파일
+     * @param width normalizeWidth로 맞춘 너비
+     * @return 썸네일 파일, 대기 작업이 가득 차면 RejectedExecutionException으로 완료됨
+     */
+    public CompletableFuture<File> getThumbnail(File source, int width) {
+        File target = derivativeFile(source, width);
+        if (target.isFile() && target.lastModified() >= source.lastModified()) {
+            return CompletableFuture.completedFuture(target);
+        }
+
+        String key = target.getAbsolutePath();
+        CompletableFuture<File> future = new CompletableFuture<>();
+        CompletableFuture<File> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(generate(source, target, width));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 원본의 썸네일 파일 삭제 (원본 파일을 지울 때 함께 호출)
+     */
+    public static void deleteDerivatives(File source) throws IOException {
+        for (int width : WIDTHS) {
+            Files.deleteIfExists(derivativeFile(source, width).toPath());
+        }
+    }
+
+    /**
+     * 대기 중인 생성 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 생성 스레드 종료 (진행 중인 작업은 제한 시간까지 대기)
+     * @return 제한 시간 안에 종료되었는지 여부
+     */
+    public boolean shutdown(long timeoutMs) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 원본 옆의 썸네일 파일 (투명도가 있을 수 있는 PNG/GIF는 PNG, 나머지는 JPEG)
+    static File derivativeFile(File source, int width) {
+        String name = source.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot >= 0 ? name.substring(0, dot) : name;
+        return new File(source.getParentFile(), base + DERIVATIVE_MARK + width + "." + outputFormat(name));
+    }
+
+    private static String outputFormat(String sourceName) {
+        String extension = extensionOf(sourceName);
+        return extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+    }
+
+    private File generate(File source, File target, int width) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                throw new IOException("이미지를 열 수 없습니다: " + source.getName());
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다: " + source.getName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > MAX_SOURCE_PIXELS) {
+                    throw new IOException("이미지가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+                }
+                if (sourceWidth <= width) {
+                    // 확대하지 않고 원본 사용
+                    return source;
+                }
+
+                // 목표의 2배 이상 큰 원본은 읽을 때 서브샘플링 (디코딩 메모리 절약)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (width * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage decoded = reader.read(0, param);
+
+                int height = Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+                BufferedImage scaled = scale(decoded, width, height, outputFormat(source.getName()).equals("png"));
+                write(scaled, target);
+                logger.fine("썸네일 생성: " + target.getName() + " (" + sourceWidth + "x" + sourceHeight + ")");
+                return target;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height, boolean keepAlpha) {
+        BufferedImage scaled = new BufferedImage(width, height,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!keepAlpha) {
+                // JPEG은 투명도가 없으므로 흰 배경
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 이동 (다른 요청이 쓰다 만 썸네일을 보지 않도록)
+    private static void write(BufferedImage image, File target) throws IOException {
+        String format = target.getName().endsWith(".png") ? "png" : "jpg";
+        Path temp = Files.createTempFile(target.getParentFile().toPath(), "thumb-", ".tmp");
+        try {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+            if (!writers.hasNext()) {
+                throw new IOException("이미지 저장 형식을 지원하지 않습니다: " + format);
+            }
+            ImageWriter writer = writers.next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (format.equals("jpg")) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(JPEG_QUALITY);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            try {
+                Files.move(temp, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,383 @@
+package util.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jakarta.servlet.http.Part;
+import util.FileUtil;
+import util.config.AppConfig;
+import util.jfr.FileTransferEvent;
+import util.logging.LoggerConfig;
+
+/**
+ * 첨부파일 업로드 파이프라인 (내용 주소 저장소)
+ * - Part를 한 번만 읽으면서 임시 파일 저장, SHA-256 계산, 앞부분 매직 바이트 수집을 함께 처리
+ * - 매직 바이트로 실제 형식을 판별해 확장자와 맞지 않으면 거부 (클라이언트가 보낸 MIME 타입은 믿지 않음)
+ * - 업로드 루트 아래 blobs/{해시 앞 2자리}/{다음 2자리}/{해시}.{확장자}에 저장하고,
+ *   같은 내용이 이미 있으면 새로 저장하지 않고 기존 파일을 참조 (중복 제거)
+ * - DB의 file_path에는 업로드 루트 기준 상대 경로를 저장하므로 여러 첨부가 같은 파일을 가리킬 수 있음
+ *   (첨부 삭제 시 파일은 지우지 않고, BlobSweeper가 유예 시간이 지난 미참조 파일을 정리)
+ * - 재사용할 때마다 BlobSweeper에 사용 시각을 알려, 첨부 행이 INSERT되기 전인 파일이 정리되지 않도록 함
+ *   (파일 수정 시각은 썸네일 최신 여부 판단에 쓰이므로 바꾸지 않음)
+ * - JFR 녹화 중에는 업로드마다 FileTransferEvent 기록
+ */
+public final class UploadPipeline {
+    private static final Logger logger = LoggerConfig.getLogger(UploadPipeline.class);
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 형식 판별에 사용하는 앞부분 크기
+    private static final int SNIFF_SIZE = 512;
+    // 저장 파일별 잠금 (재사용 기록과 BlobSweeper의 삭제 판단이 겹치지 않도록)
+    private static final Object[] BLOB_LOCKS = new Object[64];
+
+    static {
+        for (int i = 0; i < BLOB_LOCKS.length; i++) {
+            BLOB_LOCKS[i] = new Object();
+        }
+    }
+
+    /**
+     * 확장자별 허용 형식 (매직 바이트 판별 결과)
+     * docx/xlsx/pptx는 zip, doc/xls/ppt는 OLE 복합 문서 형식
+     */
+    private static final Map<String, String> EXPECTED_TYPES = new HashMap<>();
+
+    static {
+        EXPECTED_TYPES.put("jpg", "image/jpeg");
+        EXPECTED_TYPES.put("jpeg", "image/jpeg");
+        EXPECTED_TYPES.put("png", "image/png");
+        EXPECTED_TYPES.put("gif", "image/gif");
+        EXPECTED_TYPES.put("bmp", "image/bmp");
+        EXPECTED_TYPES.put("pdf", "application/pdf");
+        EXPECTED_TYPES.put("zip", "application/zip");
+        EXPECTED_TYPES.put("docx", "application/zip");
+        EXPECTED_TYPES.put("xlsx", "application/zip");
+        EXPECTED_TYPES.put("pptx", "application/zip");
+        EXPECTED_TYPES.put("doc", "application/x-ole-storage");
+        EXPECTED_TYPES.put("xls", "application/x-ole-storage");
+        EXPECTED_TYPES.put("ppt", "application/x-ole-storage");
+        EXPECTED_TYPES.put("rar", "application/x-rar-compressed");
+        EXPECTED_TYPES.put("7z", "application/x-7z-compressed");
+        EXPECTED_TYPES.put("txt", "text/plain");
+    }
+
+    private UploadPipeline() {
+    }
+
+    /**
+     * 저장된 업로드 정보
+     */
+    public static final class StoredUpload {
+        private final String storedPath;
+        private final long size;
+        private final String sha256;
+        private final String contentType;
+        private final boolean deduplicated;
+
+        StoredUpload(String storedPath, long size, String sha256, String contentType, boolean deduplicated) {
+            this.storedPath = storedPath;
+            this.size = size;
+            this.sha256 = sha256;
+            this.contentType = contentType;
+            this.deduplicated = deduplicated;
+        }
+
+        /**
+         * 업로드 루트 기준 상대 경로 (DB file_path에 저장)
+         */
+        public String getStoredPath() {
+            return storedPath;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        /**
+         * 매직 바이트로 판별한 형식
+         */
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 같은 내용의 파일이 이미 있어 새로 저장하지 않았는지 여부
+         */
+        public boolean isDeduplicated() {
+            return deduplicated;
+        }
+    }
+
+    /**
+     * 업로드 파일 저장
+     * @param part 업로드 Part
+     * @param originalName 원본 파일명 (확장자 확인용)
+     * @return 저장 결과
+     * @throws UploadRejectedException 허용하지 않는 형식이거나 내용이 확장자와 다른 경우
+     */
+    public static StoredUpload store(Part part, String originalName) throws IOException {
+        // JFR 녹화 중일 때만 기록
+        FileTransferEvent event = new FileTransferEvent();
+        event.begin();
+        StoredUpload stored = null;
+        try {
+            stored = storeVerified(part, originalName);
+            return stored;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.direction = "upload";
+                event.file = stored != null ? stored.getStoredPath() : originalName;
+                event.bytes = stored != null ? stored.getSize() : part.getSize();
+                event.result = stored == null ? "REJECTED" : stored.isDeduplicated() ? "DEDUPLICATED" : "STORED";
+                event.commit();
+            }
+        }
+    }
+
+    private static StoredUpload storeVerified(Part part, String originalName) throws IOException {
+        String extension = extensionOf(originalName);
+        if (!FileUtil.isAllowedFileType(originalName) || !EXPECTED_TYPES.containsKey(extension)) {
+            throw new UploadRejectedException("허용되지 않는 파일 형식입니다: " + originalName);
+        }
+
+        Path root = uploadRoot();
+        Path tempDir = Files.createDirectories(root.resolve(TEMP_DIR));
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = newDigest();
+            byte[] head = new byte[SNIFF_SIZE];
+            int headLength = 0;
+            long size = 0;
+
+            // 한 번 읽으면서 저장 + 해시 + 앞부분 수집
+            try (InputStream in = part.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (headLength < SNIFF_SIZE) {
+                        int copy = Math.min(read, SNIFF_SIZE - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copy);
+                        headLength += copy;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            if (size == 0) {
+                throw new UploadRejectedException("빈 파일은 업로드할 수 없습니다.");
+            }
+            String detected = detectType(head, headLength);
+            if (!EXPECTED_TYPES.get(extension).equals(detected)) {
+                throw new UploadRejectedException("파일 내용이 확장자와 일치하지 않습니다: " + originalName
+                        + " (판별 결과: " + (detected != null ? detected : "알 수 없음") + ")");
+            }
+
+            String sha256 = toHex(digest.digest());
+            String storedPath = BLOB_DIR + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/"
+                    + sha256 + "." + extension;
+            Path target = root.resolve(storedPath);
+            synchronized (lockFor(storedPath)) {
+                if (Files.isRegularFile(target) && Files.size(target) == size) {
+                    BlobSweeper.getInstance().markInUse(storedPath);
+                    logger.fine("중복 업로드 재사용: " + storedPath);
+                    return new StoredUpload(storedPath, size, sha256, detected, true);
+                }
+
+                Files.createDirectories(target.getParent());
+                try {
+                    moveIntoPlace(temp, target);
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 내용을 동시에 올린 경우 먼저 저장된 파일 사용
+                    BlobSweeper.getInstance().markInUse(storedPath);
+                    return new StoredUpload(storedPath, size, sha256, detected, true);
+                }
+                return new StoredUpload(storedPath, size, sha256, detected, false);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 같은 파일 시스템 안에서 원자적으로 이동 (다른 요청이 쓰다 만 파일을 보지 않도록)
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target);
+        }
+    }
+
+    /**
+     * DB에 저장된 경로로 실제 파일 찾기
+     * 업로드 루트 기준 경로를 우선 사용하고, 없으면 이전 방식(날짜별 폴더에 파일명만 저장)으로 찾음
+     * @return 업로드 루트 밖을 가리키는 경로면 null
+     */
+    public static File resolve(String storedPath) throws IOException {
+        if (storedPath == null || storedPath.trim().isEmpty()) {
+            return null;
+        }
+        Path root = uploadRoot();
+        Path path = root.resolve(storedPath).normalize();
+        if (!path.startsWith(root)) {
+            return null;
+        }
+        if (!Files.exists(path) && storedPath.indexOf('/') < 0) {
+            Path legacy = new File(FileUtil.getUploadDirectoryPath(), storedPath).toPath().normalize();
+            if (legacy.startsWith(root)) {
+                return legacy.toFile();
+            }
+        }
+        return path.toFile();
+    }
+
+    /**
+     * 저장 파일과 썸네일 삭제
+     * 중복 제거 저장소(blobs/) 파일은 다른 업로드가 재사용 중일 수 있으므로 BlobSweeper에 맡기고,
+     * 업로드마다 따로 저장된 이전 방식의 파일에만 직접 사용
+     */
+    public static boolean delete(String storedPath) throws IOException {
+        File file = resolve(storedPath);
+        if (file == null) {
+            return false;
+        }
+        ThumbnailService.deleteDerivatives(file);
+        return Files.deleteIfExists(file.toPath());
+    }
+
+    /**
+     * 중복 제거 저장소 경로인지 (여러 첨부가 공유할 수 있는 파일)
+     */
+    public static boolean isSharedBlob(String storedPath) {
+        return storedPath != null && storedPath.startsWith(BLOB_DIR + "/");
+    }
+
+    /**
+     * 중복 제거 저장소 디렉토리 (BlobSweeper용)
+     */
+    static Path blobRoot() throws IOException {
+        return uploadRoot().resolve(BLOB_DIR);
+    }
+
+    /**
+     * 업로드 루트 기준 상대 경로 (DB file_path 형식)
+     */
+    static String storedPathOf(Path file) throws IOException {
+        return uploadRoot().relativize(file.toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+    }
+
+    static Object lockFor(String storedPath) {
+        return BLOB_LOCKS[Math.floorMod(storedPath.hashCode(), BLOB_LOCKS.length)];
+    }
+
+    /**
+     * 매직 바이트로 형식 판별
+     * @return 판별한 형식, 알 수 없으면 null
+     */
+    static String detectType(byte[] head, int length) {
+        if (startsWith(head, length, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(head, length, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (startsWith(head, length, 'B', 'M')) {
+            return "image/bmp";
+        }
+        if (startsWith(head, length, '%', 'P', 'D', 'F', '-')) {
+            return "application/pdf";
+        }
+        if (startsWith(head, length, 'P', 'K', 0x03, 0x04) || startsWith(head, length, 'P', 'K', 0x05, 0x06)) {
+            return "application/zip";
+        }
+        if (startsWith(head, length, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return "application/x-ole-storage";
+        }
+        if (startsWith(head, length, 'R', 'a', 'r', '!', 0x1A, 0x07)) {
+            return "application/x-rar-compressed";
+        }
+        if (startsWith(head, length, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C)) {
+            return "application/x-7z-compressed";
+        }
+        if (looksLikeText(head, length)) {
+            return "text/plain";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int length, int... signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 제어 문자(탭/줄바꿈 제외)가 없으면 텍스트로 판단 (UTF-8/EUC-KR 모두 허용)
+    private static boolean looksLikeText(byte[] head, int length) {
+        for (int i = 0; i < length; i++) {
+            int b = head[i] & 0xFF;
+            if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != 0x0C) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static Path uploadRoot() throws IOException {
+        Path root = new File(AppConfig.getUploadPath()).getAbsoluteFile().toPath().normalize();
+        return Files.createDirectories(root);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
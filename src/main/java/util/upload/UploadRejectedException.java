@@ -0,0 +1,15 @@
+package util.upload;
+
+import java.io.IOException;
+
+/**
+ * 업로드 파일이 허용 조건을 만족하지 않을 때 (형식, 내용 불일치, 빈 파일)
+ * 메시지는 사용자에게 그대로 보여줄 수 있음
+ */
+public class UploadRejectedException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public UploadRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,274 @@
+package util.web;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.jfr.FileTransferEvent;
+
+/**
+ * 파일 전송 공용 처리기 (자유게시판/문의 게시판 첨부파일, 이미지 썸네일)
+ * - Tomcat sendfile을 지원하면 파일 전송을 커넥터에 넘겨 요청 스레드가 전송을 기다리지 않음 (커널 영역 복사)
+ *   지원하지 않거나 작은 파일은 64KB 버퍼로 응답 스트림에 복사
+ * - Range 요청(단일 구간)에 206 Partial Content로 응답 (이어받기)
+ * - ETag/Last-Modified를 보내고 If-None-Match/If-Modified-Since가 일치하면 304로 본문 생략
+ * - Content-Length는 long으로 설정 (2GB 이상 파일)
+ * - JFR 녹화 중에는 전송마다 FileTransferEvent 기록
+ */
+public final class FileDownloadHandler {
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 직접 전송 (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private FileDownloadHandler() {
+    }
+
+    /**
+     * 다운로드 결과
+     */
+    public enum Result {
+        /** 전체 파일 또는 처음부터 시작하는 구간 전송 */
+        FULL,
+        /** 중간부터 이어받는 구간 전송 (206) */
+        PARTIAL,
+        /** 변경 없음 (304) */
+        NOT_MODIFIED,
+        /** 요청 구간이 잘못됨 (416) */
+        UNSATISFIABLE;
+
+        /**
+         * 다운로드 수를 늘려야 하는지 (이어받기와 304는 제외)
+         */
+        public boolean isCountable() {
+            return this == FULL;
+        }
+    }
+
+    /**
+     * 파일 다운로드 응답 작성
+     * @param file 전송할 파일 (존재 여부는 호출하는 쪽에서 확인)
+     * @param downloadName 사용자에게 보여줄 원본 파일명
+     * @return 전송 결과
+     */
+    public static Result serve(HttpServletRequest request, HttpServletResponse response, File file,
+            String downloadName) throws IOException {
+        // 브라우저 캐시에 두되 매번 재검증 (304)
+        return send(request, response, file, contentDisposition(downloadName), "private, no-cache", "download");
+    }
+
+    /**
+     * 브라우저에 바로 표시할 파일 응답 작성 (이미지 썸네일 등)
+     * @param file 전송할 파일 (존재 여부는 호출하는 쪽에서 확인)
+     * @param cacheControl Cache-Control 헤더 값
+     * @return 전송 결과
+     */
+    public static Result serveInline(HttpServletRequest request, HttpServletResponse response, File file,
+            String cacheControl) throws IOException {
+        return send(request, response, file, "inline", cacheControl, "inline");
+    }
+
+    private static Result send(HttpServletRequest request, HttpServletResponse response, File file,
+            String disposition, String cacheControl, String direction) throws IOException {
+        // JFR 녹화 중일 때만 기록
+        FileTransferEvent event = new FileTransferEvent();
+        event.begin();
+        Result result = null;
+        try {
+            result = transfer(request, response, file, disposition, cacheControl, event);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.direction = direction;
+                event.file = file.getName();
+                event.result = result != null ? result.name() : "ERROR";
+                event.commit();
+            }
+        }
+    }
+
+    private static Result transfer(HttpServletRequest request, HttpServletResponse response, File file,
+            String disposition, String cacheControl, FileTransferEvent event) throws IOException {
+        long length = file.length();
+        // HTTP 날짜는 초 단위이므로 비교를 위해 밀리초를 버림
+        long lastModified = file.lastModified() / 1000 * 1000;
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("Cache-Control", cacheControl);
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return Result.NOT_MODIFIED;
+        }
+
+        String mimeType = request.getServletContext().getMimeType(file.getName());
+        response.setContentType(mimeType != null ? mimeType : "application/octet-stream");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Disposition", disposition);
+
+        long start = 0;
+        long end = length - 1;
+        Result result = Result.FULL;
+        String range = request.getHeader("Range");
+        if (range != null && isRangeApplicable(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return Result.UNSATISFIABLE;
+            }
+            if (parsed.length == 2 && !(parsed[0] == 0 && parsed[1] == length - 1)) {
+                start = parsed[0];
+                end = parsed[1];
+                // 처음부터 받는 구간 요청은 새 다운로드로 집계
+                result = start == 0 ? Result.FULL : Result.PARTIAL;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(0, count));
+        if (count <= 0 || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            return result;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿이 반환한 뒤 커넥터가 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            event.sendfile = true;
+            event.bytes = count;
+            return result;
+        }
+
+        // 서블릿 출력 스트림은 채널이 아니므로 커널 복사(transferTo)가 되지 않음, 버퍼로 복사
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            in.skipNBytes(start);
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, count)];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            event.bytes = count - remaining;
+            out.flush();
+        }
+        return result;
+    }
+
+    // If-None-Match가 있으면 ETag로만 판단, 없으면 If-Modified-Since로 판단
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesEtag(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    // If-Range가 현재 파일과 다르면 구간 요청을 무시하고 전체 전송
+    private static boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.trim().startsWith("\"") || ifRange.trim().startsWith("W/")) {
+            return ifRange.trim().equals(etag);
+        }
+        long date = dateHeader(request, "If-Range");
+        return date >= 0 && lastModified <= date;
+    }
+
+    private static boolean matchesEtag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Range 헤더 해석 (단일 구간만 지원)
+     * @return {시작, 끝}, 여러 구간이거나 형식이 다르면 빈 배열(전체 전송), 만족할 수 없는 구간이면 null
+     */
+    static long[] parseRange(String header, long length) {
+        String value = header.trim();
+        if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = value.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 마지막 N바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+                if (end < start) {
+                    // 형식 오류는 Range 헤더를 무시
+                    return new long[0];
+                }
+                end = Math.min(end, length - 1);
+            }
+            if (start < 0 || start >= length || end < start) {
+                return null;
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    // RFC 6266: ASCII 대체 이름 + UTF-8 인코딩 이름
+    private static String contentDisposition(String fileName) {
+        String name = fileName != null && !fileName.isEmpty() ? fileName : "download";
+        String fallback = name.replaceAll("[^\\x20-\\x7e]", "_").replace("\\", "_").replace("\"", "_");
+        String encoded = URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename=\"" + fallback + "\"; filename*=UTF-8''" + encoded;
+    }
+}
@@ -4,263 +4,571 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.lang.reflect.Type;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import util.json.LocalDateTimeAdapter;
+import util.jfr.RequestEvent;
+import util.json.JsonResponseWriter;
+import util.metrics.RequestMetrics;
 
 /**
  * URL 경로에 따라 적절한 핸들러를 매핑하고 실행하는 유틸리티 클래스
- * JSON 응답을 위한 기능 제공
+ * JSON 응답을 위한 기능 제공 (JsonResponseWriter로 스트리밍 전송)
+ *
+ * 경로는 등록 시 한 번만 세그먼트 단위 트라이로 컴파일되며, 요청 시에는 경로 길이에 비례하는 탐색만 수행합니다.
+ * - 고정 세그먼트: /list, /user/penalty
+ * - 경로 변수: /{id:long}, /{page:int}, /{slug} (타입 생략 시 문자열)
+ * 추출된 경로 변수는 {@link #PATH_VARIABLES_ATTRIBUTE} 요청 속성에 Map으로 저장됩니다.
+ * 경로는 존재하지만 해당 HTTP 메소드의 핸들러가 없으면 405 응답과 Allow 헤더를 보냅니다. (루트 경로 제외)
+ * 찾은 라우트 이름("GET /api/questions/{id:long}")은 {@link RequestMetrics#ROUTE_ATTRIBUTE} 요청 속성에 저장되어
+ * 실제 경로 값이 아닌 패턴 단위로 지연 시간이 집계됩니다.
  */
-public class RequestRouter {    private Map<String, BiConsumer<HttpServletRequest, HttpServletResponse>> getHandlers = new HashMap<>();
-    private Map<String, BiConsumer<HttpServletRequest, HttpServletResponse>> postHandlers = new HashMap<>();    private Map<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> getJsonHandlers = new HashMap<>();
-    private Map<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> postJsonHandlers = new HashMap<>();
-    
-    // GsonBuilder를 사용하여 LocalDateTime을 처리할 수 있는 Gson 인스턴스 생성
-    private static final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new util.json.LocalDateTimeAdapter())
-            .create();
-    
+public class RequestRouter {
+    /** 추출된 경로 변수(Map&lt;String, Object&gt;)가 저장되는 요청 속성 이름 */
+    public static final String PATH_VARIABLES_ATTRIBUTE = "pathVariables";
+
+    // 라우팅 테이블 조회용 등록부 (기준 경로 → 라우터)
+    private static final Map<String, RequestRouter> REGISTRY = new ConcurrentSkipListMap<>();
+
+    private final String basePath;
+    private final RouteNode root = new RouteNode();
+    private final List<Route> routes = new ArrayList<>();
+    private int handlerCount = 0;
+
+    /**
+     * 라우팅 테이블에 등록되지 않는 라우터 생성
+     */
+    public RequestRouter() {
+        this.basePath = null;
+    }
+
+    private RequestRouter(String basePath) {
+        this.basePath = basePath;
+    }
+
+    /**
+     * 기준 경로(서블릿 매핑)와 함께 라우터를 생성하고 라우팅 테이블에 등록
+     *
+     * @param basePath 서블릿 기준 경로 (예: "/keyboard")
+     * @return 등록된 라우터
+     */
+    public static RequestRouter forBasePath(String basePath) {
+        RequestRouter router = new RequestRouter(basePath);
+        REGISTRY.put(basePath, router);
+        return router;
+    }
+
     /**
      * GET 요청 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter get(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
-        getHandlers.put(path, handler);
+        register("GET", path).handler = handler;
+        handlerCount++;
         return this;
     }
-    
+
     /**
      * POST 요청 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter post(String path, BiConsumer<HttpServletRequest, HttpServletResponse> handler) {
-        postHandlers.put(path, handler);
+        register("POST", path).handler = handler;
+        handlerCount++;
         return this;
     }
-    
+
     /**
      * 요청 경로에 해당하는 핸들러 찾기
-     * 
+     *
      * @param method HTTP 메소드
      * @param path 요청 경로
      * @return 해당 경로의 핸들러, 없으면 null
      */
     public BiConsumer<HttpServletRequest, HttpServletResponse> getHandler(String method, String path) {
-        if ("GET".equalsIgnoreCase(method)) {
-            return getHandlers.get(path);
-        } else if ("POST".equalsIgnoreCase(method)) {
-            return postHandlers.get(path);
-        }
-        return null;
+        Match match = match(path);
+        Route route = match != null ? match.node.routes.get(normalizeMethod(method)) : null;
+        return route != null ? route.handler : null;
     }
-    
+
     /**
      * 라우터에 등록된 핸들러 수 반환
-     * 
+     *
      * @return 등록된 총 핸들러 수
      */
     public int getHandlerCount() {
-        return getHandlers.size() + postHandlers.size();
+        return handlerCount;
     }
-    
+
     /**
      * GET 요청 JSON 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러 (Object 반환, JSON으로 변환됨)
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter getJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
-        getJsonHandlers.put(path, handler);
+        register("GET", path).jsonHandler = handler;
         return this;
     }
-    
+
     /**
      * POST 요청 JSON 핸들러 등록
-     * 
+     *
      * @param path 요청 경로
      * @param handler 요청 처리 핸들러 (Object 반환, JSON으로 변환됨)
      * @return 현재 라우터 인스턴스 (체이닝 지원)
      */
     public RequestRouter postJson(String path, BiFunction<HttpServletRequest, HttpServletResponse, Object> handler) {
-        postJsonHandlers.put(path, handler);
+        register("POST", path).jsonHandler = handler;
         return this;
     }
-    
+
     /**
      * 요청 경로에 해당하는 JSON 핸들러 찾기
-     * 
+     *
      * @param method HTTP 메소드
      * @param path 요청 경로
      * @return 해당 경로의 JSON 핸들러, 없으면 null
      */
     public BiFunction<HttpServletRequest, HttpServletResponse, Object> getJsonHandler(String method, String path) {
-        if ("GET".equalsIgnoreCase(method)) {
-            return getJsonHandlers.get(path);
-        } else if ("POST".equalsIgnoreCase(method)) {
-            return postJsonHandlers.get(path);
-        }
-        return null;
+        Match match = match(path);
+        Route route = match != null ? match.node.routes.get(normalizeMethod(method)) : null;
+        return route != null ? route.jsonHandler : null;
     }
-    
+
     /**
      * 요청을 처리합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
-     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
+     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었거나 405 응답을 보냈으면 true)
      * @throws ServletException 서블릿 예외
      * @throws IOException 입출력 예외
      */
     public boolean handle(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        String method = request.getMethod();
         String path = request.getPathInfo();
-        
+
         if (path == null) {
             path = "/";
         }
-        
-        // JSON 핸들러 먼저 시도
-        if ("GET".equalsIgnoreCase(method)) {
-            if (handleGetJson(request, response)) {
-                return true;
-            }
-        } else if ("POST".equalsIgnoreCase(method)) {
-            if (handlePostJson(request, response)) {
-                return true;
-            }
-        }
-        
-        // 일반 핸들러 시도
-        BiConsumer<HttpServletRequest, HttpServletResponse> handler = getHandler(method, path);
-        if (handler != null) {
-            handler.accept(request, response);
-            return true;
-        }
-        
-        return false;
+
+        return dispatch(normalizeMethod(request.getMethod()), path, request, response, true);
     }
-    
+
     /**
      * GET 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
-     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
+     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었거나 405 응답을 보냈으면 true)
      * @throws ServletException 서블릿 예외
      * @throws IOException 입출력 예외
      */
-    public boolean handleGetJson(HttpServletRequest request, HttpServletResponse response) 
+    public boolean handleGetJson(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
         String pathInfo = request.getPathInfo();
-        
+
         if (pathInfo == null) {
             return false;
         }
-        
-        // 정확히 일치하는 핸들러 먼저 확인
-        BiFunction<HttpServletRequest, HttpServletResponse, Object> handler = getJsonHandlers.get(pathInfo);
-        
-        // 정확히 일치하는 것이 없으면 정규식 패턴 확인
-        if (handler == null) {
-            for (Map.Entry<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> entry : getJsonHandlers.entrySet()) {
-                String pattern = entry.getKey();
-                if (pattern.contains("(") && pattern.contains(")")) {
-                    Pattern p = Pattern.compile(pattern);
-                    Matcher m = p.matcher(pathInfo);
-                    if (m.matches()) {
-                        handler = entry.getValue();
-                        break;
-                    }
-                }
-            }
-        }
-        
-        if (handler != null) {
-            Object result = handler.apply(request, response);
-            if (result != null) {
-                response.setContentType("application/json;charset=UTF-8");
-                PrintWriter out = response.getWriter();
-                out.print(gson.toJson(result));
-                out.flush();
-                return true;
-            }
-        }
-        
-        return false;
+
+        return dispatch("GET", pathInfo, request, response, false);
     }
-    
+
     /**
      * POST 요청의 JSON 핸들러를 실행하고 JSON 응답을 전송합니다.
-     * 
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
-     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었으면 true)
+     * @return 요청 처리 여부 (적절한 핸들러가 있어서 처리되었거나 405 응답을 보냈으면 true)
      * @throws ServletException 서블릿 예외
      * @throws IOException 입출력 예외
      */
-    public boolean handlePostJson(HttpServletRequest request, HttpServletResponse response) 
+    public boolean handlePostJson(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
         String pathInfo = request.getPathInfo();
-        
+
         if (pathInfo == null) {
             return false;
         }
-        
-        // 정확히 일치하는 핸들러 먼저 확인
-        BiFunction<HttpServletRequest, HttpServletResponse, Object> handler = postJsonHandlers.get(pathInfo);
-        
-        // 정확히 일치하는 것이 없으면 정규식 패턴 확인
-        if (handler == null) {
-            for (Map.Entry<String, BiFunction<HttpServletRequest, HttpServletResponse, Object>> entry : postJsonHandlers.entrySet()) {
-                String pattern = entry.getKey();
-                if (pattern.contains("(") && pattern.contains(")")) {
-                    Pattern p = Pattern.compile(pattern);
-                    Matcher m = p.matcher(pathInfo);
-                    if (m.matches()) {
-                        handler = entry.getValue();
-                        break;
-                    }
-                }
+
+        return dispatch("POST", pathInfo, request, response, false);
+    }
+
+    /**
+     * 등록된 라우트 목록 반환 (등록 순서)
+     *
+     * @return "METHOD 경로" 형태의 라우트 설명 목록
+     */
+    public List<Map<String, String>> getRoutes() {
+        List<Map<String, String>> result = new ArrayList<>();
+        for (Route route : routes) {
+            Map<String, String> entry = new LinkedHashMap<>();
+            entry.put("method", route.method);
+            entry.put("path", (basePath != null ? basePath : "") + route.pattern);
+            entry.put("type", route.jsonHandler != null ? "json" : "handler");
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * 기준 경로와 함께 생성된 모든 라우터의 라우팅 테이블 반환
+     *
+     * @return 기준 경로별 라우트 목록
+     */
+    public static Map<String, List<Map<String, String>>> getRoutingTable() {
+        Map<String, List<Map<String, String>>> table = new TreeMap<>();
+        for (Map.Entry<String, RequestRouter> entry : REGISTRY.entrySet()) {
+            table.put(entry.getKey(), entry.getValue().getRoutes());
+        }
+        return table;
+    }
+
+    /**
+     * 요청 속성에서 경로 변수 조회
+     *
+     * @param request HTTP 요청
+     * @param name 변수 이름
+     * @return 변수 값 (long/int 타입은 Long/Integer), 없으면 null
+     */
+    public static Object getPathVariable(HttpServletRequest request, String name) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> variables = (Map<String, Object>) request.getAttribute(PATH_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables.get(name) : null;
+    }
+
+    /**
+     * 요청 속성에서 long 타입 경로 변수 조회
+     *
+     * @param request HTTP 요청
+     * @param name 변수 이름 ({name:long} 또는 {name:int}로 등록된 변수)
+     * @return 변수 값
+     * @throws IllegalStateException 변수가 없거나 숫자 타입이 아닌 경우
+     */
+    public static long getLongPathVariable(HttpServletRequest request, String name) {
+        Object value = getPathVariable(request, name);
+        if (!(value instanceof Number)) {
+            throw new IllegalStateException("숫자 경로 변수가 없습니다: " + name);
+        }
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * 라우트를 찾아 실행합니다.
+     *
+     * @param includePlainHandlers 일반(BiConsumer) 핸들러도 대상에 포함할지 여부
+     */
+    private boolean dispatch(String method, String path, HttpServletRequest request, HttpServletResponse response,
+            boolean includePlainHandlers) throws IOException {
+        Match match = match(path);
+        if (match == null) {
+            return false;
+        }
+
+        Route route = match.node.routes.get(method);
+        if (route == null) {
+            // 루트 경로는 기존 action 파라미터 방식 요청과 공유하므로 컨트롤러에 처리를 넘김
+            if (match.node == root) {
+                return false;
             }
+            // 경로는 있지만 메소드가 맞지 않는 경우
+            response.setHeader("Allow", match.node.allowHeader);
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return true;
+        }
+
+        request.setAttribute(RequestMetrics.ROUTE_ATTRIBUTE, route.metricName);
+        if (match.variables != null) {
+            request.setAttribute(PATH_VARIABLES_ATTRIBUTE, match.variables);
         }
-        
-        if (handler != null) {
-            Object result = handler.apply(request, response);
+
+        // JFR 녹화 중일 때만 기록 (핸들러가 처리한 경우만)
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        boolean handled = invoke(route, request, response, includePlainHandlers);
+        event.end();
+        if (handled && event.shouldCommit()) {
+            event.method = route.method;
+            event.route = route.metricName;
+            event.status = response.getStatus();
+            event.commit();
+        }
+        return handled;
+    }
+
+    private static boolean invoke(Route route, HttpServletRequest request, HttpServletResponse response,
+            boolean includePlainHandlers) throws IOException {
+        // JSON 핸들러 먼저 시도
+        if (route.jsonHandler != null) {
+            Object result = route.jsonHandler.apply(request, response);
             if (result != null) {
-                response.setContentType("application/json;charset=UTF-8");
-                PrintWriter out = response.getWriter();
-                out.print(gson.toJson(result));
-                out.flush();
+                JsonResponseWriter.write(request, response, result);
                 return true;
             }
         }
-        
+
+        // 일반 핸들러 시도
+        if (includePlainHandlers && route.handler != null) {
+            route.handler.accept(request, response);
+            return true;
+        }
+
         return false;
     }
+
+    /**
+     * 경로 패턴을 트라이에 등록하고 해당 메소드의 라우트를 반환
+     */
+    private Route register(String method, String pattern) {
+        RouteNode node = root;
+        List<String> variableNames = new ArrayList<>();
+
+        for (String segment : splitPath(pattern)) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String spec = segment.substring(1, segment.length() - 1);
+                int colon = spec.indexOf(':');
+                String name = colon >= 0 ? spec.substring(0, colon) : spec;
+                VariableType type = VariableType.of(colon >= 0 ? spec.substring(colon + 1) : "string", pattern);
+
+                if (name.isEmpty() || variableNames.contains(name)) {
+                    throw new IllegalArgumentException("잘못된 경로 변수 이름: " + pattern);
+                }
+                variableNames.add(name);
+                node = node.variableChild(name, type, pattern);
+            } else if (segment.indexOf('{') >= 0 || segment.indexOf('(') >= 0) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다. {이름:타입} 형식을 사용하세요: " + pattern);
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new RouteNode());
+            }
+        }
+
+        node.variableNames = variableNames.toArray(new String[0]);
+
+        Route route = node.routes.get(method);
+        if (route == null) {
+            route = new Route(method, pattern, method + " " + (basePath != null ? basePath : "") + pattern);
+            node.routes.put(method, route);
+            node.allowHeader = String.join(", ", node.routes.keySet());
+            routes.add(route);
+        }
+        return route;
+    }
+
+    /**
+     * 요청 경로와 일치하는 노드를 찾습니다. 고정 세그먼트가 경로 변수보다 우선합니다.
+     *
+     * @return 일치 결과, 라우트가 없으면 null
+     */
+    private Match match(String path) {
+        if (path == null) {
+            return null;
+        }
+        String[] segments = splitPath(path);
+        Object[] values = new Object[segments.length];
+        RouteNode node = find(root, segments, 0, values);
+        if (node == null) {
+            return null;
+        }
+
+        Map<String, Object> variables = null;
+        if (node.variableNames.length > 0) {
+            variables = new HashMap<>(node.variableNames.length * 2);
+            for (int i = 0, v = 0; i < segments.length; i++) {
+                if (values[i] != null) {
+                    variables.put(node.variableNames[v++], values[i]);
+                }
+            }
+        }
+        return new Match(node, variables);
+    }
+
+    private static RouteNode find(RouteNode node, String[] segments, int index, Object[] values) {
+        if (index == segments.length) {
+            return node.routes.isEmpty() ? null : node;
+        }
+
+        String segment = segments[index];
+        RouteNode literal = node.literals.get(segment);
+        if (literal != null) {
+            RouteNode found = find(literal, segments, index + 1, values);
+            if (found != null) {
+                return found;
+            }
+        }
+
+        for (VariableEdge edge : node.variables) {
+            Object value = edge.type.convert(segment);
+            if (value != null) {
+                values[index] = value;
+                RouteNode found = find(edge.node, segments, index + 1, values);
+                if (found != null) {
+                    return found;
+                }
+                values[index] = null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * '/' 기준으로 경로를 나눕니다. 빈 세그먼트는 무시합니다.
+     */
+    private static String[] splitPath(String path) {
+        List<String> segments = new ArrayList<>(4);
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static String normalizeMethod(String method) {
+        return method == null ? "" : method.toUpperCase();
+    }
+
+    /**
+     * 경로 변수 타입
+     */
+    private enum VariableType {
+        LONG {
+            @Override
+            Object convert(String segment) {
+                return isDigits(segment, 19) ? parseOrNull(segment, true) : null;
+            }
+        },
+        INT {
+            @Override
+            Object convert(String segment) {
+                return isDigits(segment, 10) ? parseOrNull(segment, false) : null;
+            }
+        },
+        STRING {
+            @Override
+            Object convert(String segment) {
+                return segment;
+            }
+        };
+
+        abstract Object convert(String segment);
+
+        static VariableType of(String name, String pattern) {
+            switch (name) {
+                case "long":
+                    return LONG;
+                case "int":
+                    return INT;
+                case "string":
+                    return STRING;
+                default:
+                    throw new IllegalArgumentException("지원하지 않는 경로 변수 타입 '" + name + "': " + pattern);
+            }
+        }
+
+        private static boolean isDigits(String segment, int maxLength) {
+            int length = segment.length();
+            if (length == 0 || length > maxLength) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = segment.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Object parseOrNull(String segment, boolean asLong) {
+            try {
+                return asLong ? (Object) Long.parseLong(segment) : (Object) Integer.parseInt(segment);
+            } catch (NumberFormatException e) {
+                return null; // 범위 초과
+            }
+        }
+    }
+
+    /**
+     * 트라이 노드: 고정 세그먼트 자식, 경로 변수 자식, 메소드별 라우트
+     */
+    private static final class RouteNode {
+        final Map<String, RouteNode> literals = new HashMap<>();
+        final List<VariableEdge> variables = new ArrayList<>(0);
+        final Map<String, Route> routes = new TreeMap<>();
+        String[] variableNames = new String[0];
+        String allowHeader = "";
+
+        RouteNode variableChild(String name, VariableType type, String pattern) {
+            for (VariableEdge edge : variables) {
+                if (edge.type == type) {
+                    if (!edge.name.equals(name)) {
+                        throw new IllegalArgumentException("같은 위치의 경로 변수 이름이 충돌합니다: " + pattern);
+                    }
+                    return edge.node;
+                }
+            }
+            VariableEdge edge = new VariableEdge(name, type, new RouteNode());
+            variables.add(edge);
+            // 숫자 타입을 문자열 타입보다 먼저 검사
+            Collections.sort(variables, (a, b) -> a.type.compareTo(b.type));
+            return edge.node;
+        }
+    }
+
+    private static final class VariableEdge {
+        final String name;
+        final VariableType type;
+        final RouteNode node;
+
+        VariableEdge(String name, VariableType type, RouteNode node) {
+            this.name = name;
+            this.type = type;
+            this.node = node;
+        }
+    }
+
+    private static final class Route {
+        final String method;
+        final String pattern;
+        // 지표용 라우트 이름 (메소드 + 기준 경로 + 패턴)
+        final String metricName;
+        BiFunction<HttpServletRequest, HttpServletResponse, Object> jsonHandler;
+        BiConsumer<HttpServletRequest, HttpServletResponse> handler;
+
+        Route(String method, String pattern, String metricName) {
+            this.method = method;
+            this.pattern = pattern;
+            this.metricName = metricName;
+        }
+    }
+
+    private static final class Match {
+        final RouteNode node;
+        final Map<String, Object> variables;
+
+        Match(RouteNode node, Map<String, Object> variables) {
+            this.node = node;
+            this.variables = variables;
+        }
+    }
 }
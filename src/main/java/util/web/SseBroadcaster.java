@@ -0,0 +1,366 @@
+package util.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import util.config.EnvConfig;
+import util.event.EventBus;
+import util.logging.LoggerConfig;
+import util.metrics.PrometheusWriter;
+
+/**
+ * Server-Sent Events 연결 관리자
+ * - 연결마다 비동기 서블릿 + 논블로킹 출력(WriteListener)을 사용해 대기 중인 연결이 요청 스레드를 잡지 않음
+ * - EventBus 이벤트를 연결별 크기 제한 송신 큐에 넣고, 큐가 가득 찬 느린 클라이언트는 연결을 끊음
+ *   (클라이언트는 Last-Event-ID로 재연결해 재전송 버퍼에서 놓친 이벤트를 받음)
+ * - 놓친 이벤트가 송신 큐에 다 들어가지 않거나 버스가 이벤트 전달을 놓치면 reset 이벤트/재연결로 전체 새로고침을 유도
+ * - 일정 주기로 하트비트(주석 프레임)를 보내 프록시 유휴 타임아웃과 끊어진 연결을 정리
+ * - 연결 최대 유지 시간이 지나면 서버가 연결을 닫고 클라이언트가 자동으로 재연결
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - SSE_MAX_CONNECTIONS: 최대 동시 연결 수 (기본 2000)
+ * - SSE_QUEUE_SIZE: 연결별 송신 큐 크기, 초과 시 연결 종료 (기본 64)
+ * - SSE_HEARTBEAT_MS: 하트비트 주기 (기본 15000)
+ * - SSE_MAX_LIFETIME_MS: 연결 최대 유지 시간 (기본 1800000)
+ */
+public class SseBroadcaster {
+    private static final Logger logger = LoggerConfig.getLogger(SseBroadcaster.class);
+
+    public static final String CONTENT_TYPE = "text/event-stream;charset=UTF-8";
+
+    // 클라이언트 재연결 대기 시간 (ms)
+    private static final int RETRY_MS = 3000;
+    private static final byte[] HEARTBEAT_FRAME = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+    // 재전송 버퍼에 없는 이벤트가 있어 클라이언트가 전체 목록을 다시 읽어야 함
+    private static final String RESET_EVENT = "reset";
+
+    private static final SseBroadcaster INSTANCE = new SseBroadcaster(
+            Math.max(1, EnvConfig.getInt("SSE_MAX_CONNECTIONS", 2000)),
+            Math.max(4, EnvConfig.getInt("SSE_QUEUE_SIZE", 64)),
+            Math.max(1000, EnvConfig.getInt("SSE_HEARTBEAT_MS", 15000)),
+            Math.max(10000, EnvConfig.getInt("SSE_MAX_LIFETIME_MS", 1800000)));
+
+    private final int maxConnections;
+    private final int queueSize;
+    private final long maxLifetimeMs;
+    private final EventBus eventBus = EventBus.getInstance();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ScheduledExecutorService heartbeat;
+
+    // 지표
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+
+    SseBroadcaster(int maxConnections, int queueSize, long heartbeatMs, long maxLifetimeMs) {
+        this.maxConnections = maxConnections;
+        this.queueSize = queueSize;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static SseBroadcaster getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * SSE 연결 시작 (비동기 서블릿에서 호출)
+     * @param types 받을 이벤트 유형 (null 또는 비어 있으면 전체)
+     */
+    public void open(HttpServletRequest request, HttpServletResponse response, Set<String> types)
+            throws IOException {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            rejected.increment();
+            response.setHeader("Retry-After", String.valueOf(RETRY_MS / 1000));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-cache");
+        // 프록시(nginx) 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+
+        Connection connection;
+        try {
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(maxLifetimeMs);
+            connection = new Connection(asyncContext, response.getOutputStream(), types);
+            asyncContext.addListener(connection);
+        } catch (IOException | RuntimeException e) {
+            connectionCount.decrementAndGet();
+            throw e;
+        }
+        connections.add(connection);
+        opened.increment();
+
+        connection.start(lastEventId(request));
+    }
+
+    // Last-Event-ID 헤더 (EventSource 재연결) 또는 lastEventId 파라미터 (최초 연결 시 클라이언트가 지정)
+    private static long lastEventId(HttpServletRequest request) {
+        String value = request.getHeader("Last-Event-ID");
+        if (value == null || value.trim().isEmpty()) {
+            value = request.getParameter("lastEventId");
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 이벤트 유형 파라미터 해석 (쉼표 구분)
+     */
+    public static Set<String> parseTypes(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> types = new HashSet<>();
+        for (String type : Arrays.asList(value.split(","))) {
+            if (!type.trim().isEmpty()) {
+                types.add(type.trim());
+            }
+        }
+        return types.isEmpty() ? null : types;
+    }
+
+    private void sendHeartbeats() {
+        for (Connection connection : connections) {
+            connection.enqueue(HEARTBEAT_FRAME);
+        }
+    }
+
+    /**
+     * 모든 연결 종료 (애플리케이션 종료 시)
+     */
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * 지표를 Prometheus 작성기에 추가
+     */
+    public void writeMetrics(PrometheusWriter out) {
+        out.counter("kirini_sse_connections_opened_total", "열린 SSE 연결 수", opened.sum());
+        out.counter("kirini_sse_connections_rejected_total", "최대 연결 수 초과로 거부된 연결 수", rejected.sum());
+        out.counter("kirini_sse_connections_evicted_total", "송신 큐 초과로 끊은 느린 연결 수", evicted.sum());
+        out.counter("kirini_sse_replayed_events_total", "재연결 시 재전송한 이벤트 수", replayed.sum());
+        out.counter("kirini_sse_resets_total", "재전송 버퍼 부족으로 전체 새로고침을 요청한 수", resets.sum());
+        out.counter("kirini_sse_frames_sent_total", "전송한 프레임 수 (하트비트 포함)", framesSent.sum());
+        out.counter("kirini_event_bus_published_total", "발행된 이벤트 수", eventBus.getPublishedCount());
+        out.counter("kirini_event_bus_dispatch_dropped_total", "전달 대기열 초과로 실시간 전달하지 못한 이벤트 수",
+                eventBus.getDispatchDroppedCount());
+        out.gauge("kirini_sse_connections", "현재 SSE 연결 수", connections.size());
+    }
+
+    /**
+     * SSE 연결 하나 (송신 큐 + 논블로킹 출력)
+     */
+    private final class Connection implements EventBus.Listener, WriteListener, AsyncListener {
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final Set<String> types;
+        private final ArrayBlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(queueSize);
+        // 큐에 넣은 마지막 이벤트 ID (구독 직후 중복 전달 제거)
+        private long lastQueuedId = -1;
+        private boolean started;
+        private volatile boolean closed;
+
+        Connection(AsyncContext asyncContext, ServletOutputStream out, Set<String> types) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+            this.types = types;
+        }
+
+        // 구독 + 놓친 이벤트 재전송 후 출력 시작
+        // 출력 시작 전에는 큐만 채우므로, 재전송할 이벤트가 큐에 다 들어가지 않으면 재전송 대신 reset을 보냄
+        // (재전송하다 큐가 넘쳐 끊기면 같은 Last-Event-ID로 재연결해 다시 끊기는 일이 반복됨)
+        synchronized void start(long lastEventId) {
+            enqueue(("retry: " + RETRY_MS + "\n\n").getBytes(StandardCharsets.UTF_8));
+            // 처음 연결하는 클라이언트는 지금 이후 이벤트만 받음
+            long from = lastEventId >= 0 ? lastEventId : eventBus.getLastEventId();
+            lastQueuedId = from;
+            List<EventBus.Event> missed = eventBus.subscribe(this, from);
+            if (missed == null || countMatching(missed) >= queue.remainingCapacity()) {
+                resets.increment();
+                long current = missed == null || missed.isEmpty()
+                        ? eventBus.getLastEventId()
+                        : missed.get(missed.size() - 1).getId();
+                enqueue(("id: " + current + "\nevent: " + RESET_EVENT + "\ndata: {}\n\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                lastQueuedId = Math.max(lastQueuedId, current);
+            } else {
+                for (EventBus.Event event : missed) {
+                    onEvent(event);
+                }
+                if (lastEventId >= 0) {
+                    replayed.add(missed.size());
+                }
+            }
+            started = true;
+            // 출력 가능해지면 컨테이너가 onWritePossible 호출
+            out.setWriteListener(this);
+        }
+
+        private int countMatching(List<EventBus.Event> events) {
+            if (types == null) {
+                return events.size();
+            }
+            int count = 0;
+            for (EventBus.Event event : events) {
+                if (types.contains(event.getType())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void onDispatchDropped() {
+            // 버스가 실시간 전달을 놓침: 끊으면 클라이언트가 Last-Event-ID로 재연결해 재전송/reset으로 따라잡음
+            evicted.increment();
+            close();
+        }
+
+        @Override
+        public synchronized void onEvent(EventBus.Event event) {
+            if (event.getId() <= lastQueuedId) {
+                return;
+            }
+            lastQueuedId = event.getId();
+            if (types == null || types.contains(event.getType())) {
+                enqueue(event.getFrame());
+            }
+        }
+
+        void enqueue(byte[] frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // 느린 클라이언트: 큐를 비우지 못하면 끊고 재연결 시 재전송으로 따라잡게 함
+                evicted.increment();
+                logger.fine("느린 SSE 연결 종료: 송신 큐 " + queueSize + "개 초과");
+                close();
+                return;
+            }
+            drain();
+        }
+
+        // 출력 가능한 동안 큐를 비움 (출력이 막히면 컨테이너가 onWritePossible로 다시 호출)
+        private synchronized void drain() {
+            if (!started || closed) {
+                return;
+            }
+            try {
+                while (out.isReady()) {
+                    byte[] frame = queue.poll();
+                    if (frame == null) {
+                        out.flush();
+                        return;
+                    }
+                    out.write(frame);
+                    framesSent.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // 최대 유지 시간 경과: 닫으면 클라이언트가 Last-Event-ID로 재연결
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            release();
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 요청
+            }
+        }
+
+        private void release() {
+            closed = true;
+            eventBus.unsubscribe(this);
+            if (connections.remove(this)) {
+                connectionCount.decrementAndGet();
+            }
+        }
+    }
+}
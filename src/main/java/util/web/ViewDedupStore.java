@@ -0,0 +1,237 @@
+package util.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+import dto.user.UserDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import util.config.EnvConfig;
+import util.logging.LoggerConfig;
+
+/**
+ * 게시글 조회수 중복 방지 저장소
+ * - (조회자, 게시판, 게시글 ID) 조합을 일정 시간(TTL) 동안 기억해 같은 조회자의 반복 조회를 한 번만 집계
+ * - 조회자는 로그인 사용자 → 기존 세션 → 클라이언트 IP 순으로 식별 (조회수 때문에 세션을 새로 만들지 않음)
+ * - 세션마다 HashSet을 두지 않고 애플리케이션 전체에서 하나의 크기 제한 저장소를 공유
+ *
+ * 저장 방식 (VIEW_DEDUP_MODE)
+ * - exact: 크기 제한 LRU 맵 (정확, 최대 VIEW_DEDUP_MAX_ENTRIES개, 초과 시 가장 오래된 기록부터 제거)
+ * - bloom: 두 세대를 교대로 쓰는 블룸 필터 (메모리 고정, 약 1% 확률로 첫 조회를 중복으로 판단할 수 있음)
+ *
+ * 설정 (환경변수, 미지정 시 기본값)
+ * - VIEW_DEDUP_MODE: exact / bloom (기본 exact)
+ * - VIEW_DEDUP_TTL_MINUTES: 중복으로 보는 시간 (기본 30)
+ * - VIEW_DEDUP_MAX_ENTRIES: exact 최대 기록 수, bloom 세대별 예상 기록 수 (기본 100000)
+ */
+public abstract class ViewDedupStore {
+    private static final Logger logger = LoggerConfig.getLogger(ViewDedupStore.class);
+
+    private static final ViewDedupStore INSTANCE = create(
+            System.getenv("VIEW_DEDUP_MODE"),
+            TimeUnit.MINUTES.toNanos(Math.max(1, EnvConfig.getInt("VIEW_DEDUP_TTL_MINUTES", 30))),
+            Math.max(1, EnvConfig.getInt("VIEW_DEDUP_MAX_ENTRIES", 100000)));
+
+    /**
+     * 공용 인스턴스 반환
+     */
+    public static ViewDedupStore getInstance() {
+        return INSTANCE;
+    }
+
+    static ViewDedupStore create(String mode, long ttlNanos, int maxEntries) {
+        if (mode != null && "bloom".equalsIgnoreCase(mode.trim())) {
+            return new RotatingBloomStore(ttlNanos, maxEntries, 0.01);
+        }
+        if (mode != null && !mode.trim().isEmpty() && !"exact".equalsIgnoreCase(mode.trim())) {
+            logger.warning("알 수 없는 저장 방식: " + mode + ", 기본값 사용: exact");
+        }
+        return new LruStore(ttlNanos, maxEntries);
+    }
+
+    /**
+     * 요청의 조회자 식별 키 (로그인 사용자 → 기존 세션 → IP)
+     */
+    public static String viewerKey(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            Object user = session.getAttribute("user");
+            if (user instanceof UserDTO) {
+                return "u:" + ((UserDTO) user).getUserUid();
+            }
+            return "s:" + session.getId();
+        }
+        return "ip:" + IpUtil.getClientIpAddr(request);
+    }
+
+    /**
+     * 조회 기록
+     * @param viewer 조회자 식별 키 (viewerKey 참고)
+     * @param boardType 게시판 유형 (freeboard, news 등)
+     * @param postId 게시글 ID
+     * @return TTL 안의 첫 조회면 true (조회수 증가 대상), 중복 조회면 false
+     */
+    public boolean markViewed(String viewer, String boardType, long postId) {
+        return markIfAbsent(viewer + '|' + boardType + '|' + postId, System.nanoTime());
+    }
+
+    /**
+     * 현재 기억하고 있는 기록 수 (bloom은 추정치)
+     */
+    public abstract long size();
+
+    abstract boolean markIfAbsent(String key, long now);
+
+    /**
+     * 크기 제한 LRU 맵 저장소 (정확한 중복 판단)
+     */
+    static final class LruStore extends ViewDedupStore {
+        private final long ttlNanos;
+        private final LinkedHashMap<String, Long> entries;
+
+        LruStore(long ttlNanos, int maxEntries) {
+            this.ttlNanos = ttlNanos;
+            // 삽입 순서 = 만료 순서이므로 앞에서부터 만료 기록을 정리
+            this.entries = new LinkedHashMap<String, Long>(16, 0.75f, false) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        @Override
+        synchronized boolean markIfAbsent(String key, long now) {
+            evictExpired(now);
+            if (entries.containsKey(key)) {
+                return false;
+            }
+            entries.put(key, now + ttlNanos);
+            return true;
+        }
+
+        private void evictExpired(long now) {
+            Iterator<Long> it = entries.values().iterator();
+            while (it.hasNext() && it.next() - now <= 0) {
+                it.remove();
+            }
+        }
+
+        @Override
+        public synchronized long size() {
+            evictExpired(System.nanoTime());
+            return entries.size();
+        }
+    }
+
+    /**
+     * 두 세대 블룸 필터 저장소 (메모리 고정)
+     * - 현재 세대에 기록하고, 현재/이전 세대 중 하나에 있으면 중복으로 판단
+     * - TTL마다 세대를 교체하므로 기록은 TTL 이상 2TTL 미만 동안 유지
+     */
+    static final class RotatingBloomStore extends ViewDedupStore {
+        private final long ttlNanos;
+        private final int bitCount;
+        private final int hashCount;
+        private volatile AtomicLongArray current;
+        private volatile AtomicLongArray previous;
+        private volatile long rotatedAt;
+
+        RotatingBloomStore(long ttlNanos, int expectedEntries, double falsePositiveRate) {
+            this.ttlNanos = ttlNanos;
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63L));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * ln2));
+            this.current = new AtomicLongArray((bitCount + 63) / 64);
+            this.previous = new AtomicLongArray((bitCount + 63) / 64);
+            this.rotatedAt = System.nanoTime();
+        }
+
+        @Override
+        boolean markIfAbsent(String key, long now) {
+            rotateIfNeeded(now);
+            long[] hashes = hash(key);
+            AtomicLongArray cur = current;
+            if (contains(cur, hashes) || contains(previous, hashes)) {
+                return false;
+            }
+            add(cur, hashes);
+            return true;
+        }
+
+        private void rotateIfNeeded(long now) {
+            if (now - rotatedAt < ttlNanos) {
+                return;
+            }
+            synchronized (this) {
+                if (now - rotatedAt >= ttlNanos) {
+                    previous = current;
+                    current = new AtomicLongArray((bitCount + 63) / 64);
+                    rotatedAt = now;
+                }
+            }
+        }
+
+        private boolean contains(AtomicLongArray bits, long[] hashes) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = bitIndex(hashes, i);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(AtomicLongArray bits, long[] hashes) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = bitIndex(hashes, i);
+                int word = index >>> 6;
+                long mask = 1L << index;
+                long old;
+                do {
+                    old = bits.get(word);
+                } while ((old & mask) == 0 && !bits.compareAndSet(word, old, old | mask));
+            }
+        }
+
+        // 이중 해싱: h1 + i * h2
+        private int bitIndex(long[] hashes, int i) {
+            return (int) Math.floorMod(hashes[0] + i * hashes[1], (long) bitCount);
+        }
+
+        // FNV-1a 64비트 해시 두 개 (시드 다름)
+        private static long[] hash(String key) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            long h1 = 0xcbf29ce484222325L;
+            long h2 = 0x84222325cbf29ce4L;
+            for (byte b : bytes) {
+                h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+                h2 = (h2 ^ (b & 0xff)) * 0x100000001b3L;
+            }
+            h2 ^= h2 >>> 33;
+            return new long[] { h1, h2 | 1 };
+        }
+
+        @Override
+        public long size() {
+            // 현재 세대의 설정된 비트 수로 기록 수 추정
+            AtomicLongArray cur = current;
+            long setBits = 0;
+            for (int i = 0; i < cur.length(); i++) {
+                setBits += Long.bitCount(cur.get(i));
+            }
+            if (setBits >= bitCount) {
+                return Long.MAX_VALUE;
+            }
+            return Math.round(-(double) bitCount / hashCount * Math.log(1 - (double) setBits / bitCount));
+        }
+    }
+}
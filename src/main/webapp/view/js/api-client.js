@@ -262,12 +262,12 @@ class ApiClient {
     );
   }
 
-  static async postJson(url, data, withAuth = false) {
+  static async postJson(url, data, withAuth = false, headers = {}) {
     return ApiClient.request(
       url,
       {
         method: "POST",
-        headers: { "Content-Type": "application/json; charset=UTF-8" },
+        headers: { "Content-Type": "application/json; charset=UTF-8", ...headers },
         body: JSON.stringify(data),
       },
       withAuth
@@ -439,7 +439,8 @@ class KeyboardService {
     );
   }
 
-  static async voteTag(keyboardId, tagId, voteType) {
+  // idempotencyKey: 투표 동작 하나에 하나, 재시도/중복 클릭에도 같은 값을 보내야 서버가 한 번만 반영
+  static async voteTag(keyboardId, tagId, voteType, idempotencyKey) {
     return ApiClient.postJson(
       "/keyboard.do",
       {
@@ -448,7 +449,8 @@ class KeyboardService {
         tagId,
         voteType,
       },
-      true
+      true,
+      idempotencyKey ? { "Idempotency-Key": idempotencyKey } : {}
     );
   }
 
@@ -437,7 +437,7 @@ async function loadRelatedKeyboards(keyboardId) {
       
       keyboardElement.innerHTML = `
         <a href="keyboard_detail.html?id=${keyboard.id}">
-          <img src="${keyboard.imageUrl || '../img/keyboard_default.jpg'}" alt="${keyboard.name}" 
+          <img src="${keyboard.thumbnailUrl || keyboard.imageUrl || '../img/keyboard_default.jpg'}" alt="${keyboard.name}" 
                onerror="this.src='https://via.placeholder.com/200x100?text=${encodeURIComponent(keyboard.name)}'">
           <div class="related-keyboard-info">
             <h4>${keyboard.name}</h4>
@@ -551,6 +551,17 @@ async function addRecommendedTag(tagName) {
   }
 }
 
+// 진행 중인 태그 투표의 멱등 키 (태그 + 투표 타입별)
+// 응답을 받기 전의 중복 클릭이나 네트워크 오류 후 재시도에는 같은 키를 보내 서버가 한 번만 반영하게 함
+const pendingVoteKeys = new Map();
+
+function createIdempotencyKey() {
+  if (window.crypto && typeof window.crypto.randomUUID === 'function') {
+    return window.crypto.randomUUID();
+  }
+  return Date.now().toString(36) + '-' + Math.random().toString(36).slice(2, 12);
+}
+
 // 태그 추천/비추천 기능
 async function voteTag(tagName, voteType) {
   // 해당 태그의 투표 카운트 요소 찾기
@@ -562,9 +573,16 @@ async function voteTag(tagName, voteType) {
     return;
   }
   
+  const voteKey = tagId + ':' + voteType;
+  if (!pendingVoteKeys.has(voteKey)) {
+    pendingVoteKeys.set(voteKey, createIdempotencyKey());
+  }
+  
   try {
     // API를 통해 태그 투표
-    const response = await KeyboardService.voteTag(keyboardId, tagId, voteType);
+    const response = await KeyboardService.voteTag(keyboardId, tagId, voteType, pendingVoteKeys.get(voteKey));
+    // 서버가 처리 결과를 돌려줬으면 이 투표 동작은 끝남 (다음 클릭은 새 투표)
+    pendingVoteKeys.delete(voteKey);
     
     if (response.success) {
       // 현재 투표 수 가져오기
@@ -190,7 +190,7 @@ async function loadKeyboardList(filterKeyword = null) {
       const starsText = getStarsText(keyboard.avgScore);
       
       // 이미지 URL 설정
-      const imageUrl = keyboard.keyboardImageUrl || '../img/keyboard_default.jpg';
+      const imageUrl = keyboard.thumbnailUrl || keyboard.keyboardImageUrl || '../img/keyboard_default.jpg';
       const placeholderUrl = `https://via.placeholder.com/400x200?text=${encodeURIComponent(keyboard.keyboardName)}`;
       
       // 키보드 카드 HTML
@@ -183,7 +183,7 @@ function renderScraps(data) {
     keyboardCard.className = "keyboard-card";
     keyboardCard.innerHTML = `
       <img src="${
-        keyboard.imageUrl || "../img/keyboard-placeholder.jpg"
+        keyboard.thumbnailUrl || keyboard.imageUrl || "../img/keyboard-placeholder.jpg"
       }" alt="${keyboard.name}" 
            class="keyboard-image" onerror="this.src='https://via.placeholder.com/400x200?text=키보드+이미지'">
       <div class="keyboard-content">